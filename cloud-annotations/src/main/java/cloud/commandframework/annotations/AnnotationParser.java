@@ -559,7 +559,7 @@ public final class AnnotationParser<C> {
                     commandToken,
                     tokens.get(0).getMinor(),
                     metaBuilder.build()
-            );
+            ).toMutable();
             final Collection<ArgumentParameterPair> arguments = this.argumentExtractor.apply(method);
             final Collection<CommandFlag<?>> flags = this.flagExtractor.apply(method);
             final Map<String, CommandArgument<C, ?>> commandArguments = new HashMap<>();
@@ -663,7 +663,8 @@ public final class AnnotationParser<C> {
                 if (builderModifier == null) {
                     continue;
                 }
-                builder = (Command.Builder<C>) builderModifier.apply(annotation, builder);
+                /* Modifiers may keep the builder they are given, so they never receive the mutable builder */
+                builder = (Command.Builder<C>) builderModifier.apply(annotation, builder.toImmutable());
             }
 
             /* Construct and register the command */
@@ -29,15 +29,20 @@ import cloud.commandframework.arguments.flags.FlagContext;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.CommandExecutionException;
 import cloud.commandframework.execution.CommandExecutionHandler;
+import cloud.commandframework.keys.CloudKey;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A command execution handler that invokes a method.
@@ -50,8 +55,11 @@ public class MethodCommandExecutionHandler<C> implements CommandExecutionHandler
     private final CommandMethodContext<C> context;
     private final Parameter[] parameters;
     private final MethodHandle methodHandle;
+    private final MethodHandle spreadMethodHandle;
     private final AnnotationAccessor annotationAccessor;
     private final AnnotationParser<C> annotationParser;
+    private final ParameterBinding<C>[] bindings;
+    private volatile BindingPlan<C> lastBindingPlan;
 
     /**
      * Constructs a new method command execution handler
@@ -67,6 +75,11 @@ public class MethodCommandExecutionHandler<C> implements CommandExecutionHandler
         this.parameters = context.method.getParameters();
         this.annotationAccessor = AnnotationAccessor.of(context.method);
         this.annotationParser = context.annotationParser();
+        /* Accepts the parameter values as an array, so that invocations do not need to adapt the handle */
+        this.spreadMethodHandle = this.methodHandle.asFixedArity()
+                .asType(MethodType.genericMethodType(this.parameters.length).changeReturnType(void.class))
+                .asSpreader(Object[].class, this.parameters.length);
+        this.bindings = this.bind(this.parameters);
     }
 
     /**
@@ -76,11 +89,11 @@ public class MethodCommandExecutionHandler<C> implements CommandExecutionHandler
     public void execute(final @NonNull CommandContext<C> commandContext) {
         /* Invoke the command method */
         try {
-            this.methodHandle.invokeWithArguments(
+            this.spreadMethodHandle.invokeExact(
                     this.createParameterValues(
                             commandContext,
                             commandContext.flags(),
-                            this.parameters
+                            this.bindings
                     )
             );
         } catch (final Error e) {
@@ -104,60 +117,129 @@ public class MethodCommandExecutionHandler<C> implements CommandExecutionHandler
             final FlagContext flagContext,
             final Parameter[] parameters
     ) {
-        final List<Object> arguments = new ArrayList<>(parameters.length);
-        for (final Parameter parameter : parameters) {
-            if (parameter.isAnnotationPresent(Argument.class)) {
-                final Argument argument = parameter.getAnnotation(Argument.class);
-
-                final String argumentName;
-                if (argument.value().equals(AnnotationParser.INFERRED_ARGUMENT_NAME)) {
-                    argumentName = parameter.getName();
-                } else {
-                    argumentName = this.annotationParser.processString(argument.value());
-                }
-
-                final CommandArgument<C, ?> commandArgument = this.context.commandArguments.get(argumentName);
-                if (commandArgument.isRequired()) {
-                    arguments.add(commandContext.get(argumentName));
-                } else {
-                    final Object optional = commandContext.getOptional(argumentName).orElse(null);
-                    arguments.add(optional);
-                }
-            } else if (parameter.isAnnotationPresent(Flag.class)) {
-                final Flag flag = parameter.getAnnotation(Flag.class);
-                final String flagName = this.annotationParser.processString(flag.value());
-                if (parameter.getType().equals(boolean.class)) {
-                    arguments.add(flagContext.isPresent(flagName));
-                } else if (flag.repeatable() && parameter.getType().isAssignableFrom(List.class)) {
-                    arguments.add(flagContext.getAll(flagName));
-                } else {
-                    arguments.add(flagContext.getValue(flagName, null));
-                }
-            } else {
-                if (parameter.getType().isAssignableFrom(commandContext.getSender().getClass())) {
-                    arguments.add(commandContext.getSender());
-                } else {
-                    final Optional<?> value = this.context.injectorRegistry.getInjectable(
-                            parameter.getType(),
-                            commandContext,
-                            AnnotationAccessor.of(AnnotationAccessor.of(parameter), this.annotationAccessor)
-                    );
-                    if (value.isPresent()) {
-                        arguments.add(value.get());
-                    } else {
-                        throw new IllegalArgumentException(String.format(
-                                "Could not create value for parameter '%s' of type '%s' in method '%s'",
-                                parameter.getName(),
-                                parameter.getType().getTypeName(),
-                                this.methodHandle.toString()
-                        ));
-                    }
-                }
+        return new ArrayList<>(Arrays.asList(this.createParameterValueArray(commandContext, flagContext, parameters)));
+    }
+
+    /**
+     * Creates an array containing the values for the given method parameters.
+     * <p>
+     * Unlike {@link #createParameterValues(CommandContext, FlagContext, Parameter[])} the values are not copied
+     * into a list, which makes this suitable for spreading the values into a {@link MethodHandle}.
+     *
+     * @param commandContext The context
+     * @param flagContext    The flag context
+     * @param parameters     The parameters to create values for
+     * @return An array containing all parameters, in order
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    protected final @Nullable Object @NonNull [] createParameterValueArray(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull FlagContext flagContext,
+            final @NonNull Parameter @NonNull [] parameters
+    ) {
+        final ParameterBinding<C>[] bindings;
+        if (parameters == this.parameters) {
+            bindings = this.bindings;
+        } else {
+            /* Subclasses tend to pass the same parameters on every invocation, so the last plan is kept around */
+            BindingPlan<C> plan = this.lastBindingPlan;
+            if (plan == null || plan.parameters != parameters) {
+                plan = new BindingPlan<>(parameters, this.bind(parameters));
+                this.lastBindingPlan = plan;
             }
+            bindings = plan.bindings;
+        }
+        return this.createParameterValues(commandContext, flagContext, bindings);
+    }
+
+    private @Nullable Object @NonNull [] createParameterValues(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull FlagContext flagContext,
+            final @NonNull ParameterBinding<C> @NonNull [] bindings
+    ) {
+        final Object[] arguments = new Object[bindings.length];
+        for (int i = 0; i < bindings.length; i++) {
+            arguments[i] = bindings[i].value(commandContext, flagContext);
         }
         return arguments;
     }
 
+    /**
+     * Resolves everything that is needed to produce the values of the given parameters, so that the
+     * annotations and names only have to be inspected once
+     *
+     * @param parameters The parameters to bind
+     * @return The bindings, in order
+     */
+    private @NonNull ParameterBinding<C> @NonNull [] bind(final @NonNull Parameter @NonNull [] parameters) {
+        @SuppressWarnings({"rawtypes", "unchecked"}) final ParameterBinding<C>[] bindings = new ParameterBinding[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            bindings[i] = this.bind(parameters[i]);
+        }
+        return bindings;
+    }
+
+    private @NonNull ParameterBinding<C> bind(final @NonNull Parameter parameter) {
+        final Argument argument = parameter.getAnnotation(Argument.class);
+        if (argument != null) {
+            final String argumentName;
+            if (argument.value().equals(AnnotationParser.INFERRED_ARGUMENT_NAME)) {
+                argumentName = parameter.getName();
+            } else {
+                argumentName = this.annotationParser.processString(argument.value());
+            }
+
+            final CommandArgument<C, ?> commandArgument = this.context.commandArguments.get(argumentName);
+            if (commandArgument == null) {
+                return (commandContext, flagContext) -> {
+                    throw new NullPointerException("No such argument: " + argumentName);
+                };
+            }
+            final CloudKey<?> key = commandArgument.getKey();
+            if (commandArgument.isRequired()) {
+                return (commandContext, flagContext) -> commandContext.get(key);
+            }
+            return (commandContext, flagContext) -> commandContext.getOptional(key).orElse(null);
+        }
+
+        final Flag flag = parameter.getAnnotation(Flag.class);
+        if (flag != null) {
+            final String flagName = this.annotationParser.processString(flag.value());
+            if (parameter.getType().equals(boolean.class)) {
+                return (commandContext, flagContext) -> flagContext.isPresent(flagName);
+            } else if (flag.repeatable() && parameter.getType().isAssignableFrom(List.class)) {
+                return (commandContext, flagContext) -> flagContext.getAll(flagName);
+            }
+            return (commandContext, flagContext) -> flagContext.getValue(flagName, null);
+        }
+
+        final Class<?> type = parameter.getType();
+        final AnnotationAccessor annotationAccessor = AnnotationAccessor.of(
+                AnnotationAccessor.of(parameter),
+                this.annotationAccessor
+        );
+        return (commandContext, flagContext) -> {
+            if (type.isAssignableFrom(commandContext.getSender().getClass())) {
+                return commandContext.getSender();
+            }
+            final Optional<?> value = this.context.injectorRegistry.getInjectable(
+                    type,
+                    commandContext,
+                    annotationAccessor
+            );
+            if (value.isPresent()) {
+                return value.get();
+            }
+            throw new IllegalArgumentException(String.format(
+                    "Could not create value for parameter '%s' of type '%s' in method '%s'",
+                    parameter.getName(),
+                    type.getTypeName(),
+                    this.methodHandle.toString()
+            ));
+        };
+    }
+
     /**
      * Returns the command method context
      *
@@ -276,4 +358,31 @@ public class MethodCommandExecutionHandler<C> implements CommandExecutionHandler
             return this.annotationParser;
         }
     }
+
+
+    /**
+     * Produces the value of a single method parameter
+     *
+     * @param <C> Command sender type
+     */
+    @FunctionalInterface
+    private interface ParameterBinding<C> {
+
+        @Nullable Object value(@NonNull CommandContext<C> commandContext, @NonNull FlagContext flagContext);
+    }
+
+
+    private static final class BindingPlan<C> {
+
+        private final Parameter[] parameters;
+        private final ParameterBinding<C>[] bindings;
+
+        private BindingPlan(
+                final @NonNull Parameter @NonNull [] parameters,
+                final @NonNull ParameterBinding<C> @NonNull [] bindings
+        ) {
+            this.parameters = parameters;
+            this.bindings = bindings;
+        }
+    }
 }
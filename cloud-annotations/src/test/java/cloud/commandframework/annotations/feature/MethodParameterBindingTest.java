@@ -0,0 +1,95 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.annotations.feature;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.annotations.AnnotationParser;
+import cloud.commandframework.annotations.Argument;
+import cloud.commandframework.annotations.CommandMethod;
+import cloud.commandframework.annotations.Flag;
+import cloud.commandframework.annotations.TestCommandManager;
+import cloud.commandframework.annotations.TestCommandSender;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class MethodParameterBindingTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+    private TestClassA instance;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = new TestCommandManager();
+        final AnnotationParser<TestCommandSender> annotationParser = new AnnotationParser<>(
+                this.commandManager,
+                TestCommandSender.class,
+                p -> SimpleCommandMeta.empty()
+        );
+        annotationParser.getParameterInjectorRegistry().registerInjector(
+                StringBuilder.class,
+                (context, annotationAccessor) -> new StringBuilder("injected")
+        );
+        this.instance = new TestClassA();
+        annotationParser.parse(this.instance);
+    }
+
+    @Test
+    void testPrimitiveAndInjectedParameters() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+
+        // Act
+        this.commandManager.executeCommand(sender, "bind 5 text --print").join();
+        this.commandManager.executeCommand(sender, "bind 7").join();
+
+        // Assert
+        assertThat(this.instance.invocations).containsExactly(
+                Arrays.asList(sender, 5, "text", true, "injected"),
+                Arrays.asList(sender, 7, null, false, "injected")
+        ).inOrder();
+    }
+
+
+    public static final class TestClassA {
+
+        private final List<List<Object>> invocations = new ArrayList<>();
+
+        @CommandMethod("bind <int> [string]")
+        public void command(
+                final TestCommandSender sender,
+                @Argument("int") final int integer,
+                @Argument("string") final String string,
+                @Flag("print") final boolean print,
+                final StringBuilder injected
+        ) {
+            this.invocations.add(Arrays.asList(sender, integer, string, print, injected.toString()));
+        }
+    }
+}
@@ -116,6 +116,10 @@ public class Command<C> {
                 foundOptional = true;
             }
         }
+        // Parsed values are stored in the command context by the position of their argument in the command
+        for (int i = 0; i < this.arguments.size(); i++) {
+            this.arguments.get(i).assignContextSlot(i);
+        }
         this.commandExecutionHandler = commandExecutionHandler;
         this.senderType = senderType;
         this.commandPermission = commandPermission;
@@ -444,19 +448,24 @@ public class Command<C> {
     /**
      * Builder for {@link Command} instances. The builder is immutable, and each
      * setter method will return a new builder instance.
+     * <p>
+     * A mutable builder can be obtained through {@link #toMutable()}. The setter methods of a mutable builder modify
+     * and return the builder itself, which allows for commands with many components to be built in linear time.
      *
      * @param <C> Command sender type
      */
     @API(status = API.Status.STABLE)
     public static final class Builder<C> {
 
-        private final CommandMeta commandMeta;
-        private final List<CommandComponent<C>> commandComponents;
-        private final CommandExecutionHandler<C> commandExecutionHandler;
-        private final Class<? extends C> senderType;
-        private final CommandPermission commandPermission;
-        private final CommandManager<C> commandManager;
-        private final Collection<CommandFlag<?>> flags;
+        private final boolean mutable;
+        private CommandMeta commandMeta;
+        private SimpleCommandMeta.@Nullable Builder pendingMeta;
+        private List<CommandComponent<C>> commandComponents;
+        private CommandExecutionHandler<C> commandExecutionHandler;
+        private Class<? extends C> senderType;
+        private CommandPermission commandPermission;
+        private CommandManager<C> commandManager;
+        private Collection<CommandFlag<?>> flags;
 
         private Builder(
                 final @Nullable CommandManager<C> commandManager,
@@ -467,6 +476,20 @@ public class Command<C> {
                 final @NonNull CommandPermission commandPermission,
                 final @NonNull Collection<CommandFlag<?>> flags
         ) {
+            this(commandManager, commandMeta, senderType, commandComponents, commandExecutionHandler, commandPermission, flags, false);
+        }
+
+        private Builder(
+                final @Nullable CommandManager<C> commandManager,
+                final @NonNull CommandMeta commandMeta,
+                final @Nullable Class<? extends C> senderType,
+                final @NonNull List<@NonNull CommandComponent<C>> commandComponents,
+                final @NonNull CommandExecutionHandler<@NonNull C> commandExecutionHandler,
+                final @NonNull CommandPermission commandPermission,
+                final @NonNull Collection<CommandFlag<?>> flags,
+                final boolean mutable
+        ) {
+            this.mutable = mutable;
             this.commandManager = commandManager;
             this.senderType = senderType;
             this.commandComponents = Objects.requireNonNull(commandComponents, "Components may not be null");
@@ -476,6 +499,73 @@ public class Command<C> {
             this.flags = Objects.requireNonNull(flags, "Flags may not be null");
         }
 
+        /**
+         * Get a mutable copy of this builder. The setter methods of the returned builder modify and return the builder
+         * itself, instead of copying it. Calling {@link #build()} on the mutable builder creates an independent command,
+         * and the builder may continue to be modified afterwards.
+         * <p>
+         * The returned builder is always a new instance, even if this builder is mutable.
+         *
+         * @return Mutable copy of this builder
+         * @since 1.9.0
+         */
+        @API(status = API.Status.STABLE, since = "1.9.0")
+        public @NonNull Builder<C> toMutable() {
+            return new Builder<>(
+                    this.commandManager,
+                    this.resolveMeta(),
+                    this.senderType,
+                    new ArrayList<>(this.commandComponents),
+                    this.commandExecutionHandler,
+                    this.commandPermission,
+                    new ArrayList<>(this.flags),
+                    true
+            );
+        }
+
+        /**
+         * Get an immutable builder with the current state of this builder. If this builder is immutable, it is
+         * returned as is
+         *
+         * @return Immutable builder
+         * @since 1.9.0
+         */
+        @API(status = API.Status.STABLE, since = "1.9.0")
+        public @NonNull Builder<C> toImmutable() {
+            if (!this.mutable) {
+                return this;
+            }
+            return new Builder<>(
+                    this.commandManager,
+                    this.resolveMeta(),
+                    this.senderType,
+                    Collections.unmodifiableList(new ArrayList<>(this.commandComponents)),
+                    this.commandExecutionHandler,
+                    this.commandPermission,
+                    Collections.unmodifiableList(new ArrayList<>(this.flags))
+            );
+        }
+
+        /**
+         * Check whether this builder is mutable
+         *
+         * @return {@code true} if the setter methods modify this builder, {@code false} if they return new builders
+         * @since 1.9.0
+         * @see #toMutable()
+         */
+        @API(status = API.Status.STABLE, since = "1.9.0")
+        public boolean isMutable() {
+            return this.mutable;
+        }
+
+        private @NonNull CommandMeta resolveMeta() {
+            if (this.pendingMeta != null) {
+                this.commandMeta = this.pendingMeta.build();
+                this.pendingMeta = null;
+            }
+            return this.commandMeta;
+        }
+
         /**
          * Get the required sender type for this builder
          * <p>
@@ -527,6 +617,10 @@ public class Command<C> {
         @Deprecated
         @API(status = API.Status.DEPRECATED, since = "1.2.0")
         public @NonNull Builder<C> meta(final @NonNull String key, final @NonNull String value) {
+            if (this.mutable) {
+                this.mutableMeta().with(key, value);
+                return this;
+            }
             final CommandMeta commandMeta = SimpleCommandMeta.builder().with(this.commandMeta).with(key, value).build();
             return new Builder<>(
                     this.commandManager,
@@ -550,6 +644,10 @@ public class Command<C> {
          */
         @API(status = API.Status.STABLE, since = "1.3.0")
         public <V> @NonNull Builder<C> meta(final CommandMeta.@NonNull Key<V> key, final @NonNull V value) {
+            if (this.mutable) {
+                this.mutableMeta().with(key, value);
+                return this;
+            }
             final CommandMeta commandMeta = SimpleCommandMeta.builder().with(this.commandMeta).with(key, value).build();
             return new Builder<>(
                     this.commandManager,
@@ -562,6 +660,13 @@ public class Command<C> {
             );
         }
 
+        private SimpleCommandMeta.@NonNull Builder mutableMeta() {
+            if (this.pendingMeta == null) {
+                this.pendingMeta = SimpleCommandMeta.builder().with(this.commandMeta);
+            }
+            return this.pendingMeta;
+        }
+
         /**
          * Supply a command manager instance to the builder. This will be used when attempting to
          * retrieve command argument parsers, in the case that they're needed. This
@@ -571,6 +676,10 @@ public class Command<C> {
          * @return New builder instance using the provided command manager
          */
         public @NonNull Builder<C> manager(final @Nullable CommandManager<C> commandManager) {
+            if (this.mutable) {
+                this.commandManager = commandManager;
+                return this;
+            }
             return new Builder<>(
                     commandManager,
                     this.commandMeta,
@@ -693,6 +802,10 @@ public class Command<C> {
                         + " Use CommandArgument#copy to create a copy of the argument.");
             }
             argument.setArgumentRegistered();
+            if (this.mutable) {
+                this.commandComponents.add(CommandComponent.of(argument, description));
+                return this;
+            }
             final List<CommandComponent<C>> commandComponents = new ArrayList<>(this.commandComponents);
             commandComponents.add(CommandComponent.of(argument, description));
             return new Builder<>(
@@ -740,6 +853,10 @@ public class Command<C> {
                 final CommandArgument.@NonNull Builder<C, T> builder,
                 final @NonNull ArgumentDescription description
         ) {
+            if (this.mutable) {
+                this.commandComponents.add(CommandComponent.of(builder.build(), description));
+                return this;
+            }
             final List<CommandComponent<C>> commandComponents = new ArrayList<>(this.commandComponents);
             commandComponents.add(CommandComponent.of(builder.build(), description));
             return new Builder<>(
@@ -1066,6 +1183,10 @@ public class Command<C> {
          * @return New builder instance using the command execution handler
          */
         public @NonNull Builder<C> handler(final @NonNull CommandExecutionHandler<C> commandExecutionHandler) {
+            if (this.mutable) {
+                this.commandExecutionHandler = Objects.requireNonNull(commandExecutionHandler, "Execution handler may not be null");
+                return this;
+            }
             return new Builder<>(
                     this.commandManager,
                     this.commandMeta,
@@ -1095,6 +1216,10 @@ public class Command<C> {
          * @return New builder instance using the required sender type
          */
         public @NonNull Builder<C> senderType(final @NonNull Class<? extends C> senderType) {
+            if (this.mutable) {
+                this.senderType = senderType;
+                return this;
+            }
             return new Builder<>(
                     this.commandManager,
                     this.commandMeta,
@@ -1113,6 +1238,10 @@ public class Command<C> {
          * @return New builder instance using the command permission
          */
         public @NonNull Builder<C> permission(final @NonNull CommandPermission permission) {
+            if (this.mutable) {
+                this.commandPermission = Objects.requireNonNull(permission, "Permission may not be null");
+                return this;
+            }
             return new Builder<>(
                     this.commandManager,
                     this.commandMeta,
@@ -1131,6 +1260,10 @@ public class Command<C> {
          * @return New builder instance using the command permission
          */
         public @NonNull Builder<C> permission(final @NonNull PredicatePermission<C> permission) {
+            if (this.mutable) {
+                this.commandPermission = Objects.requireNonNull(permission, "Permission may not be null");
+                return this;
+            }
             return new Builder<>(
                     this.commandManager,
                     this.commandMeta,
@@ -1149,6 +1282,10 @@ public class Command<C> {
          * @return New builder instance using the command permission
          */
         public @NonNull Builder<C> permission(final @NonNull String permission) {
+            if (this.mutable) {
+                this.commandPermission = Permission.of(permission);
+                return this;
+            }
             return new Builder<>(
                     this.commandManager,
                     this.commandMeta,
@@ -1205,6 +1342,10 @@ public class Command<C> {
          * @return New builder instance that uses the provided flag
          */
         public @NonNull <T> Builder<C> flag(final @NonNull CommandFlag<T> flag) {
+            if (this.mutable) {
+                this.flags.add(flag);
+                return this;
+            }
             final List<CommandFlag<?>> flags = new ArrayList<>(this.flags);
             flags.add(flag);
             return new Builder<>(
@@ -1238,7 +1379,10 @@ public class Command<C> {
             final List<CommandComponent<C>> commandComponents = new ArrayList<>(this.commandComponents);
             /* Construct flag node */
             if (!this.flags.isEmpty()) {
-                final FlagArgument<C> flagArgument = new FlagArgument<>(this.flags);
+                /* A mutable builder may add flags after the command has been built */
+                final FlagArgument<C> flagArgument = new FlagArgument<>(
+                        this.mutable ? Collections.unmodifiableList(new ArrayList<>(this.flags)) : this.flags
+                );
                 commandComponents.add(CommandComponent.of(flagArgument, ArgumentDescription.of("Command flags")));
             }
             return new Command<>(
@@ -1246,7 +1390,7 @@ public class Command<C> {
                     this.commandExecutionHandler,
                     this.senderType,
                     this.commandPermission,
-                    this.commandMeta
+                    this.resolveMeta()
             );
         }
 
@@ -24,27 +24,45 @@
 package cloud.commandframework;
 
 import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.CommandSyntaxFormatter;
 import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.types.tuples.Pair;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * Handler that answers help queries for the commands of a command manager.
+ * <p>
+ * The handler keeps an index of the commands that pass its predicate, with their syntax strings, their aliases and
+ * the topics of the visited command tree nodes. The index is updated when commands are inserted into or deleted from
+ * the command tree, reusing the entries of the commands that remain, so a handler should be kept rather than created
+ * for every query. Permissions are checked for every query.
+ *
+ * @param <C> Command sender type
+ */
 @API(status = API.Status.STABLE)
 public final class CommandHelpHandler<C> {
 
     private final CommandManager<C> commandManager;
     private final Predicate<Command<C>> commandPredicate;
+    private volatile @Nullable HelpIndex<C> index;
 
     CommandHelpHandler(
             final @NonNull CommandManager<C> commandManager,
@@ -60,24 +78,7 @@ public final class CommandHelpHandler<C> {
      * @return Syntax hints for all registered commands, order in lexicographical order
      */
     public @NonNull List<@NonNull VerboseHelpEntry<C>> getAllCommands() {
-        final List<VerboseHelpEntry<C>> syntaxHints = new ArrayList<>();
-        for (final Command<C> command : this.commandManager.commands()) {
-            /* Check command is not filtered */
-            if (!this.commandPredicate.test(command)) {
-                continue;
-            }
-
-            final List<CommandArgument<C, ?>> arguments = command.getArguments();
-            final String description = command.getCommandMeta().getOrDefault(CommandMeta.DESCRIPTION, "");
-            syntaxHints.add(new VerboseHelpEntry<>(
-                    command,
-                    this.commandManager.commandSyntaxFormatter()
-                            .apply(arguments, null),
-                    description
-            ));
-        }
-        syntaxHints.sort(Comparator.comparing(VerboseHelpEntry::getSyntaxString));
-        return syntaxHints;
+        return new ArrayList<>(this.index().entries);
     }
 
     /**
@@ -136,35 +137,33 @@ public final class CommandHelpHandler<C> {
             final @Nullable C recipient,
             final @NonNull String query
     ) {
-        final List<VerboseHelpEntry<C>> commands = this.getAllCommands();
-        commands.removeIf(command -> recipient != null && !this.commandManager.hasPermission(
-                recipient,
-                command.getCommand().getCommandPermission()
-        ));
+        final HelpIndex<C> helpIndex = this.index();
         if (query.replace(" ", "").isEmpty()) {
-            return new IndexHelpTopic<>(commands);
+            return new IndexHelpTopic<>(this.permittedEntries(recipient, helpIndex.entries));
         }
 
         final String[] queryFragments = query.split(" ");
         final String rootFragment = queryFragments[0];
 
         /* Determine which command we are querying for */
-        final List<Command<C>> availableCommands = new LinkedList<>();
+        final List<VerboseHelpEntry<C>> availableCommands = this.permittedEntries(
+                recipient,
+                helpIndex.entriesWithAliasPrefix(rootFragment.toLowerCase(Locale.ENGLISH))
+        );
         final Set<String> availableCommandLabels = new HashSet<>();
 
         boolean exactMatch = false;
 
-        for (final VerboseHelpEntry<C> entry : commands) {
-            final Command<C> command = entry.getCommand();
-            @SuppressWarnings("unchecked") final StaticArgument<C> staticArgument = (StaticArgument<C>) command.getArguments()
-                    .get(0);
-            for (final String alias : staticArgument.getAliases()) {
-                if (alias.toLowerCase(Locale.ENGLISH).startsWith(rootFragment.toLowerCase(Locale.ENGLISH))) {
-                    availableCommands.add(command);
-                    availableCommandLabels.add(staticArgument.getName());
-                    break;
-                }
+        for (final VerboseHelpEntry<C> entry : availableCommands) {
+            @SuppressWarnings("unchecked") final StaticArgument<C> staticArgument = (StaticArgument<C>) entry.getCommand()
+                    .getArguments().get(0);
+            if (rootFragment.equalsIgnoreCase(staticArgument.getName())) {
+                availableCommandLabels.clear();
+                availableCommandLabels.add(staticArgument.getName());
+                exactMatch = true;
+                break;
             }
+            availableCommandLabels.add(staticArgument.getName());
 
             for (final String alias : staticArgument.getAliases()) {
                 if (alias.equalsIgnoreCase(rootFragment)) {
@@ -172,49 +171,25 @@ public final class CommandHelpHandler<C> {
                     break;
                 }
             }
-
-            if (rootFragment.equalsIgnoreCase(staticArgument.getName())) {
-                availableCommandLabels.clear();
-                availableCommands.clear();
-                availableCommandLabels.add(staticArgument.getName());
-                availableCommands.add(command);
-                break;
-            }
         }
 
         /* No command found, return all possible commands */
         if (availableCommands.isEmpty()) {
             return new IndexHelpTopic<>(Collections.emptyList());
         } else if (!exactMatch || availableCommandLabels.size() > 1) {
-            final List<VerboseHelpEntry<C>> syntaxHints = new ArrayList<>();
-            for (final Command<C> command : availableCommands) {
-                final List<CommandArgument<C, ?>> arguments = command.getArguments();
-                final String description = command.getCommandMeta().getOrDefault(CommandMeta.DESCRIPTION, "");
-                syntaxHints.add(new VerboseHelpEntry<>(
-                        command,
-                        this.commandManager.commandSyntaxFormatter()
-                                .apply(arguments, null),
-                        description
-                ));
-            }
-            syntaxHints.sort(Comparator.comparing(VerboseHelpEntry::getSyntaxString));
-            syntaxHints.removeIf(command -> recipient != null
-                    && !this.commandManager.hasPermission(recipient, command.getCommand().getCommandPermission()));
-            return new IndexHelpTopic<>(syntaxHints);
+            return new IndexHelpTopic<>(availableCommands);
         }
 
         /* Traverse command to find the most specific help topic */
         final CommandTree.Node<CommandArgument<C, ?>> node = this.commandManager.commandTree()
                 .getNamedNode(availableCommandLabels.iterator().next());
 
-        final List<CommandArgument<C, ?>> traversedNodes = new LinkedList<>();
         CommandTree.Node<CommandArgument<C, ?>> head = node;
         int index = 0;
 
         outer:
-        while (head != null && this.isNodeVisible(head)) {
+        while (head != null && helpIndex.isNodeVisible(head)) {
             ++index;
-            traversedNodes.add(head.getValue());
 
             if (head.getValue() != null && head.getValue().getOwningCommand() != null) {
                 if (head.isLeaf() || index == queryFragments.length) {
@@ -253,34 +228,60 @@ public final class CommandHelpHandler<C> {
                         continue;
                     }
                 }
-                final String currentDescription = this.commandManager.commandSyntaxFormatter().apply(traversedNodes, null);
+                final NodeTopic<C> topic = helpIndex.nodeTopic(head);
                 /* Attempt to parse the longest possible description for the children */
                 final List<String> childSuggestions = new LinkedList<>();
-                for (final CommandTree.Node<CommandArgument<C, ?>> child : head.getChildren()) {
-                    /* Check filtered by predicate */
-                    if (!this.isNodeVisible(child)) {
-                        continue;
-                    }
-
-                    final List<CommandArgument<C, ?>> traversedNodesSub = new LinkedList<>(traversedNodes);
+                for (final ChildTopic<C> child : topic.children) {
                     if (recipient == null
-                            || child.getValue() == null
-                            || child.getValue().getOwningCommand() == null
-                            || this.commandManager.hasPermission(
-                            recipient,
-                            child.getValue().getOwningCommand().getCommandPermission()
-                    )) {
-                        traversedNodesSub.add(child.getValue());
-                        childSuggestions.add(this.commandManager.commandSyntaxFormatter().apply(traversedNodesSub, child));
+                            || child.command == null
+                            || this.commandManager.hasPermission(recipient, child.command.getCommandPermission())) {
+                        childSuggestions.add(child.syntaxString);
                     }
                 }
-                return new MultiHelpTopic<>(currentDescription, childSuggestions);
+                return new MultiHelpTopic<>(topic.description, childSuggestions);
             }
         }
 
         return new IndexHelpTopic<>(Collections.emptyList());
     }
 
+    private @NonNull List<@NonNull VerboseHelpEntry<C>> permittedEntries(
+            final @Nullable C recipient,
+            final @NonNull List<@NonNull VerboseHelpEntry<C>> entries
+    ) {
+        final List<VerboseHelpEntry<C>> permittedEntries = new ArrayList<>(entries.size());
+        for (final VerboseHelpEntry<C> entry : entries) {
+            if (recipient == null || this.commandManager.hasPermission(recipient, entry.getCommand().getCommandPermission())) {
+                permittedEntries.add(entry);
+            }
+        }
+        return permittedEntries;
+    }
+
+    /**
+     * Returns the index of the current commands, which is updated first if the command tree or the syntax formatter
+     * changed since it was built
+     *
+     * @return Help index
+     */
+    private @NonNull HelpIndex<C> index() {
+        /* The modification count is read first, so that an index never outlives commands that it does not contain */
+        final long modificationCount = this.commandManager.commandTree().modificationCount();
+        final CommandSyntaxFormatter<C> syntaxFormatter = this.commandManager.commandSyntaxFormatter();
+        final HelpIndex<C> index = this.index;
+        if (index != null && index.modificationCount == modificationCount && index.syntaxFormatter == syntaxFormatter) {
+            return index;
+        }
+        final HelpIndex<C> updatedIndex = new HelpIndex<>(
+                this,
+                modificationCount,
+                syntaxFormatter,
+                index == null || index.syntaxFormatter != syntaxFormatter ? null : index
+        );
+        this.index = updatedIndex;
+        return updatedIndex;
+    }
+
     /* Checks using the predicate whether a command node or one of its children is visible */
     private boolean isNodeVisible(
             final CommandTree.@NonNull Node<CommandArgument<C, ?>> node
@@ -305,6 +306,187 @@ public final class CommandHelpHandler<C> {
     }
 
 
+    /**
+     * Index of the commands of a help handler, built for one modification count of the command tree
+     *
+     * @param <C> Command sender type
+     */
+    private static final class HelpIndex<C> {
+
+        private final CommandHelpHandler<C> helpHandler;
+        private final long modificationCount;
+        private final CommandSyntaxFormatter<C> syntaxFormatter;
+        private final List<VerboseHelpEntry<C>> entries;
+        private final Map<Command<C>, VerboseHelpEntry<C>> entriesByCommand = new IdentityHashMap<>();
+        /* Lower case aliases of the root literals of the entries, in lexicographical order */
+        private final String[] aliases;
+        /* Index in the entry list of the entry that the alias at the same index belongs to */
+        private final int[] aliasEntries;
+        private final Map<CommandTree.Node<CommandArgument<C, ?>>, Boolean> visibleNodes = new ConcurrentHashMap<>();
+        private final Map<CommandTree.Node<CommandArgument<C, ?>>, NodeTopic<C>> nodeTopics = new ConcurrentHashMap<>();
+
+        private HelpIndex(
+                final @NonNull CommandHelpHandler<C> helpHandler,
+                final long modificationCount,
+                final @NonNull CommandSyntaxFormatter<C> syntaxFormatter,
+                final @Nullable HelpIndex<C> previousIndex
+        ) {
+            this.helpHandler = helpHandler;
+            this.modificationCount = modificationCount;
+            this.syntaxFormatter = syntaxFormatter;
+
+            /* Entries of commands that are still registered are reused, only new commands are formatted */
+            final List<VerboseHelpEntry<C>> previousEntries = new ArrayList<>();
+            final List<VerboseHelpEntry<C>> newEntries = new ArrayList<>();
+            for (final Command<C> command : helpHandler.commandManager.commands()) {
+                final VerboseHelpEntry<C> previousEntry = previousIndex == null
+                        ? null
+                        : previousIndex.entriesByCommand.get(command);
+                if (previousEntry != null) {
+                    this.entriesByCommand.put(command, previousEntry);
+                } else if (helpHandler.commandPredicate.test(command)) {
+                    final VerboseHelpEntry<C> entry = new VerboseHelpEntry<>(
+                            command,
+                            syntaxFormatter.apply(command.getArguments(), null),
+                            command.getCommandMeta().getOrDefault(CommandMeta.DESCRIPTION, "")
+                    );
+                    this.entriesByCommand.put(command, entry);
+                    newEntries.add(entry);
+                }
+            }
+            if (previousIndex != null) {
+                for (final VerboseHelpEntry<C> entry : previousIndex.entries) {
+                    if (this.entriesByCommand.get(entry.getCommand()) == entry) {
+                        previousEntries.add(entry);
+                    }
+                }
+            }
+            /* The previous entries are already sorted, so only the new entries are sorted before both are merged */
+            final Comparator<VerboseHelpEntry<C>> comparator = Comparator.comparing(VerboseHelpEntry::getSyntaxString);
+            newEntries.sort(comparator);
+            final List<VerboseHelpEntry<C>> entries = new ArrayList<>(previousEntries.size() + newEntries.size());
+            int previous = 0;
+            int added = 0;
+            while (previous < previousEntries.size() && added < newEntries.size()) {
+                if (comparator.compare(newEntries.get(added), previousEntries.get(previous)) < 0) {
+                    entries.add(newEntries.get(added++));
+                } else {
+                    entries.add(previousEntries.get(previous++));
+                }
+            }
+            entries.addAll(previousEntries.subList(previous, previousEntries.size()));
+            entries.addAll(newEntries.subList(added, newEntries.size()));
+            this.entries = Collections.unmodifiableList(entries);
+
+            final List<Pair<String, Integer>> aliases = new ArrayList<>(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                @SuppressWarnings("unchecked") final StaticArgument<C> root = (StaticArgument<C>) entries.get(i).getCommand()
+                        .getArguments().get(0);
+                for (final String alias : root.getAliases()) {
+                    aliases.add(Pair.of(alias.toLowerCase(Locale.ENGLISH), i));
+                }
+            }
+            aliases.sort(Comparator.comparing(Pair::getFirst));
+            this.aliases = new String[aliases.size()];
+            this.aliasEntries = new int[aliases.size()];
+            for (int i = 0; i < aliases.size(); i++) {
+                this.aliases[i] = aliases.get(i).getFirst();
+                this.aliasEntries[i] = aliases.get(i).getSecond();
+            }
+        }
+
+        /**
+         * Returns the entries that have a root literal with an alias that starts with the prefix
+         *
+         * @param prefix Lower case prefix
+         * @return Entries in lexicographical order
+         */
+        private @NonNull List<@NonNull VerboseHelpEntry<C>> entriesWithAliasPrefix(final @NonNull String prefix) {
+            int alias = Arrays.binarySearch(this.aliases, prefix);
+            if (alias < 0) {
+                alias = -alias - 1;
+            }
+            final BitSet matches = new BitSet(this.entries.size());
+            for (; alias < this.aliases.length && this.aliases[alias].startsWith(prefix); alias++) {
+                matches.set(this.aliasEntries[alias]);
+            }
+            final List<VerboseHelpEntry<C>> entries = new ArrayList<>(matches.cardinality());
+            for (int entry = matches.nextSetBit(0); entry >= 0; entry = matches.nextSetBit(entry + 1)) {
+                entries.add(this.entries.get(entry));
+            }
+            return entries;
+        }
+
+        private boolean isNodeVisible(final CommandTree.@NonNull Node<CommandArgument<C, ?>> node) {
+            final Boolean visible = this.visibleNodes.get(node);
+            if (visible != null) {
+                return visible;
+            }
+            final boolean nodeVisible = this.helpHandler.isNodeVisible(node);
+            this.visibleNodes.put(node, nodeVisible);
+            return nodeVisible;
+        }
+
+        /**
+         * Returns the syntax of the path to a node and the syntax strings of its visible children
+         *
+         * @param node Node that was reached by a help query
+         * @return Node topic
+         */
+        private @NonNull NodeTopic<C> nodeTopic(final CommandTree.@NonNull Node<CommandArgument<C, ?>> node) {
+            NodeTopic<C> topic = this.nodeTopics.get(node);
+            if (topic != null) {
+                return topic;
+            }
+            final LinkedList<CommandArgument<C, ?>> traversedNodes = new LinkedList<>();
+            for (CommandTree.Node<CommandArgument<C, ?>> parent = node; parent != null && parent.getValue() != null;
+                    parent = parent.getParent()) {
+                traversedNodes.addFirst(parent.getValue());
+            }
+            final List<ChildTopic<C>> children = new ArrayList<>();
+            for (final CommandTree.Node<CommandArgument<C, ?>> child : node.getChildren()) {
+                /* Check filtered by predicate */
+                if (!this.isNodeVisible(child)) {
+                    continue;
+                }
+                final List<CommandArgument<C, ?>> traversedNodesSub = new LinkedList<>(traversedNodes);
+                traversedNodesSub.add(child.getValue());
+                children.add(new ChildTopic<>(
+                        child.getValue() == null ? null : child.getValue().getOwningCommand(),
+                        this.syntaxFormatter.apply(traversedNodesSub, child)
+                ));
+            }
+            topic = new NodeTopic<>(this.syntaxFormatter.apply(traversedNodes, null), children);
+            this.nodeTopics.put(node, topic);
+            return topic;
+        }
+    }
+
+
+    private static final class NodeTopic<C> {
+
+        private final String description;
+        private final List<ChildTopic<C>> children;
+
+        private NodeTopic(final @NonNull String description, final @NonNull List<@NonNull ChildTopic<C>> children) {
+            this.description = description;
+            this.children = children;
+        }
+    }
+
+
+    private static final class ChildTopic<C> {
+
+        private final @Nullable Command<C> command;
+        private final String syntaxString;
+
+        private ChildTopic(final @Nullable Command<C> command, final @NonNull String syntaxString) {
+            this.command = command;
+            this.syntaxString = syntaxString;
+        }
+    }
+
+
     /**
      * Something that can be returned as the result of a help query
      * <p>
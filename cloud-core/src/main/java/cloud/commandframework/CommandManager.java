@@ -41,24 +41,28 @@ import cloud.commandframework.captions.SimpleCaptionRegistryFactory;
 import cloud.commandframework.captions.SimpleCaptionVariableReplacementHandler;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.context.CommandContextFactory;
+import cloud.commandframework.context.CommandInput;
 import cloud.commandframework.context.StandardCommandContextFactory;
 import cloud.commandframework.execution.CommandExecutionCoordinator;
 import cloud.commandframework.execution.CommandResult;
 import cloud.commandframework.execution.CommandSuggestionProcessor;
 import cloud.commandframework.execution.FilteringCommandSuggestionProcessor;
+import cloud.commandframework.execution.ParsedCommand;
 import cloud.commandframework.execution.postprocessor.AcceptingCommandPostprocessor;
 import cloud.commandframework.execution.postprocessor.CommandPostprocessingContext;
 import cloud.commandframework.execution.postprocessor.CommandPostprocessor;
 import cloud.commandframework.execution.preprocessor.AcceptingCommandPreprocessor;
 import cloud.commandframework.execution.preprocessor.CommandPreprocessingContext;
 import cloud.commandframework.execution.preprocessor.CommandPreprocessor;
-import cloud.commandframework.internal.CommandInputTokenizer;
 import cloud.commandframework.internal.CommandRegistrationHandler;
 import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.metrics.CommandMetricsListener;
+import cloud.commandframework.metrics.InMemoryCommandMetrics;
 import cloud.commandframework.permission.AndPermission;
 import cloud.commandframework.permission.CommandPermission;
 import cloud.commandframework.permission.OrPermission;
 import cloud.commandframework.permission.Permission;
+import cloud.commandframework.permission.PermissionCache;
 import cloud.commandframework.permission.PredicatePermission;
 import cloud.commandframework.services.ServicePipeline;
 import cloud.commandframework.services.State;
@@ -68,12 +72,16 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -98,12 +106,15 @@ public abstract class CommandManager<C> {
 
     private final CommandContextFactory<C> commandContextFactory = new StandardCommandContextFactory<>();
     private final ServicePipeline servicePipeline = ServicePipeline.builder().build();
+    private final TypeToken<CommandPreprocessor<C>> preprocessorType = new TypeToken<CommandPreprocessor<C>>() {
+    };
+    private final TypeToken<CommandPostprocessor<C>> postprocessorType = new TypeToken<CommandPostprocessor<C>>() {
+    };
     private final ParserRegistry<C> parserRegistry = new StandardParserRegistry<>();
-    private final Collection<Command<C>> commands = new LinkedList<>();
+    private final Collection<Command<C>> commands = new ConcurrentLinkedQueue<>();
     private final ParameterInjectorRegistry<C> parameterInjectorRegistry = new ParameterInjectorRegistry<>();
     private final CommandExecutionCoordinator<C> commandExecutionCoordinator;
     private final CommandTree<C> commandTree;
-    private final CommandSuggestionEngine<C> commandSuggestionEngine;
     private final Set<CloudCapability> capabilities = new HashSet<>();
 
     private CaptionVariableReplacementHandler captionVariableReplacementHandler = new SimpleCaptionVariableReplacementHandler();
@@ -112,6 +123,9 @@ public abstract class CommandManager<C> {
             new FilteringCommandSuggestionProcessor<>(FilteringCommandSuggestionProcessor.Filter.startsWith(true));
     private CommandRegistrationHandler commandRegistrationHandler;
     private CaptionRegistry<C> captionRegistry;
+    private volatile @Nullable CommandMetricsListener<C> metricsListener;
+    private volatile @Nullable PermissionCache<C> permissionCache;
+    private volatile CommandSuggestionEngine<C> commandSuggestionEngine;
     private final AtomicReference<RegistrationState> state = new AtomicReference<>(RegistrationState.BEFORE_REGISTRATION);
 
     /**
@@ -138,10 +152,8 @@ public abstract class CommandManager<C> {
         this.commandRegistrationHandler = commandRegistrationHandler;
         this.commandSuggestionEngine = new DelegatingCommandSuggestionEngineFactory<>(this).create();
         /* Register service types */
-        this.servicePipeline.registerServiceType(new TypeToken<CommandPreprocessor<C>>() {
-        }, new AcceptingCommandPreprocessor<>());
-        this.servicePipeline.registerServiceType(new TypeToken<CommandPostprocessor<C>>() {
-        }, new AcceptingCommandPostprocessor<>());
+        this.servicePipeline.registerServiceType(this.preprocessorType, new AcceptingCommandPreprocessor<>());
+        this.servicePipeline.registerServiceType(this.postprocessorType, new AcceptingCommandPostprocessor<>());
         /* Create the caption registry */
         this.captionRegistry = new SimpleCaptionRegistryFactory<C>().create();
         /* Register default injectors */
@@ -175,18 +187,59 @@ public abstract class CommandManager<C> {
     public @NonNull CompletableFuture<CommandResult<C>> executeCommand(
             final @NonNull C commandSender,
             final @NonNull String input
+    ) {
+        return this.executeCommand(commandSender, input, (ParsedCommand<C>) null);
+    }
+
+    /**
+     * Execute a command whose arguments have already been parsed by the platform, and get a future that completes
+     * with the result. The command goes through the same preprocessing, coordination, postprocessing and
+     * exception handling as {@link #executeCommand(Object, String)}.
+     * <p>
+     * The input is only parsed again if the parsed command does not contain a value for every argument that would be
+     * parsed from it: if a required argument or an argument with a default value is missing, if an argument has
+     * preprocessors, or if a {@link CommandPreprocessor} changed the input queue, the input is parsed as usual. The
+     * permission and sender type of the command are always checked.
+     *
+     * @param commandSender Sender of the command
+     * @param input         Input provided by the sender, which is exposed as the raw input of the command context
+     * @param parsedCommand Command and argument values that the platform parsed from the input
+     * @return future that completes with the command result, or {@code null} if the execution was cancelled at any of the
+     *         processing stages.
+     * @since 1.9.0
+     */
+    @SuppressWarnings("unchecked")
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public @NonNull CompletableFuture<CommandResult<C>> executeCommand(
+            final @NonNull C commandSender,
+            final @NonNull String input,
+            final @Nullable ParsedCommand<C> parsedCommand
     ) {
         final CommandContext<C> context = this.commandContextFactory.create(
                 false,
                 commandSender,
                 this
         );
-        final LinkedList<String> inputQueue = new CommandInputTokenizer(input).tokenize();
-        /* Store a copy of the input queue in the context */
-        context.store("__raw_input__", new LinkedList<>(inputQueue));
+        /* The context gets its own copy of the input, which is only tokenized if the raw input is requested */
+        context.rawInput(CommandInput.of(input));
+        final CommandInput commandInput = CommandInput.of(input);
+        final CommandPreprocessingContext<C> preprocessingContext = new CommandPreprocessingContext<>(
+                context,
+                commandInput
+        );
         try {
-            if (this.preprocessContext(context, inputQueue) == State.ACCEPTED) {
-                return this.commandExecutionCoordinator.coordinateExecution(context, inputQueue);
+            if (this.preprocessContext(preprocessingContext) == State.ACCEPTED) {
+                if (parsedCommand != null && isCompletelyParsed(parsedCommand)
+                        && isUnchanged(preprocessingContext.getParsingInput(), commandInput)) {
+                    for (final Map.Entry<CommandArgument<C, ?>, Object> entry : parsedCommand.values().entrySet()) {
+                        context.store((CommandArgument<C, Object>) entry.getKey(), entry.getValue());
+                    }
+                    context.store(CommandTree.PARSED_COMMAND, parsedCommand.command());
+                }
+                return this.commandExecutionCoordinator.coordinateExecution(
+                        context,
+                        preprocessingContext.getParsingInput()
+                );
             }
         } catch (final Exception e) {
             final CompletableFuture<CommandResult<C>> future = new CompletableFuture<>();
@@ -197,6 +250,57 @@ public abstract class CommandManager<C> {
         return CompletableFuture.completedFuture(null);
     }
 
+    /**
+     * Check whether the preprocessors left the input queue as it was supplied. The platform parsed the original input,
+     * so its values do not apply if a preprocessor rewrote the queue
+     *
+     * @param parsingInput Input that would be parsed after preprocessing
+     * @param commandInput Input that the preprocessing context was created with
+     * @return {@code true} if the input would be parsed as supplied
+     */
+    private static boolean isUnchanged(
+            final @NonNull Queue<@NonNull String> parsingInput,
+            final @NonNull CommandInput commandInput
+    ) {
+        if (parsingInput == commandInput) {
+            return commandInput.cursor() == 0;
+        }
+        /* The preprocessors requested the input queue, which is a copy of the command input that they may have changed */
+        final Iterator<String> tokens = commandInput.iterator();
+        for (final String token : parsingInput) {
+            if (!tokens.hasNext() || !tokens.next().equals(token)) {
+                return false;
+            }
+        }
+        return !tokens.hasNext();
+    }
+
+    /**
+     * Check whether a parsed command contains a value for every argument that parsing the input would store
+     *
+     * @param parsedCommand Parsed command
+     * @param <C>           Command sender type
+     * @return {@code true} if the input does not need to be parsed
+     */
+    private static <C> boolean isCompletelyParsed(final @NonNull ParsedCommand<C> parsedCommand) {
+        final Set<String> parsedNames = new HashSet<>();
+        for (final CommandArgument<C, ?> argument : parsedCommand.values().keySet()) {
+            if (argument.hasPreprocessors()) {
+                return false;
+            }
+            parsedNames.add(argument.getName());
+        }
+        for (final CommandArgument<C, ?> argument : parsedCommand.command().getArguments()) {
+            if (argument instanceof StaticArgument || parsedNames.contains(argument.getName())) {
+                continue;
+            }
+            if (argument.isRequired() || argument.hasDefaultValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Get command suggestions for the "next" argument that would yield a correctly parsing command input. The command
      * suggestions provided by the command argument parsers will be filtered using the {@link CommandSuggestionProcessor}
@@ -216,7 +320,15 @@ public abstract class CommandManager<C> {
                 commandSender,
                 this
         );
-        return this.commandSuggestionEngine.getSuggestions(context, input);
+        final CommandSuggestionEngine<C> commandSuggestionEngine = this.commandSuggestionEngine;
+        final CommandMetricsListener<C> metricsListener = this.metricsListener;
+        if (metricsListener == null) {
+            return commandSuggestionEngine.getSuggestions(context, input);
+        }
+        final long start = System.nanoTime();
+        final List<String> suggestions = commandSuggestionEngine.getSuggestions(context, input);
+        metricsListener.suggestionsCreated(context, System.nanoTime() - start);
+        return suggestions;
     }
 
     /**
@@ -237,8 +349,8 @@ public abstract class CommandManager<C> {
             throw new IllegalStateException("Unable to register commands because the manager is no longer in a registration "
                     + "state. Your platform may allow unsafe registrations by enabling the appropriate manager setting.");
         }
-        this.commandTree.insertCommand(command);
-        this.commands.add(command);
+        /* The command is added while the tree is locked, so that a concurrent deletion cannot leave it behind */
+        this.commandTree.insertCommands(Collections.singletonList(command), this.commands::add);
         return this;
     }
 
@@ -252,6 +364,29 @@ public abstract class CommandManager<C> {
         return this.command(command.manager(this).build());
     }
 
+    /**
+     * Register multiple commands to the command manager and insert them into the underlying command tree. This behaves
+     * like calling {@link #command(Command)} for each of the commands, except that the commands are forwarded to the
+     * {@link CommandRegistrationHandler} and have their permissions propagated once all of them have been inserted.
+     * <p>
+     * This should be preferred when registering large amounts of commands at once.
+     *
+     * @param commands Commands to register
+     * @return The command manager instance. This is returned so that these method calls may be chained. This will always
+     *         return {@code this}.
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public @NonNull @This CommandManager<C> commands(final @NonNull Collection<@NonNull Command<C>> commands) {
+        if (!(this.transitionIfPossible(RegistrationState.BEFORE_REGISTRATION, RegistrationState.REGISTERING)
+                || this.isCommandRegistrationAllowed())) {
+            throw new IllegalStateException("Unable to register commands because the manager is no longer in a registration "
+                    + "state. Your platform may allow unsafe registrations by enabling the appropriate manager setting.");
+        }
+        this.commandTree.insertCommands(commands, this.commands::add);
+        return this;
+    }
+
     /**
      * Get the caption variable replacement handler.
      *
@@ -421,10 +556,15 @@ public abstract class CommandManager<C> {
             final @NonNull CommandPermission permission
     ) {
         if (permission instanceof Permission) {
-            if (permission.toString().isEmpty()) {
+            final String node = ((Permission) permission).getPermission();
+            if (node.isEmpty()) {
                 return true;
             }
-            return this.hasPermission(sender, permission.toString());
+            final PermissionCache<C> permissionCache = this.permissionCache;
+            if (permissionCache != null) {
+                return permissionCache.hasPermission(sender, node, this::hasPermission);
+            }
+            return this.hasPermission(sender, node);
         } else if (permission instanceof PredicatePermission) {
             return ((PredicatePermission<C>) permission).hasPermission(sender);
         } else if (permission instanceof OrPermission) {
@@ -546,7 +686,13 @@ public abstract class CommandManager<C> {
         this.commandRegistrationHandler.unregisterRootCommand((StaticArgument<?>) node.getValue());
 
         // We then delete it from the tree.
-        this.commandTree.deleteRecursively(node, true, this.commands::remove);
+        final CommandMetricsListener<C> metricsListener = this.metricsListener;
+        this.commandTree.deleteRecursively(node, true, command -> {
+            this.commands.remove(command);
+            if (metricsListener != null) {
+                metricsListener.commandDeleted(command);
+            }
+        });
 
         // And lastly we re-build the entire tree.
         this.commandTree.verifyAndRegister();
@@ -920,8 +1066,7 @@ public abstract class CommandManager<C> {
      */
     public void registerCommandPreProcessor(final @NonNull CommandPreprocessor<C> processor) {
         this.servicePipeline.registerServiceImplementation(
-                new TypeToken<CommandPreprocessor<C>>() {
-                },
+                this.preprocessorType,
                 processor,
                 Collections.emptyList()
         );
@@ -935,8 +1080,9 @@ public abstract class CommandManager<C> {
      * @see #preprocessContext(CommandContext, LinkedList) Preprocess a context
      */
     public void registerCommandPostProcessor(final @NonNull CommandPostprocessor<C> processor) {
-        this.servicePipeline.registerServiceImplementation(new TypeToken<CommandPostprocessor<C>>() {
-                                                           }, processor,
+        this.servicePipeline.registerServiceImplementation(
+                this.postprocessorType,
+                processor,
                 Collections.emptyList()
         );
     }
@@ -953,13 +1099,25 @@ public abstract class CommandManager<C> {
             final @NonNull CommandContext<C> context,
             final @NonNull LinkedList<@NonNull String> inputQueue
     ) {
-        this.servicePipeline.pump(new CommandPreprocessingContext<>(context, inputQueue))
-                .through(new TypeToken<CommandPreprocessor<C>>() {
-                })
+        return this.preprocessContext(new CommandPreprocessingContext<>(context, inputQueue));
+    }
+
+    private State preprocessContext(final @NonNull CommandPreprocessingContext<C> preprocessingContext) {
+        final CommandMetricsListener<C> metricsListener = this.metricsListener;
+        final long start = metricsListener == null ? 0L : System.nanoTime();
+        this.servicePipeline.pump(preprocessingContext)
+                .through(this.preprocessorType)
                 .getResult();
-        return context.<String>getOptional(AcceptingCommandPreprocessor.PROCESSED_INDICATOR_KEY).orElse("").isEmpty()
+        final State state = preprocessingContext.getCommandContext()
+                .<String>getOptional(AcceptingCommandPreprocessor.PROCESSED_INDICATOR_KEY)
+                .orElse("")
+                .isEmpty()
                 ? State.REJECTED
                 : State.ACCEPTED;
+        if (metricsListener != null) {
+            metricsListener.contextPreprocessed(preprocessingContext.getCommandContext(), state, System.nanoTime() - start);
+        }
+        return state;
     }
 
     /**
@@ -974,13 +1132,18 @@ public abstract class CommandManager<C> {
             final @NonNull CommandContext<C> context,
             final @NonNull Command<C> command
     ) {
+        final CommandMetricsListener<C> metricsListener = this.metricsListener;
+        final long start = metricsListener == null ? 0L : System.nanoTime();
         this.servicePipeline.pump(new CommandPostprocessingContext<>(context, command))
-                .through(new TypeToken<CommandPostprocessor<C>>() {
-                })
+                .through(this.postprocessorType)
                 .getResult();
-        return context.<String>getOptional(AcceptingCommandPostprocessor.PROCESSED_INDICATOR_KEY).orElse("").isEmpty()
+        final State state = context.<String>getOptional(AcceptingCommandPostprocessor.PROCESSED_INDICATOR_KEY).orElse("").isEmpty()
                 ? State.REJECTED
                 : State.ACCEPTED;
+        if (metricsListener != null) {
+            metricsListener.contextPostprocessed(context, command, state, System.nanoTime() - start);
+        }
+        return state;
     }
 
     /**
@@ -1038,6 +1201,105 @@ public abstract class CommandManager<C> {
         this.commandSuggestionProcessor = commandSuggestionProcessor;
     }
 
+    /**
+     * Get the engine that produces the suggestions returned by {@link #suggest(Object, String)}
+     *
+     * @return Command suggestion engine
+     * @since 1.9.0
+     * @see #commandSuggestionEngine(CommandSuggestionEngine)
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public @NonNull CommandSuggestionEngine<C> commandSuggestionEngine() {
+        return this.commandSuggestionEngine;
+    }
+
+    /**
+     * Set the engine that produces the suggestions returned by {@link #suggest(Object, String)}.
+     * <p>
+     * The default engine is created by {@link DelegatingCommandSuggestionEngineFactory}. An
+     * {@link cloud.commandframework.arguments.IncrementalCommandSuggestionEngine} may be used instead to avoid parsing
+     * the same input again for every keystroke.
+     *
+     * @param commandSuggestionEngine Command suggestion engine
+     * @since 1.9.0
+     * @see #commandSuggestionEngine()
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public void commandSuggestionEngine(final @NonNull CommandSuggestionEngine<C> commandSuggestionEngine) {
+        this.commandSuggestionEngine = Objects.requireNonNull(commandSuggestionEngine, "commandSuggestionEngine");
+    }
+
+    /**
+     * Get the listener that is notified of the time spent in each stage of the command pipeline
+     *
+     * @return Metrics listener, or {@code null} if the stages are not being measured
+     * @since 1.9.0
+     * @see #metricsListener(CommandMetricsListener)
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public @Nullable CommandMetricsListener<C> metricsListener() {
+        return this.metricsListener;
+    }
+
+    /**
+     * Set the listener that is notified of the time spent in each stage of the command pipeline.
+     * <p>
+     * The stages are only timed while a listener is set. {@link InMemoryCommandMetrics} aggregates the
+     * measurements in latency histograms.
+     *
+     * @param metricsListener Metrics listener, or {@code null} to stop measuring the stages
+     * @since 1.9.0
+     * @see #metricsListener()
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public void metricsListener(final @Nullable CommandMetricsListener<C> metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * Get the cache that holds the results of string permission checks
+     *
+     * @return Permission cache, or {@code null} if the results are not cached
+     * @since 1.9.0
+     * @see #permissionCache(PermissionCache)
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public @Nullable PermissionCache<C> permissionCache() {
+        return this.permissionCache;
+    }
+
+    /**
+     * Set the cache that holds the results of string permission checks.
+     * <p>
+     * Permissions are checked for every node that is visited while parsing or suggesting commands, so caching the
+     * results saves repeated lookups in the platform's permission system. The results are not cached by default.
+     * When a cache is set, {@link #invalidatePermissionCache(Object)} must be called whenever the permissions of a
+     * sender change.
+     *
+     * @param permissionCache Permission cache, or {@code null} to stop caching the results
+     * @since 1.9.0
+     * @see #permissionCache()
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public void permissionCache(final @Nullable PermissionCache<C> permissionCache) {
+        this.permissionCache = permissionCache;
+    }
+
+    /**
+     * Remove the cached permission check results of a sender. This does nothing if no
+     * {@link #permissionCache(PermissionCache) permission cache} has been set
+     *
+     * @param sender Command sender whose permissions changed
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public void invalidatePermissionCache(final @NonNull C sender) {
+        final PermissionCache<C> permissionCache = this.permissionCache;
+        if (permissionCache != null) {
+            permissionCache.invalidate(sender);
+        }
+    }
+
     /**
      * Get the parser registry instance. The parser registry contains default
      * mappings to {@link ArgumentParser}
@@ -1428,7 +1690,18 @@ public abstract class CommandManager<C> {
          * @since 1.8.0
          */
         @API(status = API.Status.EXPERIMENTAL, since = "1.8.0")
-        LIBERAL_FLAG_PARSING
+        LIBERAL_FLAG_PARSING,
+
+        /**
+         * Records an {@link CommandContext.ArgumentTiming} in the command context for every argument that is parsed.
+         * This is disabled by default, as it adds two {@link System#nanoTime()} calls and an allocation to every
+         * parsed argument. Use {@link CommandManager#metricsListener(CommandMetricsListener)} to aggregate parsing
+         * times instead.
+         *
+         * @since 1.9.0
+         */
+        @API(status = API.Status.STABLE, since = "1.9.0")
+        ARGUMENT_TIMINGS
     }
 
 
@@ -38,29 +38,33 @@ import cloud.commandframework.exceptions.NoPermissionException;
 import cloud.commandframework.exceptions.NoSuchCommandException;
 import cloud.commandframework.keys.CloudKey;
 import cloud.commandframework.keys.SimpleCloudKey;
+import cloud.commandframework.metrics.CommandMetricsListener;
 import cloud.commandframework.permission.CommandPermission;
 import cloud.commandframework.permission.OrPermission;
+import cloud.commandframework.permission.Permission;
 import cloud.commandframework.types.tuples.Pair;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Deque;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -104,7 +108,18 @@ public final class CommandTree<C> {
             TypeToken.get(Integer.class)
     );
 
+    /**
+     * Stores the command whose arguments have already been stored in the context by the platform, in which case
+     * the input is not parsed
+     */
+    static final CloudKey<Command<?>> PARSED_COMMAND = SimpleCloudKey.of(
+            "__parsed_command__",
+            new TypeToken<Command<?>>() {
+            }
+    );
+
     private final Object commandLock = new Object();
+    private volatile long modificationCount;
 
     private final Node<CommandArgument<C, ?>> internalTree = new Node<>(null);
     private final CommandManager<C> commandManager;
@@ -131,6 +146,7 @@ public final class CommandTree<C> {
      * @param args           Input
      * @return Parsed command, if one could be found
      */
+    @SuppressWarnings("unchecked")
     public @NonNull Pair<@Nullable Command<C>, @Nullable Exception> parse(
             final @NonNull CommandContext<C> commandContext,
             final @NonNull Queue<@NonNull String> args
@@ -147,12 +163,20 @@ public final class CommandTree<C> {
             );
         }
 
-        final Pair<@Nullable Command<C>, @Nullable Exception> pair = this.parseCommand(
-                new ArrayList<>(),
-                commandContext,
-                args,
-                this.internalTree
-        );
+        final Command<C> parsedCommand = (Command<C>) commandContext.getOrDefault(PARSED_COMMAND, null);
+        final Pair<@Nullable Command<C>, @Nullable Exception> pair;
+        if (parsedCommand != null) {
+            /* The platform already parsed the arguments, so only the checks that parsing would have made remain */
+            commandContext.remove(PARSED_COMMAND);
+            pair = this.checkParsedCommand(commandContext, parsedCommand);
+        } else {
+            pair = this.parseCommand(
+                    new ArrayList<>(),
+                    commandContext,
+                    args,
+                    this.internalTree
+            );
+        }
         if (pair.getFirst() != null) {
             final Command<C> command = pair.getFirst();
             if (command.getSenderType().isPresent() && !command.getSenderType().get()
@@ -170,6 +194,20 @@ public final class CommandTree<C> {
         return pair;
     }
 
+    private @NonNull Pair<@Nullable Command<C>, @Nullable Exception> checkParsedCommand(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Command<C> command
+    ) {
+        if (!this.commandManager.hasPermission(commandContext.getSender(), command.getCommandPermission())) {
+            return Pair.of(null, new NoPermissionException(
+                    command.getCommandPermission(),
+                    commandContext.getSender(),
+                    new ArrayList<>(command.getArguments())
+            ));
+        }
+        return Pair.of(command, null);
+    }
+
     private @NonNull Pair<@Nullable Command<C>, @Nullable Exception> parseCommand(
             final @NonNull List<@NonNull CommandArgument<C, ?>> parsedArguments,
             final @NonNull CommandContext<C> commandContext,
@@ -200,7 +238,7 @@ public final class CommandTree<C> {
         }
 
         /* There are 0 or more static arguments as children. No variable child arguments are present */
-        if (root.children.isEmpty()) {
+        if (root.getChildren().isEmpty()) {
             /* We are at the bottom. Check if there's a command attached, in which case we're done */
             if (root.getValue() != null && root.getValue().getOwningCommand() != null) {
                 if (commandQueue.isEmpty()) {
@@ -230,24 +268,18 @@ public final class CommandTree<C> {
                 ));
             }
         } else {
-            final Iterator<Node<CommandArgument<C, ?>>> childIterator = root.getChildren().iterator();
-            if (childIterator.hasNext()) {
-                while (childIterator.hasNext()) {
-                    final Node<CommandArgument<C, ?>> child = childIterator.next();
-                    if (child.getValue() != null) {
-                        final CommandArgument<C, ?> argument = child.getValue();
-                        final CommandContext.ArgumentTiming argumentTiming = commandContext.createTiming(argument);
-
-                        argumentTiming.setStart(System.nanoTime());
-                        commandContext.setCurrentArgument(argument);
-                        final ArgumentParseResult<?> result = argument.getParser().parse(commandContext, commandQueue);
-                        argumentTiming.setEnd(System.nanoTime(), result.getFailure().isPresent());
-
-                        if (result.getParsedValue().isPresent()) {
-                            parsedArguments.add(child.getValue());
-                            return this.parseCommand(parsedArguments, commandContext, commandQueue, child);
-                        }
-                    }
+            /* Literals are resolved through the literal index, so only the matching literal is ever parsed */
+            final String literal = commandQueue.peek();
+            final Node<CommandArgument<C, ?>> literalChild = literal == null ? null : root.getLiteralChild(literal);
+            if (literalChild != null && this.parseChild(commandContext, commandQueue, literalChild)) {
+                parsedArguments.add(literalChild.getValue());
+                return this.parseCommand(parsedArguments, commandContext, commandQueue, literalChild);
+            }
+            for (final Node<CommandArgument<C, ?>> child : root.getChildren()) {
+                if (child.getValue() != null && !(child.getValue() instanceof StaticArgument)
+                        && this.parseChild(commandContext, commandQueue, child)) {
+                    parsedArguments.add(child.getValue());
+                    return this.parseCommand(parsedArguments, commandContext, commandQueue, child);
                 }
             }
             /* We could not find a match */
@@ -290,6 +322,24 @@ public final class CommandTree<C> {
         }
     }
 
+    private boolean parseChild(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Queue<@NonNull String> commandQueue,
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> child
+    ) {
+        final CommandArgument<C, ?> argument = Objects.requireNonNull(child.getValue());
+        final boolean measured = this.isParsingMeasured();
+        final long start = measured ? System.nanoTime() : 0L;
+
+        commandContext.setCurrentArgument(argument);
+        final ArgumentParseResult<?> result = argument.getParser().parse(commandContext, commandQueue);
+        if (measured) {
+            this.recordParsing(commandContext, argument, result, start);
+        }
+
+        return result.getParsedValue().isPresent();
+    }
+
     private @NonNull Pair<@Nullable Command<C>, @Nullable Exception> attemptParseUnambiguousChild(
             final @NonNull List<@NonNull CommandArgument<C, ?>> parsedArguments,
             final @NonNull CommandContext<C> commandContext,
@@ -303,13 +353,10 @@ public final class CommandTree<C> {
         // If so, do not attempt parsing as a dynamic argument
         if (!commandQueue.isEmpty()) {
             final String literal = commandQueue.peek();
-            final boolean matchesLiteral = children.stream()
-                    .filter(n -> n.getValue() instanceof StaticArgument)
-                    .map(n -> (StaticArgument<?>) n.getValue())
-                    .flatMap(arg -> Stream.concat(Stream.of(arg.getName()), arg.getAliases().stream()))
-                    .anyMatch(arg -> arg.equals(literal));
+            final Node<CommandArgument<C, ?>> literalChild = root.getLiteralChild(literal);
 
-            if (matchesLiteral) {
+            /* The index ignores case, whereas only exact literal matches take precedence over the variable argument */
+            if (literalChild != null && this.matchesLiteralExactly(literalChild, literal)) {
                 return Pair.of(null, null);
             }
         }
@@ -351,8 +398,10 @@ public final class CommandTree<C> {
                              * not allowed, therefore we're able to pick any child command, as long as we can find it
                              */
                             Node<CommandArgument<C, ?>> node = child;
-                            while (!node.isLeaf()) {
-                                node = node.getChildren().get(0);
+                            List<Node<CommandArgument<C, ?>>> nodeChildren = node.getChildren();
+                            while (!nodeChildren.isEmpty()) {
+                                node = nodeChildren.get(0);
+                                nodeChildren = node.getChildren();
                                 if (node.getValue() != null && node.getValue().getOwningCommand() != null) {
                                     child.getValue().setOwningCommand(node.getValue().getOwningCommand());
                                 }
@@ -425,10 +474,10 @@ public final class CommandTree<C> {
                 }
 
                 final CommandArgument<C, ?> argument = child.getValue();
-                final CommandContext.ArgumentTiming argumentTiming = commandContext.createTiming(argument);
+                final boolean measured = this.isParsingMeasured();
 
                 // START: Parsing
-                argumentTiming.setStart(System.nanoTime());
+                final long start = measured ? System.nanoTime() : 0L;
                 final ArgumentParseResult<?> result;
                 final ArgumentParseResult<Boolean> preParseResult = child.getValue().preprocess(
                         commandContext,
@@ -440,11 +489,13 @@ public final class CommandTree<C> {
                 } else {
                     result = preParseResult;
                 }
-                argumentTiming.setEnd(System.nanoTime(), result.getFailure().isPresent());
+                if (measured) {
+                    this.recordParsing(commandContext, argument, result, start);
+                }
                 // END: Parsing
 
                 if (result.getParsedValue().isPresent()) {
-                    commandContext.store(child.getValue().getName(), result.getParsedValue().get());
+                    this.storeParsedValue(commandContext, child.getValue(), result.getParsedValue().get());
                     if (child.isLeaf()) {
                         if (commandQueue.isEmpty()) {
                             return Pair.of(this.cast(child.getValue().getOwningCommand()), null);
@@ -480,6 +531,19 @@ public final class CommandTree<C> {
         return Pair.of(null, null);
     }
 
+    private boolean matchesLiteralExactly(
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> node,
+            final @NonNull String literal
+    ) {
+        final StaticArgument<?> staticArgument = (StaticArgument<?>) Objects.requireNonNull(node.getValue());
+        for (final String alias : staticArgument.getAliases()) {
+            if (alias.equals(literal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Get suggestions from the input queue
      *
@@ -491,14 +555,52 @@ public final class CommandTree<C> {
             final @NonNull CommandContext<C> context,
             final @NonNull Queue<@NonNull String> commandQueue
     ) {
-        return this.getSuggestions(context, commandQueue, this.internalTree);
+        return this.suggestionsForNode(context, commandQueue, this.internalTree, null);
+    }
+
+    /**
+     * Get suggestions from the input queue, starting at the given node
+     * <p>
+     * The listener is notified whenever the input that leads to a node has been parsed and the node is entered, with
+     * the node and the number of tokens that remain in the queue. Suggestions may later be resumed from that node by
+     * restoring the values that were stored in the context and removing the parsed tokens from the queue, as long as
+     * the {@link #modificationCount() modification count} of the tree has not changed.
+     *
+     * @param context      Context instance
+     * @param commandQueue Input queue, without the tokens that lead to the node
+     * @param node         Node to start at, or {@code null} to start at the root of the tree
+     * @param nodeListener Listener that is notified of the entered nodes, or {@code null}
+     * @return String suggestions. These should be filtered based on {@link String#startsWith(String)}
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+    public @NonNull List<@NonNull String> getSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Queue<@NonNull String> commandQueue,
+            final @Nullable Node<@Nullable CommandArgument<C, ?>> node,
+            final @Nullable ObjIntConsumer<@NonNull Node<@Nullable CommandArgument<C, ?>>> nodeListener
+    ) {
+        return this.suggestionsForNode(context, commandQueue, node == null ? this.internalTree : node, nodeListener);
+    }
+
+    /**
+     * Get the number of times that commands have been inserted into or deleted from the tree, or that aliases have been
+     * registered to literals in the tree using {@link StaticArgument#registerAlias(String)}
+     *
+     * @return Modification count
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+    public long modificationCount() {
+        return this.modificationCount;
     }
 
     @SuppressWarnings("MixedMutabilityReturnType")
-    private @NonNull List<@NonNull String> getSuggestions(
+    private @NonNull List<@NonNull String> suggestionsForNode(
             final @NonNull CommandContext<C> commandContext,
             final @NonNull Queue<@NonNull String> commandQueue,
-            final @NonNull Node<@Nullable CommandArgument<C, ?>> root
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> root,
+            final @Nullable ObjIntConsumer<@NonNull Node<@Nullable CommandArgument<C, ?>>> nodeListener
     ) {
         /* If the sender isn't allowed to access the root node, no suggestions are needed */
         if (this.isPermitted(commandContext.getSender(), root) != null) {
@@ -515,29 +617,20 @@ public final class CommandTree<C> {
          * Try to see if any of the static literals can be parsed (matches exactly)
          * If so, enter that node of the command tree for deeper suggestions
          */
-        if (!staticArguments.isEmpty() && !commandQueue.isEmpty()) {
+        final Node<CommandArgument<C, ?>> literalChild = commandQueue.isEmpty() ? null : root.getLiteralChild(commandQueue.peek());
+        if (literalChild != null && literalChild.getValue() != null) {
             final Queue<String> commandQueueCopy = new LinkedList<String>(commandQueue);
-            final Iterator<Node<CommandArgument<C, ?>>> childIterator = staticArguments.iterator();
-            if (childIterator.hasNext()) {
-                while (childIterator.hasNext()) {
-                    final Node<CommandArgument<C, ?>> child = childIterator.next();
-                    if (child.getValue() != null) {
-                        commandContext.setCurrentArgument(child.getValue());
-                        final ArgumentParseResult<?> result = child.getValue().getParser().parse(
-                                commandContext,
-                                commandQueue
-                        );
-                        if (result.getParsedValue().isPresent()) {
-                            // If further arguments are specified, dive into this literal
-                            if (!commandQueue.isEmpty()) {
-                                return this.getSuggestions(commandContext, commandQueue, child);
-                            }
-
-                            // We've already matched one exactly, no use looking further
-                            break;
-                        }
-                    }
+            commandContext.setCurrentArgument(literalChild.getValue());
+            final ArgumentParseResult<?> result = literalChild.getValue().getParser().parse(
+                    commandContext,
+                    commandQueue
+            );
+            // If further arguments are specified, dive into this literal
+            if (result.getParsedValue().isPresent() && !commandQueue.isEmpty()) {
+                if (nodeListener != null) {
+                    nodeListener.accept(literalChild, commandQueue.size());
                 }
+                return this.suggestionsForNode(commandContext, commandQueue, literalChild, nodeListener);
             }
 
             // Restore original queue
@@ -568,7 +661,7 @@ public final class CommandTree<C> {
         /* Calculate suggestions for the variable argument, if one exists */
         for (final Node<CommandArgument<C, ?>> child : root.getChildren()) {
             if (child.getValue() != null && !(child.getValue() instanceof StaticArgument)) {
-                suggestions.addAll(this.suggestionsForDynamicArgument(commandContext, commandQueue, child));
+                suggestions.addAll(this.suggestionsForDynamicArgument(commandContext, commandQueue, child, nodeListener));
             }
         }
 
@@ -578,7 +671,8 @@ public final class CommandTree<C> {
     private @NonNull List<@NonNull String> suggestionsForDynamicArgument(
             final @NonNull CommandContext<C> commandContext,
             final @NonNull Queue<@NonNull String> commandQueue,
-            final @NonNull Node<@Nullable CommandArgument<C, ?>> child
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> child,
+            final @Nullable ObjIntConsumer<@NonNull Node<@Nullable CommandArgument<C, ?>>> nodeListener
     ) {
         /* If argument has no value associated, break out early */
         if (child.getValue() == null) {
@@ -634,7 +728,7 @@ public final class CommandTree<C> {
             if (commandQueue.size() == 1) {
                 return this.directSuggestions(commandContext, child, commandQueue.peek());
             } else if (child.getValue() instanceof CompoundArgument) {
-                return this.directSuggestions(commandContext, child, ((LinkedList<String>) commandQueue).getLast());
+                return this.directSuggestions(commandContext, child, lastToken(commandQueue));
             }
         } else if (commandQueue.size() == 1 && commandQueue.peek().isEmpty()) {
             return this.directSuggestions(commandContext, child, commandQueue.peek());
@@ -673,8 +767,11 @@ public final class CommandTree<C> {
 
             if (parseSuccess && !commandQueue.isEmpty()) {
                 // the current argument at the position is parsable and there are more arguments following
-                commandContext.store(child.getValue().getName(), parsedValue.get());
-                return this.getSuggestions(commandContext, commandQueue, child);
+                this.storeParsedValue(commandContext, child.getValue(), parsedValue.get());
+                if (nodeListener != null) {
+                    nodeListener.accept(child, commandQueue.size());
+                }
+                return this.suggestionsForNode(commandContext, commandQueue, child, nodeListener);
             } else if (!parseSuccess && commandQueueOriginal.size() > 1) {
                 // at this point there should normally be no need to reset the command queue as we expect
                 // users to only take out an argument if the parse succeeded. Just to be sure we reset anyway
@@ -735,59 +832,174 @@ public final class CommandTree<C> {
         return suggestions;
     }
 
+    /**
+     * Get the last token of the given queue, without consuming it
+     *
+     * @param commandQueue Non-empty queue
+     * @return Last token
+     */
+    private static @NonNull String lastToken(final @NonNull Queue<@NonNull String> commandQueue) {
+        if (commandQueue instanceof Deque) {
+            return ((Deque<String>) commandQueue).getLast();
+        }
+        String lastToken = null;
+        for (final String token : commandQueue) {
+            lastToken = token;
+        }
+        return Objects.requireNonNull(lastToken);
+    }
+
     /**
      * Insert a new command into the command tree
+     * <p>
+     * Only the path that the command occupies in the tree is verified, and only the permissions
+     * of the nodes along that path are updated.
      *
      * @param command Command to insert
      */
-    @SuppressWarnings("unchecked")
     public void insertCommand(final @NonNull Command<C> command) {
+        this.insertCommands(Collections.singletonList(command));
+    }
+
+    /**
+     * Insert multiple commands into the command tree. The inserted paths are verified as they are
+     * inserted, and the commands are registered once all commands have been inserted. The permissions
+     * of the inserted commands are then propagated in a single pass, which updates every affected node
+     * once instead of once per command.
+     * <p>
+     * If one of the commands cannot be inserted, the commands that were inserted before it will still be registered.
+     *
+     * @param commands Commands to insert
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public void insertCommands(final @NonNull Collection<@NonNull Command<C>> commands) {
+        this.insertCommands(commands, command -> {
+        });
+    }
+
+    void insertCommands(
+            final @NonNull Collection<@NonNull Command<C>> commands,
+            final @NonNull Consumer<Command<C>> op
+    ) {
+        synchronized (this.commandLock) {
+            final List<Node<CommandArgument<C, ?>>> insertedNodes = new ArrayList<>(commands.size());
+            try {
+                for (final Command<C> command : commands) {
+                    insertedNodes.add(this.insertCommandPath(command));
+                    op.accept(command);
+                }
+            } finally {
+                for (final Node<CommandArgument<C, ?>> insertedNode : insertedNodes) {
+                    this.commandManager.commandRegistrationHandler().registerCommand(
+                            Objects.requireNonNull(Objects.requireNonNull(insertedNode.getValue()).getOwningCommand())
+                    );
+                }
+                this.propagatePermissions(insertedNodes);
+                this.modificationCount++;
+            }
+        }
+    }
+
+    private void aliasRegistered() {
         synchronized (this.commandLock) {
-            Node<CommandArgument<C, ?>> node = this.internalTree;
-            FlagArgument<C> flags = command.flagArgument();
+            this.modificationCount++;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NonNull Node<@Nullable CommandArgument<C, ?>> insertCommandPath(final @NonNull Command<C> command) {
+        Node<CommandArgument<C, ?>> node = this.internalTree;
+        /* The first node that is created is only attached to the tree once the rest of the path has been created below it */
+        Node<CommandArgument<C, ?>> detachedNode = null;
+        FlagArgument<C> flags = command.flagArgument();
 
-            List<CommandArgument<C, ?>> nonFlagArguments = command.nonFlagArguments();
+        List<CommandArgument<C, ?>> nonFlagArguments = command.nonFlagArguments();
 
-            int flagStartIdx = this.flagStartIndex(nonFlagArguments, flags);
+        int flagStartIdx = this.flagStartIndex(nonFlagArguments, flags);
 
-            for (int i = 0; i < nonFlagArguments.size(); i++) {
-                final CommandArgument<C, ?> argument = nonFlagArguments.get(i);
+        for (int i = 0; i < nonFlagArguments.size(); i++) {
+            final CommandArgument<C, ?> argument = nonFlagArguments.get(i);
 
-                Node<CommandArgument<C, ?>> tempNode = node.getChild(argument);
-                if (tempNode == null) {
-                    tempNode = node.addChild(argument);
-                } else if (argument instanceof StaticArgument && tempNode.getValue() != null) {
-                    for (final String alias : ((StaticArgument<C>) argument).getAliases()) {
-                        ((StaticArgument<C>) tempNode.getValue()).registerAlias(alias);
-                    }
+            Node<CommandArgument<C, ?>> tempNode = node.getChild(argument);
+            this.checkAmbiguity(node, tempNode, argument);
+            if (tempNode == null) {
+                tempNode = new Node<>(argument, node);
+                if (detachedNode == null) {
+                    detachedNode = tempNode;
+                } else {
+                    node.addChild(tempNode, this::aliasRegistered);
                 }
-                if (node.children.size() > 0) {
-                    node.children.sort(Comparator.comparing(Node::getValue));
+            } else if (argument instanceof StaticArgument && tempNode.getValue() != null) {
+                /* Only the aliases that the existing literal does not accept yet are registered */
+                final StaticArgument<C> existingLiteral = (StaticArgument<C>) tempNode.getValue();
+                for (final String alias : ((StaticArgument<C>) argument).getAlternativeAliases()) {
+                    if (!existingLiteral.getAliases().contains(alias)) {
+                        existingLiteral.registerAlias(alias);
+                    }
                 }
-                tempNode.setParent(node);
-                node = tempNode;
+            }
+            node = tempNode;
 
-                if (i >= flagStartIdx) {
-                    tempNode = node.addChild(flags);
-                    tempNode.setParent(node);
-                    node = tempNode;
+            if (i >= flagStartIdx) {
+                this.checkAmbiguity(node, null, flags);
+                tempNode = new Node<>(flags, node);
+                if (detachedNode == null) {
+                    detachedNode = tempNode;
+                } else {
+                    node.addChild(tempNode, this::aliasRegistered);
                 }
+                node = tempNode;
             }
+        }
 
-            if (node.getValue() != null) {
-                if (node.getValue().getOwningCommand() != null) {
-                    throw new IllegalStateException(String.format(
-                            "Duplicate command chains detected. Node '%s' already has an owning command (%s)",
-                            node.toString(), node.getValue().getOwningCommand().toString()
-                    ));
-                }
-                node.getValue().setOwningCommand(command);
+        if (node.getValue() != null) {
+            if (node.getValue().getOwningCommand() != null) {
+                throw new IllegalStateException(String.format(
+                        "Duplicate command chains detected. Node '%s' already has an owning command (%s)",
+                        node.toString(), node.getValue().getOwningCommand().toString()
+                ));
             }
-            // Verify the command structure every time we add a new command
-            this.verifyAndRegister();
+            node.getValue().setOwningCommand(command);
+        }
+        if (detachedNode != null) {
+            Objects.requireNonNull(detachedNode.getParent()).addChild(detachedNode, this::aliasRegistered);
+        }
+        return node;
+    }
+
+    private boolean isParsingMeasured() {
+        return this.commandManager.metricsListener() != null
+                || this.commandManager.getSetting(CommandManager.ManagerSettings.ARGUMENT_TIMINGS);
+    }
+
+    private void recordParsing(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandArgument<C, ?> argument,
+            final @NonNull ArgumentParseResult<?> result,
+            final long start
+    ) {
+        final long end = System.nanoTime();
+        if (this.commandManager.getSetting(CommandManager.ManagerSettings.ARGUMENT_TIMINGS)) {
+            final CommandContext.ArgumentTiming argumentTiming = commandContext.createTiming(argument);
+            argumentTiming.setStart(start);
+            argumentTiming.setEnd(end, result.getFailure().isPresent());
+        }
+        final CommandMetricsListener<C> metricsListener = this.commandManager.metricsListener();
+        if (metricsListener != null) {
+            metricsListener.argumentParsed(commandContext, argument, result.getParsedValue().isPresent(), end - start);
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private void storeParsedValue(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandArgument<C, ?> argument,
+            final @NonNull Object value
+    ) {
+        commandContext.store((CommandArgument<C, Object>) argument, value);
+    }
+
     private int flagStartIndex(final @NonNull List<CommandArgument<C, ?>> arguments, final @Nullable FlagArgument<C> flags) {
         // Do not append flags
         if (flags == null) {
@@ -816,6 +1028,10 @@ public final class CommandTree<C> {
             return this.commandManager.hasPermission(sender, permission) ? null : permission;
         }
         if (node.isLeaf()) {
+            if (node.value == null) {
+                /* The tree is empty, which may happen while all commands are being deleted */
+                return null;
+            }
             return this.commandManager.hasPermission(
                     sender,
                     Objects.requireNonNull(
@@ -851,64 +1067,187 @@ public final class CommandTree<C> {
      * command tree contracts
      */
     public void verifyAndRegister() {
-        // All top level commands are supposed to be registered in the command manager
-        this.internalTree.children.stream().map(Node::getValue).forEach(commandArgument -> {
-            if (!(commandArgument instanceof StaticArgument)) {
-                throw new IllegalStateException("Top level command argument cannot be a variable");
-            }
-        });
+        synchronized (this.commandLock) {
+            // All top level commands are supposed to be registered in the command manager
+            this.internalTree.getChildren().stream().map(Node::getValue).forEach(commandArgument -> {
+                if (!(commandArgument instanceof StaticArgument)) {
+                    throw new IllegalStateException("Top level command argument cannot be a variable");
+                }
+            });
 
-        this.checkAmbiguity(this.internalTree);
+            this.checkAmbiguity(this.internalTree);
 
-        // Verify that all leaf nodes have command registered
-        this.getLeaves(this.internalTree).forEach(leaf -> {
-            if (leaf.getOwningCommand() == null) {
-                throw new NoCommandInLeafException(leaf);
-            } else {
-                final Command<C> owningCommand = leaf.getOwningCommand();
-                this.commandManager.commandRegistrationHandler().registerCommand(owningCommand);
+            final List<Node<CommandArgument<C, ?>>> leaves = new ArrayList<>();
+            this.collectLeaves(this.internalTree, leaves);
+
+            // Verify that all leaf nodes have command registered
+            for (final Node<CommandArgument<C, ?>> leaf : leaves) {
+                final Command<C> owningCommand = Objects.requireNonNull(leaf.getValue()).getOwningCommand();
+                if (owningCommand == null) {
+                    throw new NoCommandInLeafException(leaf.getValue());
+                } else {
+                    this.commandManager.commandRegistrationHandler().registerCommand(owningCommand);
+                }
             }
-        });
 
-        // Register command permissions
-        this.getLeavesRaw(this.internalTree).forEach(node -> {
-            // noinspection all
-            final CommandPermission commandPermission = node.getValue().getOwningCommand().getCommandPermission();
+            // Register command permissions
+            this.propagatePermissions(leaves);
+        }
+    }
+
+    /**
+     * Propagate the permissions of inserted commands to the nodes above them. The permissions that are added to a node
+     * are collected first, so that every affected node is updated once, regardless of how many of the commands were
+     * inserted below it
+     *
+     * @param commandNodes Nodes that the inserted commands own
+     */
+    private void propagatePermissions(final @NonNull Collection<@NonNull Node<@Nullable CommandArgument<C, ?>>> commandNodes) {
+        /* Nodes are compared by their values, so distinct nodes with equal values must be told apart by identity */
+        final Map<Node<CommandArgument<C, ?>>, Set<CommandPermission>> addedPermissions = new IdentityHashMap<>();
+        for (final Node<CommandArgument<C, ?>> node : commandNodes) {
+            final CommandPermission commandPermission = Objects.requireNonNull(
+                    Objects.requireNonNull(node.getValue()).getOwningCommand()
+            ).getCommandPermission();
+            if (!node.isLeaf()) {
+                /*
+                 * The command was inserted at an existing intermediary node. The permissions of the leaves below it
+                 * have already been propagated, so only the node itself needs to be updated
+                 */
+                addedPermissions.computeIfAbsent(node, key -> new LinkedHashSet<>()).add(commandPermission);
+                continue;
+            }
             /* All leaves must necessarily have an owning command */
             node.nodeMeta.put("permission", commandPermission);
-            // Get chain and order it tail->head then skip the tail (leaf node)
-            List<Node<CommandArgument<C, ?>>> chain = this.getChain(node);
-            Collections.reverse(chain);
-            chain = chain.subList(1, chain.size());
-            // Go through all nodes from the tail upwards until a collision occurs
-            for (final Node<CommandArgument<C, ?>> commandArgumentNode : chain) {
-                final CommandPermission existingPermission = (CommandPermission) commandArgumentNode.nodeMeta
-                        .get("permission");
-
-                CommandPermission permission;
-                if (existingPermission != null) {
-                    permission = OrPermission.of(Arrays.asList(commandPermission, existingPermission));
-                } else {
-                    permission = commandPermission;
-                }
+            for (Node<CommandArgument<C, ?>> parent = node.getParent(); parent != null; parent = parent.getParent()) {
+                addedPermissions.computeIfAbsent(parent, key -> new LinkedHashSet<>()).add(commandPermission);
+            }
+        }
 
-                /* Now also check if there's a command handler attached to an upper level node */
-                if (commandArgumentNode.getValue() != null && commandArgumentNode
-                        .getValue()
-                        .getOwningCommand() != null) {
-                    final Command<C> command = commandArgumentNode.getValue().getOwningCommand();
-                    if (this
-                            .getCommandManager()
-                            .getSetting(CommandManager.ManagerSettings.ENFORCE_INTERMEDIARY_PERMISSIONS)) {
-                        permission = command.getCommandPermission();
-                    } else {
-                        permission = OrPermission.of(Arrays.asList(permission, command.getCommandPermission()));
-                    }
+        final boolean enforceIntermediaryPermissions = this.getCommandManager()
+                .getSetting(CommandManager.ManagerSettings.ENFORCE_INTERMEDIARY_PERMISSIONS);
+        for (final Map.Entry<Node<CommandArgument<C, ?>>, Set<CommandPermission>> entry : addedPermissions.entrySet()) {
+            final Node<CommandArgument<C, ?>> node = entry.getKey();
+            final Command<C> owningCommand = node.getValue() == null ? null : node.getValue().getOwningCommand();
+            if (owningCommand != null && enforceIntermediaryPermissions) {
+                node.nodeMeta.put("permission", owningCommand.getCommandPermission());
+                continue;
+            }
+            /* Now also take the command handler attached to the node into account */
+            if (owningCommand != null) {
+                entry.getValue().add(owningCommand.getCommandPermission());
+            }
+            node.nodeMeta.put("permission", mergePermissions(
+                    (CommandPermission) node.nodeMeta.get("permission"),
+                    entry.getValue()
+            ));
+        }
+    }
+
+    /**
+     * Merge permissions into the permission of an intermediary node. The result is built once from a flat set that is
+     * free of duplicates, so that the permissions of nodes close to the root do not grow with every registered command
+     *
+     * @param existing Existing permission of the node, or {@code null} if the node has none
+     * @param added    Permissions to add
+     * @return Merged permission
+     */
+    private static @NonNull CommandPermission mergePermissions(
+            final @Nullable CommandPermission existing,
+            final @NonNull Collection<@NonNull CommandPermission> added
+    ) {
+        if (existing != null && isEmptyPermission(existing)) {
+            return existing;
+        }
+        final Set<CommandPermission> permissions = new LinkedHashSet<>();
+        if (existing != null) {
+            addFlattened(permissions, existing);
+        }
+        for (final CommandPermission permission : added) {
+            if (isEmptyPermission(permission)) {
+                return permission;
+            }
+            addFlattened(permissions, permission);
+        }
+        /* The set contains all permissions of the existing one, so they are equal if the sizes match */
+        if (existing != null && permissions.size() == (existing instanceof OrPermission ? existing.getPermissions().size() : 1)) {
+            return existing;
+        }
+        if (permissions.size() == 1) {
+            return permissions.iterator().next();
+        }
+        return OrPermission.of(permissions);
+    }
+
+    private static void addFlattened(
+            final @NonNull Set<@NonNull CommandPermission> permissions,
+            final @NonNull CommandPermission permission
+    ) {
+        if (permission instanceof OrPermission) {
+            permissions.addAll(permission.getPermissions());
+        } else {
+            permissions.add(permission);
+        }
+    }
+
+    private static boolean isEmptyPermission(final @NonNull CommandPermission permission) {
+        return permission instanceof Permission && ((Permission) permission).getPermission().isEmpty();
+    }
+
+    /**
+     * Check that inserting the argument below the given node does not introduce any ambiguity.
+     * Only the new argument is compared against the existing children, using the literal index of the node.
+     *
+     * @param node          Node that the argument is inserted below
+     * @param existingChild Existing child node that the argument is merged into, if any
+     * @param argument      Argument that is inserted
+     */
+    private void checkAmbiguity(
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> node,
+            final @Nullable Node<@Nullable CommandArgument<C, ?>> existingChild,
+            final @NonNull CommandArgument<C, ?> argument
+    ) throws AmbiguousNodeException {
+        if (!(argument instanceof StaticArgument)) {
+            if (node == this.internalTree) {
+                throw new IllegalStateException("Top level command argument cannot be a variable");
+            }
+            /* Variable arguments are sorted after the literals, so only the last child needs to be checked */
+            final Node<CommandArgument<C, ?>> lastChild = node.getLastChild();
+            if (existingChild == null && lastChild != null) {
+                if (lastChild.getValue() != null && !(lastChild.getValue() instanceof StaticArgument)) {
+                    throw this.ambiguousNode(node, argument);
                 }
+            }
+            return;
+        }
 
-                commandArgumentNode.nodeMeta.put("permission", permission);
+        for (final String alias : ((StaticArgument<?>) argument).getAliases()) {
+            final Node<CommandArgument<C, ?>> literalChild = node.getLiteralChild(alias);
+            if (literalChild == null || literalChild == existingChild) {
+                continue;
             }
-        });
+            if (this.matchesLiteralExactly(literalChild, alias)) {
+                throw this.ambiguousNode(node, argument);
+            }
+            /* The index only holds one of the literals that only differ in case, so check the others as well */
+            if (node.anyOtherLiteralChild(alias, existingChild, child -> this.matchesLiteralExactly(child, alias))) {
+                throw this.ambiguousNode(node, argument);
+            }
+        }
+    }
+
+    private @NonNull AmbiguousNodeException ambiguousNode(
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> node,
+            final @NonNull CommandArgument<C, ?> argument
+    ) {
+        return new AmbiguousNodeException(
+                node.getValue(),
+                argument,
+                node.getChildren()
+                        .stream()
+                        .filter(n -> n.getValue() != null)
+                        .map(Node::getValue).collect(Collectors.toList())
+        );
     }
 
     private void checkAmbiguity(final @NonNull Node<@Nullable CommandArgument<C, ?>> node) throws
@@ -918,7 +1257,7 @@ public final class CommandTree<C> {
         }
 
         // List of child nodes that are not static arguments, but (parsed) variable ones
-        final List<Node<CommandArgument<C, ?>>> childVariableArguments = node.children.stream()
+        final List<Node<CommandArgument<C, ?>>> childVariableArguments = node.getChildren().stream()
                 .filter(n -> (n.getValue() != null && !(n.getValue() instanceof StaticArgument)))
                 .collect(Collectors.toList());
 
@@ -936,7 +1275,7 @@ public final class CommandTree<C> {
         }
 
         // List of child nodes that are static arguments, with fixed values
-        @SuppressWarnings({"rawtypes", "unchecked"}) final List<Node<StaticArgument<?>>> childStaticArguments = node.children
+        @SuppressWarnings({"rawtypes", "unchecked"}) final List<Node<StaticArgument<?>>> childStaticArguments = node.getChildren()
                 .stream()
                 .filter(n -> n.getValue() instanceof StaticArgument)
                 .map(n -> (Node<StaticArgument<?>>) ((Node) n))
@@ -962,35 +1301,22 @@ public final class CommandTree<C> {
         }
 
         // Recursively check child nodes as well
-        node.children.forEach(this::checkAmbiguity);
+        node.getChildren().forEach(this::checkAmbiguity);
     }
 
-    private @NonNull List<@NonNull Node<@Nullable CommandArgument<C, ?>>> getLeavesRaw(
-            final @NonNull Node<@Nullable CommandArgument<C, ?>> node
+    private void collectLeaves(
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> node,
+            final @NonNull List<@NonNull Node<@Nullable CommandArgument<C, ?>>> leaves
     ) {
-        final List<Node<CommandArgument<C, ?>>> leaves = new LinkedList<>();
         if (node.isLeaf()) {
             if (node.getValue() != null) {
                 leaves.add(node);
             }
         } else {
-            node.children.forEach(child -> leaves.addAll(this.getLeavesRaw(child)));
-        }
-        return leaves;
-    }
-
-    private @NonNull List<@NonNull CommandArgument<C, ?>> getLeaves(
-            final @NonNull Node<@NonNull CommandArgument<C, ?>> node
-    ) {
-        final List<CommandArgument<C, ?>> leaves = new LinkedList<>();
-        if (node.isLeaf()) {
-            if (node.getValue() != null) {
-                leaves.add(node.getValue());
+            for (final Node<CommandArgument<C, ?>> child : node.getChildren()) {
+                this.collectLeaves(child, leaves);
             }
-        } else {
-            node.children.forEach(child -> leaves.addAll(this.getLeaves(child)));
         }
-        return leaves;
     }
 
     private @NonNull List<@NonNull Node<@Nullable CommandArgument<C, ?>>> getChain(
@@ -1027,17 +1353,10 @@ public final class CommandTree<C> {
      * @return Root node, or {@code null}
      */
     public @Nullable Node<@Nullable CommandArgument<C, ?>> getNamedNode(final @Nullable String name) {
-        for (final Node<CommandArgument<C, ?>> node : this.getRootNodes()) {
-            if (node.getValue() != null && node.getValue() instanceof StaticArgument) {
-                @SuppressWarnings("unchecked") final StaticArgument<C> staticArgument = (StaticArgument<C>) node.getValue();
-                for (final String alias : staticArgument.getAliases()) {
-                    if (alias.equalsIgnoreCase(name)) {
-                        return node;
-                    }
-                }
-            }
+        if (name == null) {
+            return null;
         }
-        return null;
+        return this.internalTree.getLiteralChild(name);
     }
 
     void deleteRecursively(
@@ -1045,16 +1364,31 @@ public final class CommandTree<C> {
         final boolean root,
         final Consumer<Command<C>> op
     ) {
-        for (final Node<@Nullable CommandArgument<C, ?>> child : new ArrayList<>(node.children)) {
-            this.deleteRecursively(child, false, op);
+        synchronized (this.commandLock) {
+            /*
+             * The node is detached first, so that the tree never contains a partially deleted subtree. The detached
+             * subtree is left intact, as it may still be traversed by a concurrent parse.
+             */
+            this.removeNode(node, root);
+            this.releaseRecursively(node, op);
+            this.modificationCount++;
+        }
+    }
+
+    private void releaseRecursively(
+        final @NonNull Node<@Nullable CommandArgument<C, ?>> node,
+        final Consumer<Command<C>> op
+    ) {
+        for (final Node<@Nullable CommandArgument<C, ?>> child : node.getChildren()) {
+            this.releaseRecursively(child, op);
         }
+        node.unregisterAliasListener();
 
         final @Nullable CommandArgument<C, ?> value = node.getValue();
         final @Nullable Command<C> owner = value == null ? null : value.getOwningCommand();
         if (owner != null) {
             op.accept(owner);
         }
-        this.removeNode(node, root);
     }
 
     private boolean removeNode(
@@ -1086,41 +1420,175 @@ public final class CommandTree<C> {
      */
     public static final class Node<T> {
 
-        private final Map<String, Object> nodeMeta = new HashMap<>();
-        private final List<Node<T>> children = new LinkedList<>();
-        private T value;
-        private Node<T> parent;
+        /*
+         * The child list is only modified while holding the lock of the node. Readers get an immutable snapshot of it,
+         * which is taken lazily after a modification, so that inserting many siblings does not copy the list each time.
+         */
+        private final Map<String, Object> nodeMeta = new ConcurrentHashMap<>();
+        private final List<Node<T>> childList = new ArrayList<>();
+        private volatile @Nullable List<Node<T>> children = Collections.emptyList();
+        private final Map<String, Node<T>> literalChildren = new ConcurrentHashMap<>();
+        private final T value;
+        private volatile Node<T> parent;
+        private Consumer<String> aliasListener;
 
         private Node(final @Nullable T value) {
             this.value = value;
         }
 
+        private Node(final @NonNull T value, final @NonNull Node<T> parent) {
+            this.value = value;
+            this.parent = parent;
+        }
+
         /**
          * Get an immutable copy of the node's child list
          *
          * @return Children
          */
         public @NonNull List<@NonNull Node<@Nullable T>> getChildren() {
-            return Collections.unmodifiableList(this.children);
+            List<Node<T>> children = this.children;
+            if (children == null) {
+                synchronized (this) {
+                    children = this.children;
+                    if (children == null) {
+                        children = Collections.unmodifiableList(new ArrayList<>(this.childList));
+                        this.children = children;
+                    }
+                }
+            }
+            return children;
         }
 
-        private @NonNull Node<@Nullable T> addChild(final @NonNull T child) {
-            final Node<T> node = new Node<>(child);
-            this.children.add(node);
-            return node;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private synchronized void addChild(final @NonNull Node<T> node, final @NonNull Runnable aliasRegistered) {
+            final T child = Objects.requireNonNull(node.getValue(), "value");
+            final List<Node<T>> children = this.childList;
+            /* Keep the children sorted, placing the new child after all children that compare equal to it */
+            int low = 0;
+            int high = children.size();
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (((Comparable) children.get(middle).getValue()).compareTo(child) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            children.add(low, node);
+            this.children = null;
+            if (child instanceof StaticArgument) {
+                final StaticArgument<?> staticArgument = (StaticArgument<?>) child;
+                for (final String alias : staticArgument.getAliases()) {
+                    this.indexLiteral(alias, node);
+                }
+                node.aliasListener = alias -> {
+                    this.indexLiteral(alias, node);
+                    aliasRegistered.run();
+                };
+                staticArgument.registerAliasListener(node.aliasListener);
+            }
         }
 
         private @Nullable Node<@Nullable T> getChild(final @NonNull T type) {
-            for (final Node<T> child : this.children) {
-                if (type.equals(child.getValue())) {
-                    return child;
+            if (type instanceof StaticArgument) {
+                final Node<T> literalChild = this.getLiteralChild(((StaticArgument<?>) type).getName());
+                /* Every literal child is indexed by its name, so only literals that differ in case need to be scanned */
+                if (literalChild == null) {
+                    return null;
+                } else if (type.equals(literalChild.getValue())) {
+                    return literalChild;
+                }
+            }
+            synchronized (this) {
+                for (final Node<T> child : this.childList) {
+                    if (type.equals(child.getValue())) {
+                        return child;
+                    }
                 }
             }
             return null;
         }
 
-        private boolean removeChild(final @NonNull Node<T> child) {
-            return this.children.remove(child);
+        /**
+         * Get the last child in the sorted child list, without taking a snapshot of the list
+         *
+         * @return Last child, or {@code null} if the node has no children
+         */
+        private synchronized @Nullable Node<@Nullable T> getLastChild() {
+            return this.childList.isEmpty() ? null : this.childList.get(this.childList.size() - 1);
+        }
+
+        /**
+         * Check if another literal child than the given one accepts the given alias, ignoring its case
+         *
+         * @param alias    Alias
+         * @param excluded Child to ignore
+         * @param matcher  Predicate that tests whether a literal child accepts the alias
+         * @return {@code true} if any other literal child accepts the alias
+         */
+        private synchronized boolean anyOtherLiteralChild(
+                final @NonNull String alias,
+                final @Nullable Node<T> excluded,
+                final @NonNull Predicate<@NonNull Node<T>> matcher
+        ) {
+            for (final Node<T> child : this.childList) {
+                if (child != excluded && child.getValue() instanceof StaticArgument && matcher.test(child)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private synchronized boolean removeChild(final @NonNull Node<T> child) {
+            final boolean removed = this.childList.remove(child);
+            this.children = null;
+            if (child.aliasListener != null) {
+                final StaticArgument<?> staticArgument = (StaticArgument<?>) Objects.requireNonNull(child.getValue());
+                child.unregisterAliasListener();
+                for (final String alias : staticArgument.getAliases()) {
+                    final String key = alias.toLowerCase(Locale.ROOT);
+                    if (this.literalChildren.remove(key, child)) {
+                        /* Another literal may share the lower-cased alias, in which case it takes over the entry */
+                        for (final Node<T> sibling : this.childList) {
+                            if (sibling.aliasListener != null
+                                    && ((StaticArgument<?>) Objects.requireNonNull(sibling.getValue())).getAliases().contains(alias)) {
+                                this.indexLiteral(alias, sibling);
+                            }
+                        }
+                    }
+                }
+            }
+            return removed;
+        }
+
+        private void unregisterAliasListener() {
+            if (this.aliasListener != null) {
+                ((StaticArgument<?>) Objects.requireNonNull(this.getValue())).unregisterAliasListener(this.aliasListener);
+                this.aliasListener = null;
+            }
+        }
+
+        /**
+         * Get the child node that accepts the given literal, using the literal index of this node.
+         * Literals are matched ignoring their case.
+         *
+         * @param literal Literal or alias
+         * @return Child node, or {@code null} if no literal child accepts the string
+         */
+        private @Nullable Node<@Nullable T> getLiteralChild(final @NonNull String literal) {
+            return this.literalChildren.get(literal.toLowerCase(Locale.ROOT));
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void indexLiteral(final @NonNull String alias, final @NonNull Node<T> node) {
+            /* When two literals collide, the one that would have been attempted first in the sorted child list wins */
+            this.literalChildren.merge(
+                    alias.toLowerCase(Locale.ROOT),
+                    node,
+                    (existing, inserted) -> ((Comparable) existing.getValue()).compareTo(inserted.getValue()) <= 0
+                            ? existing : inserted
+            );
         }
 
         /**
@@ -1129,7 +1597,13 @@ public final class CommandTree<C> {
          * @return {@code true} if the node is a leaf node, else {@code false}
          */
         public boolean isLeaf() {
-            return this.children.isEmpty();
+            final List<Node<T>> children = this.children;
+            if (children != null) {
+                return children.isEmpty();
+            }
+            synchronized (this) {
+                return this.childList.isEmpty();
+            }
         }
 
         /**
@@ -28,12 +28,17 @@ import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.types.tuples.Triplet;
 import com.google.inject.ConfigurationException;
 import com.google.inject.Injector;
+import com.google.inject.Provider;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * {@link InjectionService Injection service} that injects using a Guice {@link Injector}
+ * <p>
+ * The provider of each injected type is looked up once and then reused, as are types that the injector cannot provide.
  *
  * @param <C> Command sender type
  * @since 1.4.0
@@ -41,7 +46,13 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 @API(status = API.Status.STABLE, since = "1.4.0")
 public final class GuiceInjectionService<C> implements InjectionService<C> {
 
+    /**
+     * Provider that marks types that cannot be provided by the injector
+     */
+    private static final Provider<?> ABSENT = () -> null;
+
     private final Injector injector;
+    private final Map<Class<?>, Provider<?>> providers = new ConcurrentHashMap<>();
 
     private GuiceInjectionService(final @NonNull Injector injector) {
         this.injector = injector;
@@ -59,12 +70,16 @@ public final class GuiceInjectionService<C> implements InjectionService<C> {
     }
 
     @Override
-    @SuppressWarnings("EmptyCatch")
     public @Nullable Object handle(final @NonNull Triplet<CommandContext<C>, Class<?>, AnnotationAccessor> triplet) {
+        return this.providers.computeIfAbsent(triplet.getSecond(), this::lookupProvider).get();
+    }
+
+    @SuppressWarnings("EmptyCatch")
+    private @NonNull Provider<?> lookupProvider(final @NonNull Class<?> clazz) {
         try {
-            return this.injector.getInstance(triplet.getSecond());
+            return this.injector.getProvider(clazz);
         } catch (final ConfigurationException ignored) {
         }
-        return null;
+        return ABSENT;
     }
 }
@@ -25,15 +25,19 @@ package cloud.commandframework.annotations.injection;
 
 import cloud.commandframework.annotations.AnnotationAccessor;
 import cloud.commandframework.context.CommandContext;
-import cloud.commandframework.services.ServicePipeline;
+import cloud.commandframework.services.ExecutionOrder;
+import cloud.commandframework.services.PipelineException;
+import cloud.commandframework.services.annotations.Order;
 import cloud.commandframework.types.tuples.Pair;
 import cloud.commandframework.types.tuples.Triplet;
-import io.leangen.geantyref.TypeToken;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apiguardian.api.API;
@@ -45,6 +49,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * and {@link ParameterInjector injectors}.
  *
  * The order injectors are tested is the same order they were registered in.
+ * <p>
+ * The injectors that match a type are resolved the first time a value of that type is injected, and are then cached
+ * until another injector is registered.
  *
  * @param <C> Command sender type
  * @since 1.2.0
@@ -53,15 +60,26 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 @API(status = API.Status.STABLE, since = "1.2.0")
 public final class ParameterInjectorRegistry<C> implements InjectionService<C> {
 
+    private static final ParameterInjector<?, ?>[] NO_INJECTORS = new ParameterInjector<?, ?>[0];
+
     private final List<Pair<Predicate<Class<?>>, ParameterInjector<C, ?>>> injectors = new ArrayList<>();
-    private final ServicePipeline servicePipeline = ServicePipeline.builder().build();
+    private final List<InjectionService<C>> injectionServices = new ArrayList<>();
+
+    /**
+     * Injection services in the order in which they are consulted, ending with this registry
+     */
+    private volatile List<InjectionService<C>> serviceOrder = Collections.singletonList(this);
+
+    /**
+     * Injectors that match each type. The map is replaced when an injector is registered, so that lookups that race
+     * with the registration cannot cache a stale result in the new map
+     */
+    private volatile Map<Class<?>, ParameterInjector<C, ?>[]> resolvedInjectors = new ConcurrentHashMap<>();
 
     /**
      * Create a new parameter injector registry
      */
     public ParameterInjectorRegistry() {
-        this.servicePipeline.registerServiceType(new TypeToken<InjectionService<C>>() {
-        }, this);
     }
 
     /**
@@ -99,6 +117,7 @@ public final class ParameterInjectorRegistry<C> implements InjectionService<C> {
             final @NonNull ParameterInjector<C, T> injector
     ) {
         this.injectors.add(Pair.of(predicate, injector));
+        this.resolvedInjectors = new ConcurrentHashMap<>();
     }
 
     /**
@@ -123,8 +142,16 @@ public final class ParameterInjectorRegistry<C> implements InjectionService<C> {
 
     @Override
     public @Nullable Object handle(final @NonNull Triplet<CommandContext<C>, Class<?>, AnnotationAccessor> triplet) {
-        for (final ParameterInjector<C, ?> injector : this.injectors(triplet.getSecond())) {
-            final Object value = injector.create(triplet.getFirst(), triplet.getThird());
+        return this.inject(triplet.getSecond(), triplet.getFirst(), triplet.getThird());
+    }
+
+    private @Nullable Object inject(
+            final @NonNull Class<?> clazz,
+            final @NonNull CommandContext<C> context,
+            final @NonNull AnnotationAccessor annotationAccessor
+    ) {
+        for (final ParameterInjector<C, ?> injector : this.resolveInjectors(clazz)) {
+            final Object value = injector.create(context, annotationAccessor);
             if (value != null) {
                 return value;
             }
@@ -132,6 +159,24 @@ public final class ParameterInjectorRegistry<C> implements InjectionService<C> {
         return null;
     }
 
+    @SuppressWarnings("unchecked")
+    private @NonNull ParameterInjector<C, ?>[] resolveInjectors(final @NonNull Class<?> clazz) {
+        final Map<Class<?>, ParameterInjector<C, ?>[]> resolvedInjectors = this.resolvedInjectors;
+        final ParameterInjector<C, ?>[] cached = resolvedInjectors.get(clazz);
+        if (cached != null) {
+            return cached;
+        }
+        final ParameterInjector<C, ?>[] resolved;
+        synchronized (this) {
+            resolved = this.injectors.stream()
+                    .filter(pair -> pair.getFirst().test(clazz))
+                    .map(Pair::getSecond)
+                    .toArray(ParameterInjector[]::new);
+        }
+        resolvedInjectors.put(clazz, resolved.length == 0 ? (ParameterInjector<C, ?>[]) NO_INJECTORS : resolved);
+        return resolved;
+    }
+
     /**
      * Attempt to get an injectable value for the given context. This will consider all registered
      * {@link InjectionService injection services}, and not just the {@link ParameterInjector injectors}
@@ -145,18 +190,30 @@ public final class ParameterInjectorRegistry<C> implements InjectionService<C> {
      * @return The injected value, if an injector was able to provide a value
      * @since 1.4.0
      */
-    @SuppressWarnings("EmptyCatch")
     @API(status = API.Status.STABLE, since = "1.4.0")
     public <@NonNull T> @NonNull Optional<T> getInjectable(
             final @NonNull Class<T> clazz,
             final @NonNull CommandContext<C> context,
             final @NonNull AnnotationAccessor annotationAccessor
     ) {
-        final Triplet<CommandContext<C>, Class<?>, AnnotationAccessor> triplet = Triplet.of(context, clazz, annotationAccessor);
-        try {
-            return Optional.of(clazz.cast(this.servicePipeline.pump(triplet).through(new TypeToken<InjectionService<C>>() {
-            }).getResult()));
-        } catch (final IllegalStateException ignored) {
+        Triplet<CommandContext<C>, Class<?>, AnnotationAccessor> triplet = null;
+        for (final InjectionService<C> service : this.serviceOrder) {
+            final Object value;
+            try {
+                if (service == this) {
+                    value = this.inject(clazz, context, annotationAccessor);
+                } else {
+                    if (triplet == null) {
+                        triplet = Triplet.of(context, clazz, annotationAccessor);
+                    }
+                    value = service.handle(triplet);
+                }
+            } catch (final Exception e) {
+                throw new PipelineException(String.format("Failed to retrieve result from %s", service), e);
+            }
+            if (value != null) {
+                return Optional.of(clazz.cast(value));
+            }
         }
         return Optional.empty();
     }
@@ -169,8 +226,23 @@ public final class ParameterInjectorRegistry<C> implements InjectionService<C> {
      * @since 1.4.0
      */
     @API(status = API.Status.STABLE, since = "1.4.0")
-    public void registerInjectionService(final InjectionService<C> service) {
-        this.servicePipeline.registerServiceImplementation(new TypeToken<InjectionService<C>>() {
-        }, service, Collections.emptyList());
+    public synchronized void registerInjectionService(final InjectionService<C> service) {
+        this.injectionServices.add(service);
+        /* Services with a higher execution order are consulted first, and the most recently registered service
+           wins ties, matching the order in which a service pipeline would consult them */
+        final List<InjectionService<C>> serviceOrder = new ArrayList<>(this.injectionServices);
+        Collections.reverse(serviceOrder);
+        serviceOrder.sort(Comparator.comparing(ParameterInjectorRegistry::executionOrder, Comparator.reverseOrder()));
+        serviceOrder.add(this);
+        this.serviceOrder = Collections.unmodifiableList(serviceOrder);
+    }
+
+    private static @NonNull ExecutionOrder executionOrder(final @NonNull InjectionService<?> service) {
+        final ExecutionOrder executionOrder = service.order();
+        if (executionOrder != null) {
+            return executionOrder;
+        }
+        final Order order = service.getClass().getAnnotation(Order.class);
+        return order == null ? ExecutionOrder.SOON : order.value();
     }
 }
@@ -113,6 +113,11 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>,
      */
     private boolean argumentRegistered = false;
 
+    /**
+     * Index of the slot that the parsed value is stored in by a {@link CommandContext}
+     */
+    private int contextSlot = -1;
+
     private Command<C> owningCommand;
 
     /**
@@ -392,6 +397,17 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>,
         return this;
     }
 
+    /**
+     * Check whether any preprocessors have been registered for the argument
+     *
+     * @return {@code true} if the argument has preprocessors
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public boolean hasPreprocessors() {
+        return !this.argumentPreprocessors.isEmpty();
+    }
+
     /**
      * Preprocess command input. This will immediately forward any failed argument parse results.
      * If none fails, a {@code true} result will be returned
@@ -556,6 +572,31 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>,
         this.argumentRegistered = true;
     }
 
+    /**
+     * Get the index of the slot that a {@link CommandContext} stores the parsed value of this argument in
+     *
+     * @return Slot index, or {@code -1} if the argument has not been part of a command
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, since = "1.9.0")
+    public final int getContextSlot() {
+        return this.contextSlot;
+    }
+
+    /**
+     * Assign the index of the slot that a {@link CommandContext} stores the parsed value of this argument in.
+     * Only the first command that the argument is part of assigns a slot
+     *
+     * @param contextSlot Slot index
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, since = "1.9.0")
+    public final void assignContextSlot(final int contextSlot) {
+        if (this.contextSlot < 0) {
+            this.contextSlot = contextSlot;
+        }
+    }
+
 
     /**
      * Mutable builder for {@link CommandArgument} instances
@@ -26,11 +26,6 @@ package cloud.commandframework.arguments;
 import cloud.commandframework.CommandManager;
 import cloud.commandframework.CommandTree;
 import cloud.commandframework.context.CommandContext;
-import cloud.commandframework.execution.preprocessor.CommandPreprocessingContext;
-import cloud.commandframework.internal.CommandInputTokenizer;
-import cloud.commandframework.services.State;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -43,8 +38,6 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*")
 public final class DelegatingCommandSuggestionEngine<C> implements CommandSuggestionEngine<C> {
 
-    private static final List<String> SINGLE_EMPTY_SUGGESTION = Collections.unmodifiableList(Collections.singletonList(""));
-
     private final CommandManager<C> commandManager;
     private final CommandTree<C> commandTree;
 
@@ -67,24 +60,6 @@ public final class DelegatingCommandSuggestionEngine<C> implements CommandSugges
             final @NonNull CommandContext<C> context,
             final @NonNull String input
     ) {
-        final @NonNull LinkedList<@NonNull String> inputQueue = new CommandInputTokenizer(input).tokenize();
-        /* Store a copy of the input queue in the context */
-        context.store("__raw_input__", new LinkedList<>(inputQueue));
-        final List<String> suggestions;
-        if (this.commandManager.preprocessContext(context, inputQueue) == State.ACCEPTED) {
-            suggestions = this.commandManager.commandSuggestionProcessor().apply(
-                    new CommandPreprocessingContext<>(context, inputQueue),
-                    this.commandTree.getSuggestions(
-                            context,
-                            inputQueue
-                    )
-            );
-        } else {
-            suggestions = Collections.emptyList();
-        }
-        if (this.commandManager.getSetting(CommandManager.ManagerSettings.FORCE_SUGGESTION) && suggestions.isEmpty()) {
-            return SINGLE_EMPTY_SUGGESTION;
-        }
-        return suggestions;
+        return SuggestionPipeline.suggestions(this.commandManager, context, input, this.commandTree::getSuggestions);
     }
 }
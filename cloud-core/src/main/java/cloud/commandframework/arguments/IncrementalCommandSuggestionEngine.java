@@ -0,0 +1,324 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.CommandTree;
+import cloud.commandframework.context.CommandContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Command suggestion engine that resumes parsing from the state that was reached by the previous request of the same
+ * sender.
+ * <p>
+ * Suggestions are requested for every keystroke, and each request usually only differs from the previous one in its
+ * last token. The engine remembers, per sender, the nodes of the command tree that were entered while suggesting and
+ * the values that had been parsed up to them. The next request of the sender resumes from the deepest of these nodes
+ * whose preceding tokens are unchanged, so that the arguments before it are not parsed again.
+ * <p>
+ * The preprocessors are still invoked for every request. The state of a sender expires a fixed time after it was
+ * created, the state of the least recently active senders is discarded once the maximum number of senders is reached,
+ * and all state is discarded when commands are inserted into or deleted from the command tree, or when aliases are
+ * registered to its literals. Values of arguments that depend on changing state, such as online players, may therefore
+ * be reused for up to the expiration time.
+ *
+ * @param <C> Command sender type
+ * @since 1.9.0
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public final class IncrementalCommandSuggestionEngine<C> implements CommandSuggestionEngine<C> {
+
+    /**
+     * Time after which the state of a sender expires, if no other time is given
+     */
+    public static final Duration DEFAULT_EXPIRE_AFTER = Duration.ofSeconds(5L);
+
+    /**
+     * Maximum number of senders whose state is kept, if no other number is given
+     */
+    public static final int DEFAULT_MAXIMUM_SENDERS = 1024;
+
+    private final CommandManager<C> commandManager;
+    private final CommandTree<C> commandTree;
+    private final long expireAfterNanos;
+    private final Function<? super C, ?> senderKey;
+    private final LongSupplier clock;
+    private final Map<Object, SuggestionState<C>> states;
+
+    IncrementalCommandSuggestionEngine(
+            final @NonNull CommandManager<C> commandManager,
+            final @NonNull Duration expireAfter,
+            final int maximumSenders,
+            final @NonNull Function<? super C, ?> senderKey,
+            final @NonNull LongSupplier clock
+    ) {
+        if (expireAfter.isNegative() || expireAfter.isZero()) {
+            throw new IllegalArgumentException("The expiration time must be positive");
+        }
+        if (maximumSenders < 1) {
+            throw new IllegalArgumentException("The maximum number of senders must be positive");
+        }
+        this.commandManager = commandManager;
+        this.commandTree = commandManager.commandTree();
+        this.expireAfterNanos = expireAfter.toNanos();
+        this.senderKey = Objects.requireNonNull(senderKey, "senderKey");
+        this.clock = clock;
+        this.states = new LinkedHashMap<Object, SuggestionState<C>>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Object, SuggestionState<C>> eldest) {
+                return this.size() > maximumSenders;
+            }
+        };
+    }
+
+    /**
+     * Create a new incremental suggestion engine that identifies senders by themselves, and uses the
+     * {@link #DEFAULT_EXPIRE_AFTER default expiration time} and {@link #DEFAULT_MAXIMUM_SENDERS maximum number of senders}
+     *
+     * @param commandManager Command manager
+     * @param <C>            Command sender type
+     * @return Created engine
+     */
+    public static <C> @NonNull IncrementalCommandSuggestionEngine<C> create(final @NonNull CommandManager<C> commandManager) {
+        return create(commandManager, DEFAULT_EXPIRE_AFTER, DEFAULT_MAXIMUM_SENDERS, Function.identity());
+    }
+
+    /**
+     * Create a new incremental suggestion engine
+     *
+     * @param commandManager Command manager
+     * @param expireAfter    Time after which the state of a sender expires
+     * @param maximumSenders Maximum number of senders whose state is kept
+     * @param senderKey      Function that maps a sender to the key that its state is kept by. This should be used when
+     *                       the platform creates a new sender object for every request
+     * @param <C>            Command sender type
+     * @return Created engine
+     */
+    public static <C> @NonNull IncrementalCommandSuggestionEngine<C> create(
+            final @NonNull CommandManager<C> commandManager,
+            final @NonNull Duration expireAfter,
+            final int maximumSenders,
+            final @NonNull Function<? super C, ?> senderKey
+    ) {
+        return new IncrementalCommandSuggestionEngine<>(commandManager, expireAfter, maximumSenders, senderKey, System::nanoTime);
+    }
+
+    @Override
+    public @NonNull List<@NonNull String> getSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input
+    ) {
+        return SuggestionPipeline.suggestions(this.commandManager, context, input, this::treeSuggestions);
+    }
+
+    /**
+     * Remove the state of a sender
+     *
+     * @param sender Command sender
+     */
+    public void invalidate(final @NonNull C sender) {
+        synchronized (this.states) {
+            this.states.remove(this.senderKey.apply(sender));
+        }
+    }
+
+    /**
+     * Remove the state of all senders
+     */
+    public void invalidateAll() {
+        synchronized (this.states) {
+            this.states.clear();
+        }
+    }
+
+    private @NonNull List<@NonNull String> treeSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull LinkedList<@NonNull String> inputQueue
+    ) {
+        final Object key = this.senderKey.apply(context.getSender());
+        final long now = this.clock.getAsLong();
+        final long modificationCount = this.commandTree.modificationCount();
+        final String[] tokens = inputQueue.toArray(new String[0]);
+        final Map<String, ?> preprocessedValues = context.asMap();
+
+        final SuggestionState<C> state;
+        synchronized (this.states) {
+            state = this.states.get(key);
+        }
+        final List<Checkpoint<C>> checkpoints = new ArrayList<>();
+        Checkpoint<C> resumeFrom = null;
+        if (state != null && state.modificationCount == modificationCount && now - state.expiresAt < 0) {
+            resumeFrom = state.resumableCheckpoint(tokens, checkpoints);
+        }
+        if (resumeFrom != null) {
+            for (final Map.Entry<String, Object> value : resumeFrom.values.entrySet()) {
+                context.store(value.getKey(), value.getValue());
+            }
+            for (int i = 0; i < resumeFrom.parsedTokens; i++) {
+                inputQueue.remove();
+            }
+        }
+
+        final List<String> suggestions = this.commandTree.getSuggestions(
+                context,
+                inputQueue,
+                resumeFrom == null ? null : resumeFrom.node,
+                (node, remainingTokens) -> checkpoints.add(new Checkpoint<>(
+                        node,
+                        tokens.length - remainingTokens,
+                        parsedValues(preprocessedValues, context.asMap())
+                ))
+        );
+
+        synchronized (this.states) {
+            if (checkpoints.isEmpty()) {
+                this.states.remove(key);
+            } else {
+                this.states.put(key, new SuggestionState<>(
+                        tokens,
+                        checkpoints,
+                        modificationCount,
+                        state != null && resumeFrom != null ? state.expiresAt : now + this.expireAfterNanos
+                ));
+            }
+            this.removeExpiredStates(now);
+        }
+        return suggestions;
+    }
+
+    /**
+     * Removes the expired states of the least recently active senders
+     *
+     * @param now Current time
+     */
+    private void removeExpiredStates(final long now) {
+        final Iterator<SuggestionState<C>> iterator = this.states.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().expiresAt < 0) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Returns the values that were stored in the context after it was preprocessed
+     *
+     * @param preprocessedValues Values after preprocessing
+     * @param currentValues      Current values
+     * @return Values that were added or replaced
+     */
+    private static @NonNull Map<@NonNull String, @NonNull Object> parsedValues(
+            final @NonNull Map<@NonNull String, ?> preprocessedValues,
+            final @NonNull Map<@NonNull String, ?> currentValues
+    ) {
+        final Map<String, Object> values = new HashMap<>();
+        for (final Map.Entry<String, ?> value : currentValues.entrySet()) {
+            if (value.getValue() != null && preprocessedValues.get(value.getKey()) != value.getValue()) {
+                values.put(value.getKey(), value.getValue());
+            }
+        }
+        return values;
+    }
+
+
+    private static final class SuggestionState<C> {
+
+        private final String[] tokens;
+        private final List<Checkpoint<C>> checkpoints;
+        private final long modificationCount;
+        private final long expiresAt;
+
+        private SuggestionState(
+                final @NonNull String @NonNull [] tokens,
+                final @NonNull List<@NonNull Checkpoint<C>> checkpoints,
+                final long modificationCount,
+                final long expiresAt
+        ) {
+            this.tokens = tokens;
+            this.checkpoints = checkpoints;
+            this.modificationCount = modificationCount;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Finds the deepest checkpoint whose parsed tokens are a prefix of the given tokens and that is followed by at
+         * least one more token, as it was when the checkpoint was created
+         *
+         * @param tokens      Tokens of the new input
+         * @param checkpoints List that the checkpoints up to and including the found checkpoint are added to
+         * @return Checkpoint, or {@code null} if suggestions must start at the root of the tree
+         */
+        private @Nullable Checkpoint<C> resumableCheckpoint(
+                final @NonNull String @NonNull [] tokens,
+                final @NonNull List<@NonNull Checkpoint<C>> checkpoints
+        ) {
+            int matchingTokens = 0;
+            while (matchingTokens < tokens.length && matchingTokens < this.tokens.length
+                    && tokens[matchingTokens].equals(this.tokens[matchingTokens])) {
+                matchingTokens++;
+            }
+            Checkpoint<C> resumeFrom = null;
+            for (final Checkpoint<C> checkpoint : this.checkpoints) {
+                if (checkpoint.parsedTokens > matchingTokens || checkpoint.parsedTokens >= tokens.length) {
+                    break;
+                }
+                checkpoints.add(checkpoint);
+                resumeFrom = checkpoint;
+            }
+            return resumeFrom;
+        }
+    }
+
+
+    private static final class Checkpoint<C> {
+
+        private final CommandTree.Node<@Nullable CommandArgument<C, ?>> node;
+        private final int parsedTokens;
+        private final Map<String, Object> values;
+
+        private Checkpoint(
+                final CommandTree.@NonNull Node<@Nullable CommandArgument<C, ?>> node,
+                final int parsedTokens,
+                final @NonNull Map<@NonNull String, @NonNull Object> values
+        ) {
+            this.node = node;
+            this.parsedTokens = parsedTokens;
+            this.values = values;
+        }
+    }
+}
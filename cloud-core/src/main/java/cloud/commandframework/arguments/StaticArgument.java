@@ -25,8 +25,11 @@ package cloud.commandframework.arguments;
 
 import cloud.commandframework.arguments.parser.ArgumentParseResult;
 import cloud.commandframework.arguments.parser.ArgumentParser;
+import cloud.commandframework.captions.CaptionVariable;
+import cloud.commandframework.captions.StandardCaptionKeys;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
+import cloud.commandframework.exceptions.parsing.ParserException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,6 +38,8 @@ import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -46,6 +51,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 @API(status = API.Status.STABLE)
 public final class StaticArgument<C> extends CommandArgument<C, String> {
 
+    private final List<Consumer<String>> aliasListeners = new CopyOnWriteArrayList<>();
+
     private StaticArgument(final boolean required, final @NonNull String name, final @NonNull String... aliases) {
         super(required, name, new StaticArgumentParser<>(name, aliases), String.class);
     }
@@ -66,12 +73,40 @@ public final class StaticArgument<C> extends CommandArgument<C, String> {
     }
 
     /**
-     * Register a new alias
+     * Register a new alias. Aliases that are already registered are ignored, and do not notify the alias listeners
      *
      * @param alias New alias
      */
     public void registerAlias(final @NonNull String alias) {
-        ((StaticArgumentParser<C>) this.getParser()).insertAlias(alias);
+        if (!((StaticArgumentParser<C>) this.getParser()).insertAlias(alias)) {
+            return;
+        }
+        for (final Consumer<String> listener : this.aliasListeners) {
+            listener.accept(alias);
+        }
+    }
+
+    /**
+     * Register a listener that gets notified whenever a new alias is registered using
+     * {@link #registerAlias(String)}. This is used to keep literal lookup tables up to date.
+     *
+     * @param listener Listener that accepts the new alias
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, since = "1.9.0")
+    public void registerAliasListener(final @NonNull Consumer<@NonNull String> listener) {
+        this.aliasListeners.add(listener);
+    }
+
+    /**
+     * Unregister a listener that was previously registered using {@link #registerAliasListener(Consumer)}
+     *
+     * @param listener Listener to remove
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, since = "1.9.0")
+    public void unregisterAliasListener(final @NonNull Consumer<@NonNull String> listener) {
+        this.aliasListeners.remove(listener);
     }
 
     /**
@@ -95,16 +130,19 @@ public final class StaticArgument<C> extends CommandArgument<C, String> {
 
     private static final class StaticArgumentParser<C> implements ArgumentParser<C, String> {
 
-        private final Set<String> allAcceptedAliases = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        private final Set<String> alternativeAliases = new HashSet<>();
+        /* The alias sets are replaced rather than modified, so that they can be read while aliases are being inserted */
+        private volatile Set<String> allAcceptedAliases;
+        private volatile Set<String> alternativeAliases;
 
         private final String name;
 
         private StaticArgumentParser(final @NonNull String name, final @NonNull String... aliases) {
             this.name = name;
-            this.allAcceptedAliases.add(this.name);
-            this.allAcceptedAliases.addAll(Arrays.asList(aliases));
-            this.alternativeAliases.addAll(Arrays.asList(aliases));
+            final Set<String> allAcceptedAliases = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            allAcceptedAliases.add(this.name);
+            allAcceptedAliases.addAll(Arrays.asList(aliases));
+            this.allAcceptedAliases = Collections.unmodifiableSet(allAcceptedAliases);
+            this.alternativeAliases = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(aliases)));
         }
 
         @Override
@@ -123,7 +161,7 @@ public final class StaticArgument<C> extends CommandArgument<C, String> {
                 inputQueue.remove();
                 return ArgumentParseResult.success(this.name);
             }
-            return ArgumentParseResult.failure(new IllegalArgumentException(string));
+            return ArgumentParseResult.failure(new LiteralMismatchException(string, this.name, commandContext));
         }
 
         @Override
@@ -147,10 +185,77 @@ public final class StaticArgument<C> extends CommandArgument<C, String> {
          * Insert a new alias
          *
          * @param alias New alias
+         * @return {@code true} if the alias was inserted, {@code false} if it was already registered
+         */
+        public synchronized boolean insertAlias(final @NonNull String alias) {
+            if (alias.equals(this.name) || this.alternativeAliases.contains(alias)) {
+                return false;
+            }
+            final Set<String> allAcceptedAliases = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            allAcceptedAliases.addAll(this.allAcceptedAliases);
+            allAcceptedAliases.add(alias);
+            final Set<String> alternativeAliases = new HashSet<>(this.alternativeAliases);
+            alternativeAliases.add(alias);
+            this.allAcceptedAliases = Collections.unmodifiableSet(allAcceptedAliases);
+            this.alternativeAliases = Collections.unmodifiableSet(alternativeAliases);
+            return true;
+        }
+    }
+
+
+    /**
+     * Exception thrown when the input does not match a literal. Mismatches are expected whenever sibling literals
+     * are attempted, so the exception does not capture a stack trace.
+     *
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public static final class LiteralMismatchException extends ParserException {
+
+        private static final long serialVersionUID = -5467193208404364567L;
+        private final String input;
+        private final String literal;
+
+        /**
+         * Construct a new literal mismatch exception
+         *
+         * @param input   Input
+         * @param literal Literal that the input was matched against
+         * @param context Command context
+         */
+        public LiteralMismatchException(
+                final @NonNull String input,
+                final @NonNull String literal,
+                final @NonNull CommandContext<?> context
+        ) {
+            super(
+                    StaticArgumentParser.class,
+                    context,
+                    StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_LITERAL,
+                    false,
+                    CaptionVariable.of("input", input),
+                    CaptionVariable.of("literal", literal)
+            );
+            this.input = input;
+            this.literal = literal;
+        }
+
+        /**
+         * Get the supplied input
+         *
+         * @return Input
+         */
+        public @NonNull String getInput() {
+            return this.input;
+        }
+
+        /**
+         * Get the literal that the input was matched against
+         *
+         * @return Literal
          */
-        public void insertAlias(final @NonNull String alias) {
-            this.allAcceptedAliases.add(alias);
-            this.alternativeAliases.add(alias);
+        public @NonNull String getLiteral() {
+            return this.literal;
         }
     }
 }
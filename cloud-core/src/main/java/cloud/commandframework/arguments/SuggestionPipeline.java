@@ -0,0 +1,89 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
+import cloud.commandframework.execution.preprocessor.CommandPreprocessingContext;
+import cloud.commandframework.internal.CommandInputTokenizer;
+import cloud.commandframework.metrics.CommandMetricsListener;
+import cloud.commandframework.services.State;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.BiFunction;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * The steps that every {@link CommandSuggestionEngine} in this package performs around the command tree: tokenizing
+ * the input, preprocessing the context, processing the suggestions and forcing a suggestion when none were found
+ */
+final class SuggestionPipeline {
+
+    private static final List<String> SINGLE_EMPTY_SUGGESTION = Collections.unmodifiableList(Collections.singletonList(""));
+
+    private SuggestionPipeline() {
+    }
+
+    /**
+     * Get the suggestions for the given input
+     *
+     * @param commandManager  Command manager
+     * @param context         Command context
+     * @param input           Input provided by the sender
+     * @param treeSuggestions Function that creates the suggestions from the preprocessed context and the input queue
+     * @param <C>             Command sender type
+     * @return Processed suggestions
+     */
+    static <C> @NonNull List<@NonNull String> suggestions(
+            final @NonNull CommandManager<C> commandManager,
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input,
+            final @NonNull BiFunction<@NonNull CommandContext<C>, @NonNull LinkedList<@NonNull String>,
+                    @NonNull List<@NonNull String>> treeSuggestions
+    ) {
+        final CommandMetricsListener<C> metricsListener = commandManager.metricsListener();
+        final long start = metricsListener == null ? 0L : System.nanoTime();
+        final @NonNull LinkedList<@NonNull String> inputQueue = new CommandInputTokenizer(input).tokenize();
+        if (metricsListener != null) {
+            metricsListener.inputTokenized(context, System.nanoTime() - start);
+        }
+        /* The context gets its own copy of the input, which is only tokenized if the raw input is requested */
+        context.rawInput(CommandInput.of(input));
+        final List<String> suggestions;
+        if (commandManager.preprocessContext(context, inputQueue) == State.ACCEPTED) {
+            suggestions = commandManager.commandSuggestionProcessor().apply(
+                    new CommandPreprocessingContext<>(context, inputQueue),
+                    treeSuggestions.apply(context, inputQueue)
+            );
+        } else {
+            suggestions = Collections.emptyList();
+        }
+        if (commandManager.getSetting(CommandManager.ManagerSettings.FORCE_SUGGESTION) && suggestions.isEmpty()) {
+            return SINGLE_EMPTY_SUGGESTION;
+        }
+        return suggestions;
+    }
+}
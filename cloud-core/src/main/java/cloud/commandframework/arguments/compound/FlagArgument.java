@@ -35,19 +35,21 @@ import cloud.commandframework.exceptions.parsing.ParserException;
 import cloud.commandframework.keys.CloudKey;
 import cloud.commandframework.keys.SimpleCloudKey;
 import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.function.BiFunction;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -60,9 +62,6 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 @API(status = API.Status.STABLE)
 public final class FlagArgument<C> extends CommandArgument<C, Object> {
 
-    private static final Pattern FLAG_PRIMARY_PATTERN = Pattern.compile(" --(?<name>([A-Za-z]+))");
-    private static final Pattern FLAG_ALIAS_PATTERN = Pattern.compile(" -(?<name>([A-Za-z]+))");
-
     /**
      * Dummy object that indicates that flags were parsed successfully
      */
@@ -119,10 +118,122 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
     @API(status = API.Status.STABLE)
     public static final class FlagArgumentParser<C> implements ArgumentParser<C, Object> {
 
+        /**
+         * Size of the tables that map ASCII alias characters to flag indices
+         */
+        private static final int ALIAS_TABLE_SIZE = 128;
+
         private final CommandFlag<?>[] flags;
 
+        /* Lookup tables that are built once per command, so that flags can be resolved without scanning every flag */
+        private final Map<String, Integer> flagIndicesByName = new HashMap<>();
+        private final Map<CommandFlag<?>, Integer> flagIndices = new HashMap<>();
+        private final int[] aliasIndices = new int[ALIAS_TABLE_SIZE];
+        private final int[] presenceAliasIndices = new int[ALIAS_TABLE_SIZE];
+        private final Map<Character, Integer> extendedAliasIndices = new HashMap<>();
+        private final Map<Character, Integer> extendedPresenceAliasIndices = new HashMap<>();
+        private final String[] primarySuggestions;
+        private final String[][] aliasSuggestions;
+
         private FlagArgumentParser(final @NonNull CommandFlag<?>[] flags) {
             this.flags = flags;
+            this.primarySuggestions = new String[flags.length];
+            this.aliasSuggestions = new String[flags.length][];
+            Arrays.fill(this.aliasIndices, -1);
+            Arrays.fill(this.presenceAliasIndices, -1);
+            for (int i = 0; i < flags.length; i++) {
+                final CommandFlag<?> flag = flags[i];
+                this.flagIndicesByName.putIfAbsent(flag.getName().toLowerCase(Locale.ENGLISH), i);
+                this.flagIndices.putIfAbsent(flag, i);
+                this.primarySuggestions[i] = "--" + flag.getName();
+                final Collection<String> aliases = flag.getAliases();
+                this.aliasSuggestions[i] = new String[aliases.size()];
+                int aliasIndex = 0;
+                for (final String alias : aliases) {
+                    this.aliasSuggestions[i][aliasIndex++] = "-" + alias;
+                    /* Aliases are single-char strings */
+                    final char character = alias.charAt(0);
+                    this.indexAlias(this.aliasIndices, this.extendedAliasIndices, character, i);
+                    if (flag.getCommandArgument() == null) {
+                        this.indexAlias(this.presenceAliasIndices, this.extendedPresenceAliasIndices, character, i);
+                    }
+                }
+            }
+        }
+
+        private void indexAlias(
+                final int @NonNull [] table,
+                final @NonNull Map<Character, Integer> extendedTable,
+                final char alias,
+                final int index
+        ) {
+            if (alias < ALIAS_TABLE_SIZE) {
+                if (table[alias] == -1) {
+                    table[alias] = index;
+                }
+            } else {
+                extendedTable.putIfAbsent(alias, index);
+            }
+        }
+
+        private int lookupAlias(
+                final int @NonNull [] table,
+                final @NonNull Map<Character, Integer> extendedTable,
+                final char alias
+        ) {
+            if (alias < ALIAS_TABLE_SIZE) {
+                return table[alias];
+            }
+            return extendedTable.getOrDefault(alias, -1);
+        }
+
+        /**
+         * Find a flag by its name, ignoring case
+         *
+         * @param name Flag name, without the leading dashes
+         * @return The flag, or {@code null} if there is no flag with the name
+         */
+        private CommandFlag<?> flagByName(final @NonNull String name) {
+            final Integer index = this.flagIndicesByName.get(name.toLowerCase(Locale.ENGLISH));
+            return index == null ? null : this.flags[index];
+        }
+
+        /**
+         * Find a flag by its alias, ignoring case
+         *
+         * @param alias Alias, without the leading dash
+         * @return The flag, or {@code null} if there is no flag with the alias
+         */
+        private CommandFlag<?> flagByAlias(final @NonNull String alias) {
+            if (alias.length() != 1) {
+                return null;
+            }
+            final char character = alias.charAt(0);
+            int index = this.lookupAlias(this.aliasIndices, this.extendedAliasIndices, character);
+            if (index == -1) {
+                final char lowerCase = Character.toLowerCase(character);
+                index = this.lookupAlias(
+                        this.aliasIndices,
+                        this.extendedAliasIndices,
+                        lowerCase == character ? Character.toUpperCase(character) : lowerCase
+                );
+            }
+            return index == -1 ? null : this.flags[index];
+        }
+
+        /**
+         * Find a presence flag by an alias in a combined flag string such as {@code -abc}
+         *
+         * @param alias Alias character, which is matched in lower case
+         * @return The flag, or {@code null} if there is no presence flag with the alias
+         */
+        private CommandFlag<?> presenceFlagByAlias(final char alias) {
+            final int index = this.lookupAlias(
+                    this.presenceAliasIndices,
+                    this.extendedPresenceAliasIndices,
+                    Character.toLowerCase(alias)
+            );
+            return index == -1 ? null : this.flags[index];
         }
 
         @Override
@@ -192,62 +303,38 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
             /* Check if we have a last flag stored */
             final String lastArg = Objects.requireNonNull(commandContext.getOrDefault(FLAG_META_KEY, ""));
             if (!lastArg.startsWith("-")) {
-                final String rawInput = commandContext.getRawInputJoined();
-                /* Collection containing all used flags */
-                final List<CommandFlag<?>> usedFlags = new LinkedList<>();
-                /* Find all "primary" flags, using --flag */
-                final Matcher primaryMatcher = FLAG_PRIMARY_PATTERN.matcher(rawInput);
-                while (primaryMatcher.find()) {
-                    final String name = primaryMatcher.group("name");
-                    for (final CommandFlag<?> flag : this.flags) {
-                        if (flag.getName().equalsIgnoreCase(name)) {
-                            usedFlags.add(flag);
-                            break;
-                        }
-                    }
-                }
-                /* Find all alias flags */
-                final Matcher aliasMatcher = FLAG_ALIAS_PATTERN.matcher(rawInput);
-                while (aliasMatcher.find()) {
-                    final String name = aliasMatcher.group("name");
-                    for (final CommandFlag<?> flag : this.flags) {
-                        for (final String alias : flag.getAliases()) {
-                            /* Aliases are single-char strings */
-                            if (name.contains(alias)) {
-                                usedFlags.add(flag);
-                                break;
-                            }
-                        }
-                    }
-                }
+                final BitSet usedFlags = this.usedFlags(commandContext, input);
                 /* Suggestions */
-                final List<String> strings = new LinkedList<>();
+                final List<String> strings = new ArrayList<>();
                 /* Recommend "primary" flags */
-                for (final CommandFlag<?> flag : this.flags) {
-                    if (usedFlags.contains(flag) && flag.mode() != CommandFlag.FlagMode.REPEATABLE) {
+                for (int i = 0; i < this.flags.length; i++) {
+                    final CommandFlag<?> flag = this.flags[i];
+                    if (usedFlags.get(i) && flag.mode() != CommandFlag.FlagMode.REPEATABLE) {
                         continue;
                     }
                     if (!commandContext.hasPermission(flag.permission())) {
                         continue;
                     }
 
-                    strings.add(String.format("--%s", flag.getName()));
+                    strings.add(this.primarySuggestions[i]);
                 }
                 /* Recommend aliases */
                 final boolean suggestCombined = input.length() > 1 && input.charAt(0) == '-' && input.charAt(1) != '-';
-                for (final CommandFlag<?> flag : this.flags) {
-                    if (usedFlags.contains(flag) && flag.mode() != CommandFlag.FlagMode.REPEATABLE) {
+                for (int i = 0; i < this.flags.length; i++) {
+                    final CommandFlag<?> flag = this.flags[i];
+                    if (usedFlags.get(i) && flag.mode() != CommandFlag.FlagMode.REPEATABLE) {
                         continue;
                     }
                     if (!commandContext.hasPermission(flag.permission())) {
                         continue;
                     }
 
-                    for (final String alias : flag.getAliases()) {
+                    for (final String alias : this.aliasSuggestions[i]) {
                         if (suggestCombined && flag.getCommandArgument() == null) {
-                            strings.add(String.format("%s%s", input, alias));
+                            /* The alias suggestion is prefixed by a dash, which the input already starts with */
+                            strings.add(input.concat(alias.substring(1)));
                         } else {
-                            strings.add(String.format("-%s", alias));
+                            strings.add(alias);
                         }
                     }
                 }
@@ -257,25 +344,11 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
                 }
                 return strings;
             } else {
-                CommandFlag<?> currentFlag = null;
+                final CommandFlag<?> currentFlag;
                 if (lastArg.startsWith("--")) { // --long
-                    final String flagName = lastArg.substring(2);
-                    for (final CommandFlag<?> flag : this.flags) {
-                        if (flagName.equalsIgnoreCase(flag.getName())) {
-                            currentFlag = flag;
-                            break;
-                        }
-                    }
+                    currentFlag = this.flagByName(lastArg.substring(2));
                 } else { // -x
-                    final String flagName = lastArg.substring(1);
-                    for (final CommandFlag<?> flag : this.flags) {
-                        for (final String alias : flag.getAliases()) {
-                            if (alias.equalsIgnoreCase(flagName)) {
-                                currentFlag = flag;
-                                break;
-                            }
-                        }
-                    }
+                    currentFlag = this.flagByAlias(lastArg.substring(1));
                 }
                 if (currentFlag != null
                         && commandContext.hasPermission(currentFlag.permission())
@@ -289,6 +362,41 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
         }
 
 
+        /**
+         * Get the indices of the flags that have been used, which are the flags that were parsed before the suggestions
+         * were requested, and the flags that are named by the input that is being completed
+         *
+         * @param commandContext Command context
+         * @param input          Input that is being completed
+         * @return Bit set containing the indices of the used flags
+         */
+        private @NonNull BitSet usedFlags(final @NonNull CommandContext<C> commandContext, final @NonNull String input) {
+            final BitSet usedFlags = new BitSet(this.flags.length);
+            final Set<CommandFlag<?>> parsedFlags = commandContext.getOrDefault(PARSED_FLAGS, null);
+            if (parsedFlags != null) {
+                for (final CommandFlag<?> flag : parsedFlags) {
+                    final Integer index = this.flagIndices.get(flag);
+                    if (index != null) {
+                        usedFlags.set(index);
+                    }
+                }
+            }
+            if (input.startsWith("--")) {
+                final Integer index = this.flagIndicesByName.get(input.substring(2).toLowerCase(Locale.ENGLISH));
+                if (index != null) {
+                    usedFlags.set(index);
+                }
+            } else if (input.startsWith("-")) {
+                for (int i = 1; i < input.length(); i++) {
+                    final int index = this.lookupAlias(this.aliasIndices, this.extendedAliasIndices, input.charAt(i));
+                    if (index != -1) {
+                        usedFlags.set(index);
+                    }
+                }
+            }
+            return usedFlags;
+        }
+
         /**
          * Helper class to parse the command input queue into flags
          * and flag values. On failure the intermediate results
@@ -333,46 +441,35 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
                         inputQueue.poll();
 
                         if (string.startsWith("--")) {
-                            final String flagName = string.substring(2);
-                            for (final CommandFlag<?> flag : FlagArgumentParser.this.flags) {
-                                if (flagName.equalsIgnoreCase(flag.getName())) {
-                                    currentFlag = flag;
-                                    currentFlagName = string;
-                                    break;
-                                }
-                            }
+                            currentFlag = FlagArgumentParser.this.flagByName(string.substring(2));
+                            currentFlagName = string;
                         } else {
                             final String flagName = string.substring(1);
                             if (flagName.length() > 1) {
                                 boolean oneAdded = false;
                                 for (int i = 0; i < flagName.length(); i++) {
-                                    final String parsedFlag = Character.toString(flagName.charAt(i))
-                                            .toLowerCase(Locale.ENGLISH);
-                                    for (final CommandFlag<?> candidateFlag : FlagArgumentParser.this.flags) {
-                                        if (candidateFlag.getCommandArgument() != null) {
-                                            continue;
-                                        }
-
-                                       if (candidateFlag.getAliases().contains(parsedFlag)) {
-                                           if (parsedFlags.contains(candidateFlag)
-                                                   && candidateFlag.mode() != CommandFlag.FlagMode.REPEATABLE) {
-                                               return ArgumentParseResult.failure(new FlagParseException(
-                                                       string,
-                                                       FailureReason.DUPLICATE_FLAG,
-                                                       commandContext
-                                               ));
-                                           } else if (!commandContext.hasPermission(candidateFlag.permission())) {
-                                               return ArgumentParseResult.failure(new FlagParseException(
-                                                       string,
-                                                       FailureReason.NO_PERMISSION,
-                                                       commandContext
-                                               ));
-                                           }
-                                           parsedFlags.add(candidateFlag);
-                                           commandContext.flags().addPresenceFlag(candidateFlag);
-                                           oneAdded = true;
-                                       }
+                                    final CommandFlag<?> candidateFlag =
+                                            FlagArgumentParser.this.presenceFlagByAlias(flagName.charAt(i));
+                                    if (candidateFlag == null) {
+                                        continue;
+                                    }
+                                    if (parsedFlags.contains(candidateFlag)
+                                            && candidateFlag.mode() != CommandFlag.FlagMode.REPEATABLE) {
+                                        return ArgumentParseResult.failure(new FlagParseException(
+                                                string,
+                                                FailureReason.DUPLICATE_FLAG,
+                                                commandContext
+                                        ));
+                                    } else if (!commandContext.hasPermission(candidateFlag.permission())) {
+                                        return ArgumentParseResult.failure(new FlagParseException(
+                                                string,
+                                                FailureReason.NO_PERMISSION,
+                                                commandContext
+                                        ));
                                     }
+                                    parsedFlags.add(candidateFlag);
+                                    commandContext.flags().addPresenceFlag(candidateFlag);
+                                    oneAdded = true;
                                 }
                                 /* We need to parse at least one flag */
                                 if (!oneAdded) {
@@ -384,15 +481,8 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
                                 }
                                 continue;
                             } else {
-                                for (final CommandFlag<?> flag : FlagArgumentParser.this.flags) {
-                                    for (final String alias : flag.getAliases()) {
-                                        if (alias.equalsIgnoreCase(flagName)) {
-                                            currentFlag = flag;
-                                            currentFlagName = string;
-                                            break;
-                                        }
-                                    }
-                                }
+                                currentFlag = FlagArgumentParser.this.flagByAlias(flagName);
+                                currentFlagName = string;
                             }
                         }
                         if (currentFlag == null) {
@@ -287,6 +287,7 @@ public final class BooleanArgument<C> extends CommandArgument<C, Boolean> {
                     BooleanParser.class,
                     context,
                     StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_BOOLEAN,
+                    false,
                     CaptionVariable.of("input", input)
             );
             this.input = input;
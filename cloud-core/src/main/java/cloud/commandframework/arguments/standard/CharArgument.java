@@ -192,6 +192,7 @@ public final class CharArgument<C> extends CommandArgument<C, Character> {
                     CharacterParser.class,
                     context,
                     StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR,
+                    false,
                     CaptionVariable.of("input", input)
             );
             this.input = input;
@@ -248,6 +248,7 @@ public class EnumArgument<C, E extends Enum<E>> extends CommandArgument<C, E> {
                     EnumParser.class,
                     context,
                     StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_ENUM,
+                    false,
                     CaptionVariable.of("input", input),
                     CaptionVariable.of("acceptableValues", join(enumClass))
             );
@@ -30,6 +30,7 @@ import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.captions.CaptionVariable;
 import cloud.commandframework.captions.StandardCaptionKeys;
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
 import cloud.commandframework.exceptions.parsing.ParserException;
 import cloud.commandframework.util.StringUtils;
@@ -382,11 +383,16 @@ public final class StringArgument<C> extends CommandArgument<C, String> {
                 return ArgumentParseResult.success(peek);
             }
 
-            final StringJoiner sj = new StringJoiner(" ");
-            for (final String string : inputQueue) {
-                sj.add(string);
+            final String string;
+            if (inputQueue instanceof CommandInput) {
+                string = ((CommandInput) inputQueue).remainingInput();
+            } else {
+                final StringJoiner sj = new StringJoiner(" ");
+                for (final String token : inputQueue) {
+                    sj.add(token);
+                }
+                string = sj.toString();
             }
-            final String string = sj.toString();
 
             final Matcher doubleMatcher = QUOTED_DOUBLE.matcher(string);
             String doubleMatch = null;
@@ -412,13 +418,25 @@ public final class StringArgument<C> extends CommandArgument<C, String> {
 
             if (inner != null) {
                 final int numSpaces = StringUtils.countCharOccurrences(inner, ' ');
-                for (int i = 0; i <= numSpaces; i++) {
-                    inputQueue.remove();
+                if (inputQueue instanceof CommandInput) {
+                    /* Move past the tokens that the quoted string spans, without creating them */
+                    int end = -1;
+                    for (int i = 0; i <= numSpaces && end < string.length(); i++) {
+                        end = string.indexOf(' ', end + 1);
+                        if (end == -1) {
+                            end = string.length();
+                        }
+                    }
+                    ((CommandInput) inputQueue).moveCursor(end);
+                } else {
+                    for (int i = 0; i <= numSpaces; i++) {
+                        inputQueue.remove();
+                    }
                 }
             } else {
                 inner = inputQueue.peek();
                 if (inner.startsWith("\"") || inner.startsWith("'")) {
-                    return ArgumentParseResult.failure(new StringParseException(sj.toString(),
+                    return ArgumentParseResult.failure(new StringParseException(string,
                             StringMode.QUOTED, commandContext
                     ));
                 } else {
@@ -435,6 +453,10 @@ public final class StringArgument<C> extends CommandArgument<C, String> {
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull Queue<@NonNull String> inputQueue
         ) {
+            if (this.stringMode == StringMode.GREEDY && inputQueue instanceof CommandInput) {
+                return ArgumentParseResult.success(((CommandInput) inputQueue).readRemainingInput());
+            }
+
             final StringJoiner sj = new StringJoiner(" ");
             final int size = inputQueue.size();
 
@@ -506,6 +528,7 @@ public final class StringArgument<C> extends CommandArgument<C, String> {
                     StringParser.class,
                     context,
                     StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_STRING,
+                    false,
                     CaptionVariable.of("input", input),
                     CaptionVariable.of("stringMode", stringMode.name())
             );
@@ -198,6 +198,7 @@ public final class UUIDArgument<C> extends CommandArgument<C, UUID> {
                     UUIDParser.class,
                     context,
                     StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_UUID,
+                    false,
                     CaptionVariable.of("input", input)
             );
             this.input = input;
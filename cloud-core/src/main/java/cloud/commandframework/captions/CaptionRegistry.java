@@ -42,4 +42,18 @@ public interface CaptionRegistry<C> {
      * @return Caption
      */
     @NonNull String getCaption(@NonNull Caption caption, @NonNull C sender);
+
+    /**
+     * Get a compiled caption template for a specific sender. Registries may cache the templates, as long as the
+     * returned template is compiled from the message that {@link #getCaption(Caption, Object)} returns
+     *
+     * @param caption Caption key
+     * @param sender  Sender
+     * @return Caption template
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    default @NonNull CaptionTemplate getCaptionTemplate(final @NonNull Caption caption, final @NonNull C sender) {
+        return CaptionTemplate.compile(this.getCaption(caption, sender));
+    }
 }
@@ -0,0 +1,154 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.captions;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Caption message that has been split into literal text and {@code {variable}} placeholders, so that it can be
+ * rendered without searching the message for every variable
+ *
+ * @since 1.9.0
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public final class CaptionTemplate {
+
+    private static final String[] NO_KEYS = new String[0];
+
+    private final String source;
+    private final String[] literals;
+    private final String[] keys;
+    private final int literalLength;
+
+    private CaptionTemplate(
+            final @NonNull String source,
+            final @NonNull String[] literals,
+            final @NonNull String[] keys
+    ) {
+        this.source = source;
+        this.literals = literals;
+        this.keys = keys;
+        int literalLength = 0;
+        for (final String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Compile a caption message into a template. Every {@code {key}} sequence that does not contain another brace
+     * is treated as a placeholder
+     *
+     * @param message Caption message
+     * @return Compiled template
+     */
+    public static @NonNull CaptionTemplate compile(final @NonNull String message) {
+        List<String> literals = null;
+        List<String> keys = null;
+        int literalStart = 0;
+        int index = message.indexOf('{');
+        while (index != -1) {
+            final int end = message.indexOf('}', index + 1);
+            if (end == -1) {
+                break;
+            }
+            final int nested = message.indexOf('{', index + 1);
+            if (nested != -1 && nested < end) {
+                /* The placeholder starts at the innermost brace */
+                index = nested;
+                continue;
+            }
+            if (literals == null) {
+                literals = new ArrayList<>();
+                keys = new ArrayList<>();
+            }
+            literals.add(message.substring(literalStart, index));
+            keys.add(message.substring(index + 1, end));
+            literalStart = end + 1;
+            index = message.indexOf('{', literalStart);
+        }
+        if (literals == null) {
+            return new CaptionTemplate(message, new String[]{message}, NO_KEYS);
+        }
+        literals.add(message.substring(literalStart));
+        return new CaptionTemplate(message, literals.toArray(new String[0]), keys.toArray(new String[0]));
+    }
+
+    /**
+     * Get the message that the template was compiled from
+     *
+     * @return Caption message
+     */
+    public @NonNull String source() {
+        return this.source;
+    }
+
+    /**
+     * Render the template by replacing its placeholders with the values of the variables that have the same key. If
+     * several variables share a key, the first one is used. Placeholders without a matching variable are kept as they
+     * are, and variable values are not searched for placeholders
+     *
+     * @param variables Variables
+     * @return Rendered message
+     */
+    public @NonNull String render(final @NonNull CaptionVariable... variables) {
+        if (this.keys.length == 0) {
+            return this.source;
+        }
+        final String[] values = new String[this.keys.length];
+        int length = this.literalLength;
+        for (int i = 0; i < this.keys.length; i++) {
+            final String value = this.valueOf(this.keys[i], variables);
+            values[i] = value;
+            length += value == null ? this.keys[i].length() + 2 : value.length();
+        }
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < this.keys.length; i++) {
+            builder.append(this.literals[i]);
+            if (values[i] == null) {
+                builder.append('{').append(this.keys[i]).append('}');
+            } else {
+                builder.append(values[i]);
+            }
+        }
+        return builder.append(this.literals[this.keys.length]).toString();
+    }
+
+    private String valueOf(final @NonNull String key, final @NonNull CaptionVariable @NonNull [] variables) {
+        for (final CaptionVariable variable : variables) {
+            if (variable.getKey().equals(key)) {
+                return variable.getValue();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CaptionTemplate{source='%s'}", this.source);
+    }
+}
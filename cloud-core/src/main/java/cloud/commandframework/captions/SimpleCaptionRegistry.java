@@ -25,12 +25,16 @@ package cloud.commandframework.captions;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
  * Caption registry that uses bi-functions to produce messages
+ * <p>
+ * Compiled templates are cached per caption and message, so that senders that receive different messages (such as
+ * senders with different locales) each reuse their own template.
  *
  * @param <C> Command sender type
  */
@@ -97,8 +101,22 @@ public class SimpleCaptionRegistry<C> implements FactoryDelegatingCaptionRegistr
      * Default caption for {@link StandardCaptionKeys#ARGUMENT_PARSE_FAILURE_DURATION}
      */
     public static final String ARGUMENT_PARSE_FAILURE_DURATION = "'{input}' is not a duration format";
+    /**
+     * Default caption for {@link StandardCaptionKeys#ARGUMENT_PARSE_FAILURE_LITERAL}
+     *
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public static final String ARGUMENT_PARSE_FAILURE_LITERAL = "'{input}' does not match the literal '{literal}'";
+
+    /**
+     * Maximum number of distinct messages for which templates are cached per caption. Factories that produce a
+     * different message for every sender will not fill the cache beyond this
+     */
+    private static final int MAX_TEMPLATES_PER_CAPTION = 16;
 
     private final Map<Caption, BiFunction<Caption, C, String>> messageFactories = new HashMap<>();
+    private final Map<Caption, Map<String, CaptionTemplate>> templates = new ConcurrentHashMap<>();
 
     protected SimpleCaptionRegistry() {
         this.registerMessageFactory(
@@ -161,6 +179,10 @@ public class SimpleCaptionRegistry<C> implements FactoryDelegatingCaptionRegistr
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_DURATION,
                 (caption, sender) -> ARGUMENT_PARSE_FAILURE_DURATION
         );
+        this.registerMessageFactory(
+                StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_LITERAL,
+                (caption, sender) -> ARGUMENT_PARSE_FAILURE_LITERAL
+        );
     }
 
     @Override
@@ -180,11 +202,33 @@ public class SimpleCaptionRegistry<C> implements FactoryDelegatingCaptionRegistr
         return messageFactory.apply(caption, sender);
     }
 
+    @Override
+    public final @NonNull CaptionTemplate getCaptionTemplate(
+            final @NonNull Caption caption,
+            final @NonNull C sender
+    ) {
+        final String message = this.getCaption(caption, sender);
+        final Map<String, CaptionTemplate> templates = this.templates.computeIfAbsent(
+                caption,
+                key -> new ConcurrentHashMap<>()
+        );
+        final CaptionTemplate template = templates.get(message);
+        if (template != null) {
+            return template;
+        }
+        final CaptionTemplate compiled = CaptionTemplate.compile(message);
+        if (templates.size() < MAX_TEMPLATES_PER_CAPTION) {
+            templates.put(message, compiled);
+        }
+        return compiled;
+    }
+
     @Override
     public final void registerMessageFactory(
             final @NonNull Caption caption,
             final @NonNull BiFunction<Caption, C, String> messageFactory
     ) {
         this.messageFactories.put(caption, messageFactory);
+        this.templates.remove(caption);
     }
 }
@@ -23,24 +23,38 @@
 //
 package cloud.commandframework.captions;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
- * Simple implementation of {@link CaptionVariableReplacementHandler}
+ * Simple implementation of {@link CaptionVariableReplacementHandler} that replaces {@code {key}} placeholders
+ * using a {@link CaptionTemplate}. The templates are compiled once per distinct string and cached by the handler
  */
 @API(status = API.Status.STABLE)
 public final class SimpleCaptionVariableReplacementHandler implements CaptionVariableReplacementHandler {
 
+    /**
+     * Maximum number of distinct strings for which templates are cached. Strings that are built for every message will
+     * not fill the cache beyond this
+     */
+    private static final int MAX_TEMPLATES = 256;
+
+    private final Map<String, CaptionTemplate> templates = new ConcurrentHashMap<>();
+
     @Override
     public @NonNull String replaceVariables(
             final @NonNull String string,
             final @NonNull CaptionVariable... variables
     ) {
-        String replacedString = string;
-        for (final CaptionVariable variable : variables) {
-            replacedString = replacedString.replace(String.format("{%s}", variable.getKey()), variable.getValue());
+        CaptionTemplate template = this.templates.get(string);
+        if (template == null) {
+            template = CaptionTemplate.compile(string);
+            if (this.templates.size() < MAX_TEMPLATES) {
+                this.templates.put(string, template);
+            }
         }
-        return replacedString;
+        return template.render(variables);
     }
 }
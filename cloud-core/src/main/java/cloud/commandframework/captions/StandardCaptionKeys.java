@@ -97,6 +97,13 @@ public final class StandardCaptionKeys {
      * Variables: {input}
      */
     public static final Caption ARGUMENT_PARSE_FAILURE_DURATION = of("argument.parse.failure.duration");
+    /**
+     * Variables: {input}, {literal}
+     *
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public static final Caption ARGUMENT_PARSE_FAILURE_LITERAL = of("argument.parse.failure.literal");
 
     private StandardCaptionKeys() {
     }
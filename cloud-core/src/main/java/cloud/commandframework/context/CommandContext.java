@@ -34,12 +34,13 @@ import cloud.commandframework.captions.CaptionVariableReplacementHandler;
 import cloud.commandframework.captions.SimpleCaptionVariableReplacementHandler;
 import cloud.commandframework.keys.CloudKey;
 import cloud.commandframework.keys.CloudKeyHolder;
-import cloud.commandframework.keys.SimpleCloudKey;
 import cloud.commandframework.permission.CommandPermission;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -56,15 +57,27 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public class CommandContext<C> {
 
     private final CaptionVariableReplacementHandler captionVariableReplacementHandler;
-    private final Map<CommandArgument<C, ?>, ArgumentTiming> argumentTimings = new HashMap<>();
-    private final FlagContext flagContext = FlagContext.create();
-    private final Map<CloudKey<?>, Object> internalStorage = new HashMap<>();
+    private static final String[] NO_SLOTS = new String[0];
+
+    /*
+     * Values are identified by the names of their keys. The parsed values of command arguments are stored in the
+     * slots that were assigned to the arguments by their commands, and the names of the values that are stored in
+     * the slots are kept next to them, and are indexed by name. All other values are stored in the fallback map. A name
+     * is only ever stored in one of the two places.
+     */
+    private String[] slotNames = NO_SLOTS;
+    private Object[] slotValues;
+    private @Nullable Map<String, Integer> slotIndex;
+    private @Nullable Map<String, Object> internalStorage;
+    private @Nullable Map<CommandArgument<C, ?>, ArgumentTiming> argumentTimings;
+    private @Nullable FlagContext flagContext;
     private final C commandSender;
     private final boolean suggestions;
     private final CaptionRegistry<C> captionRegistry;
     private final CommandManager<C> commandManager;
 
     private CommandArgument<C, ?> currentArgument = null;
+    private @Nullable CommandInput rawInput = null;
 
     /**
      * Create a new command context instance
@@ -145,6 +158,10 @@ public class CommandContext<C> {
             final @NonNull Caption caption,
             final @NonNull CaptionVariable... variables
     ) {
+        if (this.captionVariableReplacementHandler instanceof SimpleCaptionVariableReplacementHandler) {
+            /* The default handler renders templates, so the registry may as well supply a cached one */
+            return this.captionRegistry.getCaptionTemplate(caption, this.commandSender).render(variables);
+        }
         return this.captionVariableReplacementHandler.replaceVariables(
                 this.captionRegistry.getCaption(caption, this.commandSender),
                 variables
@@ -202,7 +219,12 @@ public class CommandContext<C> {
      * @param <T>   Value type
      */
     public <T extends @NonNull Object> void store(final @NonNull String key, final T value) {
-        this.internalStorage.put(SimpleCloudKey.of(key), value);
+        final int slot = this.findSlot(key);
+        if (slot >= 0) {
+            this.slotValues[slot] = value;
+        } else {
+            this.storage().put(key, value);
+        }
     }
 
     /**
@@ -214,7 +236,7 @@ public class CommandContext<C> {
      * @param <T>   Value type
      */
     public <T extends @NonNull Object> void store(final @NonNull CloudKey<T> key, final T value) {
-        this.internalStorage.put(key, value);
+        this.store(key.getName(), value);
     }
 
     /**
@@ -226,7 +248,25 @@ public class CommandContext<C> {
      * @param <T>       Value type
      */
     public <T extends @NonNull Object> void store(final @NonNull CommandArgument<C, T> keyHolder, final T value) {
-        this.store((CloudKeyHolder<T>) keyHolder, value);
+        final int slot = keyHolder.getContextSlot();
+        final String name = keyHolder.getName();
+        if (slot < 0 || (slot < this.slotNames.length && this.slotNames[slot] != null && !this.slotNames[slot].equals(name))) {
+            /* The slot is taken by another argument that shares the slot index */
+            this.store(name, value);
+            return;
+        }
+        if (slot >= this.slotNames.length) {
+            this.growSlots(slot + 1);
+        }
+        if (this.slotNames[slot] == null) {
+            this.remove(name);
+            this.slotNames[slot] = name;
+            if (this.slotIndex == null) {
+                this.slotIndex = new HashMap<>();
+            }
+            this.slotIndex.put(name, slot);
+        }
+        this.slotValues[slot] = value;
     }
 
     /**
@@ -240,7 +280,12 @@ public class CommandContext<C> {
      */
     @API(status = API.Status.STABLE, since = "1.4.0")
     public <T extends @NonNull Object> void store(final @NonNull CloudKeyHolder<T> keyHolder, final T value) {
-        this.internalStorage.put(keyHolder.getKey(), value);
+        if (keyHolder instanceof CommandArgument) {
+            @SuppressWarnings("unchecked") final CommandArgument<C, T> argument = (CommandArgument<C, T>) keyHolder;
+            this.store(argument, value);
+        } else {
+            this.store(keyHolder.getKey(), value);
+        }
     }
 
     /**
@@ -292,7 +337,7 @@ public class CommandContext<C> {
      */
     @API(status = API.Status.STABLE, since = "1.3.0")
     public boolean contains(final @NonNull String key) {
-        return this.contains(SimpleCloudKey.of(key));
+        return this.findSlot(key) >= 0 || (this.internalStorage != null && this.internalStorage.containsKey(key));
     }
 
     /**
@@ -304,7 +349,7 @@ public class CommandContext<C> {
      */
     @API(status = API.Status.STABLE, since = "1.4.0")
     public boolean contains(final @NonNull CloudKey<?> key) {
-        return this.internalStorage.containsKey(key);
+        return this.contains(key.getName());
     }
 
     /**
@@ -315,8 +360,14 @@ public class CommandContext<C> {
      */
     @API(status = API.Status.STABLE, since = "1.3.0")
     public @NonNull Map<@NonNull String, @Nullable ?> asMap() {
-        final Map<String, Object> values = new HashMap<>();
-        this.internalStorage.forEach((key, value) -> values.put(key.getName(), value));
+        final Map<String, Object> values = this.internalStorage == null
+                ? new HashMap<>()
+                : new HashMap<>(this.internalStorage);
+        for (int i = 0; i < this.slotNames.length; i++) {
+            if (this.slotNames[i] != null) {
+                values.put(this.slotNames[i], this.slotValues[i]);
+            }
+        }
         return Collections.unmodifiableMap(values);
     }
 
@@ -329,7 +380,7 @@ public class CommandContext<C> {
      * @return Value
      */
     public <T extends @NonNull Object> @NonNull Optional<T> getOptional(final @NonNull String key) {
-        final Object value = this.internalStorage.get(SimpleCloudKey.of(key));
+        final Object value = this.lookup(key);
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
             return Optional.of(castedValue);
@@ -349,7 +400,7 @@ public class CommandContext<C> {
      */
     @API(status = API.Status.STABLE, since = "1.4.0")
     public <T extends @NonNull Object> @NonNull Optional<T> getOptional(final @NonNull CloudKey<T> key) {
-        final Object value = this.internalStorage.get(key);
+        final Object value = this.lookup(key.getName());
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
             return Optional.of(castedValue);
@@ -368,7 +419,13 @@ public class CommandContext<C> {
      */
     @SuppressWarnings("unused")
     public <T extends @NonNull Object> @NonNull Optional<T> getOptional(final @NonNull CommandArgument<C, T> keyHolder) {
-        return this.getOptional((CloudKeyHolder<T>) keyHolder);
+        final Object value = this.lookup(keyHolder);
+        if (value != null) {
+            @SuppressWarnings("unchecked") final T castedValue = (T) value;
+            return Optional.of(castedValue);
+        } else {
+            return Optional.empty();
+        }
     }
 
     /**
@@ -383,7 +440,9 @@ public class CommandContext<C> {
     @SuppressWarnings("unused")
     @API(status = API.Status.STABLE, since = "1.4.0")
     public <T extends @NonNull Object> @NonNull Optional<T> getOptional(final @NonNull CloudKeyHolder<T> keyHolder) {
-        final Object value = this.internalStorage.get(keyHolder.getKey());
+        final Object value = keyHolder instanceof CommandArgument
+                ? this.lookup((CommandArgument<?, ?>) keyHolder)
+                : this.lookup(keyHolder.getKey().getName());
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
             return Optional.of(castedValue);
@@ -398,7 +457,14 @@ public class CommandContext<C> {
      * @param key Key to remove
      */
     public void remove(final @NonNull String key) {
-        this.remove(SimpleCloudKey.of(key));
+        final int slot = this.findSlot(key);
+        if (slot >= 0) {
+            this.slotNames[slot] = null;
+            this.slotValues[slot] = null;
+            Objects.requireNonNull(this.slotIndex).remove(key);
+        } else if (this.internalStorage != null) {
+            this.internalStorage.remove(key);
+        }
     }
 
     /**
@@ -409,7 +475,7 @@ public class CommandContext<C> {
      */
     @API(status = API.Status.STABLE, since = "1.4.0")
     public void remove(final @NonNull CloudKey<?> key) {
-        this.internalStorage.remove(key);
+        this.remove(key.getName());
     }
 
     /**
@@ -423,7 +489,7 @@ public class CommandContext<C> {
      */
     @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
     public <T extends @NonNull Object> T get(final @NonNull String key) {
-        final Object value = this.internalStorage.get(SimpleCloudKey.of(key));
+        final Object value = this.lookup(key);
         if (value == null) {
             throw new NullPointerException("No such object stored in the context: " + key);
         }
@@ -443,7 +509,7 @@ public class CommandContext<C> {
     @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
     @API(status = API.Status.STABLE, since = "1.4.0")
     public <T extends @NonNull Object> T get(final @NonNull CloudKey<T> key) {
-        final Object value = this.internalStorage.get(key);
+        final Object value = this.lookup(key.getName());
         if (value == null) {
             throw new NullPointerException("No such object stored in the context: " + key);
         }
@@ -459,8 +525,13 @@ public class CommandContext<C> {
      * @return Stored value
      * @throws NullPointerException If no such value is stored
      */
+    @SuppressWarnings("unchecked")
     public <T extends @NonNull Object> T get(final @NonNull CommandArgument<C, T> keyHolder) {
-        return this.get(keyHolder.getKey());
+        final Object value = this.lookup(keyHolder);
+        if (value == null) {
+            throw new NullPointerException("No such object stored in the context: " + keyHolder.getName());
+        }
+        return (T) value;
     }
 
     /**
@@ -475,6 +546,10 @@ public class CommandContext<C> {
      */
     @API(status = API.Status.STABLE, since = "1.4.0")
     public <T extends @NonNull Object> T get(final @NonNull CloudKeyHolder<T> keyHolder) {
+        if (keyHolder instanceof CommandArgument) {
+            @SuppressWarnings("unchecked") final CommandArgument<C, T> argument = (CommandArgument<C, T>) keyHolder;
+            return this.get(argument);
+        }
         return this.get(keyHolder.getKey());
     }
 
@@ -490,7 +565,7 @@ public class CommandContext<C> {
             final @NonNull CommandArgument<C, @NonNull T> argument,
             final T defaultValue
     ) {
-        return this.<T>getOptional(argument.getName()).orElse(defaultValue);
+        return this.getOptional(argument).orElse(defaultValue);
     }
 
     /**
@@ -574,8 +649,15 @@ public class CommandContext<C> {
             final @NonNull Function<CloudKey<T>, T> defaultFunction
     ) {
         @SuppressWarnings("unchecked")
-        final T castedValue = (T) this.internalStorage.computeIfAbsent(key, k -> defaultFunction.apply((CloudKey<T>) k));
-        return castedValue;
+        final T value = (T) this.lookup(key.getName());
+        if (value != null) {
+            return value;
+        }
+        final T computedValue = defaultFunction.apply(key);
+        if (computedValue != null) {
+            this.store(key.getName(), computedValue);
+        }
+        return computedValue;
     }
 
     /**
@@ -584,7 +666,29 @@ public class CommandContext<C> {
      * @return Raw input in token form
      */
     public @NonNull LinkedList<@NonNull String> getRawInput() {
-        return this.getOrDefault("__raw_input__", new LinkedList<>());
+        final LinkedList<String> tokens = this.getOrDefault("__raw_input__", null);
+        if (tokens != null) {
+            return tokens;
+        }
+        if (this.rawInput == null) {
+            return new LinkedList<>();
+        }
+        final LinkedList<String> rawInputTokens = new LinkedList<>(this.rawInput);
+        this.store("__raw_input__", rawInputTokens);
+        return rawInputTokens;
+    }
+
+    /**
+     * Set the raw input. The input will only be tokenized if {@link #getRawInput()} is called, and it must
+     * not be consumed after it has been passed to the context
+     *
+     * @param rawInput Raw input
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, since = "1.9.0")
+    public void rawInput(final @NonNull CommandInput rawInput) {
+        this.rawInput = rawInput;
+        this.remove("__raw_input__");
     }
 
     /**
@@ -595,6 +699,9 @@ public class CommandContext<C> {
      */
     @API(status = API.Status.STABLE, since = "1.1.0")
     public @NonNull String getRawInputJoined() {
+        if (this.rawInput != null && !this.contains("__raw_input__")) {
+            return this.rawInput.remainingInput();
+        }
         return String.join(" ", this.getRawInput());
     }
 
@@ -606,6 +713,9 @@ public class CommandContext<C> {
      */
     public @NonNull ArgumentTiming createTiming(final @NonNull CommandArgument<C, ?> argument) {
         final ArgumentTiming argumentTiming = new ArgumentTiming();
+        if (this.argumentTimings == null) {
+            this.argumentTimings = new HashMap<>();
+        }
         this.argumentTimings.put(argument, argumentTiming);
         return argumentTiming;
     }
@@ -616,6 +726,9 @@ public class CommandContext<C> {
      * @return Argument timings
      */
     public @NonNull Map<CommandArgument<@NonNull C, @NonNull ?>, ArgumentTiming> getArgumentTimings() {
+        if (this.argumentTimings == null) {
+            return Collections.emptyMap();
+        }
         return Collections.unmodifiableMap(this.argumentTimings);
     }
 
@@ -625,9 +738,49 @@ public class CommandContext<C> {
      * @return Flag context
      */
     public @NonNull FlagContext flags() {
+        if (this.flagContext == null) {
+            this.flagContext = FlagContext.create();
+        }
         return this.flagContext;
     }
 
+    private @Nullable Object lookup(final @NonNull String name) {
+        final int slot = this.findSlot(name);
+        if (slot >= 0) {
+            return this.slotValues[slot];
+        }
+        return this.internalStorage == null ? null : this.internalStorage.get(name);
+    }
+
+    private @Nullable Object lookup(final @NonNull CommandArgument<?, ?> argument) {
+        final int slot = argument.getContextSlot();
+        if (slot >= 0 && slot < this.slotNames.length && argument.getName().equals(this.slotNames[slot])) {
+            return this.slotValues[slot];
+        }
+        return this.lookup(argument.getName());
+    }
+
+    private int findSlot(final @NonNull String name) {
+        if (this.slotIndex == null) {
+            return -1;
+        }
+        final Integer slot = this.slotIndex.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    private void growSlots(final int minimumLength) {
+        final int length = Math.max(minimumLength, Math.max(4, this.slotNames.length * 2));
+        this.slotNames = Arrays.copyOf(this.slotNames, length);
+        this.slotValues = this.slotValues == null ? new Object[length] : Arrays.copyOf(this.slotValues, length);
+    }
+
+    private @NonNull Map<String, Object> storage() {
+        if (this.internalStorage == null) {
+            this.internalStorage = new HashMap<>();
+        }
+        return this.internalStorage;
+    }
+
     /**
      * Get the argument that is currently being parsed for this command context.
      * This value will be updated whenever the context is used to provide new
@@ -0,0 +1,380 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.context;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Command input that reads its tokens from the original input string using a cursor.
+ * <p>
+ * The input is split into tokens at every blank space, and a trailing empty token is present if the input ends
+ * with a blank space. This is the same token form that {@link cloud.commandframework.internal.CommandInputTokenizer}
+ * produces, but the tokens are only created when they are read.
+ * <p>
+ * The input is also a {@link java.util.Queue} of its remaining tokens, so that it can be passed to parsers
+ * that consume their input token by token. Parsers that operate on characters rather than tokens may check whether
+ * their input queue is a command input, and use {@link #remainingInput()} and {@link #moveCursor(int)} instead of
+ * joining the remaining tokens.
+ *
+ * @since 1.9.0
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public final class CommandInput extends AbstractQueue<@NonNull String> {
+
+    private static final char DELIMITER = ' ';
+    private static final String EMPTY = "";
+
+    private final String input;
+    private final boolean singleSpaced;
+    private final boolean trailingEmptyToken;
+
+    private int cursor;
+    private boolean trailingEmptyTokenRead;
+    /* Number of remaining tokens that are read from the input string, or -1 if they have not been counted yet */
+    private int inputTokens = -1;
+    private @Nullable Deque<String> appendedTokens;
+
+    private CommandInput(final @NonNull String input) {
+        this.input = input;
+        /* Tokens are joined with single blank spaces, so the remaining input can only be read directly if there are no
+         * consecutive blank spaces */
+        this.singleSpaced = input.indexOf("  ") == -1;
+        this.trailingEmptyToken = !input.isEmpty() && input.charAt(input.length() - 1) == DELIMITER;
+    }
+
+    /**
+     * Creates a new command input that reads from the given input
+     *
+     * @param input Input string
+     * @return Command input, with the cursor at the start of the input
+     */
+    public static @NonNull CommandInput of(final @NonNull String input) {
+        return new CommandInput(input);
+    }
+
+    /**
+     * Returns the original input string
+     *
+     * @return Input string
+     */
+    public @NonNull String input() {
+        return this.input;
+    }
+
+    /**
+     * Returns the position of the cursor in the {@link #input() original input}
+     *
+     * @return Cursor position
+     */
+    public int cursor() {
+        return this.cursor;
+    }
+
+    /**
+     * Creates a copy of this input, which reads from the same input string but has its own cursor
+     *
+     * @return Copy of this input
+     */
+    public @NonNull CommandInput copy() {
+        final CommandInput copy = new CommandInput(this.input);
+        copy.reset(this);
+        return copy;
+    }
+
+    /**
+     * Resets this input to the state of the given copy of it
+     *
+     * @param copy Copy of this input, created using {@link #copy()}
+     * @throws IllegalArgumentException If the copy does not read from the same input string
+     */
+    public void reset(final @NonNull CommandInput copy) {
+        if (copy.input != this.input) {
+            throw new IllegalArgumentException("The copy does not read from the same input");
+        }
+        this.cursor = copy.cursor;
+        this.trailingEmptyTokenRead = copy.trailingEmptyTokenRead;
+        this.inputTokens = copy.inputTokens;
+        this.appendedTokens = copy.appendedTokens == null || copy.appendedTokens.isEmpty()
+                ? null
+                : new ArrayDeque<>(copy.appendedTokens);
+    }
+
+    /**
+     * Returns the remaining tokens joined with {@code " "} as the delimiter. If possible, this is read directly
+     * from the original input
+     *
+     * @return Remaining input
+     */
+    public @NonNull String remainingInput() {
+        if (this.singleSpaced && !this.hasAppendedTokens()) {
+            return this.input.substring(this.tokenStart());
+        }
+        final StringJoiner joiner = new StringJoiner(String.valueOf(DELIMITER));
+        for (final String token : this) {
+            joiner.add(token);
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Returns the {@link #remainingInput() remaining input} and moves the cursor to the end of the input
+     *
+     * @return Remaining input
+     */
+    public @NonNull String readRemainingInput() {
+        final String remainingInput = this.remainingInput();
+        this.cursor = this.input.length();
+        this.trailingEmptyTokenRead = true;
+        this.inputTokens = 0;
+        this.appendedTokens = null;
+        return remainingInput;
+    }
+
+    /**
+     * Moves the cursor by the given number of characters of the {@link #remainingInput() remaining input}. If the
+     * cursor ends up inside a token, the rest of that token will be the next token
+     *
+     * @param chars Number of characters to move the cursor by
+     * @throws IllegalArgumentException If the number is negative
+     * @throws NoSuchElementException   If the number exceeds the length of the remaining input
+     */
+    public void moveCursor(final int chars) {
+        if (chars < 0) {
+            throw new IllegalArgumentException("Cannot move the cursor backwards");
+        }
+        if (this.singleSpaced && !this.hasAppendedTokens()) {
+            final int start = this.tokenStart();
+            final int position = start + chars;
+            if (position > this.input.length()) {
+                throw new NoSuchElementException();
+            }
+            if (this.inputTokens >= 0) {
+                this.inputTokens -= this.consumedTokens(start, position);
+            }
+            this.cursor = position;
+            return;
+        }
+        int remaining = chars;
+        while (remaining > 0) {
+            final String token = this.element();
+            if (remaining >= token.length()) {
+                this.remove();
+                remaining -= token.length() + 1 /* delimiter */;
+            } else if (this.tokenStart() < this.input.length()) {
+                this.cursor = this.tokenStart() + remaining;
+                break;
+            } else {
+                final Deque<String> appendedTokens = Objects.requireNonNull(this.appendedTokens);
+                appendedTokens.removeFirst();
+                appendedTokens.addFirst(token.substring(remaining));
+                break;
+            }
+        }
+    }
+
+    @Override
+    public boolean offer(final @NonNull String token) {
+        Objects.requireNonNull(token, "token");
+        if (this.appendedTokens == null) {
+            this.appendedTokens = new ArrayDeque<>();
+        }
+        return this.appendedTokens.add(token);
+    }
+
+    @Override
+    public @Nullable String poll() {
+        final int start = this.tokenStart();
+        if (start < this.input.length()) {
+            final int end = this.tokenEnd(start);
+            this.cursor = end;
+            this.consumeInputToken();
+            return this.input.substring(start, end);
+        }
+        if (this.trailingEmptyToken && !this.trailingEmptyTokenRead) {
+            this.cursor = this.input.length();
+            this.trailingEmptyTokenRead = true;
+            this.consumeInputToken();
+            return EMPTY;
+        }
+        return this.appendedTokens == null ? null : this.appendedTokens.pollFirst();
+    }
+
+    @Override
+    public @Nullable String peek() {
+        final int start = this.tokenStart();
+        if (start < this.input.length()) {
+            return this.input.substring(start, this.tokenEnd(start));
+        }
+        if (this.trailingEmptyToken && !this.trailingEmptyTokenRead) {
+            return EMPTY;
+        }
+        return this.appendedTokens == null ? null : this.appendedTokens.peekFirst();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.tokenStart() >= this.input.length()
+                && (!this.trailingEmptyToken || this.trailingEmptyTokenRead)
+                && !this.hasAppendedTokens();
+    }
+
+    /**
+     * Returns the number of remaining tokens. The tokens of the input string are counted once, and the count is kept
+     * up to date as the tokens are read
+     *
+     * @return Number of remaining tokens
+     */
+    @Override
+    public int size() {
+        if (this.inputTokens < 0) {
+            int size = 0;
+            int position = this.tokenStart();
+            while (position < this.input.length()) {
+                size++;
+                position = this.skipDelimiters(this.tokenEnd(position));
+            }
+            if (this.trailingEmptyToken && !this.trailingEmptyTokenRead) {
+                size++;
+            }
+            this.inputTokens = size;
+        }
+        return this.appendedTokens == null ? this.inputTokens : this.inputTokens + this.appendedTokens.size();
+    }
+
+    /**
+     * Returns an iterator over the remaining tokens. The iterator does not support removal
+     *
+     * @return Token iterator
+     */
+    @Override
+    public @NonNull Iterator<@NonNull String> iterator() {
+        return new TokenIterator();
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "CommandInput{input='" + this.input + "', cursor=" + this.cursor + '}';
+    }
+
+    private void consumeInputToken() {
+        if (this.inputTokens > 0) {
+            this.inputTokens--;
+        }
+    }
+
+    /**
+     * Counts the tokens that are consumed by moving the cursor from the start of a token to the given position.
+     * If the position is inside a token, the rest of that token is not consumed
+     *
+     * @param start    Start of the current token
+     * @param position New cursor position
+     * @return Number of consumed tokens
+     */
+    private int consumedTokens(final int start, final int position) {
+        int consumed = 0;
+        for (int index = start; index < position; index++) {
+            if (this.input.charAt(index) != DELIMITER && (index == start || this.input.charAt(index - 1) == DELIMITER)) {
+                consumed++;
+            }
+        }
+        if (position > start && position < this.input.length()
+                && this.input.charAt(position) != DELIMITER && this.input.charAt(position - 1) != DELIMITER) {
+            consumed--;
+        }
+        return consumed;
+    }
+
+    private boolean hasAppendedTokens() {
+        return this.appendedTokens != null && !this.appendedTokens.isEmpty();
+    }
+
+    private int tokenStart() {
+        return this.skipDelimiters(this.cursor);
+    }
+
+    private int skipDelimiters(final int position) {
+        int index = position;
+        while (index < this.input.length() && this.input.charAt(index) == DELIMITER) {
+            index++;
+        }
+        return index;
+    }
+
+    private int tokenEnd(final int start) {
+        final int end = this.input.indexOf(DELIMITER, start);
+        return end == -1 ? this.input.length() : end;
+    }
+
+    private final class TokenIterator implements Iterator<String> {
+
+        private int position = CommandInput.this.tokenStart();
+        private boolean trailingEmptyTokenRead = CommandInput.this.trailingEmptyTokenRead;
+        private @Nullable Iterator<String> appendedTokens;
+
+        @Override
+        public boolean hasNext() {
+            if (this.position < CommandInput.this.input.length()) {
+                return true;
+            }
+            if (CommandInput.this.trailingEmptyToken && !this.trailingEmptyTokenRead) {
+                return true;
+            }
+            return this.appendedTokens().hasNext();
+        }
+
+        @Override
+        public String next() {
+            if (this.position < CommandInput.this.input.length()) {
+                final int end = CommandInput.this.tokenEnd(this.position);
+                final String token = CommandInput.this.input.substring(this.position, end);
+                this.position = CommandInput.this.skipDelimiters(end);
+                return token;
+            }
+            if (CommandInput.this.trailingEmptyToken && !this.trailingEmptyTokenRead) {
+                this.trailingEmptyTokenRead = true;
+                return EMPTY;
+            }
+            return this.appendedTokens().next();
+        }
+
+        private @NonNull Iterator<String> appendedTokens() {
+            if (this.appendedTokens == null) {
+                this.appendedTokens = CommandInput.this.appendedTokens == null
+                        ? Collections.emptyIterator()
+                        : CommandInput.this.appendedTokens.iterator();
+            }
+            return this.appendedTokens;
+        }
+    }
+}
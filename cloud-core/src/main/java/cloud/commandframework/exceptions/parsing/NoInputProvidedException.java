@@ -51,7 +51,8 @@ public class NoInputProvidedException extends ParserException {
         super(
                 argumentParser,
                 context,
-                StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_NO_INPUT_PROVIDED
+                StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_NO_INPUT_PROVIDED,
+                false
         );
     }
 }
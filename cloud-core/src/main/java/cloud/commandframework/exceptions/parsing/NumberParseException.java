@@ -57,6 +57,7 @@ public abstract class NumberParseException extends ParserException {
                 parserClass,
                 context,
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_NUMBER,
+                false,
                 CaptionVariable.of("input", input),
                 CaptionVariable.of("min", String.valueOf(min)),
                 CaptionVariable.of("max", String.valueOf(max))
@@ -39,17 +39,45 @@ public class ParserException extends IllegalArgumentException {
     private final CommandContext<?> context;
     private final Caption errorCaption;
     private final CaptionVariable[] captionVariables;
+    private final boolean constructed;
 
     protected ParserException(
             final @NonNull Class<?> argumentParser,
             final @NonNull CommandContext<?> context,
             final @NonNull Caption errorCaption,
             final @NonNull CaptionVariable... captionVariables
+    ) {
+        this(argumentParser, context, errorCaption, true, captionVariables);
+    }
+
+    /**
+     * Construct a new parser exception
+     *
+     * @param argumentParser    Argument parser class
+     * @param context           Command context
+     * @param errorCaption      Error caption
+     * @param captureStackTrace Whether the stack trace should be captured. Parsers that produce failures
+     *                          as part of regular control flow should pass {@code false}, as capturing the
+     *                          stack trace is the most expensive part of constructing an exception
+     * @param captionVariables  Caption variables
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    protected ParserException(
+            final @NonNull Class<?> argumentParser,
+            final @NonNull CommandContext<?> context,
+            final @NonNull Caption errorCaption,
+            final boolean captureStackTrace,
+            final @NonNull CaptionVariable... captionVariables
     ) {
         this.argumentParser = argumentParser;
         this.context = context;
         this.errorCaption = errorCaption;
         this.captionVariables = captionVariables;
+        this.constructed = true;
+        if (captureStackTrace) {
+            this.fillInStackTrace();
+        }
     }
 
     @Override
@@ -60,6 +88,20 @@ public class ParserException extends IllegalArgumentException {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The {@link Throwable} constructor invokes this method before it is known whether the stack trace should
+     * be captured, so the stack trace is only captured once the exception has been constructed.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (!this.constructed) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
+
     /**
      * Get the error caption for this parser exception
      *
@@ -28,6 +28,7 @@ import cloud.commandframework.CommandManager;
 import cloud.commandframework.CommandTree;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.metrics.CommandMetricsListener;
 import cloud.commandframework.services.State;
 import cloud.commandframework.types.tuples.Pair;
 import java.util.Queue;
@@ -98,7 +99,12 @@ public final class AsynchronousCommandExecutionCoordinator<C> extends CommandExe
 
         final Consumer<Command<C>> commandConsumer = command -> {
             if (this.commandManager.postprocessContext(commandContext, command) == State.ACCEPTED) {
+                final CommandMetricsListener<C> metricsListener = this.commandManager.metricsListener();
+                final long start = metricsListener == null ? 0L : System.nanoTime();
                 command.getCommandExecutionHandler().executeFuture(commandContext).whenComplete((result, throwable) -> {
+                    if (metricsListener != null) {
+                        metricsListener.commandExecuted(commandContext, command, throwable == null, System.nanoTime() - start);
+                    }
                     if (throwable != null) {
                         if (throwable instanceof CommandExecutionException) {
                             resultFuture.completeExceptionally(throwable);
@@ -27,6 +27,7 @@ import cloud.commandframework.Command;
 import cloud.commandframework.CommandTree;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.metrics.CommandMetricsListener;
 import cloud.commandframework.services.State;
 import cloud.commandframework.types.tuples.Pair;
 import java.util.Objects;
@@ -119,8 +120,13 @@ public abstract class CommandExecutionCoordinator<C> {
                 } else {
                     final Command<C> command = Objects.requireNonNull(pair.getFirst());
                     if (this.getCommandTree().getCommandManager().postprocessContext(commandContext, command) == State.ACCEPTED) {
+                        final CommandMetricsListener<C> metricsListener =
+                                this.getCommandTree().getCommandManager().metricsListener();
+                        final long start = metricsListener == null ? 0L : System.nanoTime();
+                        boolean success = false;
                         try {
                             command.getCommandExecutionHandler().executeFuture(commandContext).get();
+                            success = true;
                         } catch (final java.util.concurrent.ExecutionException exception) {
                             Throwable cause = exception.getCause();
                             if (cause instanceof CommandExecutionException) {
@@ -133,6 +139,9 @@ public abstract class CommandExecutionCoordinator<C> {
                         } catch (final Exception exception) {
                             completableFuture.completeExceptionally(new CommandExecutionException(exception, commandContext));
                         }
+                        if (metricsListener != null) {
+                            metricsListener.commandExecuted(commandContext, command, success, System.nanoTime() - start);
+                        }
                     }
                     completableFuture.complete(new CommandResult<>(commandContext));
                 }
@@ -0,0 +1,486 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.execution;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.CommandTree;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.metrics.CommandMetricsListener;
+import cloud.commandframework.metrics.LatencyHistogram;
+import cloud.commandframework.services.State;
+import cloud.commandframework.types.tuples.Pair;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.common.returnsreceiver.qual.This;
+
+/**
+ * Execution coordinator that parses and executes the commands of each sender in the order they were issued, while
+ * commands of different senders run in parallel.
+ * <p>
+ * Every sender has a mailbox of pending commands. A mailbox is drained by a single task at a time, which waits
+ * for each command to complete before it starts the next one. By default, the mailboxes are drained on virtual
+ * threads when the JVM supports them (Java 21+), and on a thread pool otherwise, so that blocking command handlers
+ * do not hold up other senders.
+ * <p>
+ * The number of pending commands can be limited per sender and in total. Commands that exceed the limits are handled
+ * according to the {@link RejectionPolicy}. Rejected commands complete exceptionally with a
+ * {@link RejectedExecutionException}.
+ *
+ * @param <C> Command sender type
+ * @since 1.9.0
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public final class OrderedCommandExecutionCoordinator<C> extends CommandExecutionCoordinator<C> {
+
+    private final CommandManager<C> commandManager;
+    private final Executor executor;
+    private final Function<? super C, ?> senderKey;
+    private final int maxSenderQueueSize;
+    private final int maxQueuedCommands;
+    private final RejectionPolicy rejectionPolicy;
+
+    private final Map<Object, Mailbox<C>> mailboxes = new ConcurrentHashMap<>();
+    private final AtomicInteger queuedCommands = new AtomicInteger();
+    private final LongAdder rejectedCommands = new LongAdder();
+    private final LatencyHistogram queueDepths = new LatencyHistogram();
+    private final LatencyHistogram waitTimes = new LatencyHistogram();
+
+    private OrderedCommandExecutionCoordinator(
+            final @NonNull CommandTree<C> commandTree,
+            final @Nullable Executor executor,
+            final @NonNull Function<? super C, ?> senderKey,
+            final int maxSenderQueueSize,
+            final int maxQueuedCommands,
+            final @NonNull RejectionPolicy rejectionPolicy
+    ) {
+        super(commandTree);
+        this.commandManager = commandTree.getCommandManager();
+        this.executor = executor == null ? createDefaultExecutor() : executor;
+        this.senderKey = senderKey;
+        this.maxSenderQueueSize = maxSenderQueueSize;
+        this.maxQueuedCommands = maxQueuedCommands;
+        this.rejectionPolicy = rejectionPolicy;
+    }
+
+    /**
+     * Create a new {@link Builder} instance
+     *
+     * @param <C> Command sender type
+     * @return Builder
+     */
+    public static <C> @NonNull Builder<C> builder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public @NonNull CompletableFuture<CommandResult<C>> coordinateExecution(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Queue<@NonNull String> input
+    ) {
+        final QueuedCommand<C> queuedCommand = new QueuedCommand<>(commandContext, input);
+        final Object key = Objects.requireNonNull(this.senderKey.apply(commandContext.getSender()), "sender key");
+
+        QueuedCommand<C> discardedCommand = null;
+        boolean rejected = false;
+        boolean schedule = false;
+        Mailbox<C> mailbox;
+        while (true) {
+            mailbox = this.mailboxes.computeIfAbsent(key, k -> new Mailbox<>());
+            synchronized (mailbox) {
+                if (mailbox.retired) {
+                    /* The mailbox was drained and removed after it was looked up */
+                    continue;
+                }
+                if (mailbox.queue.size() >= this.maxSenderQueueSize || !this.reserveQueueSlot()) {
+                    if (this.rejectionPolicy == RejectionPolicy.DISCARD_OLDEST && !mailbox.queue.isEmpty()) {
+                        /* The queue slot of the discarded command is handed over to the new command */
+                        discardedCommand = mailbox.queue.poll();
+                    } else {
+                        rejected = true;
+                        break;
+                    }
+                }
+                mailbox.queue.add(queuedCommand);
+                this.queueDepths.record(mailbox.queue.size());
+                if (!mailbox.draining) {
+                    mailbox.draining = true;
+                    schedule = true;
+                }
+            }
+            break;
+        }
+
+        if (discardedCommand != null) {
+            this.reject(discardedCommand.resultFuture, key);
+        }
+        if (rejected) {
+            this.reject(queuedCommand.resultFuture, key);
+        } else if (schedule) {
+            final Mailbox<C> scheduledMailbox = mailbox;
+            try {
+                this.executor.execute(() -> this.drain(key, scheduledMailbox));
+            } catch (final RejectedExecutionException e) {
+                this.failMailbox(key, scheduledMailbox, e);
+            }
+        }
+        return queuedCommand.resultFuture;
+    }
+
+    /**
+     * Get the number of commands that are waiting to be executed
+     *
+     * @return Number of queued commands
+     */
+    public int queuedCommands() {
+        return this.queuedCommands.get();
+    }
+
+    /**
+     * Get the number of senders that have commands that are waiting or being executed
+     *
+     * @return Number of active senders
+     */
+    public int activeSenders() {
+        return this.mailboxes.size();
+    }
+
+    /**
+     * Get the number of commands that have been rejected or discarded because a queue limit was exceeded
+     *
+     * @return Number of rejected commands
+     */
+    public long rejectedCommands() {
+        return this.rejectedCommands.sum();
+    }
+
+    /**
+     * Get the queue depths of the senders, as seen by each command when it was queued. The depth includes the
+     * queued command
+     *
+     * @return Queue depth histogram
+     */
+    public LatencyHistogram.@NonNull Snapshot queueDepths() {
+        return this.queueDepths.snapshot();
+    }
+
+    /**
+     * Get the time that commands have waited in their queues before they were parsed, in nanoseconds
+     *
+     * @return Wait time histogram
+     */
+    public LatencyHistogram.@NonNull Snapshot waitTimes() {
+        return this.waitTimes.snapshot();
+    }
+
+    private boolean reserveQueueSlot() {
+        int current;
+        do {
+            current = this.queuedCommands.get();
+            if (current >= this.maxQueuedCommands) {
+                return false;
+            }
+        } while (!this.queuedCommands.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void reject(final @NonNull CompletableFuture<CommandResult<C>> resultFuture, final @NonNull Object key) {
+        this.rejectedCommands.increment();
+        resultFuture.completeExceptionally(new RejectedExecutionException(
+                String.format("The command queue of '%s' is full", key)
+        ));
+    }
+
+    private void drain(final @NonNull Object key, final @NonNull Mailbox<C> mailbox) {
+        while (true) {
+            final QueuedCommand<C> queuedCommand;
+            synchronized (mailbox) {
+                queuedCommand = mailbox.queue.poll();
+                if (queuedCommand == null) {
+                    mailbox.draining = false;
+                    mailbox.retired = true;
+                    this.mailboxes.remove(key, mailbox);
+                    return;
+                }
+            }
+            this.queuedCommands.decrementAndGet();
+            this.waitTimes.record(System.nanoTime() - queuedCommand.queuedAt);
+            this.execute(queuedCommand.commandContext, queuedCommand.input, queuedCommand.resultFuture);
+        }
+    }
+
+    private void failMailbox(final @NonNull Object key, final @NonNull Mailbox<C> mailbox, final @NonNull Throwable cause) {
+        while (true) {
+            final QueuedCommand<C> queuedCommand;
+            synchronized (mailbox) {
+                queuedCommand = mailbox.queue.poll();
+                if (queuedCommand == null) {
+                    mailbox.draining = false;
+                    mailbox.retired = true;
+                    this.mailboxes.remove(key, mailbox);
+                    return;
+                }
+            }
+            this.queuedCommands.decrementAndGet();
+            queuedCommand.resultFuture.completeExceptionally(cause);
+        }
+    }
+
+    private void execute(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Queue<@NonNull String> input,
+            final @NonNull CompletableFuture<CommandResult<C>> resultFuture
+    ) {
+        try {
+            final @NonNull Pair<@Nullable Command<C>, @Nullable Exception> pair =
+                    this.getCommandTree().parse(commandContext, input);
+            if (pair.getSecond() != null) {
+                resultFuture.completeExceptionally(pair.getSecond());
+                return;
+            }
+            final Command<C> command = Objects.requireNonNull(pair.getFirst());
+            if (this.commandManager.postprocessContext(commandContext, command) == State.ACCEPTED) {
+                final CommandMetricsListener<C> metricsListener = this.commandManager.metricsListener();
+                final long start = metricsListener == null ? 0L : System.nanoTime();
+                boolean success = false;
+                try {
+                    /* The next command of the sender may only start once this one has completed */
+                    command.getCommandExecutionHandler().executeFuture(commandContext).get();
+                    success = true;
+                } catch (final ExecutionException exception) {
+                    final Throwable cause = exception.getCause();
+                    if (cause instanceof CommandExecutionException) {
+                        resultFuture.completeExceptionally(cause);
+                    } else {
+                        resultFuture.completeExceptionally(new CommandExecutionException(cause, commandContext));
+                    }
+                } catch (final CommandExecutionException exception) {
+                    resultFuture.completeExceptionally(exception);
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    resultFuture.completeExceptionally(new CommandExecutionException(exception, commandContext));
+                } catch (final Exception exception) {
+                    resultFuture.completeExceptionally(new CommandExecutionException(exception, commandContext));
+                }
+                if (metricsListener != null) {
+                    metricsListener.commandExecuted(commandContext, command, success, System.nanoTime() - start);
+                }
+            }
+            resultFuture.complete(new CommandResult<>(commandContext));
+        } catch (final Exception e) {
+            resultFuture.completeExceptionally(e);
+        }
+    }
+
+    private static @NonNull Executor createDefaultExecutor() {
+        try {
+            final Method method = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) method.invoke(null);
+        } catch (final ReflectiveOperationException ignored) {
+            /* Virtual threads are not available, so the mailboxes are drained on a pool of daemon threads */
+            final AtomicInteger threadId = new AtomicInteger();
+            final int threads = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    threads,
+                    threads,
+                    60L,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        final Thread thread = new Thread(runnable, "cloud-command-executor-" + threadId.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+            );
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+
+    /**
+     * Policy that decides what happens to a command that exceeds the queue limits
+     *
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public enum RejectionPolicy {
+        /**
+         * The new command is rejected
+         */
+        REJECT,
+        /**
+         * The oldest queued command of the same sender is discarded to make room for the new command. If the sender
+         * has no queued commands, the new command is rejected
+         */
+        DISCARD_OLDEST
+    }
+
+
+    private static final class Mailbox<C> {
+
+        private final Queue<QueuedCommand<C>> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean retired;
+    }
+
+
+    private static final class QueuedCommand<C> {
+
+        private final CommandContext<C> commandContext;
+        private final Queue<String> input;
+        private final CompletableFuture<CommandResult<C>> resultFuture = new CompletableFuture<>();
+        private final long queuedAt = System.nanoTime();
+
+        private QueuedCommand(final @NonNull CommandContext<C> commandContext, final @NonNull Queue<@NonNull String> input) {
+            this.commandContext = commandContext;
+            this.input = input;
+        }
+    }
+
+
+    /**
+     * Builder for {@link OrderedCommandExecutionCoordinator} instances
+     *
+     * @param <C> Command sender type
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public static final class Builder<C> {
+
+        private Executor executor = null;
+        private Function<? super C, ?> senderKey = Function.identity();
+        private int maxSenderQueueSize = 32;
+        private int maxQueuedCommands = Integer.MAX_VALUE;
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.REJECT;
+
+        private Builder() {
+        }
+
+        /**
+         * Specify the executor that drains the command queues. Each queue occupies a thread of the executor while
+         * it is being drained. By default, a virtual thread is started for every queue if the JVM supports it, and
+         * a thread pool is used otherwise
+         *
+         * @param executor Executor to use
+         * @return Builder instance
+         */
+        public @NonNull @This Builder<C> withExecutor(final @NonNull Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Specify the function that identifies the sender of a command. Commands are ordered per key. By default,
+         * the sender itself is used as the key, which requires platforms that wrap their senders to implement
+         * {@link Object#equals(Object)} for the wrapped senders
+         *
+         * @param senderKey Function that maps a sender to its key
+         * @return Builder instance
+         */
+        public @NonNull @This Builder<C> withSenderKey(final @NonNull Function<? super C, ?> senderKey) {
+            this.senderKey = senderKey;
+            return this;
+        }
+
+        /**
+         * Specify the maximum number of commands that may be queued for a single sender. Defaults to {@code 32}
+         *
+         * @param maxSenderQueueSize Maximum number of queued commands per sender
+         * @return Builder instance
+         */
+        public @NonNull @This Builder<C> withMaxSenderQueueSize(final int maxSenderQueueSize) {
+            if (maxSenderQueueSize < 1) {
+                throw new IllegalArgumentException("The maximum queue size must be positive");
+            }
+            this.maxSenderQueueSize = maxSenderQueueSize;
+            return this;
+        }
+
+        /**
+         * Specify the maximum number of commands that may be queued for all senders combined. Unlimited by default
+         *
+         * @param maxQueuedCommands Maximum number of queued commands
+         * @return Builder instance
+         */
+        public @NonNull @This Builder<C> withMaxQueuedCommands(final int maxQueuedCommands) {
+            if (maxQueuedCommands < 1) {
+                throw new IllegalArgumentException("The maximum number of queued commands must be positive");
+            }
+            this.maxQueuedCommands = maxQueuedCommands;
+            return this;
+        }
+
+        /**
+         * Specify what happens to commands that exceed the queue limits. Defaults to {@link RejectionPolicy#REJECT}
+         *
+         * @param rejectionPolicy Rejection policy
+         * @return Builder instance
+         */
+        public @NonNull @This Builder<C> withRejectionPolicy(final @NonNull RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = rejectionPolicy;
+            return this;
+        }
+
+        /**
+         * Build a function that creates a command execution coordinator
+         * using the options specified in this builder
+         *
+         * @return Function that builds the coordinator
+         */
+        public @NonNull Function<@NonNull CommandTree<C>, @NonNull CommandExecutionCoordinator<C>> build() {
+            final Executor executor = this.executor;
+            final Function<? super C, ?> senderKey = this.senderKey;
+            final int maxSenderQueueSize = this.maxSenderQueueSize;
+            final int maxQueuedCommands = this.maxQueuedCommands;
+            final RejectionPolicy rejectionPolicy = this.rejectionPolicy;
+            return tree -> new OrderedCommandExecutionCoordinator<>(
+                    tree,
+                    executor,
+                    senderKey,
+                    maxSenderQueueSize,
+                    maxQueuedCommands,
+                    rejectionPolicy
+            );
+        }
+    }
+}
@@ -0,0 +1,95 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.execution;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.arguments.CommandArgument;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A command together with the values of its arguments, which have already been parsed. This is used by platforms that
+ * parse the input themselves, such as Brigadier platforms, to execute a command without parsing the input again.
+ * <p>
+ * The values must be exactly the values that the argument parsers would have produced. Literals do not need to be
+ * included.
+ *
+ * @param <C> Command sender type
+ * @since 1.9.0
+ * @see cloud.commandframework.CommandManager#executeCommand(Object, String, ParsedCommand)
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public final class ParsedCommand<C> {
+
+    private final Command<C> command;
+    private final Map<CommandArgument<C, ?>, Object> values;
+
+    private ParsedCommand(
+            final @NonNull Command<C> command,
+            final @NonNull Map<@NonNull CommandArgument<C, ?>, @NonNull Object> values
+    ) {
+        this.command = command;
+        this.values = values;
+    }
+
+    /**
+     * Create a new parsed command
+     *
+     * @param command Command that was parsed
+     * @param values  Parsed values, by the arguments of the command tree nodes that they were parsed for
+     * @param <C>     Command sender type
+     * @return Parsed command
+     */
+    public static <C> @NonNull ParsedCommand<C> of(
+            final @NonNull Command<C> command,
+            final @NonNull Map<@NonNull CommandArgument<C, ?>, @NonNull ?> values
+    ) {
+        return new ParsedCommand<>(
+                Objects.requireNonNull(command, "command"),
+                Collections.unmodifiableMap(new LinkedHashMap<>(values))
+        );
+    }
+
+    /**
+     * Get the command that was parsed
+     *
+     * @return Command
+     */
+    public @NonNull Command<C> command() {
+        return this.command;
+    }
+
+    /**
+     * Get the parsed values, by the arguments that they were parsed for
+     *
+     * @return Unmodifiable view of the values
+     */
+    public @NonNull Map<@NonNull CommandArgument<C, ?>, @NonNull Object> values() {
+        return this.values;
+    }
+}
@@ -24,10 +24,13 @@
 package cloud.commandframework.execution.preprocessor;
 
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
 import java.util.LinkedList;
 import java.util.Objects;
+import java.util.Queue;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Context for {@link CommandPreprocessor command preprocessors}
@@ -38,7 +41,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 public final class CommandPreprocessingContext<C> {
 
     private final CommandContext<C> commandContext;
-    private final LinkedList<String> inputQueue;
+    private final @Nullable CommandInput commandInput;
+    private @Nullable LinkedList<String> inputQueue;
 
     /**
      * Construct a new command preprocessing context
@@ -51,9 +55,27 @@ public final class CommandPreprocessingContext<C> {
             final @NonNull LinkedList<@NonNull String> inputQueue
     ) {
         this.commandContext = commandContext;
+        this.commandInput = null;
         this.inputQueue = inputQueue;
     }
 
+    /**
+     * Construct a new command preprocessing context. The {@link #getInputQueue() input queue} is only
+     * created from the command input if it is requested
+     *
+     * @param commandContext Command context
+     * @param commandInput   Command input as supplied by sender
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public CommandPreprocessingContext(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        this.commandContext = commandContext;
+        this.commandInput = commandInput;
+    }
+
     /**
      * Get the command context
      *
@@ -70,9 +92,28 @@ public final class CommandPreprocessingContext<C> {
      * @return Input queue
      */
     public @NonNull LinkedList<@NonNull String> getInputQueue() {
+        if (this.inputQueue == null) {
+            this.inputQueue = new LinkedList<>(Objects.requireNonNull(this.commandInput));
+        }
         return this.inputQueue;
     }
 
+    /**
+     * Get the input that should be parsed once the context has been preprocessed. This is the command input
+     * the context was created with, unless the {@link #getInputQueue() input queue} has been requested, in which
+     * case changes to the queue are respected by returning the queue instead
+     *
+     * @return Input to parse
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, since = "1.9.0")
+    public @NonNull Queue<@NonNull String> getParsingInput() {
+        if (this.inputQueue != null) {
+            return this.inputQueue;
+        }
+        return Objects.requireNonNull(this.commandInput);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
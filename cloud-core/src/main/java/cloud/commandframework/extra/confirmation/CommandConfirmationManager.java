@@ -30,12 +30,16 @@ import cloud.commandframework.execution.postprocessor.CommandPostprocessor;
 import cloud.commandframework.meta.CommandMeta;
 import cloud.commandframework.meta.SimpleCommandMeta;
 import cloud.commandframework.services.types.ConsumerService;
-import cloud.commandframework.types.tuples.Pair;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -83,9 +87,13 @@ public class CommandConfirmationManager<C> {
 
     private final Consumer<CommandPostprocessingContext<C>> notifier;
     private final Consumer<C> errorNotifier;
-    private final Map<C, Pair<CommandPostprocessingContext<C>, Long>> pendingCommands;
+    private final Map<C, PendingCommand<C>> pendingCommands = new ConcurrentHashMap<>();
+    /* Pending commands in the order in which they expire, as every command is given the same timeout */
+    private final Queue<PendingCommand<C>> expirationQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean sweepScheduled = new AtomicBoolean();
 
-    private final long timeoutMillis;
+    private final long timeoutNanos;
+    private final int maximumPending;
 
     /**
      * Create a new confirmation manager instance
@@ -101,15 +109,35 @@ public class CommandConfirmationManager<C> {
             final @NonNull Consumer<@NonNull CommandPostprocessingContext<C>> notifier,
             final @NonNull Consumer<@NonNull C> errorNotifier
     ) {
+        this(timeout, timeoutTimeUnit, notifier, errorNotifier, MAXIMUM_PENDING_SIZE);
+    }
+
+    /**
+     * Create a new confirmation manager instance
+     *
+     * @param timeout         Timeout value
+     * @param timeoutTimeUnit Timeout time unit
+     * @param notifier        Notifier that gets called when a command gets added to the queue
+     * @param errorNotifier   Notifier that gets called when someone tries to confirm a command with nothing in the queue
+     * @param maximumPending  Maximum number of pending commands. Once the limit is reached, the commands that
+     *                        are closest to expiring are removed first
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public CommandConfirmationManager(
+            final long timeout,
+            final @NonNull TimeUnit timeoutTimeUnit,
+            final @NonNull Consumer<@NonNull CommandPostprocessingContext<C>> notifier,
+            final @NonNull Consumer<@NonNull C> errorNotifier,
+            final int maximumPending
+    ) {
+        if (maximumPending < 1) {
+            throw new IllegalArgumentException("The maximum number of pending commands must be positive");
+        }
         this.notifier = notifier;
         this.errorNotifier = errorNotifier;
-        this.pendingCommands = new LinkedHashMap<C, Pair<CommandPostprocessingContext<C>, Long>>() {
-            @Override
-            protected boolean removeEldestEntry(final Map.Entry<C, Pair<CommandPostprocessingContext<C>, Long>> eldest) {
-                return this.size() > MAXIMUM_PENDING_SIZE;
-            }
-        };
-        this.timeoutMillis = timeoutTimeUnit.toMillis(timeout);
+        this.timeoutNanos = timeoutTimeUnit.toNanos(timeout);
+        this.maximumPending = maximumPending;
     }
 
     private void notifyConsumer(final @NonNull CommandPostprocessingContext<C> context) {
@@ -117,7 +145,19 @@ public class CommandConfirmationManager<C> {
     }
 
     private void addPending(final @NonNull CommandPostprocessingContext<C> context) {
-        this.pendingCommands.put(context.getCommandContext().getSender(), Pair.of(context, System.currentTimeMillis()));
+        final C sender = context.getCommandContext().getSender();
+        final PendingCommand<C> pendingCommand = new PendingCommand<>(sender, context, System.nanoTime() + this.timeoutNanos);
+        this.pendingCommands.put(sender, pendingCommand);
+        this.expirationQueue.offer(pendingCommand);
+        /* Make room by removing the commands that are closest to expiring */
+        while (this.pendingCommands.size() > this.maximumPending) {
+            final PendingCommand<C> eldest = this.expirationQueue.poll();
+            if (eldest == null) {
+                break;
+            }
+            this.pendingCommands.remove(eldest.sender, eldest);
+        }
+        this.scheduleSweep();
     }
 
     /**
@@ -127,15 +167,48 @@ public class CommandConfirmationManager<C> {
      * @return Optional containing the post processing context if one has been stored, else {@link Optional#empty()}
      */
     public @NonNull Optional<CommandPostprocessingContext<C>> getPending(final @NonNull C sender) {
-        final Pair<CommandPostprocessingContext<C>, Long> pair = this.pendingCommands.remove(sender);
-        if (pair != null) {
-            if (System.currentTimeMillis() < pair.getSecond() + this.timeoutMillis) {
-                return Optional.of(pair.getFirst());
-            }
+        final PendingCommand<C> pendingCommand = this.pendingCommands.remove(sender);
+        if (pendingCommand != null && !pendingCommand.isExpired(System.nanoTime())) {
+            return Optional.of(pendingCommand.context);
         }
         return Optional.empty();
     }
 
+    /**
+     * Get the number of pending commands, including commands that have expired but have not been removed yet
+     *
+     * @return Number of pending commands
+     */
+    int pendingCount() {
+        return this.pendingCommands.size();
+    }
+
+    /**
+     * Schedule a sweep for when the next pending command expires, unless one has been scheduled already
+     */
+    private void scheduleSweep() {
+        final PendingCommand<C> next = this.expirationQueue.peek();
+        if (next == null || !this.sweepScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        Sweeper.EXECUTOR.schedule(this::sweep, Math.max(0L, next.expiresAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Remove all expired pending commands
+     */
+    private void sweep() {
+        final long now = System.nanoTime();
+        PendingCommand<C> next;
+        while ((next = this.expirationQueue.peek()) != null && next.isExpired(now)) {
+            if (this.expirationQueue.remove(next)) {
+                this.pendingCommands.remove(next.sender, next);
+            }
+        }
+        this.sweepScheduled.set(false);
+        this.scheduleSweep();
+    }
+
     /**
      * Decorate a simple command meta builder, to require confirmation for a command
      *
@@ -192,4 +265,42 @@ public class CommandConfirmationManager<C> {
             ConsumerService.interrupt();
         }
     }
+
+
+    private static final class PendingCommand<C> {
+
+        private final C sender;
+        private final CommandPostprocessingContext<C> context;
+        private final long expiresAt;
+
+        private PendingCommand(
+                final @NonNull C sender,
+                final @NonNull CommandPostprocessingContext<C> context,
+                final long expiresAt
+        ) {
+            this.sender = sender;
+            this.context = context;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(final long now) {
+            return now - this.expiresAt >= 0;
+        }
+    }
+
+
+    /**
+     * Holder of the executor shared by all confirmation managers to remove expired commands
+     */
+    private static final class Sweeper {
+
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "cloud-confirmation-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private Sweeper() {
+        }
+    }
 }
@@ -23,8 +23,8 @@
 //
 package cloud.commandframework.internal;
 
+import cloud.commandframework.context.CommandInput;
 import java.util.LinkedList;
-import java.util.StringTokenizer;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -32,14 +32,12 @@ import org.checkerframework.checker.nullness.qual.NonNull;
  * Tokenizer that splits command inputs into tokens. This will split the string
  * at every blank space. If the input string ends with a blank space, a trailing
  * empty string will be added to the token list
+ *
+ * @see CommandInput
  */
 @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*")
 public final class CommandInputTokenizer {
 
-    private static final String DELIMITER = " ";
-    private static final String EMPTY = "";
-
-    private final StringTokenizerFactory stringTokenizerFactory = new StringTokenizerFactory();
     private final String input;
 
     /**
@@ -57,25 +55,6 @@ public final class CommandInputTokenizer {
      * @return Linked list containing the tokenized input
      */
     public @NonNull LinkedList<@NonNull String> tokenize() {
-        final StringTokenizer stringTokenizer = this.stringTokenizerFactory.createStringTokenizer();
-        final LinkedList<String> tokens = new LinkedList<>();
-        while (stringTokenizer.hasMoreElements()) {
-            tokens.add(stringTokenizer.nextToken());
-        }
-        if (this.input.endsWith(DELIMITER)) {
-            tokens.add(EMPTY);
-        }
-        return tokens;
-    }
-
-
-    /**
-     * Factory class that creates {@link StringTokenizer} instances
-     */
-    private final class StringTokenizerFactory {
-
-        private @NonNull StringTokenizer createStringTokenizer() {
-            return new StringTokenizer(CommandInputTokenizer.this.input, DELIMITER);
-        }
+        return new LinkedList<>(CommandInput.of(this.input));
     }
 }
@@ -0,0 +1,145 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.services.State;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Listener that is notified of the time spent in each stage of the command pipeline. The listener is registered
+ * using {@link CommandManager#metricsListener(CommandMetricsListener)}. When no listener is registered, the
+ * stages are not timed at all.
+ * <p>
+ * The listener is invoked on the thread that completed the stage, and must therefore be thread safe. All durations
+ * are measured using {@link System#nanoTime()}.
+ *
+ * @param <C> Command sender type
+ * @see InMemoryCommandMetrics
+ * @since 1.9.0
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public interface CommandMetricsListener<C> {
+
+    /**
+     * Called when the input of a suggestion request has been split into tokens. Command execution reads its input
+     * through a cursor over the original input, and does not tokenize it up front
+     *
+     * @param context       Command context
+     * @param durationNanos Time spent tokenizing the input, in nanoseconds
+     */
+    default void inputTokenized(
+            final @NonNull CommandContext<C> context,
+            final long durationNanos
+    ) {
+    }
+
+    /**
+     * Called when the command preprocessors have processed the context
+     *
+     * @param context       Command context
+     * @param state         Whether the preprocessors accepted the context
+     * @param durationNanos Time spent in the preprocessors, in nanoseconds
+     */
+    default void contextPreprocessed(
+            final @NonNull CommandContext<C> context,
+            final @NonNull State state,
+            final long durationNanos
+    ) {
+    }
+
+    /**
+     * Called when the command tree has attempted to parse an argument
+     *
+     * @param context       Command context
+     * @param argument      Argument that was parsed
+     * @param success       Whether the argument was parsed successfully
+     * @param durationNanos Time spent parsing the argument, in nanoseconds
+     */
+    default void argumentParsed(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandArgument<C, ?> argument,
+            final boolean success,
+            final long durationNanos
+    ) {
+    }
+
+    /**
+     * Called when the command postprocessors have processed the context
+     *
+     * @param context       Command context
+     * @param command       Command that is about to be executed
+     * @param state         Whether the postprocessors accepted the context
+     * @param durationNanos Time spent in the postprocessors, in nanoseconds
+     */
+    default void contextPostprocessed(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Command<C> command,
+            final @NonNull State state,
+            final long durationNanos
+    ) {
+    }
+
+    /**
+     * Called when the execution handler of a command has completed
+     *
+     * @param context       Command context
+     * @param command       Command that was executed
+     * @param success       Whether the execution handler completed without throwing an exception
+     * @param durationNanos Time spent executing the command, in nanoseconds
+     */
+    default void commandExecuted(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Command<C> command,
+            final boolean success,
+            final long durationNanos
+    ) {
+    }
+
+    /**
+     * Called when suggestions have been created for an input
+     *
+     * @param context       Command context
+     * @param durationNanos Time spent creating the suggestions, in nanoseconds
+     */
+    default void suggestionsCreated(
+            final @NonNull CommandContext<C> context,
+            final long durationNanos
+    ) {
+    }
+
+    /**
+     * Called when a command has been removed from the command tree using
+     * {@link CommandManager#deleteRootCommand(String)}. Listeners that aggregate metrics per command should
+     * release the command here, so that deleted commands are not retained
+     *
+     * @param command Command that was deleted
+     */
+    default void commandDeleted(final @NonNull Command<C> command) {
+    }
+}
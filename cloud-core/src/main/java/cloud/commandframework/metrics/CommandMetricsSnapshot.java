@@ -0,0 +1,116 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.Command;
+import java.util.Map;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Snapshot of the metrics recorded by {@link InMemoryCommandMetrics}
+ *
+ * @param <C> Command sender type
+ * @since 1.9.0
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public final class CommandMetricsSnapshot<C> {
+
+    private final LatencyHistogram.Snapshot tokenization;
+    private final LatencyHistogram.Snapshot preprocessing;
+    private final LatencyHistogram.Snapshot postprocessing;
+    private final LatencyHistogram.Snapshot suggestions;
+    private final Map<Command<C>, LatencyHistogram.Snapshot> executions;
+    private final Map<Class<?>, LatencyHistogram.Snapshot> parsers;
+
+    CommandMetricsSnapshot(
+            final LatencyHistogram.@NonNull Snapshot tokenization,
+            final LatencyHistogram.@NonNull Snapshot preprocessing,
+            final LatencyHistogram.@NonNull Snapshot postprocessing,
+            final LatencyHistogram.@NonNull Snapshot suggestions,
+            final @NonNull Map<Command<C>, LatencyHistogram.Snapshot> executions,
+            final @NonNull Map<Class<?>, LatencyHistogram.Snapshot> parsers
+    ) {
+        this.tokenization = tokenization;
+        this.preprocessing = preprocessing;
+        this.postprocessing = postprocessing;
+        this.suggestions = suggestions;
+        this.executions = executions;
+        this.parsers = parsers;
+    }
+
+    /**
+     * Get the time spent tokenizing the input of suggestion requests
+     *
+     * @return Tokenization latencies
+     */
+    public LatencyHistogram.@NonNull Snapshot tokenization() {
+        return this.tokenization;
+    }
+
+    /**
+     * Get the time spent in the command preprocessors
+     *
+     * @return Preprocessing latencies
+     */
+    public LatencyHistogram.@NonNull Snapshot preprocessing() {
+        return this.preprocessing;
+    }
+
+    /**
+     * Get the time spent in the command postprocessors
+     *
+     * @return Postprocessing latencies
+     */
+    public LatencyHistogram.@NonNull Snapshot postprocessing() {
+        return this.postprocessing;
+    }
+
+    /**
+     * Get the time spent creating suggestions
+     *
+     * @return Suggestion latencies
+     */
+    public LatencyHistogram.@NonNull Snapshot suggestions() {
+        return this.suggestions;
+    }
+
+    /**
+     * Get the time spent executing commands, per executed command
+     *
+     * @return Unmodifiable map of execution latencies
+     */
+    public @NonNull Map<@NonNull Command<C>, LatencyHistogram.@NonNull Snapshot> executions() {
+        return this.executions;
+    }
+
+    /**
+     * Get the time spent parsing arguments, per argument parser type
+     *
+     * @return Unmodifiable map of parsing latencies
+     */
+    public @NonNull Map<@NonNull Class<?>, LatencyHistogram.@NonNull Snapshot> parsers() {
+        return this.parsers;
+    }
+}
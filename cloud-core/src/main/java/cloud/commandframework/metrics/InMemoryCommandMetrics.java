@@ -0,0 +1,153 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.services.State;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * {@link CommandMetricsListener} that aggregates the durations of the command pipeline stages in
+ * {@link LatencyHistogram latency histograms}. Command executions are aggregated per command, and argument
+ * parsing is aggregated per argument parser type. The histogram of a command is discarded when the command is
+ * deleted from the command manager.
+ * <p>
+ * The metrics are recorded without locking, and can be exported at any time using {@link #snapshot()}.
+ *
+ * @param <C> Command sender type
+ * @since 1.9.0
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public final class InMemoryCommandMetrics<C> implements CommandMetricsListener<C> {
+
+    private final LatencyHistogram tokenization = new LatencyHistogram();
+    private final LatencyHistogram preprocessing = new LatencyHistogram();
+    private final LatencyHistogram postprocessing = new LatencyHistogram();
+    private final LatencyHistogram suggestions = new LatencyHistogram();
+    private final Map<Command<C>, LatencyHistogram> executions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LatencyHistogram> parsers = new ConcurrentHashMap<>();
+
+    @Override
+    public void inputTokenized(
+            final @NonNull CommandContext<C> context,
+            final long durationNanos
+    ) {
+        this.tokenization.record(durationNanos);
+    }
+
+    @Override
+    public void contextPreprocessed(
+            final @NonNull CommandContext<C> context,
+            final @NonNull State state,
+            final long durationNanos
+    ) {
+        this.preprocessing.record(durationNanos);
+    }
+
+    @Override
+    public void argumentParsed(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandArgument<C, ?> argument,
+            final boolean success,
+            final long durationNanos
+    ) {
+        histogram(this.parsers, argument.getParser().getClass()).record(durationNanos);
+    }
+
+    @Override
+    public void contextPostprocessed(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Command<C> command,
+            final @NonNull State state,
+            final long durationNanos
+    ) {
+        this.postprocessing.record(durationNanos);
+    }
+
+    @Override
+    public void commandExecuted(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Command<C> command,
+            final boolean success,
+            final long durationNanos
+    ) {
+        histogram(this.executions, command).record(durationNanos);
+    }
+
+    @Override
+    public void commandDeleted(final @NonNull Command<C> command) {
+        this.executions.remove(command);
+    }
+
+    @Override
+    public void suggestionsCreated(
+            final @NonNull CommandContext<C> context,
+            final long durationNanos
+    ) {
+        this.suggestions.record(durationNanos);
+    }
+
+    /**
+     * Create a snapshot of the metrics that have been recorded so far
+     *
+     * @return Metrics snapshot
+     */
+    public @NonNull CommandMetricsSnapshot<C> snapshot() {
+        return new CommandMetricsSnapshot<>(
+                this.tokenization.snapshot(),
+                this.preprocessing.snapshot(),
+                this.postprocessing.snapshot(),
+                this.suggestions.snapshot(),
+                snapshots(this.executions),
+                snapshots(this.parsers)
+        );
+    }
+
+    private static <K> @NonNull LatencyHistogram histogram(
+            final @NonNull Map<K, LatencyHistogram> histograms,
+            final @NonNull K key
+    ) {
+        /* Look up before computing, as computeIfAbsent locks the bin on Java 8 even when the key is present */
+        final LatencyHistogram histogram = histograms.get(key);
+        if (histogram != null) {
+            return histogram;
+        }
+        return histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    private static <K> @NonNull Map<K, LatencyHistogram.Snapshot> snapshots(
+            final @NonNull Map<K, LatencyHistogram> histograms
+    ) {
+        final Map<K, LatencyHistogram.Snapshot> snapshots = new HashMap<>();
+        histograms.forEach((key, histogram) -> snapshots.put(key, histogram.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+}
@@ -0,0 +1,226 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Lock-free histogram of durations in nanoseconds.
+ * <p>
+ * Values are counted in buckets whose width grows with the magnitude of the value, in the same way as
+ * <a href="https://hdrhistogram.github.io/HdrHistogram/">HdrHistogram</a>. Every power of two is split
+ * into {@value #SUB_BUCKET_COUNT} buckets, so a recorded value is reported with a relative error of at most
+ * {@code 1/}{@value #SUB_BUCKET_COUNT}. Values of {@code 2^40} nanoseconds (roughly 18 minutes) or more are
+ * counted in the highest bucket.
+ *
+ * @since 1.9.0
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final long MAX_TRACKABLE_VALUE = (1L << 40) - 1;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Record a duration
+     *
+     * @param durationNanos Duration in nanoseconds. Negative durations are recorded as {@code 0}
+     */
+    public void record(final long durationNanos) {
+        final long value = Math.max(0L, durationNanos);
+        this.counts.incrementAndGet(bucketIndex(value));
+        this.sum.add(value);
+        long currentMin = this.min.get();
+        while (value < currentMin && !this.min.compareAndSet(currentMin, value)) {
+            currentMin = this.min.get();
+        }
+        long currentMax = this.max.get();
+        while (value > currentMax && !this.max.compareAndSet(currentMax, value)) {
+            currentMax = this.max.get();
+        }
+    }
+
+    /**
+     * Create a snapshot of the recorded values. Values that are recorded while the snapshot is being created may or
+     * may not be included in it
+     *
+     * @return Snapshot
+     */
+    public @NonNull Snapshot snapshot() {
+        final long[] counts = new long[BUCKET_COUNT];
+        long count = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.counts.get(i);
+            count += counts[i];
+        }
+        return new Snapshot(counts, count, this.sum.sum(), this.min.get(), this.max.get());
+    }
+
+    static int bucketIndex(final long value) {
+        final long clampedValue = Math.min(value, MAX_TRACKABLE_VALUE);
+        if (clampedValue < 2 * SUB_BUCKET_COUNT) {
+            return (int) clampedValue;
+        }
+        /* The shift keeps the SUB_BUCKET_BITS + 1 most significant bits of the value */
+        final int shift = 63 - Long.numberOfLeadingZeros(clampedValue) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (clampedValue >>> shift);
+    }
+
+    static long highestValueInBucket(final int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        final long subBucket = index - (long) shift * SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+
+    /**
+     * Immutable snapshot of a {@link LatencyHistogram}
+     *
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+
+        private Snapshot(
+                final long @NonNull [] counts,
+                final long count,
+                final long sum,
+                final long min,
+                final long max
+        ) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Get the number of recorded values
+         *
+         * @return Number of values
+         */
+        public long count() {
+            return this.count;
+        }
+
+        /**
+         * Get the smallest recorded value
+         *
+         * @return Smallest value, or {@code 0} if no values have been recorded
+         */
+        public long min() {
+            return this.count == 0L ? 0L : this.min;
+        }
+
+        /**
+         * Get the largest recorded value
+         *
+         * @return Largest value, or {@code 0} if no values have been recorded
+         */
+        public long max() {
+            return this.count == 0L ? 0L : this.max;
+        }
+
+        /**
+         * Get the mean of the recorded values
+         *
+         * @return Mean value, or {@code 0} if no values have been recorded
+         */
+        public double mean() {
+            return this.count == 0L ? 0D : (double) this.sum / this.count;
+        }
+
+        /**
+         * Get the value that the given percentage of the recorded values are less than or equal to. The value is
+         * the highest value of the bucket that the percentile falls into, limited by the largest recorded value
+         *
+         * @param percentile Percentile, between {@code 0} and {@code 100}
+         * @return Value at the percentile, or {@code 0} if no values have been recorded
+         */
+        public long valueAtPercentile(final double percentile) {
+            if (this.count == 0L) {
+                return 0L;
+            }
+            final double clampedPercentile = Math.max(0D, Math.min(100D, percentile));
+            final long target = Math.max(1L, (long) Math.ceil(clampedPercentile / 100D * this.count));
+            long cumulativeCount = 0L;
+            for (int i = 0; i < this.counts.length; i++) {
+                cumulativeCount += this.counts[i];
+                if (cumulativeCount >= target) {
+                    return Math.min(highestValueInBucket(i), this.max());
+                }
+            }
+            return this.max();
+        }
+
+        /**
+         * Get the non-empty buckets of the histogram, mapped from the highest value that is counted in the bucket
+         * to the number of values in the bucket
+         *
+         * @return Unmodifiable sorted map of bucket counts
+         */
+        public @NonNull SortedMap<@NonNull Long, @NonNull Long> buckets() {
+            final SortedMap<Long, Long> buckets = new TreeMap<>();
+            for (int i = 0; i < this.counts.length; i++) {
+                if (this.counts[i] != 0L) {
+                    buckets.put(highestValueInBucket(i), this.counts[i]);
+                }
+            }
+            return Collections.unmodifiableSortedMap(buckets);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "Snapshot{count=%d, min=%d, max=%d, mean=%.1f, p50=%d, p99=%d}",
+                    this.count(), this.min(), this.max(), this.mean(),
+                    this.valueAtPercentile(50D), this.valueAtPercentile(99D)
+            );
+        }
+    }
+}
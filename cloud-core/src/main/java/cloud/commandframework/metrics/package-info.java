@@ -0,0 +1,4 @@
+/**
+ * Metrics of command parsing, execution and suggestions
+ */
+package cloud.commandframework.metrics;
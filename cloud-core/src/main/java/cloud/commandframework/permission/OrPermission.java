@@ -39,9 +39,11 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 public final class OrPermission implements CommandPermission {
 
     private final Set<CommandPermission> permissions;
+    private final int hashCode;
 
     OrPermission(final @NonNull Set<CommandPermission> permissions) {
         this.permissions = Collections.unmodifiableSet(permissions);
+        this.hashCode = Objects.hash(this.permissions);
     }
 
     /**
@@ -95,6 +97,6 @@ public final class OrPermission implements CommandPermission {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.getPermissions());
+        return this.hashCode;
     }
 }
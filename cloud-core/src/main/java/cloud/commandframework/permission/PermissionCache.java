@@ -0,0 +1,167 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.permission;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Cache of the results of string permission checks, per sender. The results of a sender expire together, a fixed
+ * time after the first result was cached.
+ * <p>
+ * The cache is used by {@link cloud.commandframework.CommandManager#hasPermission(Object, CommandPermission)} once it
+ * has been set using {@link cloud.commandframework.CommandManager#permissionCache(PermissionCache)}. Platforms, or
+ * plugins that manage permissions, should {@link #invalidate(Object) invalidate} the results of a sender when its
+ * permissions change.
+ *
+ * @param <C> Command sender type
+ * @since 1.9.0
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public final class PermissionCache<C> {
+
+    /**
+     * Number of sender entries that are created between sweeps of expired entries
+     */
+    private static final int SWEEP_INTERVAL = 256;
+
+    private final long expireAfterNanos;
+    private final Function<? super C, ?> senderKey;
+    private final LongSupplier clock;
+    private final Map<Object, SenderPermissions> senders = new ConcurrentHashMap<>();
+    private final AtomicInteger createdEntries = new AtomicInteger();
+
+    PermissionCache(
+            final @NonNull Duration expireAfter,
+            final @NonNull Function<? super C, ?> senderKey,
+            final @NonNull LongSupplier clock
+    ) {
+        if (expireAfter.isNegative() || expireAfter.isZero()) {
+            throw new IllegalArgumentException("The expiration time must be positive");
+        }
+        this.expireAfterNanos = expireAfter.toNanos();
+        this.senderKey = Objects.requireNonNull(senderKey, "senderKey");
+        this.clock = clock;
+    }
+
+    /**
+     * Create a new permission cache that identifies senders by themselves
+     *
+     * @param expireAfter Time after which the cached results of a sender expire
+     * @param <C>         Command sender type
+     * @return Created cache
+     */
+    public static <C> @NonNull PermissionCache<C> create(final @NonNull Duration expireAfter) {
+        return create(expireAfter, Function.identity());
+    }
+
+    /**
+     * Create a new permission cache
+     *
+     * @param expireAfter Time after which the cached results of a sender expire
+     * @param senderKey   Function that maps a sender to the key that its results are cached by. This should be used
+     *                    when the platform creates a new sender object for every command
+     * @param <C>         Command sender type
+     * @return Created cache
+     */
+    public static <C> @NonNull PermissionCache<C> create(
+            final @NonNull Duration expireAfter,
+            final @NonNull Function<? super C, ?> senderKey
+    ) {
+        return new PermissionCache<>(expireAfter, senderKey, System::nanoTime);
+    }
+
+    /**
+     * Check whether the sender has a permission, using the cached result if there is one that has not expired
+     *
+     * @param sender     Command sender
+     * @param permission Permission string
+     * @param lookup     Permission check that is used when there is no cached result
+     * @return {@code true} if the sender has the permission
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*")
+    public boolean hasPermission(
+            final @NonNull C sender,
+            final @NonNull String permission,
+            final @NonNull BiPredicate<@NonNull C, @NonNull String> lookup
+    ) {
+        final Object key = this.senderKey.apply(sender);
+        final long now = this.clock.getAsLong();
+        SenderPermissions permissions = this.senders.get(key);
+        if (permissions == null || permissions.expired(now)) {
+            final SenderPermissions created = new SenderPermissions(now + this.expireAfterNanos);
+            permissions = this.senders.compute(key, (k, existing) ->
+                    existing == null || existing.expired(now) ? created : existing);
+            if (permissions == created && this.createdEntries.incrementAndGet() % SWEEP_INTERVAL == 0) {
+                this.senders.values().removeIf(entry -> entry.expired(now));
+            }
+        }
+        final Boolean cached = permissions.results.get(permission);
+        if (cached != null) {
+            return cached;
+        }
+        final boolean result = lookup.test(sender, permission);
+        permissions.results.put(permission, result);
+        return result;
+    }
+
+    /**
+     * Remove the cached results of a sender
+     *
+     * @param sender Command sender
+     */
+    public void invalidate(final @NonNull C sender) {
+        this.senders.remove(this.senderKey.apply(sender));
+    }
+
+    /**
+     * Remove the cached results of all senders
+     */
+    public void invalidateAll() {
+        this.senders.clear();
+    }
+
+
+    private static final class SenderPermissions {
+
+        private final long expiresAt;
+        private final Map<String, Boolean> results = new ConcurrentHashMap<>();
+
+        private SenderPermissions(final long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean expired(final long now) {
+            return now - this.expiresAt >= 0;
+        }
+    }
+}
@@ -30,6 +30,7 @@ import cloud.commandframework.execution.CommandExecutionHandler;
 import cloud.commandframework.internal.CommandRegistrationHandler;
 import cloud.commandframework.meta.CommandMeta;
 import cloud.commandframework.meta.SimpleCommandMeta;
+import cloud.commandframework.metrics.InMemoryCommandMetrics;
 import java.util.concurrent.CompletionException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.BeforeEach;
@@ -171,4 +172,22 @@ class CommandDeletionTest {
         assertThat(this.commandManager.suggest(new TestCommandSender(), "")).contains("test");
         assertThat(this.commandManager.commandTree().getRootNodes()).hasSize(1);
     }
+
+    @Test
+    void deleteCommandDiscardsExecutionMetrics() {
+        // Arrange
+        final Command<TestCommandSender> command = this.commandManager.commandBuilder("test").build();
+        this.commandManager.command(command);
+        final InMemoryCommandMetrics<TestCommandSender> metrics = new InMemoryCommandMetrics<>();
+        this.commandManager.metricsListener(metrics);
+        this.commandManager.executeCommand(new TestCommandSender(), "test").join();
+        // Pre-assert.
+        assertThat(metrics.snapshot().executions()).containsKey(command);
+
+        // Act
+        this.commandManager.deleteRootCommand("test");
+
+        // Assert
+        assertThat(metrics.snapshot().executions()).doesNotContainKey(command);
+    }
 }
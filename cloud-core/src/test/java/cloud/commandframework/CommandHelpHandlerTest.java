@@ -27,6 +27,8 @@ import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.arguments.standard.IntegerArgument;
 import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.internal.CommandRegistrationHandler;
 import cloud.commandframework.meta.CommandMeta;
 import cloud.commandframework.meta.SimpleCommandMeta;
 import cloud.commandframework.types.tuples.Pair;
@@ -36,6 +38,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -104,6 +107,54 @@ class CommandHelpHandlerTest {
         this.printTopic("vec", query4);
     }
 
+    @Test
+    void testIndexFollowsInsertedAndDeletedCommands() {
+        final CommandManager<TestCommandSender> manager = new CommandManager<TestCommandSender>(
+                CommandExecutionCoordinator.simpleCoordinator(),
+                CommandRegistrationHandler.nullCommandRegistrationHandler()
+        ) {
+            {
+                this.registerCapability(CloudCapability.StandardCapabilities.ROOT_COMMAND_DELETION);
+            }
+
+            @Override
+            public boolean hasPermission(final @NonNull TestCommandSender sender, final @NonNull String permission) {
+                return !permission.equals("hidden");
+            }
+
+            @Override
+            public @NonNull CommandMeta createDefaultCommandMeta() {
+                return SimpleCommandMeta.empty();
+            }
+        };
+        manager.command(manager.commandBuilder("alpha", "first"));
+        final CommandHelpHandler<TestCommandSender> helpHandler = manager.createCommandHelpHandler();
+        Assertions.assertEquals(Collections.singletonList("alpha"), syntaxStrings(helpHandler.queryHelp("")));
+
+        manager.command(manager.commandBuilder("beta").literal("one"));
+        manager.command(manager.commandBuilder("also").permission("hidden"));
+        Assertions.assertEquals(Arrays.asList("alpha", "also", "beta one"), syntaxStrings(helpHandler.queryHelp("")));
+        Assertions.assertEquals(
+                Arrays.asList("alpha", "beta one"),
+                syntaxStrings(helpHandler.queryHelp(new TestCommandSender(), ""))
+        );
+        Assertions.assertEquals(
+                Collections.singletonList("alpha"),
+                syntaxStrings(helpHandler.queryHelp(new TestCommandSender(), "al"))
+        );
+        Assertions.assertEquals(Collections.singletonList("alpha"), syntaxStrings(helpHandler.queryHelp("FI")));
+
+        manager.deleteRootCommand("alpha");
+        Assertions.assertEquals(Arrays.asList("also", "beta one"), syntaxStrings(helpHandler.queryHelp("")));
+        Assertions.assertTrue(((CommandHelpHandler.IndexHelpTopic<TestCommandSender>) helpHandler.queryHelp("first")).isEmpty());
+    }
+
+    private static List<String> syntaxStrings(final CommandHelpHandler.HelpTopic<TestCommandSender> helpTopic) {
+        return ((CommandHelpHandler.IndexHelpTopic<TestCommandSender>) helpTopic).getEntries().stream()
+                .map(CommandHelpHandler.VerboseHelpEntry::getSyntaxString)
+                .collect(Collectors.toList());
+    }
+
     @Test
     void testPredicateFilter() {
         /*
@@ -32,6 +32,7 @@ import cloud.commandframework.internal.CommandRegistrationHandler;
 import cloud.commandframework.meta.CommandMeta;
 import cloud.commandframework.meta.SimpleCommandMeta;
 import io.leangen.geantyref.TypeToken;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -135,6 +136,32 @@ class CommandManagerTest {
         assertThat(contextC2.getRawInputJoined()).isEqualTo("test c 123");
     }
 
+    @Test
+    void testBulkRegistration() {
+        // Arrange
+        final CommandExecutionHandler<TestCommandSender> handler = mock(CommandExecutionHandler.class);
+        when(handler.executeFuture(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        final Command<TestCommandSender> commandA = this.commandManager.commandBuilder("test")
+                .literal("a")
+                .handler(handler)
+                .build();
+        final Command<TestCommandSender> commandB = this.commandManager.commandBuilder("test")
+                .literal("b")
+                .argument(IntegerArgument.of("int"))
+                .handler(handler)
+                .build();
+
+        // Act
+        this.commandManager.commands(Arrays.asList(commandA, commandB));
+        this.commandManager.executeCommand(new TestCommandSender(), "test a").join();
+        this.commandManager.executeCommand(new TestCommandSender(), "test b 5").join();
+
+        // Assert
+        verify(handler, times(2)).executeFuture(any());
+        assertThat(this.commandManager.commands()).containsExactly(commandA, commandB);
+    }
+
     @Test
     void testCommandBuilder() {
         // Create and register a command
@@ -44,6 +44,7 @@ final class CommandPerformanceTest {
     @BeforeAll
     static void setup() {
         manager = createManager();
+        manager.setSetting(CommandManager.ManagerSettings.ARGUMENT_TIMINGS, true);
 
         final StringBuilder literalBuilder = new StringBuilder("literals");
 
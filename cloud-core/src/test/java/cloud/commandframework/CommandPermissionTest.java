@@ -32,7 +32,9 @@ import cloud.commandframework.permission.AndPermission;
 import cloud.commandframework.permission.CommandPermission;
 import cloud.commandframework.permission.OrPermission;
 import cloud.commandframework.permission.Permission;
+import cloud.commandframework.permission.PermissionCache;
 import cloud.commandframework.permission.PredicatePermission;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -146,6 +148,35 @@ class CommandPermissionTest {
     }
 
 
+    @Test
+    void testPropagatedPermissionsAreFlattened() {
+        final CommandManager<TestCommandSender> manager = new PermissionOutputtingCommandManager();
+        for (int i = 0; i < 10; i++) {
+            manager.command(manager.commandBuilder("flat").literal("a" + i).permission("flat.one"));
+            manager.command(manager.commandBuilder("flat").literal("b" + i).permission("flat.two"));
+        }
+        final CommandPermission permission = (CommandPermission) manager.commandTree().getNamedNode("flat")
+                .getNodeMeta().get("permission");
+
+        assertThat(permission.getPermissions()).containsExactly(Permission.of("flat.one"), Permission.of("flat.two"));
+    }
+
+    @Test
+    void testPermissionCache() {
+        final CommandManager<TestCommandSender> manager = new PermissionOutputtingCommandManager();
+        manager.permissionCache(PermissionCache.create(Duration.ofMinutes(1L)));
+        manager.command(manager.commandBuilder("cached").permission("cached.permission"));
+        final TestCommandSender sender = new TestCommandSender();
+
+        assertThat(manager.suggest(sender, "c")).isEmpty();
+
+        sender.addPermission("cached.permission");
+        assertThat(manager.suggest(sender, "c")).isEmpty();
+
+        manager.invalidatePermissionCache(sender);
+        assertThat(manager.suggest(sender, "c")).containsExactly("cached");
+    }
+
     private static final class PermissionOutputtingCommandManager extends CommandManager<TestCommandSender> {
 
         private PermissionOutputtingCommandManager() {
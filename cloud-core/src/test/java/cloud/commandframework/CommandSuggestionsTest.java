@@ -635,6 +635,30 @@ public class CommandSuggestionsTest {
         assertThat(suggestions6).isEmpty();
     }
 
+    @Test
+    void testManyFlagsOmitsParsedFlags() {
+        // Arrange
+        final CommandManager<TestCommandSender> manager = createManager();
+        Command.Builder<TestCommandSender> builder = manager.commandBuilder("many")
+                .flag(manager.flagBuilder("value").withArgument(StringArgument.of("value")));
+        for (char alias = 'a'; alias <= 'z'; alias++) {
+            builder = builder.flag(manager.flagBuilder("flag" + alias).withAliases(String.valueOf(alias)));
+        }
+        manager.command(builder);
+
+        // Act
+        final List<String> suggestions = suggest(manager, "many -abc --FLAGD --value -e ");
+
+        // Assert
+        assertThat(suggestions).doesNotContain("--flaga");
+        assertThat(suggestions).doesNotContain("--flagd");
+        assertThat(suggestions).doesNotContain("--value");
+        assertThat(suggestions).doesNotContain("-c");
+        assertThat(suggestions).contains("--flage");
+        assertThat(suggestions).contains("-e");
+        assertThat(suggestions).hasSize(2 * 22);
+    }
+
     private List<String> suggest(CommandManager<TestCommandSender> manager, String command) {
         return manager.suggest(new TestCommandSender(), command);
     }
@@ -25,10 +25,12 @@ package cloud.commandframework;
 
 import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.meta.CommandMeta;
 import cloud.commandframework.meta.SimpleCommandMeta;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import static cloud.commandframework.util.TestUtils.createManager;
 import static com.google.common.truth.Truth.assertThat;
 
 class CommandTest {
@@ -53,4 +55,40 @@ class CommandTest {
                         .build()
         );
     }
+
+    @Test
+    void mutableBuilderAppendsInPlace() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        final Command.Builder<TestCommandSender> builder = Command.<TestCommandSender>newBuilder(
+                "test",
+                SimpleCommandMeta.empty()
+        ).toMutable();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(builder.literal("literal" + i)).isSameInstanceAs(builder);
+        }
+        assertThat(builder.meta(CommandMeta.HIDDEN, true)).isSameInstanceAs(builder);
+        assertThat(builder.flag(manager.flagBuilder("flag"))).isSameInstanceAs(builder);
+        final Command<TestCommandSender> command = builder.build();
+
+        assertThat(command.getArguments()).hasSize(102);
+        assertThat(command.isHidden()).isTrue();
+        assertThat(command.flagArgument()).isNotNull();
+    }
+
+    @Test
+    void mutableBuilderDoesNotAffectBuiltCommand() {
+        final CommandManager<TestCommandSender> manager = createManager();
+        final Command.Builder<TestCommandSender> immutable = Command.newBuilder("test", SimpleCommandMeta.empty());
+        final Command.Builder<TestCommandSender> builder = immutable.toMutable().flag(manager.flagBuilder("first"));
+        final Command<TestCommandSender> command = builder.build();
+
+        builder.literal("literal").flag(manager.flagBuilder("second"));
+
+        assertThat(command.getArguments()).hasSize(2);
+        assertThat(command.flagArgument().getFlags()).hasSize(1);
+        assertThat(builder.toImmutable().build().getArguments()).hasSize(3);
+        assertThat(immutable.build().getArguments()).hasSize(1);
+        assertThat(immutable.isMutable()).isFalse();
+    }
 }
@@ -0,0 +1,183 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.exceptions.CommandParseException;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.internal.CommandRegistrationHandler;
+import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class CommandTreeConcurrencyTest {
+
+    private static final int ROOT_COMMANDS = 8;
+    private static final long DURATION_MILLIS = 1000L;
+
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = new CommandManager<TestCommandSender>(
+                CommandExecutionCoordinator.simpleCoordinator(),
+                CommandRegistrationHandler.nullCommandRegistrationHandler()
+        ) {
+            {
+                this.registerCapability(CloudCapability.StandardCapabilities.ROOT_COMMAND_DELETION);
+            }
+
+            @Override
+            public boolean hasPermission(
+                    final @NonNull TestCommandSender sender,
+                    final @NonNull String permission
+            ) {
+                return true;
+            }
+
+            @Override
+            public @NonNull CommandMeta createDefaultCommandMeta() {
+                return SimpleCommandMeta.empty();
+            }
+        };
+        this.commandManager.setSetting(CommandManager.ManagerSettings.ALLOW_UNSAFE_REGISTRATION, true);
+    }
+
+    @Test
+    void testConcurrentRegistrationDeletionParsingAndSuggestions() throws Exception {
+        // Arrange
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final List<Thread> threads = new ArrayList<>();
+        threads.add(this.worker(running, failures, this::registerRandomCommand));
+        threads.add(this.worker(running, failures, this::registerRandomCommand));
+        threads.add(this.worker(running, failures, () -> this.commandManager.deleteRootCommand(randomRoot())));
+        threads.add(this.worker(running, failures, this::executeRandomCommand));
+        threads.add(this.worker(running, failures, this::executeRandomCommand));
+        threads.add(this.worker(running, failures, () -> this.commandManager.suggest(new TestCommandSender(), randomRoot() + " ")));
+        threads.add(this.worker(running, failures, () -> this.commandManager.suggest(new TestCommandSender(), "root")));
+
+        // Act
+        final CountDownLatch latch = new CountDownLatch(1);
+        threads.forEach(Thread::start);
+        latch.await(DURATION_MILLIS, TimeUnit.MILLISECONDS);
+        running.set(false);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertThat(failures).isEmpty();
+        for (final Command<TestCommandSender> command : this.commandManager.commands()) {
+            this.commandManager.executeCommand(new TestCommandSender(), this.inputFor(command)).join();
+        }
+    }
+
+    private Thread worker(
+            final @NonNull AtomicBoolean running,
+            final @NonNull Queue<Throwable> failures,
+            final @NonNull Runnable task
+    ) {
+        return new Thread(() -> {
+            while (running.get()) {
+                try {
+                    task.run();
+                } catch (final Throwable throwable) {
+                    failures.add(throwable);
+                    return;
+                }
+            }
+        });
+    }
+
+    private void registerRandomCommand() {
+        final String root = randomRoot();
+        final String literal = "literal" + ThreadLocalRandom.current().nextInt(4);
+        try {
+            if (ThreadLocalRandom.current().nextBoolean()) {
+                this.commandManager.command(this.commandManager.commandBuilder(root)
+                        .literal(literal)
+                        .argument(StringArgument.of("string")));
+            } else {
+                this.commandManager.command(this.commandManager.commandBuilder(root)
+                        .literal(literal, literal + "alias")
+                        .literal("int")
+                        .argument(IntegerArgument.of("int")));
+            }
+        } catch (final IllegalStateException exception) {
+            /* The same command may already have been registered */
+            if (!exception.getMessage().startsWith("Duplicate command chains")) {
+                throw exception;
+            }
+        }
+    }
+
+    private void executeRandomCommand() {
+        final String literal = "literal" + ThreadLocalRandom.current().nextInt(4);
+        final String input = ThreadLocalRandom.current().nextBoolean()
+                ? String.format("%s %s string", randomRoot(), literal)
+                : String.format("%s %salias int 5", randomRoot(), literal);
+        try {
+            this.commandManager.executeCommand(new TestCommandSender(), input).join();
+        } catch (final CompletionException exception) {
+            /* The command may have been deleted, or replaced by a command with different arguments */
+            if (!(exception.getCause() instanceof CommandParseException)) {
+                throw exception;
+            }
+        }
+    }
+
+    private @NonNull String inputFor(final @NonNull Command<TestCommandSender> command) {
+        final StringBuilder input = new StringBuilder();
+        command.getArguments().forEach(argument -> {
+            if (input.length() > 0) {
+                input.append(' ');
+            }
+            if (argument instanceof IntegerArgument) {
+                input.append('5');
+            } else {
+                input.append(argument.getName());
+            }
+        });
+        return input.toString();
+    }
+
+    private static @NonNull String randomRoot() {
+        return "root" + ThreadLocalRandom.current().nextInt(ROOT_COMMANDS);
+    }
+}
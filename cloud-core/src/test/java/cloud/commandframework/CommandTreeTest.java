@@ -24,6 +24,7 @@
 package cloud.commandframework;
 
 import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.arguments.flags.CommandFlag;
 import cloud.commandframework.arguments.standard.EnumArgument;
 import cloud.commandframework.arguments.standard.FloatArgument;
@@ -148,6 +149,26 @@ class CommandTreeTest {
         assertThat(result).isEqualTo(command);
     }
 
+    @Test
+    void testLateAliasRegistration() {
+        // Arrange
+        final Command<TestCommandSender> command = this.commandManager.commandBuilder("test")
+                .literal("opt")
+                .build();
+        this.commandManager.command(command);
+
+        // Act
+        ((StaticArgument<TestCommandSender>) command.getArguments().get(1)).registerAlias("alt");
+        final Command<TestCommandSender> result = this.commandManager.commandTree().parse(
+                new CommandContext<>(new TestCommandSender(), this.commandManager),
+                new LinkedList<>(Arrays.asList("TEST", "Alt"))
+        ).getFirst();
+
+        // Assert
+        assertThat(result).isEqualTo(command);
+        assertThat(this.commandManager.commandTree().getNamedNode("Test")).isNotNull();
+    }
+
     @Test
     void getSuggestions() {
         // Arrange
@@ -0,0 +1,111 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.internal.CommandRegistrationHandler;
+import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of storing and reading parsed values in the command context.
+ * Run with {@code -prof gc} to measure the allocation per command.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class ContextBenchmark {
+
+    private final CommandArgument<TestCommandSender, Integer> first = IntegerArgument.of("first");
+    private final CommandArgument<TestCommandSender, String> second = StringArgument.of("second");
+    private final CommandArgument<TestCommandSender, Integer> third = IntegerArgument.of("third");
+
+    private CommandManager<TestCommandSender> manager;
+    private Blackhole blackhole;
+
+    @Setup(Level.Trial)
+    public void setup(final Blackhole blackhole) {
+        this.blackhole = blackhole;
+        /* A plain manager is used instead of a mock, as the mock would dominate the measured allocation */
+        manager = new CommandManager<TestCommandSender>(
+                CommandExecutionCoordinator.simpleCoordinator(),
+                CommandRegistrationHandler.nullCommandRegistrationHandler()
+        ) {
+            @Override
+            public boolean hasPermission(final @NonNull TestCommandSender sender, final @NonNull String permission) {
+                return true;
+            }
+
+            @Override
+            public @NonNull CommandMeta createDefaultCommandMeta() {
+                return SimpleCommandMeta.empty();
+            }
+        };
+        manager.command(manager.commandBuilder("arguments")
+                .argument(first)
+                .argument(second)
+                .argument(third)
+                .handler(context -> {
+                    this.blackhole.consume(context.get(first));
+                    this.blackhole.consume(context.get(second));
+                    this.blackhole.consume(context.get(third));
+                }));
+        manager.command(manager.commandBuilder("names")
+                .argument(IntegerArgument.of("first"))
+                .argument(StringArgument.of("second"))
+                .argument(IntegerArgument.of("third"))
+                .handler(context -> {
+                    this.blackhole.consume(context.<Integer>get("first"));
+                    this.blackhole.consume(context.<String>get("second"));
+                    this.blackhole.consume(context.<Integer>get("third"));
+                }));
+    }
+
+    @Benchmark
+    @Fork(3)
+    public void testArgumentAccess() {
+        manager.executeCommand(new TestCommandSender(), "arguments 1 two 3").join();
+    }
+
+    @Benchmark
+    @Fork(3)
+    public void testNameAccess() {
+        manager.executeCommand(new TestCommandSender(), "names 1 two 3").join();
+    }
+}
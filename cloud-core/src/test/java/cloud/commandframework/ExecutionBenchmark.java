@@ -44,6 +44,7 @@ public class ExecutionBenchmark {
 
     private CommandManager<TestCommandSender> manager;
     private String literalChain;
+    private String wideLiteral;
 
     @Setup(Level.Trial)
     public void setup() {
@@ -60,6 +61,15 @@ public class ExecutionBenchmark {
         }
         manager.command(builder.build());
         literalChain = literalBuilder.toString();
+
+        /* Create 250 root commands with 20 sub-commands each */
+        for (int i = 0; i < 250; i++) {
+            final Command.Builder<TestCommandSender> root = manager.commandBuilder("wide" + i);
+            for (int j = 0; j < 20; j++) {
+                manager.command(root.literal("sub" + j));
+            }
+        }
+        wideLiteral = "wide249 sub19";
     }
 
     @TearDown
@@ -71,4 +81,10 @@ public class ExecutionBenchmark {
     public void testCommandParsing() {
         manager.executeCommand(new TestCommandSender(), literalChain).join();
     }
+
+    @Benchmark
+    @Fork(3)
+    public void testWideTreeParsing() {
+        manager.executeCommand(new TestCommandSender(), wideLiteral).join();
+    }
 }
@@ -0,0 +1,115 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.internal.CommandRegistrationHandler;
+import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class HelpBenchmark {
+
+    private final TestCommandSender sender = new TestCommandSender();
+
+    private CommandHelpHandler<TestCommandSender> helpHandler;
+
+    @Setup
+    public void setup() {
+        /* Permission checks of the mocked test manager would dominate the measurements */
+        final CommandManager<TestCommandSender> manager = new CommandManager<TestCommandSender>(
+                CommandExecutionCoordinator.simpleCoordinator(),
+                CommandRegistrationHandler.nullCommandRegistrationHandler()
+        ) {
+            @Override
+            public boolean hasPermission(final TestCommandSender sender, final String permission) {
+                return permission.hashCode() % 2 == 0;
+            }
+
+            @Override
+            public CommandMeta createDefaultCommandMeta() {
+                return SimpleCommandMeta.empty();
+            }
+        };
+
+        /* Create 500 root commands with 10 sub-commands each */
+        for (int i = 0; i < 500; i++) {
+            final Command.Builder<TestCommandSender> builder = manager.commandBuilder("root" + i, "alias" + i);
+            for (int j = 0; j < 10; j++) {
+                manager.command(builder.literal("sub" + j)
+                        .argument(IntegerArgument.of("int"))
+                        .argument(StringArgument.optional("string"))
+                        .permission("root" + i + ".sub" + j));
+            }
+        }
+        this.helpHandler = manager.createCommandHelpHandler();
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public Object queryIndex() {
+        return this.helpHandler.queryHelp(this.sender, "");
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public Object queryRootPrefix() {
+        return this.helpHandler.queryHelp(this.sender, "root42");
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public Object queryRootCommand() {
+        return this.helpHandler.queryHelp(this.sender, "root421");
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public Object queryCommand() {
+        return this.helpHandler.queryHelp(this.sender, "root421 sub3");
+    }
+}
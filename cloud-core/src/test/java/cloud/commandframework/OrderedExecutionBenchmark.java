@@ -0,0 +1,101 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import cloud.commandframework.execution.AsynchronousCommandExecutionCoordinator;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.execution.OrderedCommandExecutionCoordinator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+
+/**
+ * Executes one command for each of 10,000 senders and waits for all of them to complete. The blocking
+ * workload sleeps in the command handler, which simulates handlers that perform I/O
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class OrderedExecutionBenchmark {
+
+    private static final int SENDERS = 10_000;
+
+    @Param({"ordered", "asynchronous"})
+    public String coordinator;
+
+    @Param({"blocking", "non-blocking"})
+    public String workload;
+
+    private CommandManager<TestCommandSender> manager;
+    private TestCommandSender[] senders;
+    private String input;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Function<CommandTree<TestCommandSender>, CommandExecutionCoordinator<TestCommandSender>> coordinatorFunction;
+        if (this.coordinator.equals("ordered")) {
+            coordinatorFunction = OrderedCommandExecutionCoordinator.<TestCommandSender>builder().build();
+        } else {
+            coordinatorFunction = AsynchronousCommandExecutionCoordinator.<TestCommandSender>builder().build();
+        }
+        this.manager = createManager(coordinatorFunction);
+        this.manager.command(this.manager.commandBuilder("blocking").handler(context -> {
+            try {
+                Thread.sleep(1L);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        this.manager.command(this.manager.commandBuilder("non-blocking").handler(context -> {
+        }));
+
+        this.senders = new TestCommandSender[SENDERS];
+        for (int i = 0; i < SENDERS; i++) {
+            this.senders[i] = new TestCommandSender();
+        }
+        this.input = this.workload;
+    }
+
+    @Benchmark
+    @Fork(1)
+    public void executeForAllSenders() {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[SENDERS];
+        for (int i = 0; i < SENDERS; i++) {
+            futures[i] = this.manager.executeCommand(this.senders[i], this.input);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+}
@@ -99,6 +99,41 @@ public class ParameterInjectorRegistryTest {
         ).isEmpty();
     }
 
+    @Test
+    void testInjectorRegisteredAfterLookup() {
+        assertThat(
+                parameterInjectorRegistry.getInjectable(
+                        String.class,
+                        this.createContext(),
+                        AnnotationAccessor.empty()
+                )
+        ).isEmpty();
+
+        this.parameterInjectorRegistry.registerInjector(String.class, (context, annotationAccessor) -> "injected");
+
+        assertThat(
+                parameterInjectorRegistry.getInjectable(
+                        String.class,
+                        this.createContext(),
+                        AnnotationAccessor.empty()
+                )
+        ).hasValue("injected");
+    }
+
+    @Test
+    void testInjectionServiceOrder() {
+        this.parameterInjectorRegistry.registerInjectionService(triplet -> 1);
+        this.parameterInjectorRegistry.registerInjectionService(triplet -> 2);
+
+        assertThat(
+                parameterInjectorRegistry.getInjectable(
+                        Integer.class,
+                        this.createContext(),
+                        AnnotationAccessor.empty()
+                )
+        ).hasValue(2);
+    }
+
     private static final class TestModule extends AbstractModule {
 
         private static final int INJECTED_INTEGER = 10;
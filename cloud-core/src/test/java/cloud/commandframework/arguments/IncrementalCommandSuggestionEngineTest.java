@@ -0,0 +1,191 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.parser.ArgumentParseResult;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+import static com.google.common.truth.Truth.assertThat;
+
+class IncrementalCommandSuggestionEngineTest {
+
+    private final AtomicInteger playerParses = new AtomicInteger();
+    private final AtomicLong time = new AtomicLong();
+    private final TestCommandSender sender = new TestCommandSender();
+
+    private CommandManager<TestCommandSender> manager;
+    private IncrementalCommandSuggestionEngine<TestCommandSender> engine;
+
+    @BeforeEach
+    void setup() {
+        this.manager = createManager();
+        this.manager.command(this.manager.commandBuilder("give")
+                .argument(CommandArgument.<TestCommandSender, String>ofType(String.class, "player")
+                        .withParser((context, inputQueue) -> {
+                            this.playerParses.incrementAndGet();
+                            return ArgumentParseResult.success(inputQueue.remove());
+                        })
+                        .withSuggestionsProvider((context, input) -> Arrays.asList("Notch", "jeb_")))
+                .argument(StringArgument.<TestCommandSender>builder("item")
+                        .withSuggestionsProvider((context, input) -> Arrays.asList("diamond", "diamond_sword", "dirt")))
+                .argument(IntegerArgument.<TestCommandSender>builder("amount")
+                        .withSuggestionsProvider((context, input) -> Arrays.asList(
+                                context.<String>get("item") + "1",
+                                context.<String>get("player") + "2"
+                        ))));
+        this.engine = new IncrementalCommandSuggestionEngine<>(
+                this.manager,
+                Duration.ofSeconds(1L),
+                2,
+                Function.identity(),
+                this.time::get
+        );
+        this.manager.commandSuggestionEngine(this.engine);
+    }
+
+    @Test
+    void Suggest_SamePrefix_DoesNotParsePrefixAgain() {
+        // Arrange
+        this.manager.suggest(this.sender, "give Notch ");
+
+        // Act
+        this.manager.suggest(this.sender, "give Notch d");
+        this.manager.suggest(this.sender, "give Notch di");
+        final List<String> suggestions = this.manager.suggest(this.sender, "give Notch diamond ");
+
+        // Assert
+        assertThat(this.playerParses.get()).isEqualTo(1);
+        assertThat(suggestions).containsExactly("diamond1", "Notch2");
+    }
+
+    @Test
+    void Suggest_ChangedPrefix_ParsesPrefixAgain() {
+        // Arrange
+        this.manager.suggest(this.sender, "give Notch diamond ");
+
+        // Act
+        final List<String> suggestions = this.manager.suggest(this.sender, "give jeb_ diamond ");
+
+        // Assert
+        assertThat(this.playerParses.get()).isEqualTo(2);
+        assertThat(suggestions).containsExactly("diamond1", "jeb_2");
+    }
+
+    @Test
+    void Suggest_Expired_ParsesPrefixAgain() {
+        // Arrange
+        this.manager.suggest(this.sender, "give Notch ");
+        this.time.addAndGet(Duration.ofSeconds(1L).toNanos());
+
+        // Act
+        this.manager.suggest(this.sender, "give Notch d");
+
+        // Assert
+        assertThat(this.playerParses.get()).isEqualTo(2);
+    }
+
+    @Test
+    void Suggest_TreeModified_ParsesPrefixAgain() {
+        // Arrange
+        this.manager.suggest(this.sender, "give Notch ");
+        this.manager.command(this.manager.commandBuilder("take"));
+
+        // Act
+        this.manager.suggest(this.sender, "give Notch d");
+
+        // Assert
+        assertThat(this.playerParses.get()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void Suggest_AliasRegistered_ParsesPrefixAgain() {
+        // Arrange
+        this.manager.suggest(this.sender, "give Notch ");
+        final StaticArgument<TestCommandSender> root = (StaticArgument<TestCommandSender>) this.manager.commandTree()
+                .getNamedNode("give").getValue();
+        root.registerAlias("gift");
+
+        // Act
+        this.manager.suggest(this.sender, "give Notch d");
+
+        // Assert
+        assertThat(this.playerParses.get()).isEqualTo(2);
+    }
+
+    @Test
+    void Suggest_MaximumSendersExceeded_DiscardsLeastRecentlyActiveSender() {
+        // Arrange
+        this.manager.suggest(this.sender, "give Notch ");
+        this.manager.suggest(new TestCommandSender(), "give Notch ");
+        this.manager.suggest(new TestCommandSender(), "give Notch ");
+
+        // Act
+        this.manager.suggest(this.sender, "give Notch d");
+
+        // Assert
+        assertThat(this.playerParses.get()).isEqualTo(4);
+    }
+
+    @Test
+    void Suggest_KeystrokeSequence_MatchesDelegatingEngine() {
+        // Arrange
+        final CommandManager<TestCommandSender> incrementalManager = createManager();
+        incrementalManager.commandSuggestionEngine(IncrementalCommandSuggestionEngine.create(incrementalManager));
+        final CommandManager<TestCommandSender> delegatingManager = createManager();
+        this.setupLiteralCommands(incrementalManager);
+        this.setupLiteralCommands(delegatingManager);
+        final String input = "test var one two";
+
+        for (int i = 0; i <= input.length(); i++) {
+            // Act
+            final List<String> suggestions = incrementalManager.suggest(this.sender, input.substring(0, i));
+
+            // Assert
+            assertThat(suggestions).isEqualTo(delegatingManager.suggest(this.sender, input.substring(0, i)));
+        }
+    }
+
+    private void setupLiteralCommands(final CommandManager<TestCommandSender> manager) {
+        manager.command(manager.commandBuilder("test").literal("one"));
+        manager.command(manager.commandBuilder("test")
+                .literal("var")
+                .argument(StringArgument.<TestCommandSender>builder("first")
+                        .withSuggestionsProvider((context, input) -> Arrays.asList("one", "two")))
+                .argument(StringArgument.<TestCommandSender>builder("second")
+                        .withSuggestionsProvider((context, input) -> Arrays.asList(context.get("first"), "two"))));
+    }
+}
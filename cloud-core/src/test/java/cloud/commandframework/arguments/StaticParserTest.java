@@ -0,0 +1,113 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments;
+
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.parser.ArgumentParseResult;
+import cloud.commandframework.captions.StandardCaptionKeys;
+import cloud.commandframework.context.CommandContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class StaticParserTest {
+
+    private StaticArgument<TestCommandSender> argument;
+
+    @Mock
+    private CommandContext<TestCommandSender> context;
+
+    @BeforeEach
+    void setup() {
+        this.argument = StaticArgument.of("literal", "alias");
+    }
+
+    @Test
+    void Parse_Alias_SuccessfulParse() {
+        // Arrange
+        final LinkedList<String> input = new LinkedList<>(Arrays.asList("ALIAS", "next"));
+
+        // Act
+        final ArgumentParseResult<String> result = this.argument.getParser().parse(
+                this.context,
+                input
+        );
+
+        // Assert
+        assertThat(result.getFailure()).isEmpty();
+        assertThat(result.getParsedValue()).hasValue("literal");
+
+        assertThat(input).containsExactly("next");
+    }
+
+    @Test
+    void Parse_Mismatch_StacklessFailureWithInput() {
+        // Arrange
+        final LinkedList<String> input = new LinkedList<>(Arrays.asList("other"));
+
+        // Act
+        final ArgumentParseResult<String> result = this.argument.getParser().parse(this.context, input);
+
+        // Assert
+        assertThat(result.getParsedValue()).isEmpty();
+        assertThat(result.getFailure()).isPresent();
+
+        final Throwable failure = result.getFailure().get();
+        assertThat(failure).isInstanceOf(StaticArgument.LiteralMismatchException.class);
+        assertThat(failure.getStackTrace()).isEmpty();
+
+        final StaticArgument.LiteralMismatchException exception = (StaticArgument.LiteralMismatchException) failure;
+        assertThat(exception.getInput()).isEqualTo("other");
+        assertThat(exception.getLiteral()).isEqualTo("literal");
+        assertThat(exception.errorCaption()).isEqualTo(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_LITERAL);
+
+        assertThat(input).containsExactly("other");
+    }
+
+    @Test
+    void RegisterAlias_KnownAlias_DoesNotNotifyListeners() {
+        // Arrange
+        final List<String> registeredAliases = new ArrayList<>();
+        this.argument.registerAliasListener(registeredAliases::add);
+
+        // Act
+        this.argument.registerAlias("alias");
+        this.argument.registerAlias("literal");
+        this.argument.registerAlias("other");
+
+        // Assert
+        assertThat(registeredAliases).containsExactly("other");
+        assertThat(this.argument.getAlternativeAliases()).containsExactly("alias", "other");
+    }
+}
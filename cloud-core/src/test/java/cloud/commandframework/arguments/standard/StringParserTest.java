@@ -26,6 +26,7 @@ package cloud.commandframework.arguments.standard;
 import cloud.commandframework.TestCommandSender;
 import cloud.commandframework.arguments.parser.ArgumentParseResult;
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
 import java.util.Collections;
 import java.util.LinkedList;
 import org.junit.jupiter.api.Test;
@@ -103,4 +104,26 @@ class StringParserTest {
 
         assertThat(input).containsExactly("-f", "-l", "-a", "-g");
     }
+
+    @Test
+    void Parse_QuotedCommandInput_MovesCursorPastQuotedTokens() {
+        // Arrange
+        final StringArgument.StringParser<TestCommandSender> parser = new StringArgument.StringParser<>(
+                StringArgument.StringMode.QUOTED,
+                (context, input) -> Collections.emptyList()
+        );
+        final CommandInput input = CommandInput.of("\"quoted  string\" next");
+
+        // Act
+        final ArgumentParseResult<String> result = parser.parse(
+                this.context,
+                input
+        );
+
+        // Assert
+        assertThat(result.getFailure()).isEmpty();
+        assertThat(result.getParsedValue()).hasValue("quoted string");
+
+        assertThat(input).containsExactly("next");
+    }
 }
@@ -0,0 +1,104 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.captions;
+
+import cloud.commandframework.TestCommandSender;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class CaptionTemplateTest {
+
+    @Test
+    void Render_Variables_ReplacesPlaceholders() {
+        // Arrange
+        final CaptionTemplate template = CaptionTemplate.compile(SimpleCaptionRegistry.ARGUMENT_PARSE_FAILURE_NUMBER);
+
+        // Act
+        final String message = template.render(
+                CaptionVariable.of("input", "abc"),
+                CaptionVariable.of("min", "1"),
+                CaptionVariable.of("max", "10")
+        );
+
+        // Assert
+        assertThat(message).isEqualTo("'abc' is not a valid number in the range 1 to 10");
+    }
+
+    @Test
+    void Render_MissingVariable_KeepsPlaceholder() {
+        // Arrange
+        final CaptionTemplate template = CaptionTemplate.compile("{a} and {b} {unclosed");
+
+        // Act
+        final String message = template.render(CaptionVariable.of("a", "x"));
+
+        // Assert
+        assertThat(message).isEqualTo("x and {b} {unclosed");
+    }
+
+    @Test
+    void Render_NestedBraces_UsesInnermostPlaceholder() {
+        // Arrange
+        final CaptionTemplate template = CaptionTemplate.compile("{{a}}");
+
+        // Act
+        final String message = template.render(CaptionVariable.of("a", "x"));
+
+        // Assert
+        assertThat(message).isEqualTo("{x}");
+    }
+
+    @Test
+    void Render_ValueContainsPlaceholder_InsertsValueVerbatim() {
+        // Arrange
+        final CaptionTemplate template = CaptionTemplate.compile("'{input}' does not match '{pattern}'");
+
+        // Act
+        final String message = template.render(
+                CaptionVariable.of("input", "{pattern}"),
+                CaptionVariable.of("pattern", "[a-z]+")
+        );
+
+        // Assert
+        assertThat(message).isEqualTo("'{pattern}' does not match '[a-z]+'");
+    }
+
+    @Test
+    void GetCaptionTemplate_SameMessage_ReusesTemplate() {
+        // Arrange
+        final SimpleCaptionRegistry<TestCommandSender> registry = new SimpleCaptionRegistryFactory<TestCommandSender>().create();
+        final TestCommandSender sender = new TestCommandSender();
+
+        // Act
+        final CaptionTemplate first = registry.getCaptionTemplate(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_UUID, sender);
+        final CaptionTemplate second = registry.getCaptionTemplate(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_UUID, sender);
+        registry.registerMessageFactory(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_UUID, (caption, s) -> "Bad UUID {input}");
+        final CaptionTemplate replaced = registry.getCaptionTemplate(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_UUID, sender);
+
+        // Assert
+        assertThat(second).isSameInstanceAs(first);
+        assertThat(replaced.render(CaptionVariable.of("input", "x"))).isEqualTo("Bad UUID x");
+    }
+}
@@ -0,0 +1,148 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.context;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.keys.CloudKey;
+import cloud.commandframework.keys.SimpleCloudKey;
+import io.leangen.geantyref.TypeToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+import static com.google.common.truth.Truth.assertThat;
+
+class CommandContextTest {
+
+    private CommandManager<TestCommandSender> manager;
+    private CommandContext<TestCommandSender> context;
+
+    @BeforeEach
+    void setup() {
+        this.manager = createManager();
+        this.context = new CommandContext<>(new TestCommandSender(), this.manager);
+    }
+
+    @Test
+    void Store_Argument_ReadableByNameAndKey() {
+        // Arrange
+        final CommandArgument<TestCommandSender, Integer> argument = IntegerArgument.of("int");
+        this.manager.commandBuilder("test").argument(argument).build();
+
+        // Act
+        this.context.store(argument, 5);
+
+        // Assert
+        assertThat(argument.getContextSlot()).isEqualTo(1);
+        assertThat(this.context.get(argument)).isEqualTo(5);
+        assertThat(this.context.<Integer>get("int")).isEqualTo(5);
+        assertThat(this.context.get(SimpleCloudKey.of("int", TypeToken.get(Integer.class)))).isEqualTo(5);
+        assertThat(this.context.contains("int")).isTrue();
+        assertThat(this.context.asMap()).containsExactly("int", 5);
+    }
+
+    @Test
+    void Store_ByName_OverwritesArgumentValue() {
+        // Arrange
+        final CommandArgument<TestCommandSender, Integer> argument = IntegerArgument.of("int");
+        this.manager.commandBuilder("test").argument(argument).build();
+        this.context.store(argument, 5);
+
+        // Act
+        this.context.store("int", 10);
+
+        // Assert
+        assertThat(this.context.get(argument)).isEqualTo(10);
+        assertThat(this.context.asMap()).containsExactly("int", 10);
+    }
+
+    @Test
+    void Store_ArgumentAfterName_ReplacesNamedValue() {
+        // Arrange
+        final CommandArgument<TestCommandSender, Integer> argument = IntegerArgument.of("int");
+        this.manager.commandBuilder("test").argument(argument).build();
+        this.context.store("int", 5);
+
+        // Act
+        this.context.store(argument, 10);
+        this.context.remove("int");
+
+        // Assert
+        assertThat(this.context.contains(argument.getKey())).isFalse();
+        assertThat(this.context.getOptional(argument).isPresent()).isFalse();
+        assertThat(this.context.asMap()).isEmpty();
+    }
+
+    @Test
+    void Store_ArgumentsSharingSlot_KeepsBothValues() {
+        // Arrange
+        final CommandArgument<TestCommandSender, String> first = StringArgument.of("first");
+        final CommandArgument<TestCommandSender, String> second = StringArgument.of("second");
+        this.manager.commandBuilder("first").argument(first).build();
+        this.manager.commandBuilder("second").argument(second).build();
+
+        // Act
+        this.context.store(first, "a");
+        this.context.store(second, "b");
+
+        // Assert
+        assertThat(first.getContextSlot()).isEqualTo(second.getContextSlot());
+        assertThat(this.context.get(first)).isEqualTo("a");
+        assertThat(this.context.get(second)).isEqualTo("b");
+        assertThat(this.context.asMap()).containsExactly("first", "a", "second", "b");
+    }
+
+    @Test
+    void ComputeIfAbsent_StoresComputedValue() {
+        // Arrange
+        final CloudKey<String> key = SimpleCloudKey.of("key", TypeToken.get(String.class));
+
+        // Act
+        final String value = this.context.computeIfAbsent(key, k -> "computed");
+
+        // Assert
+        assertThat(value).isEqualTo("computed");
+        assertThat(this.context.computeIfAbsent(key, k -> "recomputed")).isEqualTo("computed");
+    }
+
+    @Test
+    void Contains_StoredNullValue_ReturnsTrue() {
+        // Arrange
+        final CommandArgument<TestCommandSender, Integer> argument = IntegerArgument.of("int");
+        this.manager.commandBuilder("test").argument(argument).build();
+
+        // Act
+        this.context.store("key", null);
+        this.context.store(argument, null);
+
+        // Assert
+        assertThat(this.context.contains("key")).isTrue();
+        assertThat(this.context.contains("int")).isTrue();
+        assertThat(this.context.contains("other")).isFalse();
+    }
+}
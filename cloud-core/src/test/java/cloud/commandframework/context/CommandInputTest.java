@@ -0,0 +1,195 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class CommandInputTest {
+
+    static Stream<String> inputs() {
+        return Stream.of("", " ", "a", "a ", " a", "a b c", "a  b", "a b  ", "  ", "hello world 123 ");
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void Iterate_MatchesTokenizedInput(final String input) {
+        // Act
+        final List<String> tokens = new ArrayList<>(CommandInput.of(input));
+
+        // Assert
+        assertThat(tokens).containsExactlyElementsIn(tokenize(input)).inOrder();
+        assertThat(CommandInput.of(input).size()).isEqualTo(tokens.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void Poll_MatchesTokenizedInput(final String input) {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of(input);
+        final List<String> expected = tokenize(input);
+
+        // Act & Assert
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(commandInput.remainingInput()).isEqualTo(String.join(" ", expected.subList(i, expected.size())));
+            assertThat(commandInput.peek()).isEqualTo(expected.get(i));
+            assertThat(commandInput.poll()).isEqualTo(expected.get(i));
+        }
+        assertThat(commandInput.isEmpty()).isTrue();
+        assertThat(commandInput.poll()).isNull();
+        assertThat(commandInput.remainingInput()).isEmpty();
+    }
+
+    @Test
+    void RemainingInput_SingleSpaced_ReadsOriginalInput() {
+        // Arrange
+        final String input = "say hello world";
+        final CommandInput commandInput = CommandInput.of(input);
+
+        // Act
+        commandInput.remove();
+
+        // Assert
+        assertThat(commandInput.remainingInput()).isEqualTo("hello world");
+        assertThat(commandInput.cursor()).isEqualTo(3);
+    }
+
+    @Test
+    void ReadRemainingInput_ConsumesEverything() {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("say hello  world ");
+        commandInput.remove();
+
+        // Act
+        final String remainingInput = commandInput.readRemainingInput();
+
+        // Assert
+        assertThat(remainingInput).isEqualTo("hello world ");
+        assertThat(commandInput.isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void Size_AfterPollAndMoveCursor_MatchesRemainingTokens(final String input) {
+        for (int chars = 0; chars <= CommandInput.of(input).remainingInput().length(); chars++) {
+            // Arrange
+            final CommandInput commandInput = CommandInput.of(input);
+            commandInput.size();
+
+            // Act
+            commandInput.moveCursor(chars);
+
+            // Assert
+            assertThat(commandInput.size()).isEqualTo(new ArrayList<>(commandInput).size());
+            while (commandInput.poll() != null) {
+                assertThat(commandInput.size()).isEqualTo(new ArrayList<>(commandInput).size());
+            }
+        }
+    }
+
+    @Test
+    void MoveCursor_InsideToken_SplitsToken() {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("abc def");
+
+        // Act
+        commandInput.moveCursor(2);
+
+        // Assert
+        assertThat(new ArrayList<>(commandInput)).containsExactly("c", "def").inOrder();
+    }
+
+    @Test
+    void MoveCursor_ConsecutiveSpaces_MovesThroughTokens() {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("abc  def  ghi");
+
+        // Act
+        commandInput.moveCursor(5);
+
+        // Assert
+        assertThat(new ArrayList<>(commandInput)).containsExactly("ef", "ghi").inOrder();
+    }
+
+    @Test
+    void MoveCursor_AppendedToken_SplitsToken() {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("abc");
+        commandInput.add("default");
+
+        // Act
+        commandInput.moveCursor(6);
+
+        // Assert
+        assertThat(new ArrayList<>(commandInput)).containsExactly("fault");
+    }
+
+    @Test
+    void Offer_AppendsTokensAfterInput() {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("a ");
+
+        // Act
+        commandInput.add("b c");
+
+        // Assert
+        assertThat(new ArrayList<>(commandInput)).containsExactly("a", "", "b c").inOrder();
+        assertThat(commandInput.remainingInput()).isEqualTo("a  b c");
+    }
+
+    @Test
+    void Reset_RestoresCopy() {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("a b c");
+        commandInput.remove();
+        final CommandInput copy = commandInput.copy();
+        commandInput.clear();
+
+        // Act
+        commandInput.reset(copy);
+
+        // Assert
+        assertThat(new ArrayList<>(commandInput)).containsExactly("b", "c").inOrder();
+        assertThat(new ArrayList<>(copy)).containsExactly("b", "c").inOrder();
+    }
+
+    private static List<String> tokenize(final String input) {
+        final List<String> tokens = new ArrayList<>();
+        final StringTokenizer tokenizer = new StringTokenizer(input, " ");
+        while (tokenizer.hasMoreTokens()) {
+            tokens.add(tokenizer.nextToken());
+        }
+        if (input.endsWith(" ")) {
+            tokens.add("");
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,205 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.execution;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderedCommandExecutionCoordinatorTest {
+
+    private final List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private CommandManager<TestCommandSender> manager;
+    private OrderedCommandExecutionCoordinator<TestCommandSender> coordinator;
+
+    @BeforeEach
+    void setup() {
+        this.setup(OrderedCommandExecutionCoordinator.<TestCommandSender>builder().withMaxSenderQueueSize(2));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setup(final OrderedCommandExecutionCoordinator.Builder<TestCommandSender> builder) {
+        this.manager = createManager(tree -> {
+            this.coordinator = (OrderedCommandExecutionCoordinator<TestCommandSender>) builder.build().apply(tree);
+            return this.coordinator;
+        });
+        this.manager.command(this.manager.commandBuilder("record")
+                .argument(IntegerArgument.of("value"))
+                .handler(context -> this.executed.add(context.get("value"))));
+        this.manager.command(this.manager.commandBuilder("block")
+                .handler(context -> {
+                    try {
+                        this.release.await(5L, TimeUnit.SECONDS);
+                    } catch (final InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }));
+    }
+
+    @Test
+    void Execute_SameSender_PreservesOrder() {
+        // Arrange
+        this.setup(OrderedCommandExecutionCoordinator.<TestCommandSender>builder().withMaxSenderQueueSize(1000));
+        final TestCommandSender sender = new TestCommandSender();
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            futures.add(this.manager.executeCommand(sender, "record " + i));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+        // Assert
+        assertThat(this.executed).hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(this.executed.get(i)).isEqualTo(i);
+        }
+        assertThat(this.coordinator.queuedCommands()).isEqualTo(0);
+        assertThat(this.coordinator.waitTimes().count()).isEqualTo(1000L);
+    }
+
+    @Test
+    void Execute_BlockedSender_OtherSendersProceed() {
+        // Arrange
+        final TestCommandSender blockedSender = new TestCommandSender();
+        final CompletableFuture<?> blocked = this.manager.executeCommand(blockedSender, "block");
+        final CompletableFuture<?> queued = this.manager.executeCommand(blockedSender, "record 1");
+
+        // Act
+        this.manager.executeCommand(new TestCommandSender(), "record 2").join();
+
+        // Assert
+        assertThat(this.executed).containsExactly(2);
+        assertThat(queued.isDone()).isFalse();
+
+        this.release.countDown();
+        blocked.join();
+        queued.join();
+        assertThat(this.executed).containsExactly(2, 1).inOrder();
+    }
+
+    @Test
+    void Execute_FullSenderQueue_RejectsCommand() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+        final CompletableFuture<?> blocked = this.manager.executeCommand(sender, "block");
+        this.awaitQueuedCommands(0);
+        final CompletableFuture<?> first = this.manager.executeCommand(sender, "record 1");
+        final CompletableFuture<?> second = this.manager.executeCommand(sender, "record 2");
+
+        // Act
+        final CompletableFuture<?> rejected = this.manager.executeCommand(sender, "record 3");
+
+        // Assert
+        final CompletionException exception = assertThrows(CompletionException.class, rejected::join);
+        assertThat(exception).hasCauseThat().isInstanceOf(RejectedExecutionException.class);
+        assertThat(this.coordinator.rejectedCommands()).isEqualTo(1L);
+
+        this.release.countDown();
+        blocked.join();
+        first.join();
+        second.join();
+        this.manager.executeCommand(sender, "record 4").join();
+        assertThat(this.executed).containsExactly(1, 2, 4).inOrder();
+    }
+
+    @Test
+    void Execute_DiscardOldest_DiscardsQueuedCommand() {
+        // Arrange
+        this.setup(OrderedCommandExecutionCoordinator.<TestCommandSender>builder()
+                .withMaxSenderQueueSize(2)
+                .withRejectionPolicy(OrderedCommandExecutionCoordinator.RejectionPolicy.DISCARD_OLDEST));
+        final TestCommandSender sender = new TestCommandSender();
+        final CompletableFuture<?> blocked = this.manager.executeCommand(sender, "block");
+        this.awaitQueuedCommands(0);
+        final CompletableFuture<?> discarded = this.manager.executeCommand(sender, "record 1");
+        this.manager.executeCommand(sender, "record 2");
+
+        // Act
+        final CompletableFuture<?> accepted = this.manager.executeCommand(sender, "record 3");
+
+        // Assert
+        final CompletionException exception = assertThrows(CompletionException.class, discarded::join);
+        assertThat(exception).hasCauseThat().isInstanceOf(RejectedExecutionException.class);
+
+        this.release.countDown();
+        blocked.join();
+        accepted.join();
+        assertThat(this.executed).containsExactly(2, 3).inOrder();
+        assertThat(this.coordinator.queuedCommands()).isEqualTo(0);
+    }
+
+    @Test
+    void Execute_GlobalLimit_RejectsOtherSenders() {
+        // Arrange
+        this.setup(OrderedCommandExecutionCoordinator.<TestCommandSender>builder().withMaxQueuedCommands(1));
+        final TestCommandSender sender = new TestCommandSender();
+        final CompletableFuture<?> blocked = this.manager.executeCommand(sender, "block");
+        this.awaitQueuedCommands(0);
+        this.manager.executeCommand(sender, "record 1");
+
+        // Act
+        final CompletableFuture<?> rejected = this.manager.executeCommand(new TestCommandSender(), "record 2");
+
+        // Assert
+        assertThrows(CompletionException.class, rejected::join);
+        assertThat(this.coordinator.queueDepths().max()).isEqualTo(1L);
+
+        this.release.countDown();
+        blocked.join();
+    }
+
+    @Test
+    void Execute_ParseFailure_CompletesExceptionally() {
+        // Act
+        final CompletableFuture<?> future = this.manager.executeCommand(new TestCommandSender(), "record abc");
+
+        // Assert
+        assertThrows(CompletionException.class, future::join);
+        assertThat(this.executed).isEmpty();
+    }
+
+    private void awaitQueuedCommands(final int expected) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (this.coordinator.queuedCommands() != expected && System.nanoTime() < deadline) {
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.execution;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.parser.ArgumentParseResult;
+import cloud.commandframework.exceptions.NoPermissionException;
+import cloud.commandframework.util.TestUtils;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParsedCommandTest {
+
+    private final AtomicInteger parsed = new AtomicInteger();
+
+    private CommandManager<TestCommandSender> manager;
+    private CommandArgument<TestCommandSender, Integer> value;
+    private Command<TestCommandSender> command;
+    private Integer executedWith;
+
+    @BeforeEach
+    void setup() {
+        this.manager = createManager();
+        this.value = CommandArgument.<TestCommandSender, Integer>ofType(Integer.class, "value")
+                .withParser((context, inputQueue) -> {
+                    this.parsed.incrementAndGet();
+                    return ArgumentParseResult.success(Integer.parseInt(inputQueue.remove()));
+                })
+                .build();
+        this.command = this.manager.commandBuilder("parsed")
+                .argument(this.value)
+                .handler(context -> this.executedWith = context.get(this.value))
+                .build();
+        this.manager.command(this.command);
+    }
+
+    @Test
+    void ExecuteCommand_CompletelyParsed_SkipsParsing() {
+        // Act
+        this.manager.executeCommand(
+                new TestCommandSender(),
+                "parsed 5",
+                ParsedCommand.of(this.command, Collections.singletonMap(this.value, 7))
+        ).join();
+
+        // Assert
+        assertThat(this.parsed.get()).isEqualTo(0);
+        assertThat(this.executedWith).isEqualTo(7);
+    }
+
+    @Test
+    void ExecuteCommand_MissingRequiredValue_ParsesInput() {
+        // Act
+        this.manager.executeCommand(
+                new TestCommandSender(),
+                "parsed 5",
+                ParsedCommand.of(this.command, new HashMap<>())
+        ).join();
+
+        // Assert
+        assertThat(this.parsed.get()).isEqualTo(1);
+        assertThat(this.executedWith).isEqualTo(5);
+    }
+
+    @Test
+    void ExecuteCommand_PreprocessorReadsInput_SkipsParsing() {
+        // Arrange
+        this.manager.registerCommandPreProcessor(context -> context.getInputQueue().peek());
+
+        // Act
+        this.manager.executeCommand(
+                new TestCommandSender(),
+                "parsed 5",
+                ParsedCommand.of(this.command, Collections.singletonMap(this.value, 7))
+        ).join();
+
+        // Assert
+        assertThat(this.parsed.get()).isEqualTo(0);
+        assertThat(this.executedWith).isEqualTo(7);
+    }
+
+    @Test
+    void ExecuteCommand_PreprocessorRewritesInput_ParsesInput() {
+        // Arrange
+        this.manager.registerCommandPreProcessor(context -> context.getInputQueue().set(1, "9"));
+
+        // Act
+        this.manager.executeCommand(
+                new TestCommandSender(),
+                "parsed 5",
+                ParsedCommand.of(this.command, Collections.singletonMap(this.value, 5))
+        ).join();
+
+        // Assert
+        assertThat(this.parsed.get()).isEqualTo(1);
+        assertThat(this.executedWith).isEqualTo(9);
+    }
+
+    @Test
+    void ExecuteCommand_NoPermission_ThrowsNoPermissionException() {
+        // Arrange
+        final CommandArgument<TestCommandSender, Integer> restrictedValue = this.value.copy();
+        final Command<TestCommandSender> restricted = this.manager.commandBuilder("restricted")
+                .argument(restrictedValue)
+                .permission(TestUtils.FAILING_PERMISSION)
+                .handler(context -> this.executedWith = context.get(restrictedValue))
+                .build();
+        this.manager.command(restricted);
+        final Map<CommandArgument<TestCommandSender, ?>, Object> values = Collections.singletonMap(restrictedValue, 7);
+
+        // Act
+        final CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> this.manager.executeCommand(
+                        new TestCommandSender(),
+                        "restricted 7",
+                        ParsedCommand.of(restricted, values)
+                ).join()
+        );
+
+        // Assert
+        assertThat(exception).hasCauseThat().isInstanceOf(NoPermissionException.class);
+        assertThat(this.executedWith).isNull();
+    }
+}
@@ -0,0 +1,206 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.extra.confirmation;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.execution.postprocessor.CommandPostprocessingContext;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+
+class CommandConfirmationManagerTest {
+
+    private static final int SENDERS = 10_000;
+    private static final int THREADS = 16;
+
+    private CommandManager<TestCommandSender> commandManager;
+    private Command<TestCommandSender> command;
+    private AtomicInteger notifications;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.notifications = new AtomicInteger();
+        this.command = this.commandManager.commandBuilder(
+                "test",
+                SimpleCommandMeta.builder().with(CommandConfirmationManager.META_CONFIRMATION_REQUIRED, true).build()
+        ).build();
+        this.executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentConfirmations() throws Exception {
+        // Arrange
+        final CommandConfirmationManager<TestCommandSender> confirmationManager = this.createConfirmationManager(
+                1,
+                TimeUnit.MINUTES,
+                SENDERS
+        );
+        final AtomicInteger failures = new AtomicInteger();
+
+        // Act
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < SENDERS; i++) {
+            futures.add(this.executor.submit(() -> {
+                final TestCommandSender sender = new TestCommandSender();
+                final CommandContext<TestCommandSender> context = new CommandContext<>(sender, this.commandManager);
+                this.commandManager.postprocessContext(context, this.command);
+
+                final Optional<CommandPostprocessingContext<TestCommandSender>> pending = confirmationManager.getPending(sender);
+                if (!pending.isPresent() || pending.get().getCommandContext() != context) {
+                    failures.incrementAndGet();
+                }
+                if (confirmationManager.getPending(sender).isPresent()) {
+                    failures.incrementAndGet();
+                }
+            }));
+        }
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+
+        // Assert
+        assertThat(failures.get()).isEqualTo(0);
+        assertThat(this.notifications.get()).isEqualTo(SENDERS);
+        assertThat(confirmationManager.pendingCount()).isEqualTo(0);
+    }
+
+    @Test
+    void testConcurrentPendingWithinCapacity() throws Exception {
+        // Arrange
+        final CommandConfirmationManager<TestCommandSender> confirmationManager = this.createConfirmationManager(
+                1,
+                TimeUnit.MINUTES,
+                SENDERS
+        );
+        final List<Future<CommandContext<TestCommandSender>>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < SENDERS; i++) {
+            futures.add(this.executor.submit(() -> {
+                final CommandContext<TestCommandSender> context = new CommandContext<>(
+                        new TestCommandSender(),
+                        this.commandManager
+                );
+                this.commandManager.postprocessContext(context, this.command);
+                return context;
+            }));
+        }
+
+        // Assert
+        assertThat(confirmationManager.pendingCount()).isAtMost(SENDERS);
+        for (final Future<CommandContext<TestCommandSender>> future : futures) {
+            final CommandContext<TestCommandSender> context = future.get();
+            assertThat(confirmationManager.getPending(context.getSender()).map(CommandPostprocessingContext::getCommandContext))
+                    .hasValue(context);
+        }
+    }
+
+    @Test
+    void testCapacityEvictsEldest() {
+        // Arrange
+        final CommandConfirmationManager<TestCommandSender> confirmationManager = this.createConfirmationManager(
+                1,
+                TimeUnit.MINUTES,
+                2
+        );
+        final TestCommandSender first = new TestCommandSender();
+        final TestCommandSender second = new TestCommandSender();
+        final TestCommandSender third = new TestCommandSender();
+
+        // Act
+        this.commandManager.postprocessContext(new CommandContext<>(first, this.commandManager), this.command);
+        this.commandManager.postprocessContext(new CommandContext<>(second, this.commandManager), this.command);
+        this.commandManager.postprocessContext(new CommandContext<>(third, this.commandManager), this.command);
+
+        // Assert
+        assertThat(confirmationManager.getPending(first).isPresent()).isFalse();
+        assertThat(confirmationManager.getPending(second).isPresent()).isTrue();
+        assertThat(confirmationManager.getPending(third).isPresent()).isTrue();
+    }
+
+    @Test
+    void testExpiredCommandsAreSwept() throws Exception {
+        // Arrange
+        final CommandConfirmationManager<TestCommandSender> confirmationManager = this.createConfirmationManager(
+                10,
+                TimeUnit.MILLISECONDS,
+                SENDERS
+        );
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            this.commandManager.postprocessContext(
+                    new CommandContext<>(new TestCommandSender(), this.commandManager),
+                    this.command
+            );
+        }
+
+        // Assert
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (confirmationManager.pendingCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5L);
+        }
+        assertThat(confirmationManager.pendingCount()).isEqualTo(0);
+    }
+
+    private CommandConfirmationManager<TestCommandSender> createConfirmationManager(
+            final long timeout,
+            final TimeUnit unit,
+            final int maximumPending
+    ) {
+        final CommandConfirmationManager<TestCommandSender> confirmationManager = new CommandConfirmationManager<>(
+                timeout,
+                unit,
+                context -> this.notifications.incrementAndGet(),
+                sender -> {
+                },
+                maximumPending
+        );
+        confirmationManager.registerConfirmationProcessor(this.commandManager);
+        return confirmationManager;
+    }
+}
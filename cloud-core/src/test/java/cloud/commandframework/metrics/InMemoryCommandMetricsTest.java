@@ -0,0 +1,94 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.execution.CommandResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+import static com.google.common.truth.Truth.assertThat;
+
+class InMemoryCommandMetricsTest {
+
+    private CommandManager<TestCommandSender> manager;
+    private Command<TestCommandSender> command;
+
+    @BeforeEach
+    void setup() {
+        this.manager = createManager();
+        this.command = this.manager.commandBuilder("test")
+                .argument(IntegerArgument.of("int"))
+                .build();
+        this.manager.command(this.command);
+    }
+
+    @Test
+    void Execute_WithMetrics_RecordsStages() {
+        // Arrange
+        final InMemoryCommandMetrics<TestCommandSender> metrics = new InMemoryCommandMetrics<>();
+        this.manager.metricsListener(metrics);
+
+        // Act
+        this.manager.executeCommand(new TestCommandSender(), "test 5").join();
+        this.manager.executeCommand(new TestCommandSender(), "test 6").join();
+        this.manager.suggest(new TestCommandSender(), "test ");
+
+        // Assert
+        final CommandMetricsSnapshot<TestCommandSender> snapshot = metrics.snapshot();
+        assertThat(snapshot.preprocessing().count()).isEqualTo(3L);
+        assertThat(snapshot.postprocessing().count()).isEqualTo(2L);
+        assertThat(snapshot.executions()).containsKey(this.command);
+        assertThat(snapshot.executions().get(this.command).count()).isEqualTo(2L);
+        assertThat(snapshot.parsers()).containsKey(IntegerArgument.IntegerParser.class);
+        assertThat(snapshot.parsers().get(IntegerArgument.IntegerParser.class).count()).isEqualTo(2L);
+        assertThat(snapshot.tokenization().count()).isEqualTo(1L);
+        assertThat(snapshot.suggestions().count()).isEqualTo(1L);
+    }
+
+    @Test
+    void Execute_ByDefault_RecordsNoArgumentTimings() {
+        // Act
+        final CommandResult<TestCommandSender> result = this.manager.executeCommand(new TestCommandSender(), "test 5").join();
+
+        // Assert
+        assertThat(result.getCommandContext().getArgumentTimings()).isEmpty();
+    }
+
+    @Test
+    void Execute_WithArgumentTimings_RecordsArgumentTimings() {
+        // Arrange
+        this.manager.setSetting(CommandManager.ManagerSettings.ARGUMENT_TIMINGS, true);
+
+        // Act
+        final CommandResult<TestCommandSender> result = this.manager.executeCommand(new TestCommandSender(), "test 5").join();
+
+        // Assert
+        assertThat(result.getCommandContext().getArgumentTimings()).hasSize(2);
+    }
+}
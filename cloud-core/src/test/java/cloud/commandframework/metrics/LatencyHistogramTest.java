@@ -0,0 +1,131 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    void Snapshot_Empty_ReturnsZeroes() {
+        // Act
+        final LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        // Assert
+        assertThat(snapshot.count()).isEqualTo(0L);
+        assertThat(snapshot.min()).isEqualTo(0L);
+        assertThat(snapshot.max()).isEqualTo(0L);
+        assertThat(snapshot.mean()).isEqualTo(0D);
+        assertThat(snapshot.valueAtPercentile(99D)).isEqualTo(0L);
+        assertThat(snapshot.buckets()).isEmpty();
+    }
+
+    @Test
+    void Record_SmallValues_AreExact() {
+        // Arrange
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        for (long i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+
+        // Assert
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(20L);
+        assertThat(snapshot.min()).isEqualTo(1L);
+        assertThat(snapshot.max()).isEqualTo(20L);
+        assertThat(snapshot.mean()).isEqualTo(10.5D);
+        assertThat(snapshot.valueAtPercentile(50D)).isEqualTo(10L);
+        assertThat(snapshot.valueAtPercentile(100D)).isEqualTo(20L);
+        assertThat(snapshot.buckets()).hasSize(20);
+    }
+
+    @Test
+    void Record_LargeValues_HaveBoundedRelativeError() {
+        // Arrange
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(ThreadLocalRandom.current().nextLong(1L, 1L << 36));
+        }
+
+        // Act
+        values.forEach(histogram::record);
+
+        // Assert
+        values.sort(Long::compare);
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        for (final double percentile : new double[]{1D, 25D, 50D, 90D, 99D}) {
+            final long expected = values.get((int) Math.ceil(percentile / 100D * values.size()) - 1);
+            final long actual = snapshot.valueAtPercentile(percentile);
+            assertThat(actual).isAtLeast(expected);
+            assertThat((double) (actual - expected)).isAtMost(expected / 16D);
+        }
+        assertThat(snapshot.max()).isEqualTo(values.get(values.size() - 1));
+    }
+
+    @Test
+    void BucketIndex_IsContinuousAndMonotonic() {
+        int previousIndex = LatencyHistogram.bucketIndex(0L);
+        for (long value = 1L; value < 1L << 20; value++) {
+            final int index = LatencyHistogram.bucketIndex(value);
+            assertThat(index - previousIndex).isAtMost(1);
+            assertThat(index).isAtLeast(previousIndex);
+            assertThat(LatencyHistogram.highestValueInBucket(index)).isAtLeast(value);
+            previousIndex = index;
+        }
+    }
+
+    @Test
+    void Record_Concurrently_CountsEveryValue() throws Exception {
+        // Arrange
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 1; j <= 10_000; j++) {
+                    histogram.record(j);
+                }
+            }));
+        }
+
+        // Act
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(40_000L);
+        assertThat(snapshot.min()).isEqualTo(1L);
+        assertThat(snapshot.max()).isEqualTo(10_000L);
+    }
+}
@@ -0,0 +1,104 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.permission;
+
+import cloud.commandframework.TestCommandSender;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class PermissionCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final BiPredicate<TestCommandSender, String> lookup = (sender, permission) -> {
+        this.lookups.incrementAndGet();
+        return sender.hasPermisison(permission);
+    };
+
+    private PermissionCache<TestCommandSender> cache;
+
+    @BeforeEach
+    void setup() {
+        this.cache = new PermissionCache<>(Duration.ofSeconds(5L), sender -> sender, this.clock::get);
+    }
+
+    @Test
+    void HasPermission_WithinExpiration_UsesCachedResult() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender("perm.one");
+
+        // Act
+        final boolean first = this.cache.hasPermission(sender, "perm.one", this.lookup);
+        this.clock.addAndGet(Duration.ofSeconds(4L).toNanos());
+        final boolean second = this.cache.hasPermission(sender, "perm.one", this.lookup);
+        final boolean missing = this.cache.hasPermission(sender, "perm.two", this.lookup);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(missing).isFalse();
+        assertThat(this.lookups.get()).isEqualTo(2);
+    }
+
+    @Test
+    void HasPermission_AfterExpiration_LooksUpAgain() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+        this.cache.hasPermission(sender, "perm.one", this.lookup);
+        sender.addPermission("perm.one");
+
+        // Act
+        this.clock.addAndGet(Duration.ofSeconds(5L).toNanos());
+        final boolean result = this.cache.hasPermission(sender, "perm.one", this.lookup);
+
+        // Assert
+        assertThat(result).isTrue();
+        assertThat(this.lookups.get()).isEqualTo(2);
+    }
+
+    @Test
+    void HasPermission_AfterInvalidation_LooksUpAgain() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+        final TestCommandSender other = new TestCommandSender();
+        this.cache.hasPermission(sender, "perm.one", this.lookup);
+        this.cache.hasPermission(other, "perm.one", this.lookup);
+        sender.addPermission("perm.one");
+
+        // Act
+        this.cache.invalidate(sender);
+        final boolean result = this.cache.hasPermission(sender, "perm.one", this.lookup);
+        this.cache.hasPermission(other, "perm.one", this.lookup);
+
+        // Assert
+        assertThat(result).isTrue();
+        assertThat(this.lookups.get()).isEqualTo(3);
+    }
+}
@@ -67,10 +67,23 @@ public final class TestUtils {
      * @return Mocked command manager.
      */
     public static @NonNull CommandManager<TestCommandSender> createManager() {
+        return createManager(CommandExecutionCoordinator.simpleCoordinator());
+    }
+
+    /**
+     * Creates a {@link CommandManager} that can be used for testing, using the given execution coordinator.
+     *
+     * @param commandExecutionCoordinator Function that creates the execution coordinator.
+     * @return Mocked command manager.
+     */
+    public static @NonNull CommandManager<TestCommandSender> createManager(
+            final @NonNull Function<@NonNull CommandTree<TestCommandSender>,
+                    @NonNull CommandExecutionCoordinator<TestCommandSender>> commandExecutionCoordinator
+    ) {
         final CommandManager<TestCommandSender> manager = mock(
                 TestCommandSenderCommandManager.class,
                 withSettings().useConstructor(
-                        CommandExecutionCoordinator.simpleCoordinator(),
+                        commandExecutionCoordinator,
                         CommandRegistrationHandler.nullCommandRegistrationHandler()
                 ).defaultAnswer(Mockito.CALLS_REAL_METHODS)
         );
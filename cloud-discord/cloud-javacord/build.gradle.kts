@@ -5,4 +5,6 @@ plugins {
 dependencies {
     api(projects.cloudCore)
     implementation(libs.javacord)
+    testImplementation(libs.jmhCore)
+    testImplementation(libs.jmhGeneratorAnnprocess)
 }
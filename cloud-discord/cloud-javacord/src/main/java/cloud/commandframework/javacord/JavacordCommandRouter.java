@@ -23,7 +23,6 @@
 //
 package cloud.commandframework.javacord;
 
-import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.exceptions.ArgumentParseException;
 import cloud.commandframework.exceptions.CommandExecutionException;
@@ -34,38 +33,95 @@ import cloud.commandframework.exceptions.NoSuchCommandException;
 import cloud.commandframework.javacord.sender.JavacordCommandSender;
 import cloud.commandframework.javacord.sender.JavacordPrivateSender;
 import cloud.commandframework.javacord.sender.JavacordServerSender;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.javacord.api.entity.message.MessageAuthor;
 import org.javacord.api.event.message.MessageCreateEvent;
 import org.javacord.api.listener.message.MessageCreateListener;
 
-public class JavacordCommand<C> implements MessageCreateListener {
+/**
+ * Listener that dispatches every message to the root command it targets. The prefix is resolved once per
+ * message, and the root command is looked up by its alias rather than by testing every registered root command.
+ *
+ * @param <C> Command sender type
+ */
+final class JavacordCommandRouter<C> implements MessageCreateListener {
 
     private static final String MESSAGE_INTERNAL_ERROR = "An internal error occurred while attempting to perform this command.";
     private static final String MESSAGE_NO_PERMS = "I'm sorry, but you do not have the permission to do this :/";
 
+    private final Map<String, StaticArgument<C>> rootCommands = new ConcurrentHashMap<>();
+    private final Map<StaticArgument<C>, Consumer<String>> aliasListeners = new ConcurrentHashMap<>();
     private final JavacordCommandManager<C> manager;
-    private final CommandArgument<C, ?> command;
 
-    JavacordCommand(
-            final @NonNull CommandArgument<C, ?> command,
-            final @NonNull JavacordCommandManager<C> manager
-    ) {
-        this.command = command;
+    JavacordCommandRouter(final @NonNull JavacordCommandManager<C> manager) {
         this.manager = manager;
     }
 
+    /**
+     * Route messages starting with any of the aliases of the given root command to the command manager
+     *
+     * @param rootCommand Root command
+     * @return {@code true} if the root command was added, {@code false} if it was already routed
+     */
+    boolean addRootCommand(final @NonNull StaticArgument<C> rootCommand) {
+        final Consumer<String> aliasListener = alias -> this.rootCommands.putIfAbsent(normalize(alias), rootCommand);
+        if (this.aliasListeners.putIfAbsent(rootCommand, aliasListener) != null) {
+            return false;
+        }
+        for (final String alias : rootCommand.getAliases()) {
+            aliasListener.accept(alias);
+        }
+        rootCommand.registerAliasListener(aliasListener);
+        return true;
+    }
+
+    /**
+     * Stop routing messages to the given root command
+     *
+     * @param rootCommand Root command
+     */
+    void removeRootCommand(final @NonNull StaticArgument<?> rootCommand) {
+        final Consumer<String> aliasListener = this.aliasListeners.remove(rootCommand);
+        if (aliasListener == null) {
+            return;
+        }
+        rootCommand.unregisterAliasListener(aliasListener);
+        this.rootCommands.values().removeIf(command -> command == rootCommand);
+    }
+
     @Override
-    @SuppressWarnings("unchecked")
-    public final void onMessageCreate(final @NonNull MessageCreateEvent event) {
-        MessageAuthor messageAuthor = event.getMessageAuthor();
+    public void onMessageCreate(final @NonNull MessageCreateEvent event) {
+        this.route(event, null);
+    }
 
+    /**
+     * Route the message to the command manager if it targets a registered root command
+     *
+     * @param event       Message event
+     * @param rootCommand Root command the message must target, or {@code null} to accept any root command
+     */
+    void route(final @NonNull MessageCreateEvent event, final @Nullable StaticArgument<?> rootCommand) {
+        if (this.rootCommands.isEmpty()) {
+            return;
+        }
+
+        final MessageAuthor messageAuthor = event.getMessageAuthor();
         if (messageAuthor.isWebhook() || !messageAuthor.isRegularUser()) {
             return;
         }
 
-        JavacordCommandSender commandSender;
+        final String messageContent = event.getMessageContent();
+        if (messageContent.isEmpty()) {
+            return;
+        }
+
+        final JavacordCommandSender commandSender;
         if (event.getMessage().isServerMessage()) {
             commandSender = new JavacordServerSender(event);
         } else if (event.getMessage().isPrivateMessage()) {
@@ -74,24 +130,32 @@ public class JavacordCommand<C> implements MessageCreateListener {
             commandSender = new JavacordCommandSender(event);
         }
 
-        C sender = this.manager.getCommandSenderMapper().apply(commandSender);
+        final C sender = this.manager.getCommandSenderMapper().apply(commandSender);
 
-        String messageContent = event.getMessageContent();
-        String commandPrefix = this.manager.getCommandPrefix(sender);
+        final String commandPrefix = this.manager.getCommandPrefix(sender);
         if (!messageContent.startsWith(commandPrefix)) {
             return;
         }
-        messageContent = messageContent.substring(commandPrefix.length());
 
-        final String finalContent = messageContent;
-        if (((StaticArgument<C>) this.command).getAliases()
-                .stream()
-                .map(String::toLowerCase)
-                .noneMatch(commandAlias -> finalContent.toLowerCase().startsWith(commandAlias))) {
+        final int aliasEnd = messageContent.indexOf(' ', commandPrefix.length());
+        final String alias = messageContent.substring(
+                commandPrefix.length(),
+                aliasEnd == -1 ? messageContent.length() : aliasEnd
+        );
+        final StaticArgument<C> command = this.rootCommands.get(normalize(alias));
+        if (command == null || (rootCommand != null && command != rootCommand)) {
             return;
         }
 
-        this.manager.executeCommand(sender, finalContent)
+        this.execute(sender, commandSender, messageContent.substring(commandPrefix.length()));
+    }
+
+    private void execute(
+            final @NonNull C sender,
+            final @NonNull JavacordCommandSender commandSender,
+            final @NonNull String input
+    ) {
+        this.manager.executeCommand(sender, input)
                 .whenComplete((commandResult, throwable) -> {
                     if (throwable == null) {
                         return;
@@ -173,4 +237,8 @@ public class JavacordCommand<C> implements MessageCreateListener {
                     throwable.printStackTrace();
                 });
     }
+
+    private static @NonNull String normalize(final @NonNull String alias) {
+        return alias.toLowerCase(Locale.ROOT);
+    }
 }
@@ -24,40 +24,37 @@
 package cloud.commandframework.javacord;
 
 import cloud.commandframework.Command;
-import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.internal.CommandRegistrationHandler;
-import java.util.HashMap;
-import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
-import org.javacord.api.listener.message.MessageCreateListener;
 
 final class JavacordRegistrationHandler<C> implements CommandRegistrationHandler {
 
-    private final Map<CommandArgument<?, ?>, JavacordCommand<C>> registeredCommands = new HashMap<>();
-
     private JavacordCommandManager<C> javacordCommandManager;
+    private JavacordCommandRouter<C> router;
+    private boolean routerRegistered;
 
     JavacordRegistrationHandler() {
     }
 
     void initialize(final @NonNull JavacordCommandManager<C> javacordCommandManager) {
         this.javacordCommandManager = javacordCommandManager;
+        this.router = new JavacordCommandRouter<>(javacordCommandManager);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public boolean registerCommand(final @NonNull Command<?> command) {
         /* We only care about the root command argument */
-        final CommandArgument<?, ?> commandArgument = command.getArguments().get(0);
-        if (this.registeredCommands.containsKey(commandArgument)) {
+        final StaticArgument<C> rootCommand = (StaticArgument<C>) command.getArguments().get(0);
+        if (!this.router.addRootCommand(rootCommand)) {
             return false;
         }
-        @SuppressWarnings("unchecked") final JavacordCommand<C> javacordCommand = new JavacordCommand<>(
-                (CommandArgument<C, ?>) commandArgument,
-                this.javacordCommandManager
-        );
-        this.registeredCommands.put(commandArgument, javacordCommand);
-        this.javacordCommandManager.getDiscordApi().addMessageCreateListener(javacordCommand);
+        /* A single listener routes the messages for every root command */
+        if (!this.routerRegistered) {
+            this.javacordCommandManager.getDiscordApi().addMessageCreateListener(this.router);
+            this.routerRegistered = true;
+        }
         return true;
     }
 
@@ -65,11 +62,10 @@ final class JavacordRegistrationHandler<C> implements CommandRegistrationHandler
     public void unregisterRootCommand(
             final @NonNull StaticArgument<?> rootCommand
     ) {
-        final JavacordCommand<C> command = this.registeredCommands.get(rootCommand);
-        if (command == null) {
-            return;
-        }
+        this.router.removeRootCommand(rootCommand);
+    }
 
-        this.javacordCommandManager.getDiscordApi().removeListener(MessageCreateListener.class, command);
+    @NonNull JavacordCommandRouter<C> router() {
+        return this.router;
     }
 }
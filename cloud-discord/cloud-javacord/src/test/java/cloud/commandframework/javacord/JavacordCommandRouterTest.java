@@ -0,0 +1,164 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.javacord;
+
+import cloud.commandframework.arguments.StaticArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.javacord.sender.JavacordCommandSender;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.message.Message;
+import org.javacord.api.entity.message.MessageAuthor;
+import org.javacord.api.event.message.MessageCreateEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JavacordCommandRouterTest {
+
+    private final List<String> executions = new ArrayList<>();
+
+    private JavacordCommandManager<JavacordCommandSender> manager;
+    private JavacordCommandRouter<JavacordCommandSender> router;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        this.manager = new JavacordCommandManager<>(
+                mock(DiscordApi.class),
+                CommandExecutionCoordinator.simpleCoordinator(),
+                Function.identity(),
+                Function.identity(),
+                sender -> "!",
+                (sender, permission) -> true
+        );
+        this.manager.command(this.manager.commandBuilder("ping", "p")
+                .handler(context -> this.executions.add("ping")));
+        this.manager.command(this.manager.commandBuilder("echo")
+                .argument(StringArgument.greedy("text"))
+                .handler(context -> this.executions.add("echo " + context.<String>get("text"))));
+        this.router = ((JavacordRegistrationHandler<JavacordCommandSender>) this.manager.commandRegistrationHandler()).router();
+    }
+
+    @Test
+    void Route_PrefixedRootCommand_ExecutesCommand() {
+        // Act
+        this.router.onMessageCreate(message("!ping"));
+        this.router.onMessageCreate(message("!echo hello world"));
+
+        // Assert
+        assertThat(this.executions).containsExactly("ping", "echo hello world").inOrder();
+    }
+
+    @Test
+    void Route_MissingPrefix_IgnoresMessage() {
+        // Act
+        this.router.onMessageCreate(message("ping"));
+        this.router.onMessageCreate(message("?ping"));
+        this.router.onMessageCreate(message("!"));
+        this.router.onMessageCreate(message(""));
+
+        // Assert
+        assertThat(this.executions).isEmpty();
+    }
+
+    @Test
+    void Route_Alias_ExecutesCommandIgnoringCase() {
+        // Act
+        this.router.onMessageCreate(message("!p"));
+        this.router.onMessageCreate(message("!PING"));
+
+        // Assert
+        assertThat(this.executions).containsExactly("ping", "ping");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void Route_AliasRegisteredAfterCommand_ExecutesCommand() {
+        // Arrange
+        final StaticArgument<JavacordCommandSender> root = (StaticArgument<JavacordCommandSender>) this.manager
+                .commandTree().getNamedNode("ping").getValue();
+        root.registerAlias("pong");
+
+        // Act
+        this.router.onMessageCreate(message("!pong"));
+
+        // Assert
+        assertThat(this.executions).containsExactly("ping");
+    }
+
+    @Test
+    void Route_UnknownRootCommand_IgnoresMessage() {
+        // Act
+        this.router.onMessageCreate(message("!unknown"));
+        this.router.onMessageCreate(message("!pingpong"));
+        this.router.onMessageCreate(message("! ping"));
+
+        // Assert
+        assertThat(this.executions).isEmpty();
+    }
+
+    @Test
+    void Route_RemovedRootCommand_IgnoresMessage() {
+        // Arrange
+        this.router.removeRootCommand((StaticArgument<?>) this.manager.commandTree().getNamedNode("ping").getValue());
+
+        // Act
+        this.router.onMessageCreate(message("!ping"));
+        this.router.onMessageCreate(message("!p"));
+        this.router.onMessageCreate(message("!echo still routed"));
+
+        // Assert
+        assertThat(this.executions).containsExactly("echo still routed");
+    }
+
+    @Test
+    void Route_BotAuthor_IgnoresMessage() {
+        // Arrange
+        final MessageCreateEvent event = message("!ping");
+        when(event.getMessageAuthor().isRegularUser()).thenReturn(false);
+
+        // Act
+        this.router.onMessageCreate(event);
+
+        // Assert
+        assertThat(this.executions).isEmpty();
+    }
+
+    private static MessageCreateEvent message(final String content) {
+        final MessageAuthor author = mock(MessageAuthor.class);
+        when(author.isRegularUser()).thenReturn(true);
+        final MessageCreateEvent event = mock(MessageCreateEvent.class);
+        when(event.getMessageAuthor()).thenReturn(author);
+        when(event.getMessage()).thenReturn(mock(Message.class));
+        when(event.getMessageContent()).thenReturn(content);
+        return event;
+    }
+}
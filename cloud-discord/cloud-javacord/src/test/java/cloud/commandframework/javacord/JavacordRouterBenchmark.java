@@ -0,0 +1,219 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.javacord;
+
+import cloud.commandframework.arguments.StaticArgument;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.javacord.sender.JavacordCommandSender;
+import cloud.commandframework.javacord.sender.JavacordPrivateSender;
+import cloud.commandframework.javacord.sender.JavacordServerSender;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.message.Message;
+import org.javacord.api.entity.message.MessageAuthor;
+import org.javacord.api.event.message.MessageCreateEvent;
+import org.javacord.api.listener.message.MessageCreateListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Replays the same message stream through one listener per root command, as commands were dispatched before the
+ * shared router existed, and through the shared router
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class JavacordRouterBenchmark {
+
+    private static final int ROOT_COMMANDS = 80;
+    private static final int MESSAGES = 1000;
+
+    private final List<MessageCreateEvent> messages = new ArrayList<>();
+    private final List<PerRootCommandListener> listeners = new ArrayList<>();
+    private JavacordCommandRouter<JavacordCommandSender> router;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        final JavacordCommandManager<JavacordCommandSender> manager = new JavacordCommandManager<>(
+                mock(DiscordApi.class),
+                CommandExecutionCoordinator.simpleCoordinator(),
+                Function.identity(),
+                Function.identity(),
+                sender -> "!",
+                null
+        );
+        /* The names have the same length, so that no root command is a prefix of another one */
+        for (int i = 0; i < ROOT_COMMANDS; i++) {
+            manager.command(manager.commandBuilder(rootCommand(i)).handler(context -> {
+            }));
+        }
+
+        this.router = ((JavacordRegistrationHandler<JavacordCommandSender>) manager.commandRegistrationHandler()).router();
+        manager.commandTree().getRootNodes().forEach(node -> this.listeners.add(
+                new PerRootCommandListener((StaticArgument<JavacordCommandSender>) node.getValue(), manager)
+        ));
+
+        /* Roughly one in ten messages is a command, the rest is regular chat */
+        final Random random = new Random(42L);
+        for (int i = 0; i < MESSAGES; i++) {
+            final String content;
+            if (random.nextInt(10) == 0) {
+                content = "!" + rootCommand(random.nextInt(ROOT_COMMANDS));
+            } else {
+                content = "chat message number " + i;
+            }
+            this.messages.add(message(content));
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    public void testListenerPerRootCommand() {
+        for (final MessageCreateEvent message : this.messages) {
+            for (final PerRootCommandListener listener : this.listeners) {
+                listener.onMessageCreate(message);
+            }
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    public void testSharedRouter() {
+        for (final MessageCreateEvent message : this.messages) {
+            this.router.onMessageCreate(message);
+        }
+    }
+
+    private static String rootCommand(final int index) {
+        return String.format("command%02d", index);
+    }
+
+    /* Proxies are used instead of mocks, as mock invocations would otherwise dominate the measurements */
+    private static MessageCreateEvent message(final String content) {
+        final MessageAuthor author = stub(MessageAuthor.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "isRegularUser":
+                    return true;
+                case "isWebhook":
+                    return false;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        final Message message = stub(Message.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "isServerMessage":
+                case "isPrivateMessage":
+                    return false;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        return stub(MessageCreateEvent.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getMessageAuthor":
+                    return author;
+                case "getMessage":
+                    return message;
+                case "getMessageContent":
+                    return content;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private static <T> T stub(final Class<T> clazz, final InvocationHandler handler) {
+        return clazz.cast(Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]{clazz}, handler));
+    }
+
+
+    /**
+     * The listener that was registered for every root command before the shared router existed. Each listener builds
+     * and maps the sender, resolves the prefix and tests the aliases of its own root command for every message
+     */
+    private static final class PerRootCommandListener implements MessageCreateListener {
+
+        private final StaticArgument<JavacordCommandSender> command;
+        private final JavacordCommandManager<JavacordCommandSender> manager;
+
+        private PerRootCommandListener(
+                final StaticArgument<JavacordCommandSender> command,
+                final JavacordCommandManager<JavacordCommandSender> manager
+        ) {
+            this.command = command;
+            this.manager = manager;
+        }
+
+        @Override
+        public void onMessageCreate(final MessageCreateEvent event) {
+            final MessageAuthor messageAuthor = event.getMessageAuthor();
+            if (messageAuthor.isWebhook() || !messageAuthor.isRegularUser()) {
+                return;
+            }
+
+            final JavacordCommandSender commandSender;
+            if (event.getMessage().isServerMessage()) {
+                commandSender = new JavacordServerSender(event);
+            } else if (event.getMessage().isPrivateMessage()) {
+                commandSender = new JavacordPrivateSender(event);
+            } else {
+                commandSender = new JavacordCommandSender(event);
+            }
+
+            final JavacordCommandSender sender = this.manager.getCommandSenderMapper().apply(commandSender);
+
+            final String commandPrefix = this.manager.getCommandPrefix(sender);
+            if (!event.getMessageContent().startsWith(commandPrefix)) {
+                return;
+            }
+            final String content = event.getMessageContent().substring(commandPrefix.length());
+
+            if (this.command.getAliases()
+                    .stream()
+                    .map(String::toLowerCase)
+                    .noneMatch(commandAlias -> content.toLowerCase().startsWith(commandAlias))) {
+                return;
+            }
+
+            this.manager.executeCommand(sender, content);
+        }
+    }
+}
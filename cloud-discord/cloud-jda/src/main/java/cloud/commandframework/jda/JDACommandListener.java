@@ -61,19 +61,30 @@ public class JDACommandListener<C> extends ListenerAdapter {
 
     @Override
     public final void onMessageReceived(final @NonNull MessageReceivedEvent event) {
-        final Message message = event.getMessage();
-        final C sender = this.commandManager.getCommandSenderMapper().apply(event);
-
+        final JDAMessagePreFilter preFilter = this.commandManager.messagePreFilter();
         if (this.commandManager.getBotId() == event.getAuthor().getIdLong()) {
+            preFilter.reject(JDAMessagePreFilter.Stage.BOT_AUTHOR);
             return;
         }
 
-        final String prefix = this.commandManager.getPrefixMapper().apply(sender);
+        final Message message = event.getMessage();
         String content = message.getContentRaw();
+        if (!preFilter.test(event, content)) {
+            return;
+        }
+
+        final C sender = this.commandManager.getCommandSenderMapper().apply(event);
+        final String prefix = preFilter.prefix(event, () -> this.commandManager.getPrefixMapper().apply(sender));
 
         if (!content.startsWith(prefix)) {
+            preFilter.reject(JDAMessagePreFilter.Stage.PREFIX);
+            return;
+        }
+        if (!preFilter.matchesRootAlias(content, prefix.length())) {
+            preFilter.reject(JDAMessagePreFilter.Stage.ROOT_ALIAS);
             return;
         }
+        preFilter.accept();
 
         content = content.substring(prefix.length());
 
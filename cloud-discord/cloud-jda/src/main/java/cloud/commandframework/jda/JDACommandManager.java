@@ -27,7 +27,6 @@ import cloud.commandframework.CloudCapability;
 import cloud.commandframework.CommandManager;
 import cloud.commandframework.CommandTree;
 import cloud.commandframework.execution.CommandExecutionCoordinator;
-import cloud.commandframework.internal.CommandRegistrationHandler;
 import cloud.commandframework.jda.parsers.ChannelArgument;
 import cloud.commandframework.jda.parsers.RoleArgument;
 import cloud.commandframework.jda.parsers.UserArgument;
@@ -44,6 +43,7 @@ import net.dv8tion.jda.api.entities.MessageChannel;
 import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -63,6 +63,7 @@ public class JDACommandManager<C> extends CommandManager<C> {
     private final BiFunction<@NonNull C, @NonNull String, @NonNull Boolean> permissionMapper;
     private final Function<@NonNull MessageReceivedEvent, @NonNull C> commandSenderMapper;
     private final Function<@NonNull C, @NonNull MessageReceivedEvent> backwardsCommandSenderMapper;
+    private final JDAMessagePreFilter messagePreFilter = new JDAMessagePreFilter();
 
     /**
      * Construct a new JDA Command Manager
@@ -91,7 +92,8 @@ public class JDACommandManager<C> extends CommandManager<C> {
             final @NonNull Function<@NonNull C, @NonNull MessageReceivedEvent> backwardsCommandSenderMapper
     )
             throws InterruptedException {
-        super(commandExecutionCoordinator, CommandRegistrationHandler.nullCommandRegistrationHandler());
+        super(commandExecutionCoordinator, new JDARegistrationHandler());
+        ((JDARegistrationHandler) this.commandRegistrationHandler()).initialize(this.messagePreFilter);
         this.jda = jda;
         this.prefixMapper = prefixMapper;
         this.permissionMapper = permissionMapper;
@@ -159,6 +161,17 @@ public class JDACommandManager<C> extends CommandManager<C> {
         return this.backwardsCommandSenderMapper;
     }
 
+    /**
+     * Get the filter that rejects messages which cannot be commands, before the sender is mapped
+     *
+     * @return Message pre-filter
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public final @NonNull JDAMessagePreFilter messagePreFilter() {
+        return this.messagePreFilter;
+    }
+
     /**
      * Get the bots discord id
      *
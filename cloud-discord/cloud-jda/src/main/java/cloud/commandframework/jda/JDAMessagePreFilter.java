@@ -0,0 +1,458 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.jda;
+
+import cloud.commandframework.arguments.StaticArgument;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Filter that rejects messages which cannot be commands, before the message author is mapped to a command sender.
+ * <p>
+ * Mapping the sender and resolving its prefix is the most expensive part of inspecting a message, and most
+ * messages a bot receives are not commands. The filter inspects the raw message content instead, using:
+ * <ul>
+ *     <li>a set of static prefixes, containing every prefix that the prefix mapper may return,</li>
+ *     <li>a cache of the prefixes that were resolved for each guild, for bots with per-guild prefixes, and</li>
+ *     <li>a trie of the aliases of all root commands, if messages targeting unknown commands may be ignored.</li>
+ * </ul>
+ * All stages are disabled by default. The number of messages rejected by each stage is recorded, see
+ * {@link #rejectedMessages(Stage)}.
+ *
+ * @since 1.9.0
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public final class JDAMessagePreFilter {
+
+    private static final String[] NO_PREFIXES = new String[0];
+
+    private final Map<StaticArgument<?>, Consumer<String>> rootCommands = new ConcurrentHashMap<>();
+    private final LongAdder[] rejectedMessages = new LongAdder[Stage.values().length];
+    private final LongAdder acceptedMessages = new LongAdder();
+    private final LongSupplier clock;
+
+    private volatile String[] staticPrefixes = NO_PREFIXES;
+    private volatile boolean filterRootAliases;
+    private volatile AliasTrie rootAliases = AliasTrie.EMPTY;
+
+    private volatile @Nullable Map<Long, CachedPrefix> guildPrefixes;
+    private volatile long guildPrefixExpiry;
+
+    JDAMessagePreFilter() {
+        this(System::nanoTime);
+    }
+
+    JDAMessagePreFilter(final @NonNull LongSupplier clock) {
+        this.clock = clock;
+        for (int i = 0; i < this.rejectedMessages.length; i++) {
+            this.rejectedMessages[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Set the static prefixes. Messages that do not start with any of the prefixes are rejected
+     * without mapping the sender, so the prefixes must include every prefix that the prefix mapper may return.
+     * Passing no prefixes disables the stage
+     *
+     * @param prefixes Every prefix that the prefix mapper may return
+     * @return The filter instance
+     */
+    public @NonNull JDAMessagePreFilter staticPrefixes(final @NonNull String @NonNull... prefixes) {
+        this.staticPrefixes = prefixes.clone();
+        return this;
+    }
+
+    /**
+     * Set whether messages that do not start with the alias of a root command, directly after the prefix,
+     * should be rejected. This prevents the manager from responding to unknown commands, and is therefore disabled
+     * by default
+     *
+     * @param filterRootAliases Whether messages should be filtered by the root command aliases
+     * @return The filter instance
+     */
+    public @NonNull JDAMessagePreFilter filterRootAliases(final boolean filterRootAliases) {
+        this.filterRootAliases = filterRootAliases;
+        return this;
+    }
+
+    /**
+     * Cache the prefixes resolved for messages sent in guilds, so that later messages from the same guild
+     * can be checked against the prefix before the sender is mapped. This may only be enabled if the prefix mapper
+     * returns the same prefix for every sender in a guild. Use {@link #invalidateGuildPrefix(long)} when the prefix
+     * of a guild changes. A maximum size of {@code 0} disables the cache
+     *
+     * @param maximumSize Maximum number of cached guild prefixes. The least recently used prefixes are evicted first
+     * @param expiry      Time after which a cached prefix is resolved again
+     * @param unit        Unit of the expiry time
+     * @return The filter instance
+     */
+    public @NonNull JDAMessagePreFilter guildPrefixCache(
+            final int maximumSize,
+            final long expiry,
+            final @NonNull TimeUnit unit
+    ) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("The maximum size may not be negative");
+        }
+        this.guildPrefixExpiry = unit.toNanos(expiry);
+        if (maximumSize == 0) {
+            this.guildPrefixes = null;
+            return this;
+        }
+        this.guildPrefixes = new LinkedHashMap<Long, CachedPrefix>(16, 0.75f, true) {
+            private static final long serialVersionUID = 6829315052113428165L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, CachedPrefix> eldest) {
+                return this.size() > maximumSize;
+            }
+        };
+        return this;
+    }
+
+    /**
+     * Remove the cached prefix of a guild
+     *
+     * @param guildId Guild ID
+     */
+    public void invalidateGuildPrefix(final long guildId) {
+        final Map<Long, CachedPrefix> guildPrefixes = this.guildPrefixes;
+        if (guildPrefixes == null) {
+            return;
+        }
+        synchronized (guildPrefixes) {
+            guildPrefixes.remove(guildId);
+        }
+    }
+
+    /**
+     * Remove the cached prefixes of all guilds
+     */
+    public void invalidateGuildPrefixes() {
+        final Map<Long, CachedPrefix> guildPrefixes = this.guildPrefixes;
+        if (guildPrefixes == null) {
+            return;
+        }
+        synchronized (guildPrefixes) {
+            guildPrefixes.clear();
+        }
+    }
+
+    /**
+     * Get the number of messages that were rejected by the given stage
+     *
+     * @param stage Stage
+     * @return Number of rejected messages
+     */
+    public long rejectedMessages(final @NonNull Stage stage) {
+        return this.rejectedMessages[stage.ordinal()].sum();
+    }
+
+    /**
+     * Get the number of messages that passed every stage, and were executed as commands
+     *
+     * @return Number of accepted messages
+     */
+    public long acceptedMessages() {
+        return this.acceptedMessages.sum();
+    }
+
+    /**
+     * Reset the message counters
+     */
+    public void resetCounters() {
+        for (final LongAdder counter : this.rejectedMessages) {
+            counter.reset();
+        }
+        this.acceptedMessages.reset();
+    }
+
+    /**
+     * Test the raw content of a message, before the sender has been mapped
+     *
+     * @param event   Message event
+     * @param content Raw message content
+     * @return {@code true} if the message may be a command
+     */
+    boolean test(final @NonNull MessageReceivedEvent event, final @NonNull String content) {
+        final String[] staticPrefixes = this.staticPrefixes;
+        if (staticPrefixes.length != 0) {
+            boolean matchedPrefix = false;
+            for (final String prefix : staticPrefixes) {
+                if (content.startsWith(prefix)) {
+                    if (this.matchesRootAlias(content, prefix.length())) {
+                        return true;
+                    }
+                    matchedPrefix = true;
+                }
+            }
+            this.reject(matchedPrefix ? Stage.ROOT_ALIAS : Stage.STATIC_PREFIX);
+            return false;
+        }
+
+        final String cachedPrefix = this.cachedPrefix(event);
+        if (cachedPrefix == null) {
+            return true;
+        }
+        if (!content.startsWith(cachedPrefix)) {
+            this.reject(Stage.GUILD_PREFIX);
+            return false;
+        }
+        if (!this.matchesRootAlias(content, cachedPrefix.length())) {
+            this.reject(Stage.ROOT_ALIAS);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Resolve the prefix for the given message, using the guild prefix cache if it is enabled
+     *
+     * @param event          Message event
+     * @param prefixSupplier Supplier that resolves the prefix using the mapped sender
+     * @return The prefix
+     */
+    @NonNull String prefix(
+            final @NonNull MessageReceivedEvent event,
+            final @NonNull Supplier<@NonNull String> prefixSupplier
+    ) {
+        final String cachedPrefix = this.cachedPrefix(event);
+        if (cachedPrefix != null) {
+            return cachedPrefix;
+        }
+        final String prefix = prefixSupplier.get();
+        final Map<Long, CachedPrefix> guildPrefixes = this.guildPrefixes;
+        if (guildPrefixes != null && event.isFromGuild()) {
+            final CachedPrefix cached = new CachedPrefix(prefix, this.clock.getAsLong() + this.guildPrefixExpiry);
+            synchronized (guildPrefixes) {
+                guildPrefixes.put(event.getGuild().getIdLong(), cached);
+            }
+        }
+        return prefix;
+    }
+
+    /**
+     * Check whether the content starts with the alias of a root command at the given index. This always
+     * returns {@code true} if root alias filtering is disabled
+     *
+     * @param content Message content
+     * @param start   Index of the first character after the prefix
+     * @return {@code true} if the content may target a root command
+     */
+    boolean matchesRootAlias(final @NonNull String content, final int start) {
+        return !this.filterRootAliases || this.rootAliases.matches(content, start);
+    }
+
+    void reject(final @NonNull Stage stage) {
+        this.rejectedMessages[stage.ordinal()].increment();
+    }
+
+    void accept() {
+        this.acceptedMessages.increment();
+    }
+
+    void addRootCommand(final @NonNull StaticArgument<?> rootCommand) {
+        final Consumer<String> aliasListener = this::addRootAlias;
+        if (this.rootCommands.putIfAbsent(rootCommand, aliasListener) != null) {
+            return;
+        }
+        rootCommand.registerAliasListener(aliasListener);
+        for (final String alias : rootCommand.getAliases()) {
+            this.addRootAlias(alias);
+        }
+    }
+
+    void removeRootCommand(final @NonNull StaticArgument<?> rootCommand) {
+        final Consumer<String> aliasListener = this.rootCommands.remove(rootCommand);
+        if (aliasListener == null) {
+            return;
+        }
+        rootCommand.unregisterAliasListener(aliasListener);
+        this.rebuildRootAliases();
+    }
+
+    private synchronized void addRootAlias(final @NonNull String alias) {
+        this.rootAliases = this.rootAliases.with(alias);
+    }
+
+    /* Aliases may be shared by several root commands, so the trie is rebuilt from the remaining root commands */
+    private synchronized void rebuildRootAliases() {
+        AliasTrie rootAliases = AliasTrie.EMPTY;
+        for (final StaticArgument<?> rootCommand : this.rootCommands.keySet()) {
+            for (final String alias : rootCommand.getAliases()) {
+                rootAliases = rootAliases.with(alias);
+            }
+        }
+        this.rootAliases = rootAliases;
+    }
+
+    private @Nullable String cachedPrefix(final @NonNull MessageReceivedEvent event) {
+        final Map<Long, CachedPrefix> guildPrefixes = this.guildPrefixes;
+        if (guildPrefixes == null || !event.isFromGuild()) {
+            return null;
+        }
+        final long guildId = event.getGuild().getIdLong();
+        synchronized (guildPrefixes) {
+            final CachedPrefix cached = guildPrefixes.get(guildId);
+            if (cached == null) {
+                return null;
+            }
+            if (this.clock.getAsLong() - cached.expiresAt > 0) {
+                guildPrefixes.remove(guildId);
+                return null;
+            }
+            return cached.prefix;
+        }
+    }
+
+
+    /**
+     * Stages of the filter. Messages are counted by the first stage that rejects them
+     */
+    public enum Stage {
+        /**
+         * The message was sent by the bot itself
+         */
+        BOT_AUTHOR,
+        /**
+         * The message did not start with any of the {@link #staticPrefixes(String...) static prefixes}
+         */
+        STATIC_PREFIX,
+        /**
+         * The message did not start with the cached prefix of the guild it was sent in
+         */
+        GUILD_PREFIX,
+        /**
+         * The message did not start with the alias of a root command
+         */
+        ROOT_ALIAS,
+        /**
+         * The message did not start with the prefix of the mapped sender
+         */
+        PREFIX
+    }
+
+
+    private static final class CachedPrefix {
+
+        private final String prefix;
+        private final long expiresAt;
+
+        private CachedPrefix(final @NonNull String prefix, final long expiresAt) {
+            this.prefix = prefix;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+
+    /**
+     * Immutable trie of lower-case aliases. Lookups walk the message content directly, without allocating
+     */
+    private static final class AliasTrie {
+
+        private static final AliasTrie EMPTY = new AliasTrie(new char[0], new AliasTrie[0], false);
+
+        private final char[] keys;
+        private final AliasTrie[] children;
+        private final boolean terminal;
+
+        private AliasTrie(final char @NonNull [] keys, final @NonNull AliasTrie @NonNull [] children, final boolean terminal) {
+            this.keys = keys;
+            this.children = children;
+            this.terminal = terminal;
+        }
+
+        /**
+         * Create a trie that also contains the given alias. Only the nodes along the path of the alias are copied, and
+         * the rest of the trie is shared with this trie
+         *
+         * @param alias Alias to add
+         * @return Trie containing the alias, or this trie if it already contained the alias
+         */
+        private @NonNull AliasTrie with(final @NonNull String alias) {
+            return this.with(alias, 0);
+        }
+
+        private @NonNull AliasTrie with(final @NonNull String alias, final int depth) {
+            if (depth == alias.length()) {
+                return this.terminal ? this : new AliasTrie(this.keys, this.children, true);
+            }
+            final char key = Character.toLowerCase(alias.charAt(depth));
+            final int index = Arrays.binarySearch(this.keys, key);
+            if (index >= 0) {
+                final AliasTrie child = this.children[index].with(alias, depth + 1);
+                if (child == this.children[index]) {
+                    return this;
+                }
+                final AliasTrie[] children = this.children.clone();
+                children[index] = child;
+                return new AliasTrie(this.keys, children, this.terminal);
+            }
+            final int insertionPoint = -index - 1;
+            final char[] keys = new char[this.keys.length + 1];
+            final AliasTrie[] children = new AliasTrie[this.children.length + 1];
+            System.arraycopy(this.keys, 0, keys, 0, insertionPoint);
+            System.arraycopy(this.children, 0, children, 0, insertionPoint);
+            keys[insertionPoint] = key;
+            children[insertionPoint] = EMPTY.with(alias, depth + 1);
+            System.arraycopy(this.keys, insertionPoint, keys, insertionPoint + 1, this.keys.length - insertionPoint);
+            System.arraycopy(this.children, insertionPoint, children, insertionPoint + 1, this.children.length - insertionPoint);
+            return new AliasTrie(keys, children, this.terminal);
+        }
+
+        /**
+         * Check whether the content contains an alias, followed by a space or the end of the content, at the given index
+         *
+         * @param content Content
+         * @param start   Start index
+         * @return {@code true} if an alias was found
+         */
+        private boolean matches(final @NonNull String content, final int start) {
+            AliasTrie node = this;
+            for (int i = start; i < content.length(); i++) {
+                final char character = content.charAt(i);
+                if (character == ' ') {
+                    return node.terminal;
+                }
+                final int index = Arrays.binarySearch(node.keys, Character.toLowerCase(character));
+                if (index < 0) {
+                    return false;
+                }
+                node = node.children[index];
+            }
+            return node.terminal;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.jda;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.arguments.StaticArgument;
+import cloud.commandframework.internal.CommandRegistrationHandler;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Registration handler that keeps track of the root commands, so that the {@link JDAMessagePreFilter}
+ * can reject messages that do not target any of them
+ */
+final class JDARegistrationHandler implements CommandRegistrationHandler {
+
+    private JDAMessagePreFilter messagePreFilter;
+
+    JDARegistrationHandler() {
+    }
+
+    void initialize(final @NonNull JDAMessagePreFilter messagePreFilter) {
+        this.messagePreFilter = messagePreFilter;
+    }
+
+    @Override
+    public boolean registerCommand(final @NonNull Command<?> command) {
+        /* We only care about the root command argument */
+        this.messagePreFilter.addRootCommand((StaticArgument<?>) command.getArguments().get(0));
+        return true;
+    }
+
+    @Override
+    public void unregisterRootCommand(final @NonNull StaticArgument<?> rootCommand) {
+        this.messagePreFilter.removeRootCommand(rootCommand);
+    }
+}
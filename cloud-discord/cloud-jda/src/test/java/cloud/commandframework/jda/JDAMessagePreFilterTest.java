@@ -0,0 +1,266 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.jda;
+
+import cloud.commandframework.arguments.StaticArgument;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JDAMessagePreFilterTest {
+
+    private final AtomicLong time = new AtomicLong();
+    private final AtomicInteger prefixResolutions = new AtomicInteger();
+
+    private JDAMessagePreFilter filter;
+
+    @BeforeEach
+    void setup() {
+        this.filter = new JDAMessagePreFilter(this.time::get);
+    }
+
+    @Test
+    void Test_StaticPrefixes_RejectsMessagesWithoutPrefix() {
+        // Arrange
+        this.filter.staticPrefixes("!", "?");
+        final MessageReceivedEvent event = guildMessage(1L);
+
+        // Act & Assert
+        assertThat(this.filter.test(event, "!help")).isTrue();
+        assertThat(this.filter.test(event, "?help")).isTrue();
+        assertThat(this.filter.test(event, "hello there")).isFalse();
+        assertThat(this.filter.rejectedMessages(JDAMessagePreFilter.Stage.STATIC_PREFIX)).isEqualTo(1L);
+    }
+
+    @Test
+    void Test_RootAliases_MatchesWholeAliasIgnoringCase() {
+        // Arrange
+        this.filter.staticPrefixes("!").filterRootAliases(true);
+        this.filter.addRootCommand(StaticArgument.of("help", "h", "helpme"));
+        this.filter.addRootCommand(StaticArgument.of("ban"));
+        final MessageReceivedEvent event = guildMessage(1L);
+
+        // Act & Assert
+        assertThat(this.filter.test(event, "!help")).isTrue();
+        assertThat(this.filter.test(event, "!HELP page")).isTrue();
+        assertThat(this.filter.test(event, "!h")).isTrue();
+        assertThat(this.filter.test(event, "!helpme")).isTrue();
+        assertThat(this.filter.test(event, "!ban user")).isTrue();
+        assertThat(this.filter.test(event, "!hel")).isFalse();
+        assertThat(this.filter.test(event, "!helpmex")).isFalse();
+        assertThat(this.filter.test(event, "!bank")).isFalse();
+        assertThat(this.filter.test(event, "!")).isFalse();
+        assertThat(this.filter.rejectedMessages(JDAMessagePreFilter.Stage.ROOT_ALIAS)).isEqualTo(4L);
+    }
+
+    @Test
+    void Test_RootAliasesDisabled_AcceptsUnknownCommands() {
+        // Arrange
+        this.filter.staticPrefixes("!");
+        this.filter.addRootCommand(StaticArgument.of("help"));
+
+        // Act & Assert
+        assertThat(this.filter.test(guildMessage(1L), "!unknown")).isTrue();
+    }
+
+    @Test
+    void Test_RootCommandsAddedAndRemoved_UpdatesAliases() {
+        // Arrange
+        this.filter.staticPrefixes("!").filterRootAliases(true);
+        final StaticArgument<Object> help = StaticArgument.of("help");
+        final StaticArgument<Object> ban = StaticArgument.of("ban");
+        final MessageReceivedEvent event = guildMessage(1L);
+        this.filter.addRootCommand(help);
+        this.filter.addRootCommand(ban);
+
+        // Act
+        help.registerAlias("assist");
+        this.filter.removeRootCommand(ban);
+
+        // Assert
+        assertThat(this.filter.test(event, "!assist")).isTrue();
+        assertThat(this.filter.test(event, "!help")).isTrue();
+        assertThat(this.filter.test(event, "!ban")).isFalse();
+
+        // Act
+        ban.registerAlias("kick");
+        this.filter.addRootCommand(ban);
+
+        // Assert
+        assertThat(this.filter.test(event, "!kick")).isTrue();
+        assertThat(this.filter.test(event, "!ban")).isTrue();
+    }
+
+    @Test
+    void Test_RootCommandSharingAliasRemoved_KeepsAlias() {
+        // Arrange
+        this.filter.staticPrefixes("!").filterRootAliases(true);
+        final StaticArgument<Object> first = StaticArgument.of("first", "shared");
+        this.filter.addRootCommand(first);
+        this.filter.addRootCommand(StaticArgument.of("second", "shared"));
+
+        // Act
+        this.filter.removeRootCommand(first);
+
+        // Assert
+        assertThat(this.filter.test(guildMessage(1L), "!shared")).isTrue();
+        assertThat(this.filter.test(guildMessage(1L), "!first")).isFalse();
+    }
+
+    @Test
+    void Prefix_CachedGuild_DoesNotResolveAgain() {
+        // Arrange
+        this.filter.guildPrefixCache(10, 1L, TimeUnit.MINUTES);
+        final MessageReceivedEvent event = guildMessage(1L);
+
+        // Act
+        final boolean uncached = this.filter.test(event, "$help");
+        final String prefix = this.prefix(event, "$");
+        final String cachedPrefix = this.prefix(event, "!");
+
+        // Assert
+        assertThat(uncached).isTrue();
+        assertThat(prefix).isEqualTo("$");
+        assertThat(cachedPrefix).isEqualTo("$");
+        assertThat(this.prefixResolutions.get()).isEqualTo(1);
+        assertThat(this.filter.test(event, "$help")).isTrue();
+        assertThat(this.filter.test(event, "!help")).isFalse();
+        assertThat(this.filter.rejectedMessages(JDAMessagePreFilter.Stage.GUILD_PREFIX)).isEqualTo(1L);
+    }
+
+    @Test
+    void Prefix_PrivateMessage_IsNotCached() {
+        // Arrange
+        this.filter.guildPrefixCache(10, 1L, TimeUnit.MINUTES);
+        final MessageReceivedEvent event = mock(MessageReceivedEvent.class);
+
+        // Act
+        this.prefix(event, "$");
+        this.prefix(event, "$");
+
+        // Assert
+        assertThat(this.prefixResolutions.get()).isEqualTo(2);
+        assertThat(this.filter.test(event, "!help")).isTrue();
+    }
+
+    @Test
+    void Prefix_Expired_ResolvesAgain() {
+        // Arrange
+        this.filter.guildPrefixCache(10, 1L, TimeUnit.MINUTES);
+        final MessageReceivedEvent event = guildMessage(1L);
+        this.prefix(event, "$");
+        this.time.addAndGet(TimeUnit.MINUTES.toNanos(1L) + 1L);
+
+        // Act
+        final boolean accepted = this.filter.test(event, "!help");
+        final String prefix = this.prefix(event, "!");
+
+        // Assert
+        assertThat(accepted).isTrue();
+        assertThat(prefix).isEqualTo("!");
+        assertThat(this.prefixResolutions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void Prefix_MaximumSizeExceeded_EvictsLeastRecentlyUsedGuild() {
+        // Arrange
+        this.filter.guildPrefixCache(2, 1L, TimeUnit.MINUTES);
+        final MessageReceivedEvent first = guildMessage(1L);
+        final MessageReceivedEvent second = guildMessage(2L);
+        final MessageReceivedEvent third = guildMessage(3L);
+        this.prefix(first, "$");
+        this.prefix(second, "$");
+        this.prefix(first, "$");
+
+        // Act
+        this.prefix(third, "$");
+
+        // Assert
+        assertThat(this.filter.test(first, "!help")).isFalse();
+        assertThat(this.filter.test(second, "!help")).isTrue();
+        assertThat(this.filter.test(third, "!help")).isFalse();
+    }
+
+    @Test
+    void InvalidateGuildPrefix_CachedGuild_ResolvesAgain() {
+        // Arrange
+        this.filter.guildPrefixCache(10, 1L, TimeUnit.MINUTES);
+        final MessageReceivedEvent event = guildMessage(1L);
+        this.prefix(event, "$");
+
+        // Act
+        this.filter.invalidateGuildPrefix(1L);
+
+        // Assert
+        assertThat(this.filter.test(event, "!help")).isTrue();
+        assertThat(this.prefix(event, "!")).isEqualTo("!");
+        assertThat(this.prefixResolutions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void ResetCounters_AfterMessages_ClearsCounters() {
+        // Arrange
+        this.filter.staticPrefixes("!");
+        this.filter.test(guildMessage(1L), "hello");
+        this.filter.reject(JDAMessagePreFilter.Stage.BOT_AUTHOR);
+        this.filter.accept();
+
+        // Act
+        final long rejectedBeforeReset = this.filter.rejectedMessages(JDAMessagePreFilter.Stage.STATIC_PREFIX);
+        final long acceptedBeforeReset = this.filter.acceptedMessages();
+        this.filter.resetCounters();
+
+        // Assert
+        assertThat(rejectedBeforeReset).isEqualTo(1L);
+        assertThat(acceptedBeforeReset).isEqualTo(1L);
+        for (final JDAMessagePreFilter.Stage stage : JDAMessagePreFilter.Stage.values()) {
+            assertThat(this.filter.rejectedMessages(stage)).isEqualTo(0L);
+        }
+        assertThat(this.filter.acceptedMessages()).isEqualTo(0L);
+    }
+
+    private String prefix(final MessageReceivedEvent event, final String prefix) {
+        return this.filter.prefix(event, () -> {
+            this.prefixResolutions.incrementAndGet();
+            return prefix;
+        });
+    }
+
+    private static MessageReceivedEvent guildMessage(final long guildId) {
+        final Guild guild = mock(Guild.class);
+        when(guild.getIdLong()).thenReturn(guildId);
+        final MessageReceivedEvent event = mock(MessageReceivedEvent.class);
+        when(event.isFromGuild()).thenReturn(true);
+        when(event.getGuild()).thenReturn(guild);
+        return event;
+    }
+}
@@ -1,5 +1,6 @@
 plugins {
     id("cloud.kotlin-conventions")
+    kotlin("kapt")
 }
 
 dependencies {
@@ -7,4 +8,7 @@ dependencies {
     api(projects.cloudAnnotations)
     api(kotlin("reflect"))
     api(libs.bundles.coroutines)
+
+    testImplementation(libs.jmhCore)
+    kaptTest(libs.jmhGeneratorAnnprocess)
 }
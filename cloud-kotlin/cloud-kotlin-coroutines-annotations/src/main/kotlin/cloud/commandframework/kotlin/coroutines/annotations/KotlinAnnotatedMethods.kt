@@ -28,21 +28,31 @@ import cloud.commandframework.annotations.MethodCommandExecutionHandler
 import cloud.commandframework.context.CommandContext
 import cloud.commandframework.execution.CommandExecutionCoordinator
 import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.GlobalScope
+import kotlinx.coroutines.Job
 import kotlinx.coroutines.future.future
-import java.lang.reflect.InvocationTargetException
+import java.lang.invoke.MethodHandle
+import java.lang.invoke.MethodHandles
+import java.lang.invoke.MethodType
 import java.lang.reflect.Method
 import java.util.concurrent.CompletableFuture
 import java.util.function.Predicate
 import kotlin.coroutines.Continuation
+import kotlin.coroutines.ContinuationInterceptor
 import kotlin.coroutines.CoroutineContext
 import kotlin.coroutines.EmptyCoroutineContext
-import kotlin.reflect.full.callSuspend
+import kotlin.coroutines.intrinsics.COROUTINE_SUSPENDED
+import kotlin.coroutines.intrinsics.suspendCoroutineUninterceptedOrReturn
 import kotlin.reflect.jvm.kotlinFunction
 
 /**
  * Adds coroutine support to the [AnnotationParser].
  *
+ * Suspending methods are launched as coroutines in [scope] with [context]. If the resulting context uses
+ * [Dispatchers.Unconfined] and has no [Job], the methods are instead invoked directly on the executing thread, and
+ * no coroutine is launched for methods that complete without suspending.
+ *
  * @param scope coroutine scope
  * @param context coroutine context
  * @return annotation parser
@@ -76,22 +86,67 @@ private class KotlinMethodCommandExecutionHandler<C>(
 
     private val paramsWithoutContinuation = parameters().filterNot { Continuation::class.java == it.type }.toTypedArray()
 
+    private val executionContext = coroutineScope.coroutineContext + coroutineContext
+
+    /*
+     * The method can only be invoked directly if launching a coroutine would run it on the executing thread, and there
+     * is no job whose cancellation a launched coroutine would have to observe
+     */
+    private val invokedDirectly = executionContext[ContinuationInterceptor] === Dispatchers.Unconfined &&
+        executionContext[Job] == null
+
+    /* (Continuation, Object[]) -> Object, the continuation is the trailing parameter of the compiled method */
+    private val suspendingMethodHandle: MethodHandle = context.method().let { method ->
+        val parameterCount = paramsWithoutContinuation.size
+        val handle = MethodHandles.lookup().unreflect(method).bindTo(context.instance()).asFixedArity()
+            .asType(MethodType.genericMethodType(parameterCount + 1))
+        MethodHandles.permuteArguments(
+            handle,
+            MethodType.genericMethodType(parameterCount + 1),
+            *IntArray(parameterCount + 1) { if (it == parameterCount) 0 else it + 1 }
+        ).asSpreader(Array<Any?>::class.java, parameterCount)
+    }
+
     override fun executeFuture(commandContext: CommandContext<C>): CompletableFuture<Void?> {
-        val instance = context().instance()
-        val params = createParameterValues(
+        val params = createParameterValueArray(
             commandContext,
             commandContext.flags(),
             paramsWithoutContinuation
         )
 
-        // We need to propagate exceptions to the caller.
-        return coroutineScope.future(this@KotlinMethodCommandExecutionHandler.coroutineContext) {
-            try {
-                context().method().kotlinFunction!!.callSuspend(instance, *params.toTypedArray())
-            } catch (e: InvocationTargetException) { // unwrap invocation exception
-                e.cause?.let { throw it } ?: throw e // if cause exists, throw, else rethrow invocation exception
+        if (!invokedDirectly) {
+            // We need to propagate exceptions to the caller.
+            return coroutineScope.future(this@KotlinMethodCommandExecutionHandler.coroutineContext) {
+                invokeSuspending(params)
+                null
             }
-            null
         }
+
+        val completion = FutureContinuation(executionContext)
+        val result = try {
+            invoke(completion, params)
+        } catch (e: Throwable) {
+            return CompletableFuture<Void?>().apply { completeExceptionally(e) }
+        }
+        // The method only hands the continuation over when it actually suspends.
+        return if (result === COROUTINE_SUSPENDED) completion.future else CompletableFuture.completedFuture(null)
+    }
+
+    private suspend fun invokeSuspending(params: Array<Any?>): Any? =
+        suspendCoroutineUninterceptedOrReturn { continuation -> invoke(continuation, params) }
+
+    private fun invoke(continuation: Continuation<*>, params: Array<Any?>): Any? =
+        suspendingMethodHandle.invokeExact(continuation as Any?, params)
+}
+
+/**
+ * Completes [future] once the suspending method that it was passed to resumes.
+ */
+private class FutureContinuation(override val context: CoroutineContext) : Continuation<Any?> {
+
+    val future = CompletableFuture<Void?>()
+
+    override fun resumeWith(result: Result<Any?>) {
+        result.fold({ future.complete(null) }, { future.completeExceptionally(it) })
     }
 }
@@ -25,17 +25,24 @@ package cloud.commandframework.kotlin.coroutines.annotations
 
 import cloud.commandframework.CommandManager
 import cloud.commandframework.annotations.AnnotationParser
+import cloud.commandframework.annotations.Argument
 import cloud.commandframework.annotations.CommandMethod
 import cloud.commandframework.exceptions.CommandExecutionException
 import cloud.commandframework.execution.AsynchronousCommandExecutionCoordinator
 import cloud.commandframework.internal.CommandRegistrationHandler
 import cloud.commandframework.meta.CommandMeta
 import cloud.commandframework.meta.SimpleCommandMeta
+import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.Job
 import kotlinx.coroutines.future.await
 import kotlinx.coroutines.runBlocking
 import kotlinx.coroutines.withContext
 import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotSame
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertSame
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import java.util.concurrent.ExecutorService
@@ -84,6 +91,82 @@ class KotlinAnnotatedMethodsTest {
         }
     }
 
+    @Test
+    fun `test suspending command methods in the global scope`(): Unit = runBlocking {
+        val commandMethods = CommandMethods()
+        AnnotationParser(commandManager, TestCommandSender::class.java) {
+            SimpleCommandMeta.empty()
+        }
+            .installCoroutineSupport()
+            .parse(commandMethods)
+
+        commandManager.executeCommand(TestCommandSender(), "echo hello").await()
+
+        assertEquals("hello", commandMethods.echoed)
+        assertNotSame(executorThread(), commandMethods.invokingThread)
+    }
+
+    @Test
+    fun `test suspending command methods with unconfined dispatcher`(): Unit = runBlocking {
+        val commandMethods = CommandMethods()
+        AnnotationParser(commandManager, TestCommandSender::class.java) {
+            SimpleCommandMeta.empty()
+        }
+            .installCoroutineSupport(context = Dispatchers.Unconfined)
+            .parse(commandMethods)
+
+        commandManager.executeCommand(TestCommandSender(), "echo hello").await()
+
+        assertEquals("hello", commandMethods.echoed)
+        assertSame(executorThread(), commandMethods.invokingThread)
+    }
+
+    @Test
+    fun `test suspending command methods in cancelled scope`(): Unit = runBlocking {
+        val commandMethods = CommandMethods()
+        val scope = CoroutineScope(Job().apply { cancel() })
+        AnnotationParser(commandManager, TestCommandSender::class.java) {
+            SimpleCommandMeta.empty()
+        }
+            .installCoroutineSupport(scope = scope, context = Dispatchers.Unconfined)
+            .parse(commandMethods)
+
+        assertThrows<CommandExecutionException> {
+            commandManager.executeCommand(TestCommandSender(), "echo hello").await()
+        }
+        assertNull(commandMethods.echoed)
+    }
+
+    @Test
+    fun `test suspending command methods with dispatcher`(): Unit = runBlocking {
+        val commandMethods = CommandMethods()
+        AnnotationParser(commandManager, TestCommandSender::class.java) {
+            SimpleCommandMeta.empty()
+        }
+            .installCoroutineSupport(context = Dispatchers.Default)
+            .parse(commandMethods)
+
+        commandManager.executeCommand(TestCommandSender(), "echo hello").await()
+
+        assertEquals("hello", commandMethods.echoed)
+        assertNotSame(executorThread(), commandMethods.invokingThread)
+    }
+
+    @Test
+    fun `test suspending command methods with dispatcher and exception`(): Unit = runBlocking {
+        AnnotationParser(commandManager, TestCommandSender::class.java) {
+            SimpleCommandMeta.empty()
+        }
+            .installCoroutineSupport(context = Dispatchers.Default)
+            .parse(CommandMethods())
+
+        assertThrows<CommandExecutionException> {
+            commandManager.executeCommand(TestCommandSender(), "test-exception").await()
+        }
+    }
+
+    private fun executorThread(): Thread = executorService.submit<Thread> { Thread.currentThread() }.get()
+
     private class TestCommandSender
 
     private class TestCommandManager : CommandManager<TestCommandSender>(
@@ -106,6 +189,18 @@ class KotlinAnnotatedMethodsTest {
                 println("called from thread: ${Thread.currentThread().name}")
             }
 
+        @Volatile
+        public var echoed: String? = null
+
+        @Volatile
+        public var invokingThread: Thread? = null
+
+        @CommandMethod("echo <value>")
+        public suspend fun echo(@Argument("value") value: String) {
+            invokingThread = Thread.currentThread()
+            echoed = value
+        }
+
         @CommandMethod("test-exception")
         public suspend fun suspendingCommandWithException(): Unit = throw IllegalStateException()
     }
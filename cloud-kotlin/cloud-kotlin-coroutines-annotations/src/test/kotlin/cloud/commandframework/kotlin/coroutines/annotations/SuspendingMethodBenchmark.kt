@@ -0,0 +1,121 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.kotlin.coroutines.annotations
+
+import cloud.commandframework.CommandManager
+import cloud.commandframework.annotations.AnnotationParser
+import cloud.commandframework.annotations.Argument
+import cloud.commandframework.annotations.CommandMethod
+import cloud.commandframework.context.CommandContext
+import cloud.commandframework.execution.AsynchronousCommandExecutionCoordinator
+import cloud.commandframework.execution.CommandExecutionHandler
+import cloud.commandframework.internal.CommandRegistrationHandler
+import cloud.commandframework.meta.CommandMeta
+import cloud.commandframework.meta.SimpleCommandMeta
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.GlobalScope
+import kotlinx.coroutines.future.future
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import java.lang.reflect.InvocationTargetException
+import java.util.concurrent.TimeUnit
+import kotlin.reflect.KFunction
+import kotlin.reflect.full.callSuspend
+import kotlin.reflect.jvm.kotlinFunction
+
+/**
+ * Compares the method handle invocation of suspending command methods with the
+ * `kotlin-reflect` based invocation that was used up until 1.9.0.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public open class SuspendingMethodBenchmark {
+
+    private val commandMethods = CommandMethods()
+
+    private lateinit var executionHandler: CommandExecutionHandler<TestCommandSender>
+    private lateinit var commandContext: CommandContext<TestCommandSender>
+    private lateinit var function: KFunction<*>
+
+    @Setup(Level.Trial)
+    public fun setup() {
+        val commandManager = TestCommandManager()
+        AnnotationParser(commandManager, TestCommandSender::class.java) {
+            SimpleCommandMeta.empty()
+        }
+            .installCoroutineSupport(context = Dispatchers.Unconfined)
+            .parse(commandMethods)
+
+        executionHandler = commandManager.commands().single().commandExecutionHandler
+        commandContext = CommandContext(TestCommandSender(), commandManager)
+        commandContext.store("value", "hello")
+        function = CommandMethods::class.java.methods.single { it.name == "echo" }.kotlinFunction!!
+    }
+
+    @Benchmark
+    @Fork(1)
+    public open fun testMethodHandle(): Any? = executionHandler.executeFuture(commandContext).join()
+
+    @Benchmark
+    @Fork(1)
+    public open fun testKotlinReflect(): Any? {
+        val params = arrayOf<Any?>(commandContext.get<String>("value"))
+        return GlobalScope.future {
+            try {
+                function.callSuspend(commandMethods, *params)
+            } catch (e: InvocationTargetException) {
+                e.cause?.let { throw it } ?: throw e
+            }
+            null
+        }.join()
+    }
+
+    public class TestCommandSender
+
+    private class TestCommandManager : CommandManager<TestCommandSender>(
+        AsynchronousCommandExecutionCoordinator.builder<TestCommandSender>()
+            .withExecutor(Runnable::run)
+            .build(),
+        CommandRegistrationHandler.nullCommandRegistrationHandler()
+    ) {
+
+        override fun hasPermission(sender: TestCommandSender, permission: String): Boolean = true
+
+        override fun createDefaultCommandMeta(): CommandMeta = SimpleCommandMeta.empty()
+    }
+
+    public class CommandMethods {
+
+        @CommandMethod("echo <value>")
+        public suspend fun echo(@Argument("value") value: String): String = value
+    }
+}
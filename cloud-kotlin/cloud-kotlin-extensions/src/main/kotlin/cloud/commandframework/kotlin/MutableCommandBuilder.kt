@@ -48,13 +48,18 @@ public class MutableCommandBuilder<C : Any>(
     commandBuilder: Command.Builder<C>,
     private val commandManager: CommandManager<C>
 ) {
+    private var mutableCommandBuilder: Command.Builder<C> = commandBuilder.toMutable()
+    private var immutableCommandBuilder: Command.Builder<C>? = null
+
     /**
      * The command builder that is being mutated by this [MutableCommandBuilder] instance.
      *
      * This is public so that this can be returned to a command builder for interop with java apis.
+     * The returned builder is an immutable snapshot of the current state.
      */
-    public var commandBuilder: Command.Builder<C> = commandBuilder
-        private set
+    public val commandBuilder: Command.Builder<C>
+        get() = this.immutableCommandBuilder
+            ?: this.mutableCommandBuilder.toImmutable().also { this.immutableCommandBuilder = it }
 
     /**
      * Create a new [MutableCommandBuilder]
@@ -144,7 +149,7 @@ public class MutableCommandBuilder<C : Any>(
      * @return built command
      * @since 1.3.0
      */
-    public fun build(): Command<C> = this.commandBuilder.build()
+    public fun build(): Command<C> = this.mutableCommandBuilder.build()
 
     /**
      * Invoke the provided receiver lambda on this builder, then build a [Command] from the
@@ -156,11 +161,12 @@ public class MutableCommandBuilder<C : Any>(
      */
     public fun build(lambda: MutableCommandBuilder<C>.() -> Unit): Command<C> {
         lambda(this)
-        return this.commandBuilder.build()
+        return this.mutableCommandBuilder.build()
     }
 
     /**
-     * Modify this [MutableCommandBuilder]'s internal [Command.Builder] with a unary function
+     * Modify this [MutableCommandBuilder]'s internal [Command.Builder] with a unary function.
+     * The function receives an immutable snapshot of the current state
      *
      * @param mutator mutator function
      * @return this mutable builder
@@ -169,12 +175,23 @@ public class MutableCommandBuilder<C : Any>(
     public fun mutate(
         mutator: (Command.Builder<C>) -> Command.Builder<C>
     ): MutableCommandBuilder<C> {
-        this.commandBuilder = mutator(this.commandBuilder)
+        val result = mutator(this.commandBuilder)
+        this.mutableCommandBuilder = result.toMutable()
+        this.immutableCommandBuilder = if (result.isMutable) null else result
+        return this
+    }
+
+    /* The builder is not exposed to user code here, so it may be modified in place */
+    private fun mutateInPlace(
+        mutator: (Command.Builder<C>) -> Command.Builder<C>
+    ): MutableCommandBuilder<C> {
+        this.mutableCommandBuilder = mutator(this.mutableCommandBuilder)
+        this.immutableCommandBuilder = null
         return this
     }
 
     private fun onlyMutate(mutator: (Command.Builder<C>) -> Command.Builder<C>) {
-        mutate(mutator)
+        mutateInPlace(mutator)
     }
 
     /**
@@ -184,7 +201,7 @@ public class MutableCommandBuilder<C : Any>(
      * @since 1.3.0
      */
     public fun copy(): MutableCommandBuilder<C> =
-        MutableCommandBuilder(this.commandBuilder, this.commandManager)
+        MutableCommandBuilder(this.mutableCommandBuilder, this.commandManager)
 
     /**
      * Make a new copy of this [MutableCommandBuilder] and invoke the provided receiver lambda on it
@@ -344,7 +361,7 @@ public class MutableCommandBuilder<C : Any>(
      * @since 1.3.0
      */
     public fun <T : Any> meta(key: CommandMeta.Key<T>, value: T): MutableCommandBuilder<C> =
-        mutate {
+        mutateInPlace {
             it.meta(key, value)
         }
 
@@ -407,7 +424,7 @@ public class MutableCommandBuilder<C : Any>(
      * @return this mutable builder
      * @since 1.3.0
      */
-    public fun senderType(type: KClass<out C>): MutableCommandBuilder<C> = mutate {
+    public fun senderType(type: KClass<out C>): MutableCommandBuilder<C> = mutateInPlace {
         it.senderType(type)
     }
 
@@ -417,7 +434,7 @@ public class MutableCommandBuilder<C : Any>(
      * @since 1.3.0
      */
     public var senderType: KClass<out C>?
-        get() = this.commandBuilder.senderType()?.kotlin
+        get() = this.mutableCommandBuilder.senderType()?.kotlin
         set(type) {
             if (type == null) throw UnsupportedOperationException("Cannot set a null sender type")
             onlyMutate { it.senderType(type) }
@@ -430,7 +447,7 @@ public class MutableCommandBuilder<C : Any>(
      * @return this mutable builder
      * @since 1.3.0
      */
-    public fun senderType(type: Class<out C>): MutableCommandBuilder<C> = mutate {
+    public fun senderType(type: Class<out C>): MutableCommandBuilder<C> = mutateInPlace {
         it.senderType(type)
     }
 
@@ -441,7 +458,7 @@ public class MutableCommandBuilder<C : Any>(
      * @return this mutable builder
      * @since 1.3.0
      */
-    public fun permission(permission: String): MutableCommandBuilder<C> = mutate {
+    public fun permission(permission: String): MutableCommandBuilder<C> = mutateInPlace {
         it.permission(permission)
     }
 
@@ -452,7 +469,7 @@ public class MutableCommandBuilder<C : Any>(
      * @return this mutable builder
      * @since 1.3.0
      */
-    public fun permission(permission: CommandPermission): MutableCommandBuilder<C> = mutate {
+    public fun permission(permission: CommandPermission): MutableCommandBuilder<C> = mutateInPlace {
         it.permission(permission)
     }
 
@@ -462,7 +479,7 @@ public class MutableCommandBuilder<C : Any>(
      * @since 1.3.0
      */
     public var permission: String
-        get() = this.commandBuilder.commandPermission().toString()
+        get() = this.mutableCommandBuilder.commandPermission().toString()
         set(permission) = onlyMutate { it.permission(permission) }
 
     /**
@@ -471,7 +488,7 @@ public class MutableCommandBuilder<C : Any>(
      * @since 1.3.0
      */
     public var commandPermission: CommandPermission
-        get() = this.commandBuilder.commandPermission()
+        get() = this.mutableCommandBuilder.commandPermission()
         set(permission) = onlyMutate { it.permission(permission) }
 
     /**
@@ -490,7 +507,7 @@ public class MutableCommandBuilder<C : Any>(
     public fun argument(
         argument: CommandArgument<C, *>,
         description: Description = Description.empty()
-    ): MutableCommandBuilder<C> = mutate { it.argument(argument, description) }
+    ): MutableCommandBuilder<C> = mutateInPlace { it.argument(argument, description) }
 
     /**
      * Add a new argument to this command
@@ -503,7 +520,7 @@ public class MutableCommandBuilder<C : Any>(
     public fun argument(
         argument: CommandArgument<C, *>,
         description: ArgumentDescription = ArgumentDescription.empty()
-    ): MutableCommandBuilder<C> = mutate { it.argument(argument, description) }
+    ): MutableCommandBuilder<C> = mutateInPlace { it.argument(argument, description) }
 
     /**
      * Add a new argument to this command
@@ -521,7 +538,7 @@ public class MutableCommandBuilder<C : Any>(
     public fun argument(
         argument: CommandArgument.Builder<C, *>,
         description: Description = Description.empty()
-    ): MutableCommandBuilder<C> = mutate { it.argument(argument, description) }
+    ): MutableCommandBuilder<C> = mutateInPlace { it.argument(argument, description) }
 
     /**
      * Add a new argument to this command
@@ -534,7 +551,7 @@ public class MutableCommandBuilder<C : Any>(
     public fun argument(
         argument: CommandArgument.Builder<C, *>,
         description: ArgumentDescription = ArgumentDescription.empty()
-    ): MutableCommandBuilder<C> = mutate { it.argument(argument, description) }
+    ): MutableCommandBuilder<C> = mutateInPlace { it.argument(argument, description) }
 
     /**
      * Add a new argument to this command
@@ -552,7 +569,7 @@ public class MutableCommandBuilder<C : Any>(
     public fun argument(
         description: Description = Description.empty(),
         argumentSupplier: () -> CommandArgument<C, *>
-    ): MutableCommandBuilder<C> = mutate { it.argument(argumentSupplier(), description) }
+    ): MutableCommandBuilder<C> = mutateInPlace { it.argument(argumentSupplier(), description) }
 
     /**
      * Add a new argument to this command
@@ -565,7 +582,7 @@ public class MutableCommandBuilder<C : Any>(
     public fun argument(
         description: ArgumentDescription = ArgumentDescription.empty(),
         argumentSupplier: () -> CommandArgument<C, *>
-    ): MutableCommandBuilder<C> = mutate { it.argument(argumentSupplier(), description) }
+    ): MutableCommandBuilder<C> = mutateInPlace { it.argument(argumentSupplier(), description) }
 
     /**
      * Add a new literal argument to this command
@@ -585,7 +602,7 @@ public class MutableCommandBuilder<C : Any>(
         name: String,
         description: Description = Description.empty(),
         vararg aliases: String
-    ): MutableCommandBuilder<C> = mutate { it.literal(name, description, *aliases) }
+    ): MutableCommandBuilder<C> = mutateInPlace { it.literal(name, description, *aliases) }
 
     /**
      * Add a new literal argument to this command
@@ -600,7 +617,7 @@ public class MutableCommandBuilder<C : Any>(
         name: String,
         description: ArgumentDescription = ArgumentDescription.empty(),
         vararg aliases: String
-    ): MutableCommandBuilder<C> = mutate { it.literal(name, description, *aliases) }
+    ): MutableCommandBuilder<C> = mutateInPlace { it.literal(name, description, *aliases) }
 
     /**
      * Set the [CommandExecutionHandler] for this builder
@@ -609,7 +626,7 @@ public class MutableCommandBuilder<C : Any>(
      * @return this mutable builder
      * @since 1.3.0
      */
-    public fun handler(handler: CommandExecutionHandler<C>): MutableCommandBuilder<C> = mutate {
+    public fun handler(handler: CommandExecutionHandler<C>): MutableCommandBuilder<C> = mutateInPlace {
         it.handler(handler)
     }
 
@@ -628,7 +645,7 @@ public class MutableCommandBuilder<C : Any>(
         aliases: Array<String> = emptyArray(),
         description: ArgumentDescription = ArgumentDescription.empty(),
         argumentSupplier: () -> CommandArgument<C, *>
-    ): MutableCommandBuilder<C> = mutate {
+    ): MutableCommandBuilder<C> = mutateInPlace {
         it.flag(
             this.commandManager
                 .flagBuilder(name)
@@ -654,7 +671,7 @@ public class MutableCommandBuilder<C : Any>(
         aliases: Array<String> = emptyArray(),
         description: ArgumentDescription = ArgumentDescription.empty(),
         argument: CommandArgument<C, *>
-    ): MutableCommandBuilder<C> = mutate {
+    ): MutableCommandBuilder<C> = mutateInPlace {
         it.flag(
             this.commandManager
                 .flagBuilder(name)
@@ -680,7 +697,7 @@ public class MutableCommandBuilder<C : Any>(
         aliases: Array<String> = emptyArray(),
         description: ArgumentDescription = ArgumentDescription.empty(),
         argumentBuilder: CommandArgument.Builder<C, *>
-    ): MutableCommandBuilder<C> = mutate {
+    ): MutableCommandBuilder<C> = mutateInPlace {
         it.flag(
             this.commandManager
                 .flagBuilder(name)
@@ -704,7 +721,7 @@ public class MutableCommandBuilder<C : Any>(
         name: String,
         aliases: Array<String> = emptyArray(),
         description: ArgumentDescription = ArgumentDescription.empty()
-    ): MutableCommandBuilder<C> = mutate {
+    ): MutableCommandBuilder<C> = mutateInPlace {
         it.flag(
             this.commandManager
                 .flagBuilder(name)
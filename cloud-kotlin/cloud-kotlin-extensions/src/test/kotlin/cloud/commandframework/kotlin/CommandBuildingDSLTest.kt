@@ -23,6 +23,7 @@
 //
 package cloud.commandframework.kotlin
 
+import cloud.commandframework.Command
 import cloud.commandframework.CommandManager
 import cloud.commandframework.arguments.standard.StringArgument
 import cloud.commandframework.execution.CommandExecutionCoordinator
@@ -101,6 +102,26 @@ class CommandBuildingDSLTest {
         )
     }
 
+    @Test
+    fun testMutatorReceivesSnapshot() {
+        val manager = TestCommandManager()
+        val builder = manager.commandBuilder("kotlin") {
+            literal("first")
+        }
+
+        var received: Command.Builder<TestCommandSender>? = null
+        builder.mutate {
+            received = it
+            it.literal("second")
+        }
+        builder.literal("third")
+
+        Assertions.assertFalse(received!!.isMutable)
+        Assertions.assertEquals(2, received!!.build().arguments.size)
+        Assertions.assertEquals(4, builder.build().arguments.size)
+        Assertions.assertSame(builder.commandBuilder, builder.commandBuilder)
+    }
+
     class TestCommandManager : CommandManager<TestCommandSender>(
         CommandExecutionCoordinator.simpleCoordinator(),
         CommandRegistrationHandler.nullCommandRegistrationHandler()
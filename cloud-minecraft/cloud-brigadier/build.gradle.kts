@@ -7,4 +7,6 @@ dependencies {
     /* Needs to be provided by the platform */
     compileOnly(libs.brigadier)
     testImplementation(libs.brigadier)
+    testImplementation(libs.jmhCore)
+    testImplementation(libs.jmhGeneratorAnnprocess)
 }
@@ -43,6 +43,8 @@ import cloud.commandframework.arguments.standard.StringArgument;
 import cloud.commandframework.arguments.standard.StringArrayArgument;
 import cloud.commandframework.brigadier.argument.WrappedBrigadierParser;
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.execution.CommandResult;
+import cloud.commandframework.execution.ParsedCommand;
 import cloud.commandframework.permission.CommandPermission;
 import cloud.commandframework.permission.Permission;
 import cloud.commandframework.types.tuples.Pair;
@@ -66,9 +68,14 @@ import com.mojang.brigadier.tree.CommandNode;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -76,9 +83,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -98,6 +105,8 @@ public final class CloudBrigadierManager<C, S> {
     private static final SuggestionProvider<?> DELEGATE_TO_CLOUD = (c, b) -> b.buildFuture();
 
     private final Map<Class<?>, BrigadierMapping<C, ?, S>> mappers;
+    /* Built-in mappers of the parsers that produce the same values as the Brigadier types they are mapped to */
+    private final Map<Class<?>, Function<?, ?>> directMappers = new HashMap<>();
     private final Map<@NonNull Class<?>, @NonNull Supplier<@Nullable ArgumentType<?>>> defaultArgumentTypeSuppliers;
     private final Supplier<CommandContext<C>> dummyContextProvider;
     private final CommandManager<C> commandManager;
@@ -229,6 +238,20 @@ public final class CloudBrigadierManager<C, S> {
         /* Map wrapped parsers to their native types */
         this.registerMapping(new TypeToken<WrappedBrigadierParser<C, ?>>() {
         }, builder -> builder.to(WrappedBrigadierParser::getNativeArgument));
+
+        for (final Class<?> parserClass : Arrays.asList(
+                ByteArgument.ByteParser.class,
+                ShortArgument.ShortParser.class,
+                IntegerArgument.IntegerParser.class,
+                FloatArgument.FloatParser.class,
+                DoubleArgument.DoubleParser.class,
+                LongArgument.LongParser.class,
+                BooleanArgument.BooleanParser.class,
+                StringArgument.StringParser.class,
+                WrappedBrigadierParser.class
+        )) {
+            this.directMappers.put(parserClass, this.mappers.get(parserClass).getMapper());
+        }
     }
 
     /**
@@ -416,6 +439,116 @@ public final class CloudBrigadierManager<C, S> {
         return Pair.of(StringArgumentType.word(), delegateSuggestions());
     }
 
+    /**
+     * Execute a command that Brigadier has already parsed.
+     * <p>
+     * The nodes that Brigadier parsed are mapped onto the command tree. If every argument on the way was parsed by a
+     * Brigadier type that produces the value that the cloud parser would have produced, the values are passed on to
+     * {@link CommandManager#executeCommand(Object, String, ParsedCommand)} so that the input is not parsed again.
+     * Otherwise, the input is parsed by cloud as usual.
+     *
+     * @param brigadierContext Brigadier command context
+     * @param sender           Command sender
+     * @param input            Command input, starting with the root literal
+     * @return future that completes with the command result
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public @NonNull CompletableFuture<CommandResult<C>> executeCommand(
+            final com.mojang.brigadier.context.@NonNull CommandContext<S> brigadierContext,
+            final @NonNull C sender,
+            final @NonNull String input
+    ) {
+        return this.commandManager.executeCommand(sender, input, this.parsedCommand(brigadierContext));
+    }
+
+    private @Nullable ParsedCommand<C> parsedCommand(
+            final com.mojang.brigadier.context.@NonNull CommandContext<S> brigadierContext
+    ) {
+        if (brigadierContext.getChild() != null) {
+            /* Redirected or forked, so the nodes do not form a single path */
+            return null;
+        }
+        final List<CommandNode<?>> nodes = NodeAccessor.nodes(brigadierContext);
+        if (nodes.isEmpty()) {
+            return null;
+        }
+        String label = nodes.get(0).getName();
+        final int namespaceEnd = label.indexOf(':');
+        if (namespaceEnd != -1) {
+            label = label.substring(namespaceEnd + 1);
+        }
+        CommandTree.Node<CommandArgument<C, ?>> node = this.commandManager.commandTree().getNamedNode(label);
+        final Map<CommandArgument<C, ?>, Object> values = new HashMap<>();
+        for (int i = 1; node != null && i < nodes.size(); i++) {
+            node = this.childNode(node, nodes.get(i));
+            if (node == null || node.getValue() instanceof StaticArgument) {
+                continue;
+            }
+            final Object value = this.directValue(brigadierContext, node.getValue());
+            if (value == null) {
+                return null;
+            }
+            values.put(node.getValue(), value);
+        }
+        if (node == null || node.getValue() == null || node.getValue().getOwningCommand() == null) {
+            return null;
+        }
+        return ParsedCommand.of(node.getValue().getOwningCommand(), values);
+    }
+
+    private CommandTree.@Nullable Node<CommandArgument<C, ?>> childNode(
+            final CommandTree.@NonNull Node<CommandArgument<C, ?>> parent,
+            final @NonNull CommandNode<?> brigadierNode
+    ) {
+        final boolean literal = brigadierNode instanceof LiteralCommandNode;
+        for (final CommandTree.Node<CommandArgument<C, ?>> child : parent.getChildren()) {
+            final CommandArgument<C, ?> argument = child.getValue();
+            if (argument != null && (argument instanceof StaticArgument) == literal
+                    && argument.getName().equals(brigadierNode.getName())) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value that Brigadier parsed for an argument, if it is exactly the value that the cloud parser of the
+     * argument would have produced
+     *
+     * @param brigadierContext Brigadier command context
+     * @param argument         Cloud argument
+     * @return Value, or {@code null} if the argument has to be parsed by cloud
+     */
+    private @Nullable Object directValue(
+            final com.mojang.brigadier.context.@NonNull CommandContext<S> brigadierContext,
+            final @NonNull CommandArgument<C, ?> argument
+    ) {
+        final ArgumentParser<C, ?> parser = argument.getParser();
+        final Function<?, ?> directMapper = this.directMappers.get(parser.getClass());
+        final BrigadierMapping<C, ?, S> mapping = this.mappers.get(parser.getClass());
+        if (directMapper == null || mapping == null || mapping.getMapper() != directMapper) {
+            return null;
+        }
+        if (parser instanceof StringArgument.StringParser
+                && ((StringArgument.StringParser<C>) parser).getStringMode() != StringArgument.StringMode.SINGLE) {
+            /* Quoted and greedy strings are read differently by cloud */
+            return null;
+        }
+        Object value;
+        try {
+            value = brigadierContext.getArgument(argument.getName(), Object.class);
+        } catch (final IllegalArgumentException ignored) {
+            return null;
+        }
+        if (value instanceof Integer && parser instanceof ByteArgument.ByteParser) {
+            value = ((Integer) value).byteValue();
+        } else if (value instanceof Integer && parser instanceof ShortArgument.ShortParser) {
+            value = ((Integer) value).shortValue();
+        }
+        return GenericTypeReflector.erase(argument.getValueType().getType()).isInstance(value) ? value : null;
+    }
+
     /**
      * Create a new literal command node
      *
@@ -438,18 +571,14 @@ public final class CloudBrigadierManager<C, S> {
                 .commandTree().getNamedNode(cloudCommand.getArguments().get(0).getName());
         final SuggestionProvider<S> provider = (context, builder) -> this.buildSuggestions(
                 context,
-                null, /* parent node, null for the literal command node root */
+                Collections.emptySet(), /* no sibling literals to filter for the literal command node root */
                 node.getValue(),
                 builder
         );
 
         final LiteralArgumentBuilder<S> literalArgumentBuilder = LiteralArgumentBuilder
                 .<S>literal(label)
-                .requires(sender -> permissionChecker.test(sender, (CommandPermission) node.getNodeMeta()
-                        .getOrDefault(
-                                "permission",
-                                Permission.empty()
-                        )));
+                .requires(this.requirement(node, permissionChecker));
         if (forceRegister || (node.getValue() != null && node.getValue().getOwningCommand() != null)) {
             literalArgumentBuilder.executes(executor);
         }
@@ -481,14 +610,7 @@ public final class CloudBrigadierManager<C, S> {
             final @NonNull BiPredicate<@NonNull S, @NonNull CommandPermission> permissionChecker
     ) {
         final LiteralArgumentBuilder<S> literalArgumentBuilder = LiteralArgumentBuilder.<S>literal(root.getLiteral())
-                .requires(sender -> permissionChecker.test(
-                        sender,
-                        (CommandPermission) cloudCommand.getNodeMeta()
-                                .getOrDefault(
-                                        "permission",
-                                        Permission.empty()
-                                )
-                ));
+                .requires(this.requirement(cloudCommand, permissionChecker));
         if (cloudCommand.getValue() != null && cloudCommand.getValue().getOwningCommand() != null) {
             literalArgumentBuilder.executes(executor);
         }
@@ -529,14 +651,7 @@ public final class CloudBrigadierManager<C, S> {
                 final ArgumentBuilder<S, ?> fragmentBuilder = RequiredArgumentBuilder
                         .<S, Object>argument((String) names[i], (ArgumentType<Object>) pair.getFirst())
                         .suggests(provider)
-                        .requires(sender -> permissionChecker.test(
-                                sender,
-                                (CommandPermission) root.getNodeMeta()
-                                        .getOrDefault(
-                                                "permission",
-                                                Permission.empty()
-                                        )
-                        ));
+                        .requires(this.requirement(root, permissionChecker));
                 argumentBuilders[i] = fragmentBuilder;
 
                 if (forceExecutor || ((i == parsers.length - 1) && (root.isLeaf() || !root.getValue().isRequired()))) {
@@ -559,11 +674,7 @@ public final class CloudBrigadierManager<C, S> {
         final ArgumentBuilder<S, ?> argumentBuilder;
         if (root.getValue() instanceof StaticArgument) {
             argumentBuilder = LiteralArgumentBuilder.<S>literal(root.getValue().getName())
-                    .requires(sender -> permissionChecker.test(sender, (CommandPermission) root.getNodeMeta()
-                            .getOrDefault(
-                                    "permission",
-                                    Permission.empty()
-                            )))
+                    .requires(this.requirement(root, permissionChecker))
                     .executes(executor);
         } else {
             // Register argument
@@ -571,24 +682,25 @@ public final class CloudBrigadierManager<C, S> {
                     root.getValue().getValueType(),
                     root.getValue().getParser()
             );
-            final SuggestionProvider<S> provider = pair.getSecond() == delegateSuggestions()
-                    ? (context, builder) -> this.buildSuggestions(
-                    context,
-                    root.getParent(),
-                    root.getValue(),
-                    builder
-            ) : pair.getSecond();
+            final SuggestionProvider<S> provider;
+            if (pair.getSecond() == delegateSuggestions()) {
+                final SiblingLiterals<C> siblingLiterals = new SiblingLiterals<>(
+                        this.commandManager.commandTree(),
+                        root.getParent()
+                );
+                provider = (context, builder) -> this.buildSuggestions(
+                        context,
+                        siblingLiterals.get(),
+                        root.getValue(),
+                        builder
+                );
+            } else {
+                provider = pair.getSecond();
+            }
             argumentBuilder = RequiredArgumentBuilder
                     .<S, Object>argument(root.getValue().getName(), (ArgumentType<Object>) pair.getFirst())
                     .suggests(provider)
-                    .requires(sender -> permissionChecker.test(
-                            sender,
-                            (CommandPermission) root.getNodeMeta()
-                                    .getOrDefault(
-                                            "permission",
-                                            Permission.empty()
-                                    )
-                    ));
+                    .requires(this.requirement(root, permissionChecker));
         }
         if (forceExecutor || root.isLeaf() || !root.getValue().isRequired()) {
             argumentBuilder.executes(executor);
@@ -602,9 +714,28 @@ public final class CloudBrigadierManager<C, S> {
         return argumentBuilder;
     }
 
+    /**
+     * Creates the requirement of a Brigadier node. The node meta is resolved when the node is constructed, and the
+     * permission is read from it when the requirement is evaluated, so that it reflects commands registered later
+     *
+     * @param node              Cloud node
+     * @param permissionChecker Permission checker
+     * @return Requirement
+     */
+    private @NonNull Predicate<S> requirement(
+            final CommandTree.@NonNull Node<?> node,
+            final @NonNull BiPredicate<@NonNull S, @NonNull CommandPermission> permissionChecker
+    ) {
+        final Map<String, Object> nodeMeta = node.getNodeMeta();
+        return sender -> permissionChecker.test(
+                sender,
+                (CommandPermission) nodeMeta.getOrDefault("permission", Permission.empty())
+        );
+    }
+
     private @NonNull CompletableFuture<Suggestions> buildSuggestions(
             final com.mojang.brigadier.context.@Nullable CommandContext<S> senderContext,
-            final CommandTree.@Nullable Node<CommandArgument<C, ?>> parentNode,
+            final @NonNull Set<@NonNull String> siblingLiterals,
             final @NonNull CommandArgument<C, ?> argument,
             final @NonNull SuggestionsBuilder builder
     ) {
@@ -622,13 +753,18 @@ public final class CloudBrigadierManager<C, S> {
                     cloudSender,
                     this.commandManager
             );
-            command = command.substring(getNodes(senderContext.getLastChild()).get(0).getSecond().getStart());
+            command = command.substring(NodeAccessor.commandStart(senderContext.getLastChild()));
         }
 
         /* Remove namespace */
-        final String leading = command.split(" ")[0];
-        if (leading.contains(":")) {
-            command = command.substring(leading.split(":")[0].length() + 1);
+        for (int i = 0; i < command.length(); i++) {
+            final char c = command.charAt(i);
+            if (c == ':') {
+                command = command.substring(i + 1);
+                break;
+            } else if (c == ' ') {
+                break;
+            }
         }
 
         final List<String> suggestionsUnfiltered = this.commandManager.suggest(
@@ -638,13 +774,7 @@ public final class CloudBrigadierManager<C, S> {
 
         /* Filter suggestions that are literal arguments to avoid duplicates, except for root arguments */
         final List<String> suggestions = new ArrayList<>(suggestionsUnfiltered);
-        if (parentNode != null) {
-            final Set<String> siblingLiterals = parentNode.getChildren().stream()
-                    .map(CommandTree.Node::getValue)
-                    .flatMap(arg -> (arg instanceof StaticArgument)
-                            ? ((StaticArgument<C>) arg).getAliases().stream() : Stream.empty())
-                    .collect(Collectors.toSet());
-
+        if (!siblingLiterals.isEmpty()) {
             suggestions.removeIf(siblingLiterals::contains);
         }
 
@@ -671,30 +801,114 @@ public final class CloudBrigadierManager<C, S> {
     }
 
     /**
-     * Return type changed at some point, but information is essentially the same. This code works for both versions of the
-     * method.
+     * Aliases of the literal children of a node, which are filtered from the suggestions of the node's argument
+     * children. The aliases are collected again whenever the command tree has been modified since they were last
+     * collected, so that literals that are inserted after the Brigadier node was created are filtered as well.
      *
-     * @param commandContext command context
-     * @param <S>            source type
-     * @return parsed nodes
+     * @param <C> Command sender type
      */
-    private static <S> List<Pair<CommandNode<S>, StringRange>> getNodes(
-            final com.mojang.brigadier.context.CommandContext<S> commandContext
-    ) {
-        try {
-            final Method getNodesMethod = commandContext.getClass().getDeclaredMethod("getNodes");
-            final Object nodes = getNodesMethod.invoke(commandContext);
+    private static final class SiblingLiterals<C> {
+
+        private final CommandTree<C> commandTree;
+        private final CommandTree.@Nullable Node<CommandArgument<C, ?>> parentNode;
+        private volatile @Nullable Pair<Long, Set<String>> cached;
+
+        private SiblingLiterals(
+                final @NonNull CommandTree<C> commandTree,
+                final CommandTree.@Nullable Node<CommandArgument<C, ?>> parentNode
+        ) {
+            this.commandTree = commandTree;
+            this.parentNode = parentNode;
+        }
+
+        @SuppressWarnings("unchecked")
+        private @NonNull Set<@NonNull String> get() {
+            if (this.parentNode == null) {
+                return Collections.emptySet();
+            }
+            final long modificationCount = this.commandTree.modificationCount();
+            final Pair<Long, Set<String>> cached = this.cached;
+            if (cached != null && cached.getFirst() == modificationCount) {
+                return cached.getSecond();
+            }
+            final Set<String> siblingLiterals = new HashSet<>();
+            for (final CommandTree.Node<CommandArgument<C, ?>> child : this.parentNode.getChildren()) {
+                if (child.getValue() instanceof StaticArgument) {
+                    siblingLiterals.addAll(((StaticArgument<C>) child.getValue()).getAliases());
+                }
+            }
+            final Set<String> result = siblingLiterals.isEmpty() ? Collections.emptySet() : siblingLiterals;
+            this.cached = Pair.of(modificationCount, result);
+            return result;
+        }
+    }
+
+    /**
+     * Accessor for the parsed nodes of a Brigadier command context. The return type of {@code getNodes} changed at
+     * some point, but the information is essentially the same, so the method is resolved once and both versions are
+     * handled when reading its result.
+     */
+    private static final class NodeAccessor {
+
+        private static final MethodHandle GET_NODES;
+
+        static {
+            try {
+                GET_NODES = MethodHandles.publicLookup()
+                        .unreflect(com.mojang.brigadier.context.CommandContext.class.getMethod("getNodes"))
+                        .asType(MethodType.methodType(Object.class, com.mojang.brigadier.context.CommandContext.class));
+            } catch (final ReflectiveOperationException ex) {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+
+        private NodeAccessor() {
+        }
+
+        /**
+         * Returns the parsed nodes of the context, in the order in which they were parsed
+         *
+         * @param commandContext command context
+         * @return parsed nodes
+         */
+        private static @NonNull List<@NonNull CommandNode<?>> nodes(
+                final com.mojang.brigadier.context.@NonNull CommandContext<?> commandContext
+        ) {
+            final Object nodes;
+            try {
+                nodes = (Object) GET_NODES.invokeExact(commandContext);
+            } catch (final Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+            if (nodes instanceof List) {
+                return ParsedCommandNodeHandler.nodes((List<?>) nodes);
+            } else if (nodes instanceof Map) {
+                return new ArrayList<>(((Map<CommandNode<?>, StringRange>) nodes).keySet());
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        /**
+         * Returns the index in the input at which the first parsed node of the context starts
+         *
+         * @param commandContext command context
+         * @return start of the command
+         */
+        private static int commandStart(final com.mojang.brigadier.context.@NonNull CommandContext<?> commandContext) {
+            final Object nodes;
+            try {
+                nodes = (Object) GET_NODES.invokeExact(commandContext);
+            } catch (final Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
             if (nodes instanceof List) {
-                return ParsedCommandNodeHandler.toPairList((List) nodes);
+                return ParsedCommandNodeHandler.firstRange((List<?>) nodes).getStart();
             } else if (nodes instanceof Map) {
-                return ((Map<CommandNode<S>, StringRange>) nodes).entrySet().stream()
-                        .map(entry -> Pair.of(entry.getKey(), entry.getValue()))
-                        .collect(Collectors.toList());
+                return ((Map<?, StringRange>) nodes).values().iterator().next().getStart();
             } else {
                 throw new IllegalStateException();
             }
-        } catch (final ReflectiveOperationException ex) {
-            throw new RuntimeException(ex);
         }
     }
 
@@ -703,10 +917,16 @@ public final class CloudBrigadierManager<C, S> {
         private ParsedCommandNodeHandler() {
         }
 
-        private static <S> List<Pair<CommandNode<S>, StringRange>> toPairList(final List<?> nodes) {
-            return ((List<ParsedCommandNode<S>>) nodes).stream()
-                    .map(n -> Pair.of(n.getNode(), n.getRange()))
-                    .collect(Collectors.toList());
+        private static @NonNull StringRange firstRange(final @NonNull List<?> nodes) {
+            return ((ParsedCommandNode<?>) nodes.get(0)).getRange();
+        }
+
+        private static @NonNull List<@NonNull CommandNode<?>> nodes(final @NonNull List<?> nodes) {
+            final List<CommandNode<?>> commandNodes = new ArrayList<>(nodes.size());
+            for (final Object node : nodes) {
+                commandNodes.add(((ParsedCommandNode<?>) node).getNode());
+            }
+            return commandNodes;
         }
 
     }
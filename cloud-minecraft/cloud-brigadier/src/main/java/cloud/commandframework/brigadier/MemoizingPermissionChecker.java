@@ -0,0 +1,223 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.brigadier;
+
+import cloud.commandframework.permission.CommandPermission;
+import com.mojang.brigadier.tree.CommandNode;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Permission checker for the requirements of Brigadier nodes that memoizes the results for the Brigadier sender that
+ * was checked last.
+ * <p>
+ * The requirement of every node is evaluated whenever the command tree is sent to a player, which would otherwise map
+ * the Brigadier sender to a command sender, and walk its permission, once per node. The memo is keyed by the identity
+ * of the Brigadier sender, so the sender is mapped once per send, and the result for a permission is reused when the
+ * same permission instance is checked again, such as by the nodes along the path of a single command. The results are
+ * confined to the thread that created the memo. A memo is only reused for a short time after it was created, which
+ * bounds how long a changed permission can go unnoticed if the platform reuses the same Brigadier sender object. The
+ * expiry is checked whenever a memo is reused outside of {@link #usableNodes(CommandNode, Object)}. Platforms that
+ * reuse their sender objects should call {@link #invalidate()} when permissions change.
+ * <p>
+ * One checker should be shared by all nodes of a command manager, so that the memo is shared across root commands.
+ *
+ * @param <C> Command sender type
+ * @param <S> Brigadier sender type
+ * @since 1.9.0
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public final class MemoizingPermissionChecker<C, S> implements BiPredicate<@NonNull S, @NonNull CommandPermission> {
+
+    /**
+     * Default time that a memo is reused for. This is one server tick, which is long enough to cover a command tree
+     * send, as those happen synchronously
+     */
+    public static final Duration DEFAULT_MEMO_DURATION = Duration.ofMillis(50L);
+
+    /**
+     * Results are stored in a direct-mapped table indexed by the identity hash of the permission. The permissions of
+     * cloud nodes are stable instances, and a colliding permission simply replaces the previous result
+     */
+    private static final int RESULT_SLOTS = 256;
+    private static final int RESULT_SLOT_MASK = RESULT_SLOTS - 1;
+
+    private final Function<@NonNull S, @NonNull C> senderMapper;
+    private final BiPredicate<@NonNull C, @NonNull CommandPermission> permissionChecker;
+    private final long memoDurationNanos;
+    private final LongSupplier clock;
+    private volatile @Nullable Memo<C, S> memo;
+
+    MemoizingPermissionChecker(
+            final @NonNull Function<@NonNull S, @NonNull C> senderMapper,
+            final @NonNull BiPredicate<@NonNull C, @NonNull CommandPermission> permissionChecker,
+            final @NonNull Duration memoDuration,
+            final @NonNull LongSupplier clock
+    ) {
+        this.senderMapper = Objects.requireNonNull(senderMapper, "senderMapper");
+        this.permissionChecker = Objects.requireNonNull(permissionChecker, "permissionChecker");
+        this.memoDurationNanos = memoDuration.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Create a new memoizing permission checker that reuses its memo for {@link #DEFAULT_MEMO_DURATION}
+     *
+     * @param senderMapper      Mapper from Brigadier senders to command senders
+     * @param permissionChecker Permission checker for command senders
+     * @param <C>               Command sender type
+     * @param <S>               Brigadier sender type
+     * @return Created permission checker
+     */
+    public static <C, S> @NonNull MemoizingPermissionChecker<C, S> create(
+            final @NonNull Function<@NonNull S, @NonNull C> senderMapper,
+            final @NonNull BiPredicate<@NonNull C, @NonNull CommandPermission> permissionChecker
+    ) {
+        return create(senderMapper, permissionChecker, DEFAULT_MEMO_DURATION);
+    }
+
+    /**
+     * Create a new memoizing permission checker
+     *
+     * @param senderMapper      Mapper from Brigadier senders to command senders
+     * @param permissionChecker Permission checker for command senders
+     * @param memoDuration      Time that a memo is reused for after it was created
+     * @param <C>               Command sender type
+     * @param <S>               Brigadier sender type
+     * @return Created permission checker
+     */
+    public static <C, S> @NonNull MemoizingPermissionChecker<C, S> create(
+            final @NonNull Function<@NonNull S, @NonNull C> senderMapper,
+            final @NonNull BiPredicate<@NonNull C, @NonNull CommandPermission> permissionChecker,
+            final @NonNull Duration memoDuration
+    ) {
+        return new MemoizingPermissionChecker<>(senderMapper, permissionChecker, memoDuration, System::nanoTime);
+    }
+
+    @Override
+    public boolean test(final @NonNull S source, final @NonNull CommandPermission permission) {
+        final Memo<C, S> memo = this.memo(source);
+        if (memo.owner != Thread.currentThread()) {
+            /* The results are confined to the thread that created the memo */
+            return this.permissionChecker.test(memo.sender, permission);
+        }
+        final int slot = System.identityHashCode(permission) & RESULT_SLOT_MASK;
+        if (memo.permissions[slot] == permission) {
+            return memo.results[slot];
+        }
+        final boolean result = this.permissionChecker.test(memo.sender, permission);
+        memo.permissions[slot] = permission;
+        memo.results[slot] = result;
+        return result;
+    }
+
+    /**
+     * Evaluate the requirements of a Brigadier command tree for a sender, in the same way as the tree is filtered
+     * before it is sent to a player. The children of a node are only evaluated if the sender can use the node.
+     * <p>
+     * The memo for the sender is kept for the whole evaluation, regardless of the memo duration.
+     *
+     * @param root   Root of the Brigadier command tree. The root itself is not evaluated
+     * @param source Brigadier sender
+     * @return Nodes below the root that the sender can use
+     */
+    public @NonNull Set<@NonNull CommandNode<S>> usableNodes(
+            final @NonNull CommandNode<S> root,
+            final @NonNull S source
+    ) {
+        final Memo<C, S> memo = this.memo(source);
+        memo.pinned = true;
+        try {
+            final Set<CommandNode<S>> usableNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+            this.collectUsableNodes(root, source, usableNodes);
+            return usableNodes;
+        } finally {
+            memo.pinned = false;
+        }
+    }
+
+    /**
+     * Discard the memoized results, so that the next check maps the sender and checks its permissions again
+     */
+    public void invalidate() {
+        this.memo = null;
+    }
+
+    private void collectUsableNodes(
+            final @NonNull CommandNode<S> node,
+            final @NonNull S source,
+            final @NonNull Set<@NonNull CommandNode<S>> usableNodes
+    ) {
+        for (final CommandNode<S> child : node.getChildren()) {
+            if (child.canUse(source) && usableNodes.add(child)) {
+                this.collectUsableNodes(child, source, usableNodes);
+            }
+        }
+    }
+
+    private @NonNull Memo<C, S> memo(final @NonNull S source) {
+        Memo<C, S> memo = this.memo;
+        if (memo != null && memo.source.get() == source) {
+            if (memo.pinned) {
+                return memo;
+            }
+            final long now = this.clock.getAsLong();
+            if (now - memo.createdAt < this.memoDurationNanos) {
+                return memo;
+            }
+            memo = new Memo<>(source, this.senderMapper.apply(source), now);
+        } else {
+            memo = new Memo<>(source, this.senderMapper.apply(source), this.clock.getAsLong());
+        }
+        this.memo = memo;
+        return memo;
+    }
+
+    private static final class Memo<C, S> {
+
+        private final WeakReference<S> source;
+        private final C sender;
+        private final long createdAt;
+        private final Thread owner = Thread.currentThread();
+        private final @Nullable CommandPermission[] permissions = new CommandPermission[RESULT_SLOTS];
+        private final boolean[] results = new boolean[RESULT_SLOTS];
+        private volatile boolean pinned;
+
+        private Memo(final @NonNull S source, final @NonNull C sender, final long createdAt) {
+            this.source = new WeakReference<>(source);
+            this.sender = sender;
+            this.createdAt = createdAt;
+        }
+    }
+}
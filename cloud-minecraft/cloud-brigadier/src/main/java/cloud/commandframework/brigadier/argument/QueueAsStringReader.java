@@ -23,6 +23,7 @@
 //
 package cloud.commandframework.brigadier.argument;
 
+import cloud.commandframework.context.CommandInput;
 import com.mojang.brigadier.StringReader;
 import java.util.Deque;
 import java.util.Queue;
@@ -33,7 +34,7 @@ final class QueueAsStringReader extends StringReader {
     private final Queue<String> input;
 
     QueueAsStringReader(final Queue<String> input) {
-        super(String.join(" ", input));
+        super(input instanceof CommandInput ? ((CommandInput) input).remainingInput() : String.join(" ", input));
         this.input = input;
     }
 
@@ -48,6 +49,12 @@ final class QueueAsStringReader extends StringReader {
         }
         this.closed = true;
 
+        /* Command inputs can be moved directly to the Brigadier cursor position */
+        if (this.input instanceof CommandInput) {
+            ((CommandInput) this.input).moveCursor(this.getCursor());
+            return;
+        }
+
         /* Update elements in the queue to align it with the Brigadier cursor position */
         int idx = this.getCursor();
 
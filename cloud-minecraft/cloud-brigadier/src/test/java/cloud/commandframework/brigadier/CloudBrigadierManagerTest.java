@@ -0,0 +1,292 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.brigadier;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.standard.ByteArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.ShortArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.internal.CommandRegistrationHandler;
+import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import cloud.commandframework.metrics.CommandMetricsListener;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.suggestion.Suggestion;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import io.leangen.geantyref.TypeToken;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class CloudBrigadierManagerTest {
+
+    private final AtomicInteger parsedArguments = new AtomicInteger();
+    private final Map<String, Object> values = new HashMap<>();
+    private final TestSender sender = new TestSender();
+
+    private TestCommandManager manager;
+    private CloudBrigadierManager<TestSender, TestSender> brigadierManager;
+    private CommandDispatcher<TestSender> dispatcher;
+
+    @BeforeEach
+    void setup() {
+        this.manager = new TestCommandManager();
+        this.manager.metricsListener(new CommandMetricsListener<TestSender>() {
+            @Override
+            public void argumentParsed(
+                    final @NonNull CommandContext<TestSender> context,
+                    final @NonNull CommandArgument<TestSender, ?> argument,
+                    final boolean success,
+                    final long durationNanos
+            ) {
+                CloudBrigadierManagerTest.this.parsedArguments.incrementAndGet();
+            }
+        });
+        this.brigadierManager = new CloudBrigadierManager<>(
+                this.manager,
+                () -> new CommandContext<>(this.sender, this.manager)
+        );
+        this.dispatcher = new CommandDispatcher<>();
+    }
+
+    @Test
+    void Execute_DirectlyMappedArgument_SkipsParsing() throws Exception {
+        // Arrange
+        this.register("cmd", this.manager.commandBuilder("cmd").argument(IntegerArgument.of("value")));
+
+        // Act
+        this.dispatcher.execute("cmd 5", this.sender);
+
+        // Assert
+        assertThat(this.values).containsExactly("value", 5);
+        assertThat(this.parsedArguments.get()).isEqualTo(0);
+    }
+
+    @Test
+    void Execute_NamespacedLabel_SkipsParsing() throws Exception {
+        // Arrange
+        this.register("test:cmd", this.manager.commandBuilder("cmd").argument(IntegerArgument.of("value")));
+
+        // Act
+        this.dispatcher.execute("test:cmd 5", this.sender);
+
+        // Assert
+        assertThat(this.values).containsExactly("value", 5);
+        assertThat(this.parsedArguments.get()).isEqualTo(0);
+    }
+
+    @Test
+    void Execute_RootAlias_SkipsParsing() throws Exception {
+        // Arrange
+        this.register("c", this.manager.commandBuilder("cmd", "c").argument(IntegerArgument.of("value")));
+
+        // Act
+        this.dispatcher.execute("c 5", this.sender);
+
+        // Assert
+        assertThat(this.values).containsExactly("value", 5);
+        assertThat(this.parsedArguments.get()).isEqualTo(0);
+    }
+
+    @Test
+    void Execute_ByteAndShortArguments_NarrowsValues() throws Exception {
+        // Arrange
+        this.register("cmd", this.manager.commandBuilder("cmd")
+                .argument(ByteArgument.of("byte"))
+                .argument(ShortArgument.of("short")));
+
+        // Act
+        this.dispatcher.execute("cmd 5 300", this.sender);
+
+        // Assert
+        assertThat(this.values).containsExactly("byte", (byte) 5, "short", (short) 300);
+        assertThat(this.parsedArguments.get()).isEqualTo(0);
+    }
+
+    @Test
+    void Execute_GreedyString_ParsesInput() throws Exception {
+        // Arrange
+        this.register("cmd", this.manager.commandBuilder("cmd").argument(StringArgument.greedy("text")));
+
+        // Act
+        this.dispatcher.execute("cmd hello world", this.sender);
+
+        // Assert
+        assertThat(this.values).containsExactly("text", "hello world");
+        assertThat(this.parsedArguments.get()).isGreaterThan(0);
+    }
+
+    @Test
+    void Execute_RemappedParser_ParsesInput() throws Exception {
+        // Arrange
+        this.brigadierManager.registerMapping(new TypeToken<IntegerArgument.IntegerParser<TestSender>>() {
+        }, builder -> builder.toConstant(IntegerArgumentType.integer()));
+        this.register("cmd", this.manager.commandBuilder("cmd").argument(IntegerArgument.of("value")));
+
+        // Act
+        this.dispatcher.execute("cmd 5", this.sender);
+
+        // Assert
+        assertThat(this.values).containsExactly("value", 5);
+        assertThat(this.parsedArguments.get()).isGreaterThan(0);
+    }
+
+    @Test
+    void Execute_AliasLiteral_ParsesInput() throws Exception {
+        // Arrange
+        this.register("cmd", this.manager.commandBuilder("cmd")
+                .literal("sub", "s")
+                .argument(IntegerArgument.of("value")));
+        /* Brigadier nodes are named after the primary literal, so an alias node added by a platform is not mapped */
+        this.dispatcher.getRoot().getChild("cmd").addChild(LiteralArgumentBuilder.<TestSender>literal("s")
+                .then(RequiredArgumentBuilder.<TestSender, Integer>argument("value", IntegerArgumentType.integer())
+                        .executes(this::execute))
+                .build());
+
+        // Act
+        this.dispatcher.execute("cmd s 5", this.sender);
+
+        // Assert
+        assertThat(this.values).containsExactly("value", 5);
+        assertThat(this.parsedArguments.get()).isGreaterThan(0);
+    }
+
+    @Test
+    void Execute_PreprocessorReadsInput_SkipsParsing() throws Exception {
+        // Arrange
+        this.manager.registerCommandPreProcessor(context -> context.getInputQueue().peekLast());
+        this.register("cmd", this.manager.commandBuilder("cmd").argument(IntegerArgument.of("value")));
+
+        // Act
+        this.dispatcher.execute("cmd 5", this.sender);
+
+        // Assert
+        assertThat(this.values).containsExactly("value", 5);
+        assertThat(this.parsedArguments.get()).isEqualTo(0);
+    }
+
+    @Test
+    void Execute_PreprocessorRewritesInput_ParsesInput() throws Exception {
+        // Arrange
+        this.manager.registerCommandPreProcessor(context -> {
+            context.getInputQueue().removeLast();
+            context.getInputQueue().add("7");
+        });
+        this.register("cmd", this.manager.commandBuilder("cmd").argument(IntegerArgument.of("value")));
+
+        // Act
+        this.dispatcher.execute("cmd 5", this.sender);
+
+        // Assert
+        assertThat(this.values).containsExactly("value", 7);
+        assertThat(this.parsedArguments.get()).isGreaterThan(0);
+    }
+
+    @Test
+    void Suggest_LiteralInsertedAfterNodeCreation_FiltersLiteral() throws Exception {
+        // Arrange
+        this.register("cmd", this.manager.commandBuilder("cmd").argument(StringArgument.<TestSender>builder("text")
+                .withSuggestionsProvider((context, input) -> Arrays.asList("sub", "other"))));
+        this.manager.command(this.manager.commandBuilder("cmd").literal("sub"));
+        final ArgumentCommandNode<TestSender, ?> argumentNode = (ArgumentCommandNode<TestSender, ?>) this.dispatcher
+                .getRoot()
+                .getChild("cmd")
+                .getChild("text");
+
+        // Act
+        final Suggestions suggestions = argumentNode.getCustomSuggestions()
+                .getSuggestions(null, new SuggestionsBuilder("cmd ", 4))
+                .join();
+
+        // Assert
+        assertThat(suggestions.getList().stream().map(Suggestion::getText).collect(Collectors.toList()))
+                .containsExactly("other");
+    }
+
+    private void register(final @NonNull String label, final Command.@NonNull Builder<TestSender> builder) {
+        final Command<TestSender> command = builder
+                .handler(context -> context.asMap().forEach((key, value) -> {
+                    /* Skip the internal markers of the processing stages */
+                    if (!key.startsWith("__")) {
+                        this.values.put(key, value);
+                    }
+                }))
+                .build();
+        this.manager.command(command);
+        this.dispatcher.getRoot().addChild(this.brigadierManager.createLiteralCommandNode(
+                label,
+                command,
+                (source, permission) -> true,
+                false,
+                this::execute
+        ));
+    }
+
+    private int execute(final com.mojang.brigadier.context.@NonNull CommandContext<TestSender> context)
+            throws CommandSyntaxException {
+        this.brigadierManager.executeCommand(context, context.getSource(), context.getInput()).join();
+        return com.mojang.brigadier.Command.SINGLE_SUCCESS;
+    }
+
+    private static final class TestSender {
+    }
+
+    private static final class TestCommandManager extends CommandManager<TestSender> {
+
+        private TestCommandManager() {
+            super(
+                    CommandExecutionCoordinator.simpleCoordinator(),
+                    CommandRegistrationHandler.nullCommandRegistrationHandler()
+            );
+        }
+
+        @Override
+        public boolean hasPermission(final @NonNull TestSender sender, final @NonNull String permission) {
+            return true;
+        }
+
+        @Override
+        public @NonNull CommandMeta createDefaultCommandMeta() {
+            return SimpleCommandMeta.empty();
+        }
+    }
+}
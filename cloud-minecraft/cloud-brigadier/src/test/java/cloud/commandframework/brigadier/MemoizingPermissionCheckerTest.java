@@ -0,0 +1,178 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.brigadier;
+
+import cloud.commandframework.permission.CommandPermission;
+import cloud.commandframework.permission.Permission;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import com.mojang.brigadier.tree.RootCommandNode;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class MemoizingPermissionCheckerTest {
+
+    private static final CommandPermission ONE = Permission.of("perm.one");
+    private static final CommandPermission TWO = Permission.of("perm.two");
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger mappings = new AtomicInteger();
+    private final AtomicInteger checks = new AtomicInteger();
+    private final Set<String> granted = new HashSet<>();
+
+    private MemoizingPermissionChecker<String, Object> checker;
+
+    @BeforeEach
+    void setup() {
+        this.checker = new MemoizingPermissionChecker<>(
+                source -> {
+                    this.mappings.incrementAndGet();
+                    return source.toString();
+                },
+                (sender, permission) -> {
+                    this.checks.incrementAndGet();
+                    return this.granted.contains(permission.toString());
+                },
+                Duration.ofMillis(50L),
+                this.clock::get
+        );
+    }
+
+    @Test
+    void Test_SameSource_MapsOnceAndChecksEachPermissionOnce() {
+        // Arrange
+        final Object source = new Object();
+        this.granted.add("perm.one");
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            assertThat(this.checker.test(source, ONE)).isTrue();
+            assertThat(this.checker.test(source, TWO)).isFalse();
+        }
+
+        // Assert
+        assertThat(this.mappings.get()).isEqualTo(1);
+        assertThat(this.checks.get()).isEqualTo(2);
+    }
+
+    @Test
+    void Test_DifferentSource_ChecksAgain() {
+        // Arrange
+        this.checker.test(new Object(), ONE);
+
+        // Act
+        this.checker.test(new Object(), ONE);
+
+        // Assert
+        assertThat(this.mappings.get()).isEqualTo(2);
+        assertThat(this.checks.get()).isEqualTo(2);
+    }
+
+    @Test
+    void Test_AfterMemoDuration_ChecksAgain() {
+        // Arrange
+        final Object source = new Object();
+        assertThat(this.checker.test(source, ONE)).isFalse();
+        this.granted.add("perm.one");
+
+        // Act
+        this.clock.addAndGet(Duration.ofMillis(50L).toNanos());
+        final boolean result = this.checker.test(source, ONE);
+
+        // Assert
+        assertThat(result).isTrue();
+        assertThat(this.checks.get()).isEqualTo(2);
+    }
+
+    @Test
+    void Test_RepeatedUseAfterMemoDuration_ChecksAgain() {
+        // Arrange
+        final Object source = new Object();
+        for (int i = 0; i < 5; i++) {
+            assertThat(this.checker.test(source, ONE)).isFalse();
+        }
+        this.granted.add("perm.one");
+
+        // Act
+        this.clock.addAndGet(Duration.ofMillis(50L).toNanos());
+        final boolean result = this.checker.test(source, ONE);
+
+        // Assert
+        assertThat(result).isTrue();
+        assertThat(this.checks.get()).isEqualTo(2);
+    }
+
+    @Test
+    void Test_AfterInvalidation_ChecksAgain() {
+        // Arrange
+        final Object source = new Object();
+        assertThat(this.checker.test(source, ONE)).isFalse();
+        this.granted.add("perm.one");
+
+        // Act
+        this.checker.invalidate();
+        final boolean result = this.checker.test(source, ONE);
+
+        // Assert
+        assertThat(result).isTrue();
+        assertThat(this.checks.get()).isEqualTo(2);
+    }
+
+    @Test
+    void UsableNodes_BrigadierTree_SkipsChildrenOfUnusableNodes() {
+        // Arrange
+        final Object source = new Object();
+        this.granted.add("perm.one");
+        final LiteralCommandNode<Object> usable = this.literal("usable", ONE)
+                .then(this.literal("child", ONE))
+                .build();
+        final LiteralCommandNode<Object> unusable = this.literal("unusable", TWO)
+                .then(this.literal("child", ONE))
+                .build();
+        final RootCommandNode<Object> root = new RootCommandNode<>();
+        root.addChild(usable);
+        root.addChild(unusable);
+
+        // Act
+        final Set<CommandNode<Object>> result = this.checker.usableNodes(root, source);
+
+        // Assert
+        assertThat(result).containsExactly(usable, usable.getChild("child"));
+        assertThat(this.mappings.get()).isEqualTo(1);
+        assertThat(this.checks.get()).isEqualTo(2);
+    }
+
+    private LiteralArgumentBuilder<Object> literal(final String name, final CommandPermission permission) {
+        return LiteralArgumentBuilder.<Object>literal(name)
+                .requires(source -> this.checker.test(source, permission));
+    }
+}
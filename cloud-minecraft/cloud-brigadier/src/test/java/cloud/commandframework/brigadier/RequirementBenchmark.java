@@ -0,0 +1,242 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.brigadier;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.CommandTree;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.internal.CommandRegistrationHandler;
+import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.RootCommandNode;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the requirement checks of sending a command tree with 400 root commands to 200 players, in the same way as
+ * the server filters the Brigadier tree before sending it: the requirement of every node is tested, and the children
+ * of a node are only visited if the sender can use it. The Brigadier trees are built by {@link CloudBrigadierManager}
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class RequirementBenchmark {
+
+    private static final int ROOT_COMMANDS = 400;
+    private static final int SUB_COMMANDS = 4;
+    private static final int PLAYERS = 200;
+
+    private Player[] players;
+    private RootCommandNode<Source> perNodeRoot;
+    private RootCommandNode<Source> memoizedRoot;
+    private MemoizingPermissionChecker<Sender, Source> memoizingChecker;
+
+    @Setup
+    public void setup() {
+        final BenchmarkCommandManager manager = new BenchmarkCommandManager();
+        final List<Command<Sender>> rootCommands = new ArrayList<>();
+        for (int i = 0; i < ROOT_COMMANDS; i++) {
+            final Command<Sender> rootCommand = manager.commandBuilder("root" + i).permission("cmd." + i).build();
+            manager.command(rootCommand);
+            rootCommands.add(rootCommand);
+            manager.defaults.put("cmd." + i, false);
+            for (int j = 0; j < SUB_COMMANDS; j++) {
+                manager.defaults.put("cmd." + i + ".sub." + j, false);
+                manager.command(manager.commandBuilder("root" + i)
+                        .literal("sub" + j)
+                        .argument(IntegerArgument.of("int"))
+                        .permission("cmd." + i + ".sub." + j));
+            }
+        }
+        this.players = new Player[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            final Player player = new Player();
+            /* Every player has half of the root permissions and half of the sub command permissions */
+            for (int j = i % 2; j < ROOT_COMMANDS; j += 2) {
+                player.permissions.add("cmd." + j);
+                player.permissions.add("cmd." + j + ".sub." + (i % SUB_COMMANDS));
+                player.permissions.add("cmd." + j + ".sub." + ((i + 2) % SUB_COMMANDS));
+            }
+            this.players[i] = player;
+        }
+        this.memoizingChecker = MemoizingPermissionChecker.create(Source::mapSender, manager::hasPermission);
+
+        final CloudBrigadierManager<Sender, Source> brigadierManager = new CloudBrigadierManager<>(
+                manager,
+                () -> new CommandContext<>(new Sender(new Player()), manager)
+        );
+        final CommandTree<Sender> tree = manager.commandTree();
+        this.perNodeRoot = new RootCommandNode<>();
+        this.memoizedRoot = new RootCommandNode<>();
+        for (final Command<Sender> rootCommand : rootCommands) {
+            final String label = rootCommand.getArguments().get(0).getName();
+            final CommandTree.Node<CommandArgument<Sender, ?>> root = tree.getNamedNode(label);
+            this.perNodeRoot.addChild(brigadierManager.createLiteralCommandNode(
+                    label,
+                    rootCommand,
+                    (s, p) -> {
+                        if (tree.getNamedNode(label) == null) {
+                            return false;
+                        }
+                        return manager.hasPermission(s.mapSender(), p);
+                    },
+                    false,
+                    context -> com.mojang.brigadier.Command.SINGLE_SUCCESS
+            ));
+            this.memoizedRoot.addChild(brigadierManager.createLiteralCommandNode(
+                    label,
+                    rootCommand,
+                    (s, p) -> tree.getNamedNode(label) == root && this.memoizingChecker.test(s, p),
+                    false,
+                    context -> com.mojang.brigadier.Command.SINGLE_SUCCESS
+            ));
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public int sendPerNodeChecks() {
+        int usable = 0;
+        for (final Player player : this.players) {
+            /* The server creates a new command source for every send */
+            final Source source = new Source(player);
+            usable += this.walk(this.perNodeRoot, source);
+        }
+        return usable;
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public int sendMemoized() {
+        int usable = 0;
+        for (final Player player : this.players) {
+            final Source source = new Source(player);
+            usable += this.memoizingChecker.usableNodes(this.memoizedRoot, source).size();
+        }
+        return usable;
+    }
+
+    private int walk(final @NonNull CommandNode<Source> node, final @NonNull Source source) {
+        int usable = 0;
+        for (final CommandNode<Source> child : node.getChildren()) {
+            if (child.canUse(source)) {
+                usable += 1 + this.walk(child, source);
+            }
+        }
+        return usable;
+    }
+
+    public static final class Player {
+
+        private final Set<String> permissions = new HashSet<>();
+    }
+
+    /* Platforms wrap the native sender in a command sender object */
+    private static final class Sender {
+
+        private final Player player;
+
+        private Sender(final @NonNull Player player) {
+            this.player = player;
+        }
+    }
+
+    public static final class Source {
+
+        private final Player player;
+
+        private Source(final @NonNull Player player) {
+            this.player = player;
+        }
+
+        public @NonNull Player getBukkitSender() {
+            return this.player;
+        }
+
+        /* Mirrors the commodore integration, which looks up the native sender reflectively */
+        private @NonNull Sender mapSender() {
+            try {
+                final Method getBukkitSender = this.getClass().getDeclaredMethod("getBukkitSender");
+                getBukkitSender.setAccessible(true);
+                return new Sender((Player) getBukkitSender.invoke(this));
+            } catch (final ReflectiveOperationException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+    }
+
+    private static final class BenchmarkCommandManager extends CommandManager<Sender> {
+
+        private final Map<String, Boolean> defaults = new HashMap<>();
+
+        private BenchmarkCommandManager() {
+            super(
+                    CommandExecutionCoordinator.simpleCoordinator(),
+                    CommandRegistrationHandler.nullCommandRegistrationHandler()
+            );
+        }
+
+        /* Mirrors a Bukkit permissible, which normalizes the node and falls back to the registered default */
+        @Override
+        public boolean hasPermission(final @NonNull Sender sender, final @NonNull String permission) {
+            final String node = permission.toLowerCase(Locale.ROOT);
+            if (sender.player.permissions.contains(node)) {
+                return true;
+            }
+            return this.defaults.getOrDefault(node, false);
+        }
+
+        @Override
+        public @NonNull CommandMeta createDefaultCommandMeta() {
+            return SimpleCommandMeta.empty();
+        }
+    }
+}
@@ -26,7 +26,10 @@ package cloud.commandframework.bukkit;
 import cloud.commandframework.tasks.TaskConsumer;
 import cloud.commandframework.tasks.TaskFunction;
 import cloud.commandframework.tasks.TaskSynchronizer;
+import cloud.commandframework.tasks.TickBatchedTaskSynchronizer;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import org.apiguardian.api.API;
 import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -46,6 +49,39 @@ public final class BukkitSynchronizer implements TaskSynchronizer {
         this.plugin = plugin;
     }
 
+    /**
+     * Create a synchronizer that runs all synchronous steps that are queued for the same tick in a single task, using
+     * the {@link TickBatchedTaskSynchronizer#DEFAULT_TICK_BUDGET default tick budget}
+     *
+     * @param plugin Owning plugin
+     * @return Created synchronizer
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public static @NonNull TickBatchedTaskSynchronizer tickBatched(final @NonNull Plugin plugin) {
+        return tickBatched(plugin, TickBatchedTaskSynchronizer.DEFAULT_TICK_BUDGET);
+    }
+
+    /**
+     * Create a synchronizer that runs all synchronous steps that are queued for the same tick in a single task
+     *
+     * @param plugin     Owning plugin
+     * @param tickBudget Time that the queued steps may take per tick, after which the remaining steps are left for the
+     *                   next tick
+     * @return Created synchronizer
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public static @NonNull TickBatchedTaskSynchronizer tickBatched(
+            final @NonNull Plugin plugin,
+            final @NonNull Duration tickBudget
+    ) {
+        return TickBatchedTaskSynchronizer.builder(
+                task -> plugin.getServer().getScheduler().runTask(plugin, task),
+                task -> plugin.getServer().getScheduler().runTaskAsynchronously(plugin, task)
+        ).withTickBudget(tickBudget).build();
+    }
+
     @Override
     public <I> CompletableFuture<Void> runSynchronous(final @NonNull I input, final @NonNull TaskConsumer<I> consumer) {
         final CompletableFuture<Void> future = new CompletableFuture<>();
@@ -167,15 +167,11 @@ public final class Location2DArgument<C> extends CommandArgument<C, Location2D>
                 final @NonNull Queue<@NonNull String> inputQueue
         ) {
             if (inputQueue.size() < 2) {
-                final StringBuilder input = new StringBuilder();
-                for (int i = 0; i < inputQueue.size(); i++) {
-                    input.append(((LinkedList<String>) inputQueue).get(i));
-                }
                 return ArgumentParseResult.failure(
                         new LocationParseException(
                                 commandContext,
                                 LocationParseException.FailureReason.WRONG_FORMAT,
-                                input.toString()
+                                String.join("", inputQueue)
                         )
                 );
             }
@@ -30,6 +30,7 @@ import cloud.commandframework.bukkit.BukkitCommandContextKeys;
 import cloud.commandframework.bukkit.internal.CraftBukkitReflection;
 import cloud.commandframework.bukkit.internal.MinecraftArgumentTypes;
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
 import com.google.common.base.Suppliers;
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.arguments.ArgumentType;
@@ -281,6 +282,9 @@ final class SelectorUtils {
                 final CommandContext<C> commandContext,
                 final Queue<String> inputQueue
         ) {
+            if (inputQueue instanceof CommandInput) {
+                return this.parse(commandContext, (CommandInput) inputQueue);
+            }
             final List<String> originalInputQueue = new ArrayList<>(inputQueue);
 
             final ArgumentParseResult<Object> result = this.wrappedBrigadierParser.parse(commandContext, inputQueue);
@@ -305,6 +309,37 @@ final class SelectorUtils {
             throw new IllegalStateException();
         }
 
+        private ArgumentParseResult<T> parse(
+                final CommandContext<C> commandContext,
+                final CommandInput commandInput
+        ) {
+            final CommandInput originalInput = commandInput.copy();
+
+            final ArgumentParseResult<Object> result = this.wrappedBrigadierParser.parse(commandContext, commandInput);
+            if (result.getFailure().isPresent()) {
+                return ArgumentParseResult.failure(result.getFailure().get());
+            } else if (result.getParsedValue().isPresent()) {
+                try {
+                    /* The consumed input is the part of the original remaining input that is no longer remaining */
+                    final String originalRemainingInput = originalInput.remainingInput();
+                    final String input = originalRemainingInput.substring(
+                            0,
+                            originalRemainingInput.length() - commandInput.remainingInput().length()
+                    ).trim();
+                    return ArgumentParseResult.success(this.mapper.mapResult(
+                            input,
+                            new EntitySelectorWrapper(commandContext, result.getParsedValue().get())
+                    ));
+                } catch (final CommandSyntaxException ex) {
+                    commandInput.reset(originalInput);
+                    return ArgumentParseResult.failure(ex);
+                } catch (final Exception ex) {
+                    throw rethrow(ex);
+                }
+            }
+            throw new IllegalStateException();
+        }
+
         @Override
         public List<String> suggestions(
                 final CommandContext<C> commandContext,
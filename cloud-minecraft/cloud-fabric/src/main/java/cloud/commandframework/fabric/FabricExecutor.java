@@ -79,7 +79,7 @@ final class FabricExecutor<C, S extends SharedSuggestionProvider> implements Com
         final String input = ctx.getInput().substring(ctx.getLastChild().getNodes().get(0).getRange().getStart());
         final C sender = this.manager.commandSourceMapper().apply(source);
 
-        this.manager.executeCommand(sender, input).whenComplete((result, throwable) -> {
+        this.manager.brigadierManager().executeCommand(ctx, sender, input).whenComplete((result, throwable) -> {
             if (throwable == null) {
                 return;
             }
@@ -47,6 +47,7 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static net.kyori.adventure.text.Component.space;
 import static net.kyori.adventure.text.Component.text;
@@ -94,6 +95,8 @@ public final class MinecraftHelp<C> {
     private final Map<String, String> messageMap = new HashMap<>();
 
     private Predicate<Command<C>> commandFilter = c -> true;
+    /* Kept between queries so that its index of the commands is reused */
+    private volatile @Nullable CommandHelpHandler<C> commandHelpHandler;
     private BiFunction<C, String, String> stringMessageProvider = (sender, key) -> this.messageMap.get(key);
     private MessageProvider<C> messageProvider =
             (sender, key, args) -> text(this.stringMessageProvider.apply(sender, key));
@@ -195,6 +198,7 @@ public final class MinecraftHelp<C> {
      */
     public void commandFilter(final @NonNull Predicate<Command<C>> commandPredicate) {
         this.commandFilter = commandPredicate;
+        this.commandHelpHandler = null;
     }
 
     /**
@@ -326,10 +330,19 @@ public final class MinecraftHelp<C> {
                 recipient,
                 query,
                 page,
-                this.commandManager.createCommandHelpHandler(this.commandFilter).queryHelp(recipient, query)
+                this.commandHelpHandler().queryHelp(recipient, query)
         );
     }
 
+    private @NonNull CommandHelpHandler<C> commandHelpHandler() {
+        CommandHelpHandler<C> commandHelpHandler = this.commandHelpHandler;
+        if (commandHelpHandler == null) {
+            commandHelpHandler = this.commandManager.createCommandHelpHandler(this.commandFilter);
+            this.commandHelpHandler = commandHelpHandler;
+        }
+        return commandHelpHandler;
+    }
+
     private void printTopic(
             final @NonNull C sender,
             final @NonNull String query,
@@ -60,7 +60,8 @@ final class VelocityExecutor<C> implements Command<CommandSource> {
         final String input = commandContext.getInput();
         final C sender = this.manager.commandSenderMapper().apply(
                 source);
-        this.manager.executeCommand(sender, input).whenComplete(this.getResultConsumer(source, sender));
+        this.manager.brigadierManager().executeCommand(commandContext, sender, input)
+                .whenComplete(this.getResultConsumer(source, sender));
         return com.mojang.brigadier.Command.SINGLE_SUCCESS;
     }
 
@@ -5,4 +5,6 @@ plugins {
 
 dependencies {
     api(libs.geantyref)
+    testImplementation(libs.jmhCore)
+    testImplementation(libs.jmhGeneratorAnnprocess)
 }
@@ -35,7 +35,7 @@ enum ServiceFilterHandler {
             final @NonNull ServiceRepository<Context, ?>.ServiceWrapper<? extends Service<Context, ?>> service,
             final @NonNull Context context
     ) {
-        if (!service.isDefaultImplementation()) {
+        if (!service.isDefaultImplementation() && !service.getFilters().isEmpty()) {
             for (final Predicate<Context> predicate : service.getFilters()) {
                 try {
                     if (!predicate.test(context)) {
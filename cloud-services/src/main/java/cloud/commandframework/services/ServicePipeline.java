@@ -230,11 +230,8 @@ public final class ServicePipeline {
     ) {
         ServiceRepository<Context, Result> repository = this.getRepository(type);
         List<TypeToken<? extends S>> collection = new LinkedList<>();
-        final LinkedList<? extends ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>>>
-                queue = repository.getQueue();
-        queue.sort(null);
-        Collections.reverse(queue);
-        for (ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>> wrapper : queue) {
+        for (ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>> wrapper
+                : repository.getExecutionOrder()) {
             collection
                     .add((TypeToken<? extends S>) TypeToken.get(wrapper.getImplementation().getClass()));
         }
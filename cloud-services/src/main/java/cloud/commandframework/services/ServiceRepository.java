@@ -24,12 +24,13 @@
 package cloud.commandframework.services;
 
 import cloud.commandframework.services.annotations.Order;
+import cloud.commandframework.services.types.ConsumerService;
 import cloud.commandframework.services.types.Service;
+import cloud.commandframework.services.types.SideEffectService;
 import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Predicate;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -46,6 +47,12 @@ public final class ServiceRepository<Context, Response> {
     private final TypeToken<? extends Service<Context, Response>> serviceType;
     private final List<ServiceWrapper<? extends Service<Context, Response>>> implementations;
 
+    /**
+     * Immutable snapshot of the implementations in execution order, rebuilt on registration so that
+     * pumping a context through the pipeline does not need to copy or sort the implementations
+     */
+    private volatile List<ServiceWrapper<? extends Service<Context, Response>>> executionOrder = Collections.emptyList();
+
     private int registrationOrder = 0;
 
     /**
@@ -55,7 +62,7 @@ public final class ServiceRepository<Context, Response> {
      */
     ServiceRepository(final @NonNull TypeToken<? extends Service<Context, Response>> serviceType) {
         this.serviceType = serviceType;
-        this.implementations = new LinkedList<>();
+        this.implementations = new ArrayList<>();
     }
 
     /**
@@ -71,19 +78,22 @@ public final class ServiceRepository<Context, Response> {
     ) {
         synchronized (this.lock) {
             this.implementations.add(new ServiceWrapper<>(service, filters));
+            final List<ServiceWrapper<? extends Service<Context, Response>>> executionOrder =
+                    new ArrayList<>(this.implementations);
+            executionOrder.sort(Collections.reverseOrder());
+            this.executionOrder = Collections.unmodifiableList(executionOrder);
         }
     }
 
     /**
-     * Get a queue containing all implementations
+     * Get all implementations in the order in which they should be invoked. The highest priority
+     * implementation comes first, and the default implementation comes last
      *
-     * @return Queue containing all implementations
+     * @return Immutable list containing all implementations
      */
     @NonNull
-    LinkedList<ServiceWrapper<? extends Service<Context, Response>>> getQueue() {
-        synchronized (this.lock) {
-            return new LinkedList<>(this.implementations);
-        }
+    List<ServiceWrapper<? extends Service<Context, Response>>> getExecutionOrder() {
+        return this.executionOrder;
     }
 
 
@@ -98,6 +108,8 @@ public final class ServiceRepository<Context, Response> {
         private final boolean defaultImplementation;
         private final T implementation;
         private final Collection<Predicate<Context>> filters;
+        private final boolean consumerService;
+        private final boolean sideEffectService;
 
         private final int registrationOrder = ServiceRepository.this.registrationOrder++;
         private final ExecutionOrder executionOrder;
@@ -108,7 +120,9 @@ public final class ServiceRepository<Context, Response> {
         ) {
             this.defaultImplementation = ServiceRepository.this.implementations.isEmpty();
             this.implementation = implementation;
-            this.filters = filters;
+            this.filters = Collections.unmodifiableCollection(filters);
+            this.consumerService = implementation instanceof ConsumerService;
+            this.sideEffectService = implementation instanceof SideEffectService;
             ExecutionOrder executionOrder = implementation.order();
             if (executionOrder == null) {
                 final Order order = implementation.getClass().getAnnotation(Order.class);
@@ -128,13 +142,21 @@ public final class ServiceRepository<Context, Response> {
 
         @NonNull
         Collection<Predicate<Context>> getFilters() {
-            return Collections.unmodifiableCollection(this.filters);
+            return this.filters;
         }
 
         boolean isDefaultImplementation() {
             return this.defaultImplementation;
         }
 
+        boolean isConsumerService() {
+            return this.consumerService;
+        }
+
+        boolean isSideEffectService() {
+            return this.sideEffectService;
+        }
+
         @Override
         public String toString() {
             return String.format(
@@ -146,11 +168,14 @@ public final class ServiceRepository<Context, Response> {
 
         @Override
         public int compareTo(final @NonNull ServiceWrapper<T> other) {
-            return Comparator.<ServiceWrapper<T>>comparingInt(
-                            wrapper -> wrapper.isDefaultImplementation()
-                                    ? Integer.MIN_VALUE
-                                    : Integer.MAX_VALUE).thenComparingInt(wrapper -> wrapper.executionOrder.ordinal())
-                    .thenComparingInt(wrapper -> wrapper.registrationOrder).compare(this, other);
+            if (this.defaultImplementation != other.defaultImplementation) {
+                return this.defaultImplementation ? -1 : 1;
+            }
+            final int executionOrder = Integer.compare(this.executionOrder.ordinal(), other.executionOrder.ordinal());
+            if (executionOrder != 0) {
+                return executionOrder;
+            }
+            return Integer.compare(this.registrationOrder, other.registrationOrder);
         }
     }
 }
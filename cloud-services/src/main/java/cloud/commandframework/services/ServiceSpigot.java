@@ -23,11 +23,9 @@
 //
 package cloud.commandframework.services;
 
-import cloud.commandframework.services.types.ConsumerService;
 import cloud.commandframework.services.types.Service;
 import cloud.commandframework.services.types.SideEffectService;
 import io.leangen.geantyref.TypeToken;
-import java.util.LinkedList;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -77,15 +75,10 @@ public final class ServiceSpigot<Context, Result> {
     @SuppressWarnings("unchecked")
     public @NonNull Result getResult()
             throws IllegalStateException, PipelineException {
-        final LinkedList<? extends ServiceRepository<@NonNull Context, @NonNull Result>
-                .ServiceWrapper<? extends Service<@NonNull Context, @NonNull Result>>>
-                queue = this.repository.getQueue();
-        queue.sort(null); // Sort using the built in comparator method
-        ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>>
-                wrapper;
         boolean consumerService = false;
-        while ((wrapper = queue.pollLast()) != null) {
-            consumerService = wrapper.getImplementation() instanceof ConsumerService;
+        for (final ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>> wrapper
+                : this.repository.getExecutionOrder()) {
+            consumerService = wrapper.isConsumerService();
             if (!ServiceFilterHandler.INSTANCE.passes(wrapper, this.context)) {
                 continue;
             }
@@ -95,7 +88,7 @@ public final class ServiceSpigot<Context, Result> {
             } catch (final Exception e) {
                 throw new PipelineException(String.format("Failed to retrieve result from %s", wrapper), e);
             }
-            if (wrapper.getImplementation() instanceof SideEffectService) {
+            if (wrapper.isSideEffectService()) {
                 if (result == null) {
                     throw new IllegalStateException(String.format("SideEffectService '%s' returned null", wrapper));
                 } else if (result == State.ACCEPTED) {
@@ -0,0 +1,72 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.services;
+
+import cloud.commandframework.services.mock.DefaultMockService;
+import cloud.commandframework.services.mock.MockService;
+import io.leangen.geantyref.TypeToken;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class PipelineBenchmark {
+
+    private static final TypeToken<MockService> SERVICE_TYPE = TypeToken.get(MockService.class);
+
+    /* The number of registered services, including the default implementation */
+    @Param({"1", "10", "50"})
+    private int services;
+
+    private ServicePipeline pipeline;
+    private MockService.MockContext context;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.pipeline = ServicePipeline.builder().build();
+        this.pipeline.registerServiceType(SERVICE_TYPE, new DefaultMockService());
+        /* None of the implementations produce a result, so that every context passes through all of them */
+        for (int i = 1; i < this.services; i++) {
+            this.pipeline.registerServiceImplementation(SERVICE_TYPE, context -> null, Collections.emptyList());
+        }
+        this.context = new MockService.MockContext("context");
+    }
+
+    @Benchmark
+    @Fork(1)
+    public MockService.MockResult testPump() {
+        return this.pipeline.pump(this.context).through(SERVICE_TYPE).getResult();
+    }
+}
@@ -23,10 +23,11 @@
 //
 package cloud.commandframework.tasks;
 
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -65,30 +66,47 @@ public final class TaskRecipe {
     }
 
     private void execute(final @NonNull Object initialInput, final @NonNull Runnable callback) {
-        final Iterator<Map.Entry<TaskRecipeStep, Boolean>> iterator = new LinkedHashMap<>(this.recipeSteps).entrySet().iterator();
+        final TaskRecipeStep[] steps = new TaskRecipeStep[this.recipeSteps.size()];
+        final boolean[] synchronous = new boolean[steps.length];
+        int stepCount = 0;
+        for (final Map.Entry<TaskRecipeStep, Boolean> entry : this.recipeSteps.entrySet()) {
+            if (entry.getValue() && stepCount > 0 && synchronous[stepCount - 1]) {
+                /* Consecutive synchronous steps are run as a single step, so that they do not wait for separate ticks */
+                steps[stepCount - 1] = FusedSteps.fuse(steps[stepCount - 1], entry.getKey());
+            } else {
+                steps[stepCount] = entry.getKey();
+                synchronous[stepCount++] = entry.getValue();
+            }
+        }
         CompletableFuture completableFuture = CompletableFuture.completedFuture(initialInput);
-        completableFuture.whenComplete(this.execute(iterator, callback));
+        completableFuture.whenComplete(this.execute(steps, synchronous, stepCount, 0, callback));
     }
 
     private BiConsumer execute(
-            final @NonNull Iterator<Map.Entry<TaskRecipeStep, Boolean>> iterator,
+            final @NonNull TaskRecipeStep @NonNull [] steps,
+            final boolean @NonNull [] synchronousSteps,
+            final int stepCount,
+            final int step,
             final @NonNull Runnable callback
     ) {
-        return (o, o2) -> {
-            if (iterator.hasNext()) {
-                final Map.Entry<TaskRecipeStep, Boolean> entry = iterator.next();
-                final boolean synchronous = entry.getValue();
+        return (o, throwable) -> {
+            if (throwable != null) {
+                /* The remaining steps still run, and receive null as the output of the failed step */
+                reportFailure((Throwable) throwable);
+            }
+            if (step < stepCount) {
+                final boolean synchronous = synchronousSteps[step];
 
                 CompletableFuture other;
-                if (entry.getKey() instanceof TaskFunction) {
-                    final TaskFunction function = (TaskFunction<?, ?>) entry.getKey();
+                if (steps[step] instanceof TaskFunction) {
+                    final TaskFunction function = (TaskFunction<?, ?>) steps[step];
                     if (synchronous) {
                         other = this.synchronizer.runSynchronous(o, function);
                     } else {
                         other = this.synchronizer.runAsynchronous(o, function);
                     }
                 } else {
-                    final TaskConsumer consumer = (TaskConsumer<?>) entry.getKey();
+                    final TaskConsumer consumer = (TaskConsumer<?>) steps[step];
                     if (synchronous) {
                         other = this.synchronizer.runSynchronous(o, consumer);
                     } else {
@@ -96,13 +114,63 @@ public final class TaskRecipe {
                     }
                 }
 
-                other.whenComplete(this.execute(iterator, callback));
+                other.whenComplete(this.execute(steps, synchronousSteps, stepCount, step + 1, callback));
             } else {
                 callback.run();
             }
         };
     }
 
+    private static void reportFailure(final @NonNull Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        final Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, cause);
+    }
+
+
+    /**
+     * Steps that are run one after another within a single step
+     */
+    private static final class FusedSteps implements TaskFunction<Object, Object> {
+
+        private final TaskRecipeStep[] steps;
+
+        private FusedSteps(final @NonNull TaskRecipeStep @NonNull [] steps) {
+            this.steps = steps;
+        }
+
+        private static @NonNull FusedSteps fuse(final @NonNull TaskRecipeStep first, final @NonNull TaskRecipeStep second) {
+            if (first instanceof FusedSteps) {
+                final TaskRecipeStep[] steps = Arrays.copyOf(((FusedSteps) first).steps, ((FusedSteps) first).steps.length + 1);
+                steps[steps.length - 1] = second;
+                return new FusedSteps(steps);
+            }
+            return new FusedSteps(new TaskRecipeStep[]{first, second});
+        }
+
+        @Override
+        public Object apply(final Object input) {
+            Object value = input;
+            for (final TaskRecipeStep step : this.steps) {
+                try {
+                    if (step instanceof TaskFunction) {
+                        value = ((TaskFunction) step).apply(value);
+                    } else {
+                        ((TaskConsumer) step).accept(value);
+                        value = null;
+                    }
+                } catch (final Throwable throwable) {
+                    /* As with steps that are not fused, the remaining steps still run and receive null */
+                    reportFailure(throwable);
+                    value = null;
+                }
+            }
+            return value;
+        }
+    }
+
 
     /**
      * Represents a partial recipe
@@ -167,6 +235,10 @@ public final class TaskRecipe {
 
         /**
          * Execute the recipe
+         * <p>
+         * If a step throws an exception, the exception is passed to the uncaught exception handler of the thread
+         * that observed the failure, and the following steps receive {@code null} as their input. The callback is
+         * invoked once every step has been run, whether or not a step failed.
          *
          * @param callback Callback function
          */
@@ -220,6 +292,10 @@ public final class TaskRecipe {
 
         /**
          * Execute the recipe
+         * <p>
+         * If a step throws an exception, the exception is passed to the uncaught exception handler of the thread
+         * that observed the failure, and the following steps receive {@code null} as their input. The callback is
+         * invoked once every step has been run, whether or not a step failed.
          *
          * @param callback Callback function
          */
@@ -0,0 +1,313 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.tasks;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.common.returnsreceiver.qual.This;
+
+/**
+ * {@link TaskSynchronizer} that batches synchronous steps.
+ * <p>
+ * Synchronous steps are added to a lock-free queue, and a single task that drains the queue is scheduled on the main
+ * thread whenever the queue becomes non-empty. The task runs queued steps until the queue is empty or the tick budget
+ * has been used up, in which case the remaining steps are left for the next tick. At least one step is run per tick,
+ * so a step that exceeds the budget on its own is not starved.
+ * <p>
+ * A step that throws completes its future exceptionally, and the exception is passed to the uncaught exception
+ * handler of the main thread. The other steps in the batch are still run.
+ *
+ * @since 1.9.0
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public final class TickBatchedTaskSynchronizer implements TaskSynchronizer {
+
+    /**
+     * Time that the queued steps may take per tick, if no other budget is given
+     */
+    public static final Duration DEFAULT_TICK_BUDGET = Duration.ofMillis(10L);
+
+    private final Consumer<Runnable> nextTickScheduler;
+    private final Executor asynchronousExecutor;
+    private final long tickBudgetNanos;
+    private final LongSupplier clock;
+    private final Queue<QueuedStep> queuedSteps = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final AtomicInteger pendingSteps = new AtomicInteger();
+
+    private final LongAdder executedSteps = new LongAdder();
+    private final LongAdder totalQueueLatency = new LongAdder();
+    private final AtomicLong maxQueueLatency = new AtomicLong();
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder usedTickBudget = new LongAdder();
+    private final LongAdder exhaustedTicks = new LongAdder();
+
+    private TickBatchedTaskSynchronizer(
+            final @NonNull Consumer<Runnable> nextTickScheduler,
+            final @NonNull Executor asynchronousExecutor,
+            final long tickBudgetNanos,
+            final @NonNull LongSupplier clock
+    ) {
+        this.nextTickScheduler = nextTickScheduler;
+        this.asynchronousExecutor = asynchronousExecutor;
+        this.tickBudgetNanos = tickBudgetNanos;
+        this.clock = clock;
+    }
+
+    /**
+     * Create a new builder
+     *
+     * @param nextTickScheduler    Function that runs a task on the main thread during the next tick
+     * @param asynchronousExecutor Executor that runs the asynchronous steps
+     * @return Builder instance
+     */
+    public static @NonNull Builder builder(
+            final @NonNull Consumer<@NonNull Runnable> nextTickScheduler,
+            final @NonNull Executor asynchronousExecutor
+    ) {
+        return new Builder(nextTickScheduler, asynchronousExecutor);
+    }
+
+    @Override
+    public <I> CompletableFuture<Void> runSynchronous(final @NonNull I input, final @NonNull TaskConsumer<I> consumer) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        this.enqueue(() -> {
+            consumer.accept(input);
+            future.complete(null);
+        }, future);
+        return future;
+    }
+
+    @Override
+    public <I, O> CompletableFuture<O> runSynchronous(final @NonNull I input, final @NonNull TaskFunction<I, O> function) {
+        final CompletableFuture<O> future = new CompletableFuture<>();
+        this.enqueue(() -> future.complete(function.apply(input)), future);
+        return future;
+    }
+
+    @Override
+    public <I> CompletableFuture<Void> runAsynchronous(final @NonNull I input, final @NonNull TaskConsumer<I> consumer) {
+        return CompletableFuture.runAsync(() -> consumer.accept(input), this.asynchronousExecutor);
+    }
+
+    @Override
+    public <I, O> CompletableFuture<O> runAsynchronous(final @NonNull I input, final @NonNull TaskFunction<I, O> function) {
+        return CompletableFuture.supplyAsync(() -> function.apply(input), this.asynchronousExecutor);
+    }
+
+    /**
+     * Get the number of synchronous steps that are waiting to be run
+     *
+     * @return Number of pending steps
+     */
+    public int pendingSteps() {
+        return this.pendingSteps.get();
+    }
+
+    /**
+     * Get the number of synchronous steps that have been run
+     *
+     * @return Number of executed steps
+     */
+    public long executedSteps() {
+        return this.executedSteps.sum();
+    }
+
+    /**
+     * Get the average time that synchronous steps waited in the queue before they were run, in nanoseconds
+     *
+     * @return Average queue latency
+     */
+    public long averageQueueLatency() {
+        final long executedSteps = this.executedSteps.sum();
+        return executedSteps == 0L ? 0L : this.totalQueueLatency.sum() / executedSteps;
+    }
+
+    /**
+     * Get the longest time that a synchronous step waited in the queue before it was run, in nanoseconds
+     *
+     * @return Maximum queue latency
+     */
+    public long maxQueueLatency() {
+        return this.maxQueueLatency.get();
+    }
+
+    /**
+     * Get the number of ticks in which queued steps were run
+     *
+     * @return Number of ticks
+     */
+    public long ticks() {
+        return this.ticks.sum();
+    }
+
+    /**
+     * Get the average fraction of the tick budget that was used by the ticks in which queued steps were run. The
+     * fraction exceeds {@code 1} if steps regularly take longer than the budget
+     *
+     * @return Average budget use
+     */
+    public double averageTickBudgetUse() {
+        final long ticks = this.ticks.sum();
+        return ticks == 0L ? 0D : (double) this.usedTickBudget.sum() / ticks / this.tickBudgetNanos;
+    }
+
+    /**
+     * Get the number of ticks that used up the budget and left queued steps for the next tick
+     *
+     * @return Number of exhausted ticks
+     */
+    public long exhaustedTicks() {
+        return this.exhaustedTicks.sum();
+    }
+
+    private void enqueue(final @NonNull Runnable step, final @NonNull CompletableFuture<?> future) {
+        this.queuedSteps.add(new QueuedStep(step, future, this.clock.getAsLong()));
+        this.pendingSteps.incrementAndGet();
+        this.scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (this.drainScheduled.compareAndSet(false, true)) {
+            this.nextTickScheduler.accept(this::drain);
+        }
+    }
+
+    private void drain() {
+        final long start = this.clock.getAsLong();
+        long now = start;
+        QueuedStep queuedStep;
+        while ((queuedStep = this.queuedSteps.poll()) != null) {
+            this.pendingSteps.decrementAndGet();
+            this.recordQueueLatency(now - queuedStep.queuedAt);
+            try {
+                queuedStep.step.run();
+            } catch (final Throwable throwable) {
+                queuedStep.future.completeExceptionally(throwable);
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+            }
+            now = this.clock.getAsLong();
+            if (now - start >= this.tickBudgetNanos) {
+                break;
+            }
+        }
+        this.ticks.increment();
+        this.usedTickBudget.add(now - start);
+
+        /* The flag is cleared before the queue is checked, so that steps queued in between are never missed */
+        this.drainScheduled.set(false);
+        if (!this.queuedSteps.isEmpty()) {
+            if (queuedStep != null) {
+                this.exhaustedTicks.increment();
+            }
+            this.scheduleDrain();
+        }
+    }
+
+    private void recordQueueLatency(final long queueLatency) {
+        this.executedSteps.increment();
+        this.totalQueueLatency.add(queueLatency);
+        this.maxQueueLatency.accumulateAndGet(queueLatency, Math::max);
+    }
+
+
+    private static final class QueuedStep {
+
+        private final Runnable step;
+        private final CompletableFuture<?> future;
+        private final long queuedAt;
+
+        private QueuedStep(final @NonNull Runnable step, final @NonNull CompletableFuture<?> future, final long queuedAt) {
+            this.step = step;
+            this.future = future;
+            this.queuedAt = queuedAt;
+        }
+    }
+
+
+    /**
+     * Builder for {@link TickBatchedTaskSynchronizer} instances
+     *
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public static final class Builder {
+
+        private final Consumer<Runnable> nextTickScheduler;
+        private final Executor asynchronousExecutor;
+        private Duration tickBudget = DEFAULT_TICK_BUDGET;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(final @NonNull Consumer<Runnable> nextTickScheduler, final @NonNull Executor asynchronousExecutor) {
+            this.nextTickScheduler = Objects.requireNonNull(nextTickScheduler, "nextTickScheduler");
+            this.asynchronousExecutor = Objects.requireNonNull(asynchronousExecutor, "asynchronousExecutor");
+        }
+
+        /**
+         * Specify the time that the queued steps may take per tick. Defaults to {@link #DEFAULT_TICK_BUDGET}
+         *
+         * @param tickBudget Tick budget
+         * @return Builder instance
+         */
+        public @NonNull @This Builder withTickBudget(final @NonNull Duration tickBudget) {
+            if (tickBudget.isNegative() || tickBudget.isZero()) {
+                throw new IllegalArgumentException("The tick budget must be positive");
+            }
+            this.tickBudget = tickBudget;
+            return this;
+        }
+
+        @NonNull @This Builder withClock(final @NonNull LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Build the synchronizer using the options specified in this builder
+         *
+         * @return Synchronizer
+         */
+        public @NonNull TickBatchedTaskSynchronizer build() {
+            return new TickBatchedTaskSynchronizer(
+                    this.nextTickScheduler,
+                    this.asynchronousExecutor,
+                    this.tickBudget.toNanos(),
+                    this.clock
+            );
+        }
+    }
+}
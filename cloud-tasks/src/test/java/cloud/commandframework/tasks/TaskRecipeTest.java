@@ -0,0 +1,151 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class TaskRecipeTest {
+
+    private final List<Throwable> uncaught = new ArrayList<>();
+
+    private Thread.UncaughtExceptionHandler previousHandler;
+    private TaskFactory taskFactory;
+
+    @BeforeEach
+    void setup() {
+        this.previousHandler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, throwable) -> this.uncaught.add(throwable));
+        this.taskFactory = new TaskFactory(new InlineTaskSynchronizer());
+    }
+
+    @AfterEach
+    void restore() {
+        Thread.currentThread().setUncaughtExceptionHandler(this.previousHandler);
+    }
+
+    @Test
+    void Execute_ConsecutiveSynchronousSteps_PassesOutputs() {
+        // Arrange
+        final List<String> results = new ArrayList<>();
+        final TaskFunction<Integer, Integer> increment = value -> value + 1;
+        final TaskFunction<Integer, String> format = value -> "value " + value;
+        final TaskConsumer<String> collect = results::add;
+
+        // Act
+        this.taskFactory.recipe()
+                .begin(1)
+                .synchronous(increment)
+                .synchronous(format)
+                .synchronous(collect)
+                .execute();
+
+        // Assert
+        assertThat(results).containsExactly("value 2");
+        assertThat(this.uncaught).isEmpty();
+    }
+
+    @Test
+    void Execute_StepThrows_ReportsFailureAndRunsCallback() {
+        // Arrange
+        final IllegalStateException failure = new IllegalStateException("failure");
+        final List<Object> laterInputs = new ArrayList<>();
+        final AtomicBoolean callbackRan = new AtomicBoolean();
+        final TaskFunction<Integer, Integer> fail = value -> {
+            throw failure;
+        };
+        final TaskConsumer<Integer> later = laterInputs::add;
+
+        // Act
+        this.taskFactory.recipe()
+                .begin(1)
+                .asynchronous(fail)
+                .synchronous(later)
+                .execute(() -> callbackRan.set(true));
+
+        // Assert
+        assertThat(this.uncaught).containsExactly(failure);
+        assertThat(laterInputs).containsExactly((Object) null);
+        assertThat(callbackRan.get()).isTrue();
+    }
+
+    @Test
+    void Execute_FusedSynchronousStepThrows_RunsRemainingSteps() {
+        // Arrange
+        final IllegalStateException failure = new IllegalStateException("failure");
+        final List<Object> laterInputs = new ArrayList<>();
+        final AtomicBoolean callbackRan = new AtomicBoolean();
+        final TaskFunction<Integer, Integer> fail = value -> {
+            throw failure;
+        };
+        final TaskConsumer<Integer> later = laterInputs::add;
+
+        // Act
+        this.taskFactory.recipe()
+                .begin(1)
+                .synchronous(fail)
+                .synchronous(later)
+                .execute(() -> callbackRan.set(true));
+
+        // Assert
+        assertThat(this.uncaught).containsExactly(failure);
+        assertThat(laterInputs).containsExactly((Object) null);
+        assertThat(callbackRan.get()).isTrue();
+    }
+
+
+    /**
+     * Runs every step on the calling thread
+     */
+    private static final class InlineTaskSynchronizer implements TaskSynchronizer {
+
+        @Override
+        public <I> CompletableFuture<Void> runSynchronous(final @NonNull I input, final @NonNull TaskConsumer<I> consumer) {
+            return CompletableFuture.runAsync(() -> consumer.accept(input), Runnable::run);
+        }
+
+        @Override
+        public <I, O> CompletableFuture<O> runSynchronous(final @NonNull I input, final @NonNull TaskFunction<I, O> function) {
+            return CompletableFuture.supplyAsync(() -> function.apply(input), Runnable::run);
+        }
+
+        @Override
+        public <I> CompletableFuture<Void> runAsynchronous(final @NonNull I input, final @NonNull TaskConsumer<I> consumer) {
+            return this.runSynchronous(input, consumer);
+        }
+
+        @Override
+        public <I, O> CompletableFuture<O> runAsynchronous(final @NonNull I input, final @NonNull TaskFunction<I, O> function) {
+            return this.runSynchronous(input, function);
+        }
+    }
+}
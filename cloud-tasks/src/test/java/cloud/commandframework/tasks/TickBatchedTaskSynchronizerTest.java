@@ -0,0 +1,158 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.tasks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class TickBatchedTaskSynchronizerTest {
+
+    private final List<Runnable> nextTick = new ArrayList<>();
+    private final AtomicLong time = new AtomicLong();
+
+    private TickBatchedTaskSynchronizer synchronizer;
+
+    @BeforeEach
+    void setup() {
+        this.synchronizer = TickBatchedTaskSynchronizer.builder(this.nextTick::add, Runnable::run)
+                .withTickBudget(Duration.ofNanos(100L))
+                .withClock(this.time::get)
+                .build();
+    }
+
+    @Test
+    void RunSynchronous_ManySteps_SchedulesOneTask() {
+        // Arrange
+        final List<Integer> results = new ArrayList<>();
+        final TaskConsumer<Integer> consumer = results::add;
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            this.synchronizer.runSynchronous(i, consumer);
+        }
+        this.runTick();
+
+        // Assert
+        assertThat(results).hasSize(50);
+        assertThat(this.nextTick).isEmpty();
+        assertThat(this.synchronizer.ticks()).isEqualTo(1L);
+        assertThat(this.synchronizer.pendingSteps()).isEqualTo(0);
+    }
+
+    @Test
+    void RunSynchronous_BudgetExhausted_ContinuesNextTick() {
+        // Arrange
+        final List<Integer> results = new ArrayList<>();
+        final TaskConsumer<Integer> consumer = value -> {
+            this.time.addAndGet(40L);
+            results.add(value);
+        };
+        for (int i = 0; i < 5; i++) {
+            this.synchronizer.runSynchronous(i, consumer);
+        }
+
+        // Act
+        this.time.addAndGet(10L);
+        this.runTick();
+
+        // Assert
+        assertThat(results).containsExactly(0, 1, 2).inOrder();
+        assertThat(this.nextTick).hasSize(1);
+        assertThat(this.synchronizer.exhaustedTicks()).isEqualTo(1L);
+        assertThat(this.synchronizer.pendingSteps()).isEqualTo(2);
+        assertThat(this.synchronizer.maxQueueLatency()).isEqualTo(90L);
+        assertThat(this.synchronizer.averageTickBudgetUse()).isWithin(0.001D).of(1.2D);
+
+        // Act
+        this.runTick();
+
+        // Assert
+        assertThat(results).containsExactly(0, 1, 2, 3, 4).inOrder();
+        assertThat(this.nextTick).isEmpty();
+    }
+
+    @Test
+    void RunSynchronous_StepThrows_CompletesExceptionallyAndRunsOtherSteps() {
+        // Arrange
+        final List<Integer> results = new ArrayList<>();
+        final TaskConsumer<Integer> failingConsumer = value -> {
+            throw new IllegalStateException();
+        };
+        final TaskConsumer<Integer> consumer = results::add;
+        final Thread.UncaughtExceptionHandler exceptionHandler = Thread.currentThread().getUncaughtExceptionHandler();
+        final List<Throwable> uncaughtExceptions = new ArrayList<>();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, throwable) -> uncaughtExceptions.add(throwable));
+
+        // Act
+        final CompletableFuture<Void> failingFuture = this.synchronizer.runSynchronous(0, failingConsumer);
+        this.synchronizer.runSynchronous(1, consumer);
+        try {
+            this.runTick();
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(exceptionHandler);
+        }
+
+        // Assert
+        assertThat(failingFuture.isCompletedExceptionally()).isTrue();
+        assertThat(uncaughtExceptions).hasSize(1);
+        assertThat(results).containsExactly(1);
+        assertThat(this.synchronizer.executedSteps()).isEqualTo(2L);
+    }
+
+    @Test
+    void Execute_ConsecutiveSynchronousSteps_RunInOneTick() {
+        // Arrange
+        final AtomicReference<Integer> result = new AtomicReference<>();
+
+        // Act
+        new TaskFactory(this.synchronizer).recipe()
+                .begin(1)
+                .synchronous(value -> value + 1)
+                .synchronous(value -> value * 10)
+                .asynchronous(value -> value + 1)
+                .synchronous((TaskConsumer<Integer>) result::set)
+                .execute();
+        this.runTick();
+        this.runTick();
+
+        // Assert
+        assertThat(result.get()).isEqualTo(21);
+        assertThat(this.synchronizer.executedSteps()).isEqualTo(2L);
+        assertThat(this.nextTick).isEmpty();
+    }
+
+    private void runTick() {
+        final List<Runnable> tasks = new ArrayList<>(this.nextTick);
+        this.nextTick.clear();
+        tasks.forEach(Runnable::run);
+    }
+}